@@ -34,6 +34,8 @@ class AdminAuditEndpointTest extends AdminFunctionalTestBase {
     private static final int BAILIFF_OFFICE_OPEN_TYPE_ID = 5;
     private static final String TEST_AUDIT_NAME = "Update court opening times";
     private static final OpeningTime TEST_OPENING_TIME = new OpeningTime(BAILIFF_OFFICE_OPEN_TYPE_ID, TEST_HOURS);
+    private static final int AUDIT_WAIT_ATTEMPTS = 50;
+    private static final long AUDIT_WAIT_MILLIS = 200;
 
 
     @BeforeEach
@@ -105,6 +107,7 @@ class AdminAuditEndpointTest extends AdminFunctionalTestBase {
     /************************************************************* utility methods. ***************************************************************/
 
     private void setUpOpeningTimes() throws JsonProcessingException {
+        final int auditCount = getCurrentAudits(0, 200_000, ADMINISTRATIVE_COURT_SLUG, "", "", "").size();
         Response response = doGetRequest(ADMINISTRATIVE_COURT_OPENING_TIMES_PATH, Map.of(AUTHORIZATION, BEARER + authenticatedToken));
         final List<OpeningTime> currentOpeningTimes = response.body().jsonPath().getList(".", OpeningTime.class);
 
@@ -127,6 +130,24 @@ class AdminAuditEndpointTest extends AdminFunctionalTestBase {
 
         updatedOpeningTimes = response.body().jsonPath().getList(".", OpeningTime.class);
         assertThat(updatedOpeningTimes).containsExactlyElementsOf(expectedOpeningTimes);
+
+        waitForAudits(auditCount + 2);
+    }
+
+    /**
+     * Audits are moved from the outbox to the audit table shortly after each change is committed, so wait for the
+     * audits of both changes to be readable.
+     */
+    private void waitForAudits(int expectedCount) {
+        for (int attempt = 0; attempt < AUDIT_WAIT_ATTEMPTS
+            && getCurrentAudits(0, 200_000, ADMINISTRATIVE_COURT_SLUG, "", "", "").size() < expectedCount; attempt++) {
+            try {
+                Thread.sleep(AUDIT_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
     }
 
     private void checkAuditData(String location, String email, String dateFrom, String dateTo) {
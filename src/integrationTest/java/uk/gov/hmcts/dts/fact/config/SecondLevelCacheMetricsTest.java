@@ -0,0 +1,39 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the second-level cache regions are published with hibernate statistics off, as they are by default.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=false")
+class SecondLevelCacheMetricsTest {
+    private static final List<String> REGIONS = List.of(
+        "area-of-law", "court-type", "facility-type", "region", "county", "local-authority", "service",
+        "service.service-areas"
+    );
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldPublishHitsMissesAndPutsOfEachRegion() {
+        for (final String region : REGIONS) {
+            assertThat(meterRegistry.find("cache.gets").tag("cache", region).tag("result", "hit").meters())
+                .as(region)
+                .isNotEmpty();
+            assertThat(meterRegistry.find("cache.gets").tag("cache", region).tag("result", "miss").meters())
+                .as(region)
+                .isNotEmpty();
+            assertThat(meterRegistry.find("cache.puts").tag("cache", region).meters())
+                .as(region)
+                .isNotEmpty();
+        }
+    }
+}
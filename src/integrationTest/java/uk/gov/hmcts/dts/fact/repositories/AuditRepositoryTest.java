@@ -0,0 +1,76 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import uk.gov.hmcts.dts.fact.entity.Audit;
+import uk.gov.hmcts.dts.fact.entity.AuditType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class AuditRepositoryTest {
+
+    private static final String LOCATION = "%keyset_court%";
+    private static final String ANY_EMAIL = "%%";
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 2, 3, 10, 15, 30);
+
+    @Autowired
+    private AuditRepository auditRepository;
+
+    @Autowired
+    private AuditTypeRepository auditTypeRepository;
+
+    private Audit oldest;
+    private Audit middle;
+    private Audit newest;
+
+    @BeforeEach
+    void setUp() {
+        final AuditType auditType = auditTypeRepository.findAll().get(0);
+        oldest = auditRepository.save(new Audit("a@justice.gov.uk", auditType, "{}", "{}", "keyset_court", TIME));
+        // Two audits at the same time, told apart by id
+        middle = auditRepository.save(new Audit("b@justice.gov.uk", auditType, "{}", "{}", "keyset_court",
+                                                TIME.plusSeconds(1)));
+        newest = auditRepository.save(new Audit("c@justice.gov.uk", auditType, "{}", "{}", "keyset_court",
+                                                TIME.plusSeconds(1)));
+        auditRepository.save(new Audit("d@justice.gov.uk", auditType, "{}", "{}", "keysetXcourt", TIME));
+    }
+
+    @Test
+    void shouldReadAuditPagesNewestFirstFromLastAudit() {
+        final List<Audit> first = auditRepository.findFirstByFilter(LOCATION.replace("_", "!_"), ANY_EMAIL,
+                                                                    EARLIEST, LATEST, Pageable.ofSize(2));
+        assertThat(first).extracting(Audit::getId).containsExactly(newest.getId(), middle.getId());
+
+        final Audit last = first.get(1);
+        final List<Audit> second = auditRepository.findByFilterAfter(LOCATION.replace("_", "!_"), ANY_EMAIL,
+                                                                     EARLIEST, LATEST, last.getCreationTime(),
+                                                                     last.getId(), Pageable.ofSize(2));
+        assertThat(second).extracting(Audit::getId).containsExactly(oldest.getId());
+    }
+
+    @Test
+    void shouldTreatEscapedWildcardsLiterally() {
+        assertThat(auditRepository.countByFilter(LOCATION.replace("_", "!_"), ANY_EMAIL, EARLIEST, LATEST))
+            .isEqualTo(3);
+        assertThat(auditRepository.countByFilter(LOCATION, ANY_EMAIL, EARLIEST, LATEST)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldFilterAuditsByEmailAndDate() {
+        assertThat(auditRepository.findFirstByFilter(LOCATION, "%c@justice%", TIME.plusSeconds(1),
+                                                     TIME.plusSeconds(1), Pageable.ofSize(10)))
+            .extracting(Audit::getId)
+            .containsExactly(newest.getId());
+    }
+}
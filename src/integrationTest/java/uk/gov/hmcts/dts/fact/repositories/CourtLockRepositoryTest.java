@@ -0,0 +1,42 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import uk.gov.hmcts.dts.fact.entity.CourtLock;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class CourtLockRepositoryTest {
+
+    private static final String SLUG = "lock-test-court";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 2, 3, 10, 15, 30);
+
+    @Autowired
+    private CourtLockRepository courtLockRepository;
+
+    @Test
+    void shouldOnlyInsertLockIfCourtHasNone() {
+        assertThat(courtLockRepository.insertIfAbsent(NOW, "mosh@cat.com", SLUG)).isEqualTo(1);
+        assertThat(courtLockRepository.insertIfAbsent(NOW, "kupo@cat.com", SLUG)).isZero();
+
+        assertThat(courtLockRepository.findForUpdateByCourtSlug(SLUG))
+            .map(CourtLock::getUserEmail)
+            .contains("mosh@cat.com");
+    }
+
+    @Test
+    void shouldDeleteOnlyExpiredLocks() {
+        courtLockRepository.insertIfAbsent(NOW.minusMinutes(30), "mosh@cat.com", SLUG);
+        courtLockRepository.insertIfAbsent(NOW, "kupo@cat.com", SLUG + "-2");
+
+        assertThat(courtLockRepository.deleteExpired(NOW.minusMinutes(20))).isEqualTo(1);
+        assertThat(courtLockRepository.findCourtLockByCourtSlug(SLUG)).isEmpty();
+        assertThat(courtLockRepository.findCourtLockByCourtSlug(SLUG + "-2")).hasSize(1);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
 
@@ -16,6 +17,7 @@ import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
@@ -67,14 +69,18 @@ class CourtPostcodeRepositoryTest {
 
     @Test
     void shouldDeleteByCourtIdAndPostcode() {
-        // Add a postcode twice and test both instances can be deleted
-        courtPostcodeRepository.save(new CourtPostcode(TEST_POSTCODE, court.get()));
         courtPostcodeRepository.save(new CourtPostcode(TEST_POSTCODE, court.get()));
 
         final SoftAssertions softly = new SoftAssertions();
         softly.assertThat(courtPostcodeRepository.findByCourtIdAndPostcode(courtId, TEST_POSTCODE)).isNotEmpty();
-        softly.assertThat(courtPostcodeRepository.deleteByCourtIdAndPostcode(courtId, TEST_POSTCODE)).hasSize(2);
+        softly.assertThat(courtPostcodeRepository.deleteByCourtIdAndPostcode(courtId, TEST_POSTCODE)).hasSize(1);
         softly.assertThat(courtPostcodeRepository.findByCourtIdAndPostcode(courtId, TEST_POSTCODE)).isEmpty();
         softly.assertAll();
     }
+
+    @Test
+    void shouldNotSaveTheSamePostcodeTwiceForACourt() {
+        assertThatThrownBy(() -> courtPostcodeRepository.saveAndFlush(new CourtPostcode(TEST_MANCHESTER_POSTCODE, court.get())))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
 }
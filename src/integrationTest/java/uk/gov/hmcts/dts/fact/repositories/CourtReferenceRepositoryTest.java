@@ -0,0 +1,50 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository.CourtSummary;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class CourtReferenceRepositoryTest {
+    private static final String SLUG = "aylesbury-magistrates-court-and-family-court";
+
+    @Autowired
+    private CourtReferenceRepository courtReferenceRepository;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Test
+    void shouldFindASummaryOfEveryCourt() {
+        final List<CourtSummary> result = courtReferenceRepository.findAllCourtSummaries();
+
+        assertThat(result).hasSize((int) courtRepository.count());
+        assertThat(result).anyMatch(CourtSummary::getDisplayed);
+        assertThat(result).anyMatch(court -> !court.getDisplayed());
+        assertThat(result).extracting(CourtSummary::getSlug).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldSummariseACourtWithItsReferenceColumns() {
+        final Court court = courtRepository.findBySlug(SLUG).orElseThrow();
+
+        final CourtSummary summary = courtReferenceRepository.findAllCourtSummaries().stream()
+            .filter(c -> SLUG.equals(c.getSlug()))
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(summary.getName()).isEqualTo(court.getName());
+        assertThat(summary.getNameCy()).isEqualTo(court.getNameCy());
+        assertThat(summary.getUpdatedAt()).isEqualTo(court.getUpdatedAt());
+        assertThat(summary.getDisplayed()).isEqualTo(court.getDisplayed());
+        assertThat(summary.getRegionId()).isEqualTo(court.getRegionId());
+    }
+}
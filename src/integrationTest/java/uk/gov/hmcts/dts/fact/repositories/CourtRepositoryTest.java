@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import uk.gov.hmcts.dts.fact.entity.AdditionalLink;
 import uk.gov.hmcts.dts.fact.entity.Contact;
 import uk.gov.hmcts.dts.fact.entity.Court;
@@ -49,6 +50,9 @@ class CourtRepositoryTest {
     @Autowired
     private CourtEmailRepository courtEmailRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void shouldFindExistingCourt() throws IOException {
 
@@ -264,6 +268,26 @@ class CourtRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void shouldIgnoreAccentsWhenSearching() {
+        jdbcTemplate.update("UPDATE search_court SET name_cy = 'Llys Sirol Crûgllŵyn' WHERE slug = ?", ACCRINGTON_COURT_SLUG);
+
+        for (final String query : List.of("Crûgllŵyn", "crugllwyn", "Crûg-llŵyn")) {
+            assertThat(courtRepository.queryBy(query, true))
+                .extracting(Court::getSlug)
+                .containsOnly(ACCRINGTON_COURT_SLUG);
+            assertThat(courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(query))
+                .extracting(Court::getSlug)
+                .containsOnly(ACCRINGTON_COURT_SLUG);
+        }
+    }
+
+    @Test
+    void shouldNotFindCourtsByQueryWithoutLettersOrDigits() {
+        assertThat(courtRepository.queryBy("- '", true)).isEmpty();
+        assertThat(courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch("- '")).isEmpty();
+    }
+
     @Test
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     void shouldFindCourtByMisspeltNameWithFuzzyMatchSortedByGoodMatchFirst() {
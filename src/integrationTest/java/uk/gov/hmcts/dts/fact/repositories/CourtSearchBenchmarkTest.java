@@ -0,0 +1,200 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.dts.fact.entity.Court;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the court search queries using the trigram indexed search columns with the previous regexp_replace and
+ * ILIKE queries, on a copy of the court data ten times the size of production. The results of both are checked to be
+ * the same, the search columns are checked to be faster, and their query plans are checked to use the trigram indexes.
+ *
+ * <p>Run with {@code ./gradlew integration --tests '*CourtSearchBenchmarkTest' -Dbenchmark=true}.</p>
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CourtSearchBenchmarkTest {
+    private static final Logger LOG = LoggerFactory.getLogger(CourtSearchBenchmarkTest.class);
+
+    private static final int COPIES = 9;
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 50;
+    private static final List<String> QUERIES = List.of("manchester", "oxford", "m604", "bristol", "county");
+
+    private static final String LEGACY_EXACT_MATCH = "SELECT c.id FROM search_court c LEFT JOIN search_courtaddress ca"
+        + "    ON ca.court_id = c.id AND ca.address_type_id != 5881"
+        + "  WHERE displayed = true AND ("
+        + "    regexp_replace(c.name, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', ?, '%')"
+        + "    OR regexp_replace(c.name_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', ?, '%')"
+        + "    OR regexp_replace(ca.address, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', ?, '%')"
+        + "    OR regexp_replace(ca.address_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', ?, '%')"
+        + "    OR regexp_replace(ca.town_name, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', ?, '%')"
+        + "    OR regexp_replace(ca.town_name_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', ?, '%')"
+        + "    OR regexp_replace(ca.postcode, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', ?, '%'))"
+        + "  ORDER BY"
+        + "    CASE WHEN COALESCE(regexp_replace(c.name, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', ?, '%')"
+        + "           OR COALESCE(regexp_replace(c.name_cy, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', ?, '%')"
+        + "         THEN 1 ELSE 0 END DESC,"
+        + "    CASE WHEN COALESCE(regexp_replace(ca.town_name, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', ?, '%')"
+        + "           OR COALESCE(regexp_replace(ca.town_name_cy, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', ?, '%')"
+        + "         THEN 1 ELSE 0 END DESC,"
+        + "    CASE WHEN COALESCE(regexp_replace(ca.address, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', ?, '%')"
+        + "           OR COALESCE(regexp_replace(ca.address_cy, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', ?, '%')"
+        + "         THEN 1 ELSE 0 END DESC,"
+        + "    name";
+    private static final int LEGACY_EXACT_MATCH_PARAMETERS = 13;
+
+    private static final String LEGACY_QUERY_BY = "SELECT c.id FROM search_court c LEFT JOIN search_courtaddress ca"
+        + "    ON ca.court_id = c.id AND ca.address_type_id != 5881"
+        + "  WHERE c.displayed IS NOT NULL AND ("
+        + "  CAST (c.cci_code AS text) ILIKE concat('%', ?, '%') "
+        + "  OR CAST (c.number AS text) ILIKE concat('%', ?, '%') "
+        + "  OR CAST (c.magistrate_code AS text) ILIKE concat('%', ?, '%') "
+        + "  OR c.name ILIKE concat('%', ?, '%') "
+        + "  OR c.name_cy ILIKE concat('%', ?, '%') "
+        + "  OR ca.address ILIKE concat('%', ?, '%') "
+        + "  OR ca.address_cy ILIKE concat('%', ?, '%') "
+        + "  OR ca.town_name ILIKE concat('%', ?, '%') "
+        + "  OR ca.town_name_cy ILIKE concat('%', ?, '%') "
+        + "  OR REPLACE(ca.postcode, ' ', '') ILIKE REPLACE(concat('%', ?, '%'), ' ', '')) "
+        + "ORDER BY name";
+    private static final int LEGACY_QUERY_BY_PARAMETERS = 10;
+
+    private static final List<String> TRIGRAM_INDEXES = List.of(
+        "search_court_search_name_trgm_idx",
+        "search_courtaddress_search_address_trgm_idx",
+        "search_courtaddress_search_town_trgm_idx",
+        "search_courtaddress_search_postcode_trgm_idx"
+    );
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        final Integer maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM search_court", Integer.class);
+        for (int copy = 0; copy < COPIES; copy++) {
+            copyCourts(maxId);
+        }
+        jdbcTemplate.execute("ANALYZE search_court");
+        jdbcTemplate.execute("ANALYZE search_courtaddress");
+    }
+
+    @Test
+    void shouldMatchLegacyExactMatchSearchResults() {
+        for (final String query : QUERIES) {
+            final List<Integer> expected = legacySearch(LEGACY_EXACT_MATCH, LEGACY_EXACT_MATCH_PARAMETERS, query);
+            final Supplier<List<Court>> search = () -> courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(query);
+
+            assertThat(ids(search.get())).containsExactlyInAnyOrderElementsOf(expected);
+            assertFaster("Exact match", query,
+                         time(() -> legacySearch(LEGACY_EXACT_MATCH, LEGACY_EXACT_MATCH_PARAMETERS, query)), time(search));
+        }
+    }
+
+    @Test
+    void shouldFindAtLeastLegacyQueryResults() {
+        for (final String query : QUERIES) {
+            final List<Integer> expected = legacySearch(LEGACY_QUERY_BY, LEGACY_QUERY_BY_PARAMETERS, query);
+            final Supplier<List<Court>> search = () -> courtRepository.queryBy(query, true);
+
+            assertThat(ids(search.get())).containsAll(expected);
+            assertFaster("Admin query", query, time(() -> legacySearch(LEGACY_QUERY_BY, LEGACY_QUERY_BY_PARAMETERS, query)), time(search));
+        }
+    }
+
+    @Test
+    void shouldUseTrigramIndexesForExactMatchSearch() throws NoSuchMethodException {
+        assertThat(explain(CourtRepository.class.getMethod("findCourtByNameAddressTownOrPartialPostcodeExactMatch", String.class),
+                           Map.of("query", "manchester")))
+            .contains(TRIGRAM_INDEXES);
+    }
+
+    @Test
+    void shouldUseTrigramIndexesForAdminQuery() throws NoSuchMethodException {
+        assertThat(explain(CourtRepository.class.getMethod("queryBy", String.class, Boolean.class),
+                           Map.of("query", "manchester", "includeClosed", true)))
+            .contains(TRIGRAM_INDEXES);
+    }
+
+    /**
+     * Explain the native query of a repository method with sequential scans disabled, so that the plan only falls back
+     * to them when no index can be used for the condition.
+     */
+    private String explain(final Method method, final Map<String, Object> parameters) {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        final String plan = String.join("\n", namedParameterJdbcTemplate.queryForList(
+            "EXPLAIN " + method.getAnnotation(Query.class).value(), parameters, String.class));
+        LOG.info("Plan of {}:\n{}", method.getName(), plan);
+        return plan;
+    }
+
+    private void copyCourts(final Integer maxId) {
+        jdbcTemplate.execute("CREATE TEMP TABLE court_map AS "
+                                 + "SELECT id AS old_id, nextval('public.search_court_id_seq') AS new_id "
+                                 + "FROM search_court WHERE id <= " + maxId);
+        jdbcTemplate.execute("CREATE TEMP TABLE court_copy AS SELECT * FROM search_court WHERE id <= " + maxId);
+        jdbcTemplate.execute("UPDATE court_copy SET id = m.new_id, slug = court_copy.slug || '-' || m.new_id "
+                                 + "FROM court_map m WHERE m.old_id = court_copy.id");
+        jdbcTemplate.execute("INSERT INTO search_court SELECT * FROM court_copy");
+        jdbcTemplate.execute("CREATE TEMP TABLE address_copy AS SELECT * FROM search_courtaddress WHERE court_id <= " + maxId);
+        jdbcTemplate.execute("UPDATE address_copy SET id = nextval('public.search_courtaddress_id_seq'), court_id = m.new_id "
+                                 + "FROM court_map m WHERE m.old_id = address_copy.court_id");
+        jdbcTemplate.execute("INSERT INTO search_courtaddress SELECT * FROM address_copy");
+        jdbcTemplate.execute("DROP TABLE court_map, court_copy, address_copy");
+    }
+
+    private List<Integer> legacySearch(final String sql, final int parameterCount, final String query) {
+        final Object[] parameters = new Object[parameterCount];
+        Arrays.fill(parameters, query);
+        return jdbcTemplate.queryForList(sql, Integer.class, parameters);
+    }
+
+    private static List<Integer> ids(final List<Court> courts) {
+        return courts.stream().map(Court::getId).collect(toList());
+    }
+
+    private static void assertFaster(final String search, final String query, final double legacyMillis, final double indexedMillis) {
+        LOG.info("{} search for '{}': previous query {} ms, search columns {} ms", search, query,
+                 String.format(Locale.ROOT, "%.2f", legacyMillis), String.format(Locale.ROOT, "%.2f", indexedMillis));
+        assertThat(indexedMillis).as("%s search for '%s'", search, query).isLessThan(legacyMillis);
+    }
+
+    private static double time(final Supplier<?> search) {
+        for (int i = 0; i < WARM_UP; i++) {
+            search.get();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (double) TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / ITERATIONS / 1000;
+    }
+}
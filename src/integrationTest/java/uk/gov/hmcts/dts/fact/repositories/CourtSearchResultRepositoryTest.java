@@ -0,0 +1,113 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class CourtSearchResultRepositoryTest {
+
+    private static final String AREA_OF_LAW = "Divorce";
+    private static final double LON = -0.25;
+    private static final double LAT = 50.84;
+
+    @Autowired
+    private CourtSearchResultRepository courtSearchResultRepository;
+
+    @Test
+    void shouldFindNearestTen() {
+        final List<CourtSearchResult> result = courtSearchResultRepository.findNearestTen(51.8, -1.3);
+
+        assertThat(result).hasSize(10);
+        assertThat(result).isSortedAccordingTo(Comparator.comparing(CourtSearchResult::getDistance));
+        assertThat(result).allMatch(CourtSearchResult::getDisplayed);
+        assertThat(result).allMatch(r -> r.getSlug() != null && r.getName() != null);
+    }
+
+    @Test
+    void shouldFindSinglePointOfEntryAreasOfLawInNameOrder() {
+        final List<CourtSearchResult> result = courtSearchResultRepository.findNearestTen(51.8, -1.3);
+
+        assertThat(result).allSatisfy(r -> assertThat(r.getAreasOfLawSpoe()).isNotNull().isSorted());
+    }
+
+    @Test
+    void shouldFindNearestTenByAreaOfLaw() {
+        final List<CourtSearchResult> result = courtSearchResultRepository.findNearestTenByAreaOfLaw(51.8, -1.3, "Tax", true);
+
+        assertThat(result).isNotEmpty();
+        assertThat(result).isSortedAccordingTo(Comparator.comparing(CourtSearchResult::getDistance));
+    }
+
+    @Test
+    void shouldFindNearestByAreaOfLawAndLongestPostcodePrefix() {
+        final List<CourtSearchResult> result = courtSearchResultRepository.findNearestByAreaOfLawAndLongestCourtPostcodePrefix(
+            51.8,
+            -1.3,
+            "Money claims",
+            asList("NW62HH", "NW62", "NW6", "NW"),
+            true
+        );
+
+        assertThat(result).isNotEmpty();
+        assertThat(result).isSortedAccordingTo(Comparator.comparing(CourtSearchResult::getDistance));
+    }
+
+    @Test
+    void shouldFindNearestTenByAreaOfLawAndLocalAuthority() {
+        final List<CourtSearchResult> result = courtSearchResultRepository.findNearestTenByAreaOfLawAndLocalAuthority(
+            LAT,
+            LON,
+            "Adoption",
+            "Brighton and Hove City Council",
+            true);
+
+        assertThat(result).hasSize(2);
+        assertThat(result).isSortedAccordingTo(Comparator.comparing(CourtSearchResult::getDistance));
+    }
+
+    @Test
+    void shouldFindNearestRegionalByAreaOfLawAndLocalAuthority() {
+        final List<CourtSearchResult> result = courtSearchResultRepository.findNearestRegionalByAreaOfLawAndLocalAuthority(
+            LAT,
+            LON,
+            AREA_OF_LAW,
+            "Suffolk County Council"
+        );
+
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    void shouldFindNearestRegionalByAreaOfLaw() {
+        final List<CourtSearchResult> result = courtSearchResultRepository.findNearestRegionalByAreaOfLaw(
+            LAT,
+            LON,
+            AREA_OF_LAW
+        );
+
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    void shouldFindCourtsByIdInDistanceOrder() {
+        final List<Integer> ids = courtSearchResultRepository.findNearestTen(51.8, -1.3).stream()
+            .map(CourtSearchResult::getId)
+            .collect(Collectors.toList());
+
+        final List<CourtSearchResult> result = courtSearchResultRepository.findAllByIdWithDistance(LAT, LON, ids);
+
+        assertThat(result).extracting(CourtSearchResult::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(result).isSortedAccordingTo(Comparator.comparing(CourtSearchResult::getDistance));
+    }
+}
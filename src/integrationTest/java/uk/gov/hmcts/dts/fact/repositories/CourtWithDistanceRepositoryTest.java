@@ -17,13 +17,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 class CourtWithDistanceRepositoryTest {
 
-    private static final String AREA_OF_LAW = "Divorce";
     private static final double LON = -0.25;
     private static final double LAT = 50.84;
 
     @Autowired
     private CourtWithDistanceRepository courtWithDistanceRepository;
 
+    @Autowired
+    private CourtRepository courtRepository;
+
     @Test
     void shouldFindNearestTen() {
         final List<CourtWithDistance> result = courtWithDistanceRepository.findNearestTen(51.8, -1.3);
@@ -32,22 +34,24 @@ class CourtWithDistanceRepositoryTest {
     }
 
     @Test
-    void shouldFindNearestTenByAreaOfLaw() {
-        final List<CourtWithDistance> result = courtWithDistanceRepository.findNearestTenByAreaOfLaw(51.8, -1.3, "Tax", true);
-        final List<CourtWithDistance> collect = result.stream().filter(r -> null != r.getDistance()).collect(Collectors.toList());
-        assertThat(collect).isSortedAccordingTo(Comparator.comparing(CourtWithDistance::getDistance));
-        assertThat(result.get(0).getAreasOfLaw().stream().map(AreaOfLaw::getName).anyMatch("Tax"::equals));
+    void shouldFindACourtAtItsNewPositionAfterItMoves() {
+        final CourtWithDistance furthest = courtWithDistanceRepository.findNearestTen(51.8, -1.3).get(9);
+
+        courtRepository.updateLatLonBySlug(furthest.getSlug(), LAT, LON);
+
+        final CourtWithDistance nearest = courtWithDistanceRepository.findNearestTen(LAT, LON).get(0);
+        assertThat(nearest.getSlug()).isEqualTo(furthest.getSlug());
+        assertThat(nearest.getDistance()).isZero();
     }
 
     @Test
-    void shouldFindNearestTenByAreaOfLawAndPostcode() {
-        final List<CourtWithDistance> result = courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(51.8, -1.3, "Money claims", "NW62HH", true);
+    void shouldFindNearestTenByAreaOfLaw() {
+        final List<CourtWithDistance> result = courtWithDistanceRepository.findNearestTenByAreaOfLaw(51.8, -1.3, "Tax", true);
         final List<CourtWithDistance> collect = result.stream().filter(r -> null != r.getDistance()).collect(Collectors.toList());
         assertThat(collect).isSortedAccordingTo(Comparator.comparing(CourtWithDistance::getDistance));
-        assertThat(result.get(0).getAreasOfLaw().stream().map(AreaOfLaw::getName).anyMatch("Money claims"::equals));
+        assertThat(result.get(0).getAreasOfLaw().stream().map(AreaOfLaw::getName).anyMatch("Tax"::equals));
     }
 
-
     @Test
     void shouldFindNearestTenByAreaOfLawAndLocalAuthority() {
         final List<CourtWithDistance> result = courtWithDistanceRepository.findNearestTenByAreaOfLawAndLocalAuthority(
@@ -62,29 +66,4 @@ class CourtWithDistanceRepositoryTest {
         assertThat(result.get(0).getAreasOfLaw().stream().map(AreaOfLaw::getName).anyMatch("Adoption"::equals));
         assertThat(result.get(1).getAreasOfLaw().stream().map(AreaOfLaw::getName).anyMatch("Adoption"::equals));
     }
-
-    @Test
-    void shouldFindNearestRegionalByAreaOfLawAndLocalAuthority() {
-        final List<CourtWithDistance> result = courtWithDistanceRepository.findNearestRegionalByAreaOfLawAndLocalAuthority(
-            LAT,
-            LON,
-            AREA_OF_LAW,
-            "Suffolk County Council"
-        );
-
-        assertThat(result.size()).isEqualTo(1);
-        assertThat(result.get(0).getAreasOfLaw().stream().map(AreaOfLaw::getName).anyMatch(AREA_OF_LAW::equals));
-    }
-
-    @Test
-    void shouldFindNearestRegionalByAreaOfLaw() {
-        final List<CourtWithDistance> result = courtWithDistanceRepository.findNearestRegionalByAreaOfLaw(
-            LAT,
-            LON,
-            AREA_OF_LAW
-        );
-
-        assertThat(result.size()).isEqualTo(1);
-        assertThat(result.get(0).getAreasOfLaw().stream().map(AreaOfLaw::getName).anyMatch(AREA_OF_LAW::equals));
-    }
 }
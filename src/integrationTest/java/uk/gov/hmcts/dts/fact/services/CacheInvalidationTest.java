@@ -0,0 +1,53 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.dts.fact.services.invalidation.CacheInvalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a change sent by another instance through postgres reaches the listener of this one.
+ */
+@SpringBootTest
+class CacheInvalidationTest {
+    private static final String CHANNEL = "fact_cache_invalidation";
+    private static final String LAG_TIMER = "cache.invalidation.lag";
+    private static final long TIMEOUT_MILLIS = 30_000;
+    private static final long POLL_MILLIS = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldApplyACatchmentChangeSentByAnotherInstance() throws Exception {
+        final long appliedBefore = applied();
+        final CacheInvalidation invalidation = new CacheInvalidation(
+            CacheInvalidation.Type.CATCHMENT, null, "another-instance", System.currentTimeMillis()
+        );
+
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, objectMapper.writeValueAsString(invalidation));
+
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (applied() == appliedBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_MILLIS);
+        }
+        assertThat(applied()).isGreaterThan(appliedBefore);
+    }
+
+    private long applied() {
+        final Timer timer = meterRegistry.find(LAG_TIMER).tag("type", "catchment").timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
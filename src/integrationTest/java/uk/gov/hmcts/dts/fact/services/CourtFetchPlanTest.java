@@ -0,0 +1,91 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.services.admin.AdminService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the number of SQL statements needed to build each read shape of a court. Collections are loaded in
+ * batches of {@link #BATCH_SIZE}, so the number of statements grows with the number of batches rather than the
+ * number of courts.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.default_batch_fetch_size=" + CourtFetchPlanTest.BATCH_SIZE
+})
+@Transactional
+class CourtFetchPlanTest {
+    static final int BATCH_SIZE = 100;
+
+    private static final String SLUG = "birmingham-civil-and-family-justice-centre";
+    private static final long MAX_DETAIL_STATEMENTS = 30;
+    private static final long MAX_REFERENCE_STATEMENTS = 1;
+    private static final long STATEMENTS_PER_BATCH = 25;
+
+    @Autowired
+    private CourtService courtService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldBuildCourtDetailsWithBoundedStatements() {
+        assertThat(courtService.getCourtBySlug(SLUG).getSlug()).isEqualTo(SLUG);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_DETAIL_STATEMENTS);
+    }
+
+    @Test
+    void shouldBuildDeprecatedCourtDetailsWithBoundedStatements() {
+        courtService.getCourtBySlugDeprecated(SLUG);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_DETAIL_STATEMENTS);
+    }
+
+    @Test
+    void shouldBuildCourtReferencesWithOneStatement() {
+        assertThat(adminService.getAllCourtReferences()).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_REFERENCE_STATEMENTS);
+    }
+
+    @Test
+    void shouldBuildCourtDownloadWithStatementsPerBatchNotPerCourt() {
+        final long courtCount = courtRepository.count();
+        entityManager.clear();
+        statistics.clear();
+
+        assertThat(adminService.getAllCourtsForDownload()).hasSize((int) courtCount);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(maxStatementsFor(courtCount));
+    }
+
+    private static long maxStatementsFor(final long courtCount) {
+        final long batches = (courtCount + BATCH_SIZE - 1) / BATCH_SIZE;
+        return 1 + STATEMENTS_PER_BATCH * batches;
+    }
+}
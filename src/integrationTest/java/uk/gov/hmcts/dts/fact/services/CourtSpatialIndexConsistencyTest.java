@@ -0,0 +1,116 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndex;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class CourtSpatialIndexConsistencyTest {
+    private static final double TIE_LAT = 52.0;
+    private static final double TIE_LON = -1.0;
+    private static final String MOVE_COURTS = "UPDATE search_court SET lat = ?, lon = ? ";
+
+    @Autowired
+    private CourtSearchResultRepository courtSearchResultRepository;
+
+    @Autowired
+    private CourtLocationRepository courtLocationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CourtSpatialIndex courtSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        courtSpatialIndex = new CourtSpatialIndex(courtSearchResultRepository, courtLocationRepository, true, 5);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "50.84, -0.25, Divorce",
+        "51.8, -1.3, Divorce",
+        "53.48, -2.24, Divorce",
+        "50.84, -0.25, Children",
+        "53.48, -2.24, Adoption",
+        "51.8, -1.3, Money claims"
+    })
+    void shouldFindSameNearestRegionalCourtByAreaOfLawAsRepository(final double lat, final double lon,
+                                                                    final String areaOfLaw) {
+        assertThat(ids(courtSpatialIndex.findNearestRegionalByAreaOfLaw(lat, lon, areaOfLaw)))
+            .isEqualTo(ids(courtSearchResultRepository.findNearestRegionalByAreaOfLaw(lat, lon, areaOfLaw)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "50.84, -0.25, Divorce, Suffolk County Council",
+        "50.84, -0.25, Adoption, Brighton and Hove City Council",
+        "51.8, -1.3, Children, Oxfordshire County Council"
+    })
+    void shouldFindSameNearestRegionalCourtByAreaOfLawAndLocalAuthorityAsRepository(final double lat,
+                                                                                     final double lon,
+                                                                                     final String areaOfLaw,
+                                                                                     final String localAuthority) {
+        assertThat(ids(courtSpatialIndex.findNearestRegionalByAreaOfLawAndLocalAuthority(
+            lat, lon, areaOfLaw, localAuthority)))
+            .isEqualTo(ids(courtSearchResultRepository.findNearestRegionalByAreaOfLawAndLocalAuthority(
+                lat, lon, areaOfLaw, localAuthority)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "51.8, -1.3, Tax",
+        "50.84, -0.25, Divorce"
+    })
+    void shouldFindSameNearestTenByAreaOfLawAsRepository(final double lat, final double lon, final String areaOfLaw) {
+        assertThat(ids(courtSpatialIndex.findNearestTenByAreaOfLaw(lat, lon, areaOfLaw, false)))
+            .isEqualTo(ids(courtSearchResultRepository.findNearestTenByAreaOfLaw(lat, lon, areaOfLaw, false)));
+    }
+
+    @Test
+    void shouldBreakTiesBetweenCoLocatedCourtsByName() {
+        jdbcTemplate.update(MOVE_COURTS, TIE_LAT, TIE_LON);
+
+        assertSameCourtsAsRepository(TIE_LAT, TIE_LON);
+        assertSameCourtsAsRepository(TIE_LAT + 1, TIE_LON + 1);
+    }
+
+    @Test
+    void shouldBreakTiesBetweenSomeCoLocatedCourtsByName() {
+        jdbcTemplate.update(MOVE_COURTS + "WHERE id % 3 = 0", TIE_LAT, TIE_LON);
+        jdbcTemplate.update(MOVE_COURTS + "WHERE id % 3 = 1", TIE_LAT + 0.1, TIE_LON);
+
+        assertSameCourtsAsRepository(TIE_LAT, TIE_LON);
+        assertSameCourtsAsRepository(TIE_LAT + 0.1, TIE_LON);
+    }
+
+    private void assertSameCourtsAsRepository(final double lat, final double lon) {
+        assertThat(ids(courtSpatialIndex.findNearestTen(lat, lon)))
+            .isEqualTo(ids(courtSearchResultRepository.findNearestTen(lat, lon)));
+        for (final String areaOfLaw : List.of("Divorce", "Children", "Money claims")) {
+            assertThat(ids(courtSpatialIndex.findNearestTenByAreaOfLaw(lat, lon, areaOfLaw, true)))
+                .isEqualTo(ids(courtSearchResultRepository.findNearestTenByAreaOfLaw(lat, lon, areaOfLaw, true)));
+            assertThat(ids(courtSpatialIndex.findNearestRegionalByAreaOfLaw(lat, lon, areaOfLaw)))
+                .isEqualTo(ids(courtSearchResultRepository.findNearestRegionalByAreaOfLaw(lat, lon, areaOfLaw)));
+        }
+    }
+
+    private static List<Integer> ids(final List<CourtSearchResult> courts) {
+        return courts.stream().map(CourtSearchResult::getId).collect(toList());
+    }
+}
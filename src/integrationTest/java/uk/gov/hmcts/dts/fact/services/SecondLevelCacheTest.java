@@ -0,0 +1,71 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the reference data read by the public search pages is served from the second-level cache once it
+ * has been loaded, so a repeated lookup issues fewer SQL statements.
+ */
+@SpringBootTest
+@Transactional
+class SecondLevelCacheTest {
+    private static final String SERVICE_SLUG = "childcare-and-parenting";
+    private static final String SERVICE_AREA_SLUG = "money-claims";
+
+    @Autowired
+    private ServiceService serviceService;
+
+    @Autowired
+    private ServiceAreaService serviceAreaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        final SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    void shouldReadServiceAreasForAServiceFromTheCache() {
+        final long coldStatements = statementsFor(() -> serviceService.getServiceAreas(SERVICE_SLUG));
+        final long warmStatements = statementsFor(() -> serviceService.getServiceAreas(SERVICE_SLUG));
+
+        assertThat(warmStatements).isLessThan(coldStatements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void shouldReadAServiceAreaFromTheCache() {
+        final long coldStatements = statementsFor(() -> serviceAreaService.getServiceArea(SERVICE_AREA_SLUG));
+        final long warmStatements = statementsFor(() -> serviceAreaService.getServiceArea(SERVICE_AREA_SLUG));
+
+        assertThat(warmStatements).isLessThan(coldStatements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    private long statementsFor(final Runnable lookup) {
+        entityManager.clear();
+        statistics.clear();
+        lookup.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import uk.gov.hmcts.dts.fact.entity.AuditType;
+import uk.gov.hmcts.dts.fact.model.Court;
+import uk.gov.hmcts.dts.fact.repositories.AuditRepository;
+import uk.gov.hmcts.dts.fact.repositories.AuditTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audits an admin change to a court, with the court before and after the change as the audit data. The audit is
+ * saved synchronously to repositories which do nothing, so only the serialisation of the audit data is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditBenchmark {
+    @Param({"1", "10"})
+    private int scale;
+
+    private AdminAuditService adminAuditService;
+    private Court before;
+    private Court after;
+
+    @Setup
+    public void setUp() {
+        final AuditType auditType = new AuditType(1, "Update court details");
+        adminAuditService = new AdminAuditService(
+            repository(AuditRepository.class, null),
+            repository(AuditTypeRepository.class, auditType),
+            null,
+            "sync",
+            500
+        );
+        final uk.gov.hmcts.dts.fact.entity.Court court = CourtFixtures.courts(scale).get(1);
+        before = new Court(court);
+        after = new Court(court);
+        after.setInfo("<p>This court only deals with family cases.</p>");
+
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("benchmark@justice.gov.uk", null)
+        );
+    }
+
+    @Benchmark
+    public void saveAudit() {
+        adminAuditService.saveAudit("Update court details", before, after, before.getSlug());
+    }
+
+    /**
+     * A repository which saves nothing: save returns the entity it is given, and any query the result given.
+     */
+    private static <T> T repository(final Class<T> type, final Object result) {
+        return type.cast(Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[]{type},
+            (proxy, method, args) -> "save".equals(method.getName()) ? args[0] : result
+        ));
+    }
+}
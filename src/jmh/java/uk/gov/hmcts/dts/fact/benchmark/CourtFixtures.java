@@ -0,0 +1,284 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import uk.gov.hmcts.dts.fact.entity.AddressType;
+import uk.gov.hmcts.dts.fact.entity.ApplicationUpdate;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.Contact;
+import uk.gov.hmcts.dts.fact.entity.ContactType;
+import uk.gov.hmcts.dts.fact.entity.County;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+import uk.gov.hmcts.dts.fact.entity.CourtApplicationUpdate;
+import uk.gov.hmcts.dts.fact.entity.CourtContact;
+import uk.gov.hmcts.dts.fact.entity.CourtDxCode;
+import uk.gov.hmcts.dts.fact.entity.CourtEmail;
+import uk.gov.hmcts.dts.fact.entity.CourtOpeningTime;
+import uk.gov.hmcts.dts.fact.entity.CourtType;
+import uk.gov.hmcts.dts.fact.entity.DxCode;
+import uk.gov.hmcts.dts.fact.entity.Email;
+import uk.gov.hmcts.dts.fact.entity.EmailType;
+import uk.gov.hmcts.dts.fact.entity.Facility;
+import uk.gov.hmcts.dts.fact.entity.FacilityType;
+import uk.gov.hmcts.dts.fact.entity.OpeningTime;
+import uk.gov.hmcts.dts.fact.entity.OpeningType;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Builds synthetic court entities, postcodes and mapit responses for the benchmarks.
+ *
+ * <p>At scale 1 the data is about the size of the live service: around 500 courts, each with the number of
+ * addresses, areas of law, contacts, emails, opening times and facilities a typical court has, and mapit
+ * responses with as many areas as a typical postcode. At scale 10 there are ten times as many courts, and each
+ * court and mapit response has ten times as many of everything. The same seed always gives the same data, so
+ * results can be compared between runs.</p>
+ */
+public final class CourtFixtures {
+    public static final int REALISTIC_COURTS = 500;
+
+    private static final String[] TOWNS = {"Birmingham", "Cardiff", "Manchester", "Caernarfon", "Leeds", "Swansea",
+        "Bristol", "Newcastle upon Tyne", "Aberystwyth", "Llandudno"};
+    private static final String[] AREAS_OF_LAW = {"Adoption", "Bankruptcy", "Children", "Civil partnership", "Crime",
+        "Divorce", "Domestic violence", "Employment", "Housing possession", "Money claims", "Probate",
+        "Social security", "Tax"};
+    private static final String[] COURT_TYPES = {"County Court", "Crown Court", "Family Court", "Magistrates' Court",
+        "Tribunal"};
+    private static final String[] ADDRESS_TYPES = {"Visit us", "Write to us", "Visit or contact us"};
+    private static final String[] POSTCODE_AREAS = {"B", "CF", "M", "LL", "LS", "SA", "BS", "NE", "SY", "E", "SW",
+        "EC"};
+    private static final String FACILITY_DESCRIPTION = "<p>Contact the court <strong>before you arrive</strong> "
+        + "if you need help. See <a href=\"https://www.gov.uk/guidance/hmcts-help\">getting help</a> or email "
+        + "<a href=\"mailto:enquiries@justice.gov.uk\" onclick=\"track()\">enquiries</a>.</p>"
+        + "<script>alert('x')</script><img src=\"javascript:alert(1)\">";
+    private static final long SEED = 20_240_325L;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private CourtFixtures() {
+    }
+
+    /**
+     * Build courts.
+     *
+     * @param scale 1 for the size of the live service, 10 for ten times that
+     * @return the courts
+     */
+    public static List<Court> courts(final int scale) {
+        final Random random = new Random(SEED);
+        final List<Court> courts = new ArrayList<>(REALISTIC_COURTS * scale);
+        for (int index = 0; index < REALISTIC_COURTS * scale; index++) {
+            courts.add(court(random, index, scale));
+        }
+        return courts;
+    }
+
+    /**
+     * Build a facility description of the kind entered through the admin portal, with markup the sanitizer
+     * keeps and markup it removes.
+     *
+     * @param scale 1 for a typical description, 10 for one ten times as long
+     * @return the description
+     */
+    public static String facilityDescription(final int scale) {
+        return FACILITY_DESCRIPTION.repeat(scale);
+    }
+
+    /**
+     * Build postcodes, written as people type them: a mix of full and partial postcodes, with and without
+     * spaces and in either case.
+     *
+     * @param count the number of postcodes
+     * @return the postcodes
+     */
+    public static List<String> postcodes(final int count) {
+        final Random random = new Random(SEED);
+        final List<String> postcodes = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            postcodes.add(postcode(random));
+        }
+        return postcodes;
+    }
+
+    /**
+     * Build mapit postcode responses.
+     *
+     * @param count the number of responses
+     * @param scale 1 for a typical number of areas in a response, 10 for ten times that
+     * @return the responses
+     */
+    public static List<MapitData> mapitData(final int count, final int scale) {
+        final Random random = new Random(SEED);
+        final List<MapitData> responses = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            responses.add(mapitData(random, index, scale));
+        }
+        return responses;
+    }
+
+    private static Court court(final Random random, final int index, final int scale) {
+        final String town = TOWNS[index % TOWNS.length];
+        final Court court = new Court();
+        court.setId(index);
+        court.setName(town + " Combined Court " + index);
+        court.setNameCy(index % 4 == 0 ? "Llys Cyfun " + town + " " + index : null);
+        court.setSlug(town.toLowerCase(Locale.ROOT).replace(' ', '-') + "-combined-court-" + index);
+        court.setInfo("<p>This court deals with civil, family and criminal cases.</p>");
+        court.setDisplayed(index % 10 != 0);
+        court.setDirections("Take the number 2 bus from the station.");
+        court.setImageFile("court-" + index + ".jpg");
+        court.setLat(51.0 + random.nextDouble() * 3);
+        court.setLon(-4.0 + random.nextDouble() * 4);
+        court.setAlert(index % 7 == 0 ? "The court is closed on Friday." : null);
+        court.setNumber(400 + index);
+        court.setCciCode(100 + index);
+        court.setMagistrateCode(2000 + index);
+        court.setCourtCode(300 + index);
+        court.setLocationCode(500 + index);
+        court.setUpdatedAt(new Timestamp(1_700_000_000_000L + index * 60_000L));
+        court.setRegionId(1 + index % 9);
+        court.setGbs("GBS" + index);
+
+        court.setAddresses(list(random, 2, scale, i -> address(court, random, town, i)));
+        court.setAreasOfLaw(list(random, 6, scale, CourtFixtures::areaOfLaw));
+        court.setCourtTypes(list(random, 2, scale, i -> new CourtType(i, COURT_TYPES[i % COURT_TYPES.length], null)));
+        court.setCourtEmails(list(random, 4, scale, i -> new CourtEmail(court, email(i), i)));
+        court.setCourtContacts(list(random, 5, scale, i -> new CourtContact(court, contact(i), i)));
+        court.setCourtOpeningTimes(list(random, 3, scale, i -> new CourtOpeningTime(court, openingTime(i), i)));
+        court.setCourtApplicationUpdates(list(random, 2, scale, i -> new CourtApplicationUpdate(
+            court, applicationUpdate(i), i)));
+        court.setCourtDxCodes(list(random, 1, scale, i -> new CourtDxCode(
+            court, new DxCode(i, "DX " + (700_000 + index) + " " + town, "Document exchange", null, false))));
+        court.setFacilities(list(random, 10, scale, CourtFixtures::facility));
+        court.setServiceAreas(list(random, 1, scale, CourtFixtures::serviceArea));
+        return court;
+    }
+
+    /**
+     * A list of about the typical size at scale 1, varying between courts.
+     */
+    private static <T> List<T> list(final Random random, final int typical, final int scale,
+                                    final IntFunction<T> element) {
+        final int size = (typical + random.nextInt(typical + 1) - typical / 2) * scale;
+        final List<T> elements = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            elements.add(element.apply(index));
+        }
+        return elements;
+    }
+
+    private static CourtAddress address(final Court court, final Random random, final String town, final int index) {
+        final CourtAddress address = new CourtAddress();
+        address.setCourt(court);
+        address.setAddressType(new AddressType(index % ADDRESS_TYPES.length, ADDRESS_TYPES[index % ADDRESS_TYPES.length],
+                                               null));
+        address.setAddress(index + " Priory Street\r\nCivic Centre\r\n\tFloor " + index);
+        address.setTownName(town);
+        address.setCounty(new County(index, "West Midlands", "England"));
+        address.setPostcode(postcode(random));
+        address.setEpimId(index % 2 == 0 ? "EPIM" + index : null);
+        address.setSortOrder(index);
+        return address;
+    }
+
+    private static AreaOfLaw areaOfLaw(final int index) {
+        final AreaOfLaw areaOfLaw = new AreaOfLaw(index, AREAS_OF_LAW[index % AREAS_OF_LAW.length]);
+        areaOfLaw.setExternalLink("https%3A%2F%2Fwww.gov.uk%2Fguidance%2Farea-" + index);
+        areaOfLaw.setExternalLinkDescription("Information about " + areaOfLaw.getName());
+        areaOfLaw.setDisplayName(areaOfLaw.getName());
+        areaOfLaw.setAltName(index % 3 == 0 ? areaOfLaw.getName() + " (in person)" : null);
+        return areaOfLaw;
+    }
+
+    private static Email email(final int index) {
+        final Email email = new Email("enquiries" + index + "@justice.gov.uk", "For general enquiries", null,
+                                      new EmailType(index, "Enquiries", "Ymholiadau"));
+        email.setDescription("Enquiries");
+        return email;
+    }
+
+    private static Contact contact(final int index) {
+        return new Contact(new ContactType(index, "Enquiries", "Ymholiadau"), "0300 123 " + (1000 + index),
+                           index % 2 == 0 ? "Monday to Friday, 9am to 5pm" : null, null, index % 5 == 4);
+    }
+
+    private static OpeningTime openingTime(final int index) {
+        return new OpeningTime(new OpeningType(index, "Court open", "Llys ar agor"), "Monday to Friday 9am to 4pm");
+    }
+
+    private static ApplicationUpdate applicationUpdate(final int index) {
+        return index % 2 == 0
+            ? new ApplicationUpdate("Progress of an application", null, "progress@justice.gov.uk", null, null, null)
+            : new ApplicationUpdate("Track a case", null, null, "https://www.gov.uk/track", "Track your case", null);
+    }
+
+    private static Facility facility(final int index) {
+        final FacilityType facilityType = new FacilityType();
+        facilityType.setId(index);
+        facilityType.setName("Facility " + index);
+        facilityType.setOrder(index);
+        final Facility facility = new Facility(FACILITY_DESCRIPTION, null, facilityType);
+        facility.setName(facilityType.getName());
+        return facility;
+    }
+
+    private static ServiceArea serviceArea(final int index) {
+        final ServiceArea serviceArea = new ServiceArea();
+        serviceArea.setId(index);
+        serviceArea.setName("Money claims " + index);
+        return serviceArea;
+    }
+
+    private static String postcode(final Random random) {
+        final String area = POSTCODE_AREAS[random.nextInt(POSTCODE_AREAS.length)];
+        final String outcode = area + (1 + random.nextInt(20));
+        final int form = random.nextInt(4);
+        final String postcode;
+        if (form == 0) {
+            postcode = outcode;
+        } else if (form == 1) {
+            postcode = outcode + random.nextInt(10) + letter(random) + letter(random);
+        } else {
+            postcode = outcode + " " + random.nextInt(10) + letter(random) + letter(random);
+        }
+        return random.nextBoolean() ? postcode.toLowerCase(Locale.ROOT) : postcode;
+    }
+
+    private static char letter(final Random random) {
+        return "ABDEFGHJLNPQRSTUWXYZ".charAt(random.nextInt(20));
+    }
+
+    /**
+     * A mapit postcode response. The council is given in the shortcuts either as a number or, in a two tier
+     * area, as an object of the county and district councils, as mapit does.
+     */
+    private static MapitData mapitData(final Random random, final int index, final int scale) {
+        final ObjectNode areas = OBJECT_MAPPER.createObjectNode();
+        final int size = 20 * scale;
+        final int council = 2000 + random.nextInt(size);
+        for (int area = 2000; area < 2000 + size; area++) {
+            final ObjectNode node = areas.putObject(String.valueOf(area));
+            node.put("id", area);
+            node.put("name", "Area " + area);
+            node.put("type", area == council ? "UTA" : "WMC");
+            node.put("country_name", "England");
+            node.putObject("codes").put("gss", "E0" + area);
+        }
+        final ObjectNode shortcuts = OBJECT_MAPPER.createObjectNode();
+        if (index % 2 == 0) {
+            shortcuts.put("council", council);
+        } else {
+            shortcuts.putObject("council").put("county", council).put("district", council + 1);
+        }
+        shortcuts.put("WMC", council);
+        return new MapitData(51.0 + random.nextDouble(), -1.0 + random.nextDouble(), shortcuts, areas);
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.model.CourtForDownload;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps every court entity to the model returned by the court endpoints, and to the rows of the court download,
+ * as the all courts and download endpoints do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourtMappingBenchmark {
+    @Param({"1", "10"})
+    private int scale;
+
+    private List<Court> courts;
+
+    @Setup
+    public void setUp() {
+        courts = CourtFixtures.courts(scale);
+    }
+
+    @Benchmark
+    public void courtModel(final Blackhole blackhole) {
+        for (final Court court : courts) {
+            blackhole.consume(new uk.gov.hmcts.dts.fact.model.Court(court));
+        }
+    }
+
+    @Benchmark
+    public void courtForDownload(final Blackhole blackhole) {
+        for (final Court court : courts) {
+            blackhole.consume(new CourtForDownload(court));
+        }
+    }
+}
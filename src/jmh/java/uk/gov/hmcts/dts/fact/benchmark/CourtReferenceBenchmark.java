@@ -0,0 +1,140 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.model.CourtReference;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository.CourtSummary;
+import uk.gov.hmcts.dts.fact.services.CourtReferenceCache;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Builds the admin list of courts and the court name prefix search results, from court entities as they were
+ * built before and from the cached court summaries as they are built now. Run with {@code -prof gc} to compare
+ * the bytes allocated for each list as well as the time taken, e.g.
+ * {@code ./gradlew jmh -Pjmh.args='CourtReferenceBenchmark -prof gc'}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourtReferenceBenchmark {
+    private static final long TTL_MINUTES = 60;
+
+    @Param({"1", "10"})
+    private int scale;
+
+    private List<Court> courts;
+    private CourtReferenceCache courtReferenceCache;
+    private String prefix;
+
+    @Setup
+    public void setUp() {
+        courts = CourtFixtures.courts(scale);
+        final List<CourtSummary> summaries = courts.stream()
+            .sorted(Comparator.comparing(Court::getName))
+            .map(BenchmarkCourtSummary::new)
+            .collect(toList());
+        courtReferenceCache = new CourtReferenceCache(() -> summaries, new SimpleMeterRegistry(), TTL_MINUTES);
+        courtReferenceCache.getAll();
+        prefix = courts.get(0).getName().substring(0, 3).toLowerCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public void allReferencesFromEntities(final Blackhole blackhole) {
+        for (final Court court : courts) {
+            blackhole.consume(new CourtReference(court));
+        }
+    }
+
+    @Benchmark
+    public void allReferencesFromCache(final Blackhole blackhole) {
+        for (final CourtSummary court : courtReferenceCache.getAll()) {
+            blackhole.consume(new CourtReference(court));
+        }
+    }
+
+    @Benchmark
+    public void prefixSearchFromEntities(final Blackhole blackhole) {
+        for (final Court court : courts) {
+            if (court.getDisplayed() && court.getName().regionMatches(true, 0, prefix, 0, prefix.length())) {
+                blackhole.consume(new CourtReference(court));
+            }
+        }
+    }
+
+    @Benchmark
+    public void prefixSearchFromCache(final Blackhole blackhole) {
+        for (final CourtSummary court : courtReferenceCache.findDisplayedByNamePrefix(prefix)) {
+            blackhole.consume(new CourtReference(court));
+        }
+    }
+
+    private static final class BenchmarkCourtSummary implements CourtSummary {
+        private final String name;
+        private final String nameCy;
+        private final String slug;
+        private final Timestamp updatedAt;
+        private final Boolean displayed;
+        private final Integer regionId;
+
+        BenchmarkCourtSummary(final Court court) {
+            this.name = court.getName();
+            this.nameCy = court.getNameCy();
+            this.slug = court.getSlug();
+            this.updatedAt = court.getUpdatedAt();
+            this.displayed = court.getDisplayed();
+            this.regionId = court.getRegionId();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getNameCy() {
+            return nameCy;
+        }
+
+        @Override
+        public String getSlug() {
+            return slug;
+        }
+
+        @Override
+        public Timestamp getUpdatedAt() {
+            return updatedAt;
+        }
+
+        @Override
+        public Boolean getDisplayed() {
+            return displayed;
+        }
+
+        @Override
+        public Integer getRegionId() {
+            return regionId;
+        }
+    }
+}
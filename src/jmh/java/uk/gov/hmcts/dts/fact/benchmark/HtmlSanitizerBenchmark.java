@@ -0,0 +1,42 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.dts.fact.html.sanitizer.OwaspHtmlSanitizer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sanitizes one facility description, as is done for every facility of a court each time it is returned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlSanitizerBenchmark {
+    @Param({"1", "10"})
+    private int scale;
+
+    private String description;
+
+    @Setup
+    public void setUp() {
+        description = CourtFixtures.facilityDescription(scale);
+    }
+
+    @Benchmark
+    public String sanitizeHtml() {
+        return OwaspHtmlSanitizer.sanitizeHtml(description);
+    }
+}
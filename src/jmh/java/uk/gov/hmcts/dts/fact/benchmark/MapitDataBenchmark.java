@@ -0,0 +1,49 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the local authority in one mapit postcode response, as the local authority searches do, taking each in
+ * turn from responses giving the council both as a number and as county and district councils.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapitDataBenchmark {
+    private static final int RESPONSES = 256;
+
+    @Param({"1", "10"})
+    private int scale;
+
+    private List<MapitData> responses;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        responses = CourtFixtures.mapitData(RESPONSES, scale);
+    }
+
+    @Benchmark
+    public Optional<String> getLocalAuthority() {
+        next = (next + 1) % RESPONSES;
+        return responses.get(next).getLocalAuthority();
+    }
+}
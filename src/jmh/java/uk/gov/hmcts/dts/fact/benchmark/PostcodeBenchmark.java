@@ -0,0 +1,76 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.dts.fact.services.validation.PostcodeValidator;
+import uk.gov.hmcts.dts.fact.util.Postcode;
+import uk.gov.hmcts.dts.fact.util.Utils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks and normalises one postcode, as every postcode search does, taking each in turn from a mix of full and
+ * partial postcodes so that both matches and failures are seen. The regular expressions the postcode parser
+ * replaced are kept here as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostcodeBenchmark {
+    private static final int POSTCODES = 1024;
+    private static final String FULL_POSTCODE = "([Gg][Ii][Rr] 0[Aa]{2})|((([A-Za-z]\\d{1,2})|(([A-Za-z]"
+        + "[A-Ha-hJ-Yj-y]\\d{1,2})|(([A-Za-z]\\d[A-Za-z])|([A-Za-z][A-Ha-hJ-Yj-y]"
+        + "\\d[A-Za-z]?))))\\s?\\d[A-Za-z]{2})";
+
+    private List<String> postcodes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        postcodes = CourtFixtures.postcodes(POSTCODES);
+    }
+
+    @Benchmark
+    public boolean isFullPostcodeFormat() {
+        return PostcodeValidator.isFullPostcodeFormat(nextPostcode());
+    }
+
+    @Benchmark
+    public boolean isFullPostcodeFormatWithRegex() {
+        return nextPostcode().matches(FULL_POSTCODE);
+    }
+
+    @Benchmark
+    public Optional<Postcode> parse() {
+        return Postcode.parse(nextPostcode());
+    }
+
+    @Benchmark
+    public String upperCaseAndStripAllSpaces() {
+        return Utils.upperCaseAndStripAllSpaces(nextPostcode());
+    }
+
+    @Benchmark
+    public String upperCaseAndStripAllSpacesWithRegex() {
+        return nextPostcode().replaceAll("\\s+", "").toUpperCase(Locale.getDefault());
+    }
+
+    private String nextPostcode() {
+        next = (next + 1) % POSTCODES;
+        return postcodes.get(next);
+    }
+}
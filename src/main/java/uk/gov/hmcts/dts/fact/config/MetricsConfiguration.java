@@ -0,0 +1,137 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.services.search.SearchMetrics;
+
+import java.util.Set;
+import javax.cache.CacheManager;
+
+/**
+ * Adds to the metrics published through micrometer. The repository invocation timers are tagged with the service
+ * area type and action of the court search they were made for, and those of the search repositories publish a
+ * percentile histogram. Requests turned away by a rate limiter are counted by limiter, and the hits, misses and
+ * puts of each second-level cache region are read from the JCache statistics.
+ */
+@Configuration
+public class MetricsConfiguration {
+    static final String RATE_LIMITER_REJECTED_COUNTER = "resilience4j.ratelimiter.rejected";
+    static final Set<String> SEARCH_REPOSITORIES = Set.of(
+        CourtSearchResultRepository.class.getSimpleName(),
+        CourtWithDistanceRepository.class.getSimpleName()
+    );
+    private static final String REPOSITORY_TAG = "repository";
+
+    /**
+     * Tags each repository invocation with the default tags and those of the court search it was made for.
+     * @param searchMetrics The metrics holding the context of the court search running on each thread
+     * @return The repository tags provider
+     */
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider(final SearchMetrics searchMetrics) {
+        final RepositoryTagsProvider defaultTags = new DefaultRepositoryTagsProvider();
+        return invocation -> Tags.concat(defaultTags.repositoryTags(invocation), searchMetrics.getContextTags());
+    }
+
+    /**
+     * Publishes a percentile histogram for the invocations of the search repositories only. A histogram for every
+     * repository would add its buckets to each method, tag and outcome of all of them.
+     * @param metricName The name of the repository invocation timer
+     * @return The meter filter
+     */
+    @Bean
+    public MeterFilter searchRepositoryHistograms(
+        @Value("${management.metrics.data.repository.metric-name:spring.data.repository.invocations}")
+        final String metricName) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+                if (metricName.equals(id.getName()) && SEARCH_REPOSITORIES.contains(id.getTag(REPOSITORY_TAG))) {
+                    return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    /**
+     * Publishes the statistics of each region of the Hibernate second-level cache, tagged with the region name.
+     * They are read from the JCache cache backing the region, so they do not depend on
+     * {@code hibernate.generate_statistics}, which is off by default for its cost on every session.
+     * @param entityManagerFactory The entity manager factory whose second-level cache is monitored
+     * @return The binder of the region metrics
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(final EntityManagerFactory entityManagerFactory) {
+        return meterRegistry -> {
+            final RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+            if (regionFactory instanceof JCacheRegionFactory) {
+                final CacheManager cacheManager = ((JCacheRegionFactory) regionFactory).getCacheManager();
+                for (final String region : cacheManager.getCacheNames()) {
+                    cacheManager.enableStatistics(region, true);
+                    JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(region));
+                }
+            }
+        };
+    }
+
+    /**
+     * Counts the calls each rate limiter rejects, as each is created.
+     * @param meterRegistry The registry the rejections are published to
+     * @return The consumer of rate limiter registry events
+     */
+    @Bean
+    public RegistryEventConsumer<RateLimiter> rateLimiterRejections(final MeterRegistry meterRegistry) {
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(final EntryAddedEvent<RateLimiter> entryAddedEvent) {
+                countRejections(entryAddedEvent.getAddedEntry(), meterRegistry);
+            }
+
+            @Override
+            public void onEntryRemovedEvent(final EntryRemovedEvent<RateLimiter> entryRemoveEvent) {
+                // The counter is kept so the rejections already counted are still published
+            }
+
+            @Override
+            public void onEntryReplacedEvent(final EntryReplacedEvent<RateLimiter> entryReplacedEvent) {
+                countRejections(entryReplacedEvent.getNewEntry(), meterRegistry);
+            }
+        };
+    }
+
+    private static void countRejections(final RateLimiter rateLimiter, final MeterRegistry meterRegistry) {
+        final Counter rejected = Counter.builder(RATE_LIMITER_REJECTED_COUNTER)
+            .description("Calls rejected by the rate limiter")
+            .tag("name", rateLimiter.getName())
+            .register(meterRegistry);
+        rateLimiter.getEventPublisher().onFailure(event -> rejected.increment());
+    }
+}
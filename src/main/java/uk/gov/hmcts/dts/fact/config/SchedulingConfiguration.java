@@ -0,0 +1,12 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled background tasks, such as the expiry of court locks.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
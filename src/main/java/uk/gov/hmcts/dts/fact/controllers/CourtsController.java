@@ -2,11 +2,16 @@ package uk.gov.hmcts.dts.fact.controllers;
 
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,12 +21,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.model.Court;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.CourtReferenceWithHistoricalName;
+import uk.gov.hmcts.dts.fact.model.CourtSnapshot;
+import uk.gov.hmcts.dts.fact.model.CourtSuggestion;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
 import uk.gov.hmcts.dts.fact.services.CourtService;
+import uk.gov.hmcts.dts.fact.services.CourtSnapshotService;
+import uk.gov.hmcts.dts.fact.services.search.CourtAutocomplete;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.springframework.http.ResponseEntity.noContent;
@@ -39,11 +50,18 @@ import static org.springframework.http.ResponseEntity.ok;
 @Validated
 public class CourtsController {
 
+    private static final Duration SUGGESTION_MAX_AGE = Duration.ofMinutes(1);
+
     private final CourtService courtService;
+    private final CourtSnapshotService courtSnapshotService;
+    private final CourtAutocomplete courtAutocomplete;
 
     @Autowired
-    public CourtsController(final CourtService courtService) {
+    public CourtsController(final CourtService courtService, final CourtSnapshotService courtSnapshotService,
+                            final CourtAutocomplete courtAutocomplete) {
         this.courtService = courtService;
+        this.courtSnapshotService = courtSnapshotService;
+        this.courtAutocomplete = courtAutocomplete;
     }
 
     /**
@@ -73,13 +91,31 @@ public class CourtsController {
 
     /**
      * Find court details by slug.
+     * The response carries an ETag, and a request whose If-None-Match header matches it is answered with 304. The
+     * court is given in the language of the request, so both vary by Accept-Language.
      * @param slug - slug of the court
+     * @param request - the current request, used to check the If-None-Match header
      * @return Court details which matches given slug
      */
     @GetMapping(path = "/{slug}")
     @Operation(summary = "Find court details by slug")
-    public ResponseEntity<Court> findCourtByName(@PathVariable String slug) {
-        return ok(courtService.getCourtBySlug(slug));
+    @ApiResponse(responseCode = "200", description = "Successful",
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Court.class)))
+    @ApiResponse(responseCode = "304", description = "Not Modified")
+    @ApiResponse(responseCode = "404", description = "Not Found")
+    public ResponseEntity<byte[]> findCourtByName(@PathVariable String slug, WebRequest request) {
+        final CourtSnapshot snapshot = courtSnapshotService.getCourtSnapshot(slug);
+        if (request.checkNotModified(snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(snapshot.getEtag())
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .build();
+        }
+        return ok()
+            .eTag(snapshot.getEtag())
+            .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.getJson());
     }
 
     /**
@@ -93,6 +129,26 @@ public class CourtsController {
         return ok(courtService.getCourtsByPrefixAndActiveSearch(prefix));
     }
 
+    /**
+     * Suggest active courts as their name is typed.
+     * Courts are matched on the start of their English, Welsh or historical names, ignoring case and accents, and
+     * are answered from memory. Responses may be cached by the client for a minute, so repeated keystrokes do not
+     * need another request.
+     * @param prefix the start of the court name
+     * @param limit the maximum number of courts to return
+     * @return array of courts, ordered by name in the language of the request
+     */
+    @GetMapping(path = "/autocomplete")
+    @Operation(summary = "Suggest active courts whose current or historical name starts with a prefix")
+    public ResponseEntity<List<CourtSuggestion>> getCourtSuggestions(
+        @RequestParam @Size(min = 1, max = 100) @NotBlank String prefix,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(SUGGESTION_MAX_AGE).cachePublic())
+            .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+            .body(courtAutocomplete.suggest(prefix, limit));
+    }
+
     /**
      * Find courts by court types endpoint.
      * This endpoint can be used to search for courts that have a court type associated to it.
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -13,8 +14,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.admin.Audit;
+import uk.gov.hmcts.dts.fact.model.admin.AuditFilter;
+import uk.gov.hmcts.dts.fact.model.admin.AuditPage;
 import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 
 import java.time.LocalDateTime;
@@ -68,12 +72,87 @@ public class AdminAuditController {
                                                  @RequestParam(value = "dateTo", required = false)
                                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> dateTo) {
 
-        // Return with an error if one or the other is set, but not both
-        if (dateFrom.isPresent() && dateTo.isEmpty() || dateFrom.isEmpty() && dateTo.isPresent()) {
-            log.error("Both date-from and date-to request parameters need to be set if present, and in the format "
-                          + "of yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        if (!hasDateRangeOrNone(dateFrom, dateTo)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
         }
         return ok(adminAuditService.getAllAuditData(page, size, location, email, dateFrom, dateTo));
     }
+
+    /**
+     * Get a page of audits, newest first. Each page is read from the cursor returned with the page before it, so
+     * later pages are as quick to read as the first.
+     * @param size the page size
+     * @param cursor the next cursor returned with the previous page, left out for the first page
+     * @param includeTotal whether to count every audit matching the filter
+     * @param location the location
+     * @param email the email
+     * @param dateFrom the date from
+     * @param dateTo the date to
+     * @return the page of audits
+     */
+    @GetMapping(path = "/page")
+    @Operation(summary = "Find a page of audits based on the provided parameters, newest first.")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Invalid page size, cursor or date range")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+    @Role({FACT_SUPER_ADMIN})
+    public ResponseEntity<AuditPage> getAuditPage(@RequestParam(value = "size", defaultValue = "50") int size,
+                                                  @RequestParam(value = "cursor", required = false) Optional<String> cursor,
+                                                  @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal,
+                                                  @RequestParam(value = "location", required = false) Optional<String> location,
+                                                  @RequestParam(value = "email", required = false) Optional<String> email,
+                                                  @RequestParam(value = "dateFrom", required = false)
+                                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> dateFrom,
+                                                  @RequestParam(value = "dateTo", required = false)
+                                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> dateTo) {
+        if (!hasDateRangeOrNone(dateFrom, dateTo)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ok(adminAuditService.getAuditPage(new AuditFilter(location, email, dateFrom, dateTo),
+                                                 size, cursor, includeTotal));
+    }
+
+    /**
+     * Export audits as CSV, newest first. The audits are written to the response as they are read.
+     * @param location the location
+     * @param email the email
+     * @param dateFrom the date from
+     * @param dateTo the date to
+     * @return the audits as CSV
+     */
+    @GetMapping(path = "/export", produces = "text/csv")
+    @Operation(summary = "Export the audits matching the provided parameters as CSV, newest first.")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Invalid date range")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+    @Role({FACT_SUPER_ADMIN})
+    public ResponseEntity<StreamingResponseBody> exportAudits(@RequestParam(value = "location", required = false) Optional<String> location,
+                                                              @RequestParam(value = "email", required = false) Optional<String> email,
+                                                              @RequestParam(value = "dateFrom", required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> dateFrom,
+                                                              @RequestParam(value = "dateTo", required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> dateTo) {
+        if (!hasDateRangeOrNone(dateFrom, dateTo)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        final AuditFilter filter = new AuditFilter(location, email, dateFrom, dateTo);
+        return ok()
+            .contentType(MediaType.parseMediaType("text/csv"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=audits.csv")
+            .body(outputStream -> adminAuditService.exportAudits(filter, outputStream));
+    }
+
+    /**
+     * Both dates must be given to filter by date, or neither.
+     */
+    private static boolean hasDateRangeOrNone(Optional<LocalDateTime> dateFrom, Optional<LocalDateTime> dateTo) {
+        if (dateFrom.isPresent() != dateTo.isPresent()) {
+            log.error("Both date-from and date-to request parameters need to be set if present, and in the format "
+                          + "of yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+            return false;
+        }
+        return true;
+    }
 }
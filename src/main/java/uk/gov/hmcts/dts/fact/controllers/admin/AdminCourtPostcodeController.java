@@ -19,10 +19,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.exception.InvalidPostcodeException;
+import uk.gov.hmcts.dts.fact.model.admin.CourtPostcodeCatchmentUpdate;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtLockService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtPostcodeService;
 import uk.gov.hmcts.dts.fact.services.validation.ValidationService;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -165,4 +167,55 @@ public class AdminCourtPostcodeController {
         }
         throw new InvalidPostcodeException(invalidPostcodes);
     }
+
+    /**
+     * Replaces the postcodes handled by the court for civil service type with those given. Postcodes the court no
+     * longer handles are deleted and new postcodes added, so only the difference is written.
+     *
+     * @param slug      Court slug
+     * @param postcodes the complete list of postcodes the court should handle
+     * @return The number of postcodes added, removed and unchanged, and the number of repeated postcodes.
+     *      If one of more input postcodes are invalid, return the invalid postcodes and a '400' response.
+     */
+    @PutMapping(path = "/{slug}/postcodes/catchment", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Replace the court postcodes")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Invalid postcodes")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+    @ApiResponse(responseCode = "404", description = "Court not Found")
+    @Role(FACT_SUPER_ADMIN)
+    public ResponseEntity<CourtPostcodeCatchmentUpdate> replaceCourtPostcodes(@PathVariable String slug,
+                                                                              @RequestBody List<String> postcodes,
+                                                                              Authentication authentication) {
+        final List<String> invalidPostcodes = validationService.validatePostcodes(postcodes);
+        if (CollectionUtils.isEmpty(invalidPostcodes)) {
+            adminCourtLockService.updateCourtLock(slug, authentication.getName());
+            return ok(adminService.replaceCourtPostcodes(slug, postcodes));
+        }
+        throw new InvalidPostcodeException(invalidPostcodes);
+    }
+
+    /**
+     * Replaces the postcodes handled by the court for civil service type with those in an uploaded file, one
+     * postcode per line. The request body is streamed, so large files can be uploaded.
+     *
+     * @param slug Court slug
+     * @param csv  the file of postcodes the court should handle
+     * @return The number of postcodes added, removed and unchanged, and the number of repeated postcodes.
+     *      If one of more input postcodes are invalid, return the invalid postcodes and a '400' response.
+     */
+    @PutMapping(path = "/{slug}/postcodes/catchment", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @Operation(summary = "Replace the court postcodes from a file")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Invalid postcodes")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+    @ApiResponse(responseCode = "404", description = "Court not Found")
+    @Role(FACT_SUPER_ADMIN)
+    public ResponseEntity<CourtPostcodeCatchmentUpdate> uploadCourtPostcodes(@PathVariable String slug,
+                                                                             InputStream csv,
+                                                                             Authentication authentication) {
+        return replaceCourtPostcodes(slug, adminService.readPostcodes(csv), authentication);
+    }
 }
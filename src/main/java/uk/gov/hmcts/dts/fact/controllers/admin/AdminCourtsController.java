@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -16,13 +17,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.admin.Court;
+import uk.gov.hmcts.dts.fact.model.admin.CourtExportFormat;
 import uk.gov.hmcts.dts.fact.model.admin.CourtInfoUpdate;
 import uk.gov.hmcts.dts.fact.model.admin.ImageFile;
 import uk.gov.hmcts.dts.fact.model.admin.NewCourt;
+import uk.gov.hmcts.dts.fact.services.admin.AdminCourtExportService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtLockService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminService;
 import uk.gov.hmcts.dts.fact.util.Utils;
@@ -51,6 +56,7 @@ public class AdminCourtsController {
 
     private final AdminService adminService;
     private final AdminCourtLockService adminCourtLockService;
+    private final AdminCourtExportService adminCourtExportService;
     private static final String FORBIDDEN = "Forbidden";
     private static final String FORBIDDEN_CODE = "403";
     private static final String UNAUTHORISED = "Unauthorised";
@@ -61,9 +67,11 @@ public class AdminCourtsController {
      */
     @Autowired
     public AdminCourtsController(final AdminService adminService,
-                                 AdminCourtLockService adminCourtLockService) {
+                                 AdminCourtLockService adminCourtLockService,
+                                 AdminCourtExportService adminCourtExportService) {
         this.adminService = adminService;
         this.adminCourtLockService = adminCourtLockService;
+        this.adminCourtExportService = adminCourtExportService;
     }
 
     /**
@@ -90,6 +98,29 @@ public class AdminCourtsController {
         return ok(adminService.getAllCourtsForDownload());
     }
 
+    /**
+     * Export all courts for download, ordered by name. The courts are written to the response as they are read, with
+     * the content type of the requested format.
+     *
+     * @param format the export format, jsonl (one JSON object per line) or csv
+     * @return the courts in the requested format
+     */
+    @GetMapping(path = "/all/export", produces = {CourtExportFormat.JSON_LINES_VALUE, CourtExportFormat.CSV_VALUE})
+    @Role({FACT_ADMIN, FACT_VIEWER, FACT_SUPER_ADMIN})
+    @Operation(summary = "Export court data for download as JSON lines or CSV")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Unknown export format")
+    @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED)
+    @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN)
+    public ResponseEntity<StreamingResponseBody> exportCourtsForDownload(
+        @RequestParam(name = "format", defaultValue = "jsonl") String format) {
+        final CourtExportFormat exportFormat = CourtExportFormat.findByName(format);
+        return ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=courts." + exportFormat.getName())
+            .body(outputStream -> adminCourtExportService.exportCourts(exportFormat, outputStream));
+    }
+
     /**
      * Update selected courts info.
      *
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.dts.fact.controllers.admin;
+
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.dts.fact.config.security.Role;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeGazetteerImport;
+import uk.gov.hmcts.dts.fact.services.admin.AdminPostcodeGazetteerService;
+
+import java.io.InputStream;
+
+import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
+
+/**
+ * Controller for loading the offline postcode gazetteer.
+ */
+@RateLimiter(name = "default")
+@RestController
+@RequestMapping(
+    path = "/admin/postcodeGazetteer",
+    produces = {MediaType.APPLICATION_JSON_VALUE}
+)
+public class AdminPostcodeGazetteerController {
+    private final AdminPostcodeGazetteerService adminService;
+
+    /**
+     * Constructor for the AdminPostcodeGazetteerController.
+     */
+    public AdminPostcodeGazetteerController(AdminPostcodeGazetteerService adminService) {
+        this.adminService = adminService;
+    }
+
+    /**
+     * Import postcodes into the gazetteer. The request body is streamed, so large files can be uploaded.
+     *
+     * @param csv the CSV file
+     * @return the number of postcodes imported and skipped
+     */
+    @PostMapping(consumes = {"text/csv"})
+    @Operation(summary = "Import postcodes into the postcode gazetteer")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Missing required columns")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+    @Role(FACT_SUPER_ADMIN)
+    public ResponseEntity<PostcodeGazetteerImport> importPostcodes(InputStream csv) {
+        return ok(adminService.importPostcodes(csv));
+    }
+}
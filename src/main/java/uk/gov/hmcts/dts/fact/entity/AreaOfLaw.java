@@ -11,9 +11,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "search_areaoflaw")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "area-of-law")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -7,9 +7,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "search_county")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "county")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -8,6 +8,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderBy;
@@ -26,12 +29,59 @@ import java.util.stream.Stream;
 import static java.util.Comparator.comparing;
 import static java.util.Optional.ofNullable;
 
+/**
+ * A court.
+ *
+ * <p>The named entity graphs below are the fetch plans for each of the ways a court is read. Each joins the
+ * to-one associations, which are otherwise loaded with a query per court, and at most one list (Hibernate cannot
+ * join more than one list in the same query). The remaining collections are loaded in batches, see
+ * {@code hibernate.default_batch_fetch_size}.</p>
+ */
 @Entity
 @Table(name = "search_court")
+@NamedEntityGraph(
+    name = Court.DETAIL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("inPerson"),
+        @NamedAttributeNode("serviceCentre"),
+        @NamedAttributeNode(value = "addresses", subgraph = Court.ADDRESS_SUBGRAPH)
+    },
+    subgraphs = @NamedSubgraph(
+        name = Court.ADDRESS_SUBGRAPH,
+        attributeNodes = {@NamedAttributeNode("addressType"), @NamedAttributeNode("county")}
+    )
+)
+@NamedEntityGraph(
+    name = Court.DOWNLOAD_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("inPerson"),
+        @NamedAttributeNode("serviceCentre"),
+        @NamedAttributeNode(value = "addresses", subgraph = Court.ADDRESS_SUBGRAPH)
+    },
+    subgraphs = @NamedSubgraph(name = Court.ADDRESS_SUBGRAPH, attributeNodes = @NamedAttributeNode("addressType"))
+)
+@NamedEntityGraph(
+    name = Court.REFERENCE_GRAPH,
+    attributeNodes = {@NamedAttributeNode("inPerson"), @NamedAttributeNode("serviceCentre")}
+)
 @Getter
 @Setter
 @SuppressWarnings("PMD.TooManyFields")
 public class Court {
+    /**
+     * Fetch plan for building the public court details.
+     */
+    public static final String DETAIL_GRAPH = "Court.detail";
+    /**
+     * Fetch plan for building the court download.
+     */
+    public static final String DOWNLOAD_GRAPH = "Court.download";
+    /**
+     * Fetch plan for building court references, which only read the court's own columns.
+     */
+    public static final String REFERENCE_GRAPH = "Court.reference";
+    private static final String ADDRESS_SUBGRAPH = "addresses";
+
     private static final String COURT_ID = "court_id";
     private static final String COURT_STRING = "court";
     private static final String SORT = "sort";
@@ -7,11 +7,14 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 @Entity
 @Table(name = "search_courttype")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "court-type")
 @Getter
 @Setter
 @NoArgsConstructor
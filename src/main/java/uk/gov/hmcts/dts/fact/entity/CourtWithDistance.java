@@ -14,6 +14,14 @@ import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
 
+/**
+ * A whole court with its distance from a point, read by {@code CourtWithDistanceRepository} for the deprecated
+ * search endpoints.
+ *
+ * <p>Its fetch plan is to read the courts with one native query, then load each collection for all of them at
+ * once as it is first used, see {@code hibernate.default_batch_fetch_size}. The court searches read only the
+ * fields they show, as a {@code CourtSearchResult}.</p>
+ */
 @Entity
 @Getter
 @Setter
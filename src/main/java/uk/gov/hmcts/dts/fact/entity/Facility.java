@@ -14,11 +14,14 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 @Entity
 @Table(name = "search_facility")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "facility")
 @Getter
 @Setter
 @NoArgsConstructor
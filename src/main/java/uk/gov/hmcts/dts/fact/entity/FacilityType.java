@@ -9,9 +9,12 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "admin_facilitytype")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "facility-type")
 @Getter
 @Setter
 public class FacilityType {
@@ -6,9 +6,12 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "search_localauthority")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "local-authority")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.dts.fact.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representation of a postcode held in the offline postcode gazetteer.
+ */
+@Entity
+@Table(name = "search_postcodegazetteer")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostcodeGazetteer {
+    @Id
+    private String postcode;
+    private String outcode;
+    private String sector;
+    private Double lat;
+    private Double lon;
+    @Column(name = "local_authority_code")
+    private String localAuthorityCode;
+    @Column(name = "local_authority_name")
+    private String localAuthorityName;
+    @Column(name = "region_name")
+    private String regionName;
+}
@@ -7,9 +7,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "search_region")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "region")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -9,11 +9,14 @@ import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 @Entity
 @Table(name = "search_service")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "service")
 @Getter
 @Setter
 public class Service {
@@ -27,6 +30,7 @@ public class Service {
     private String slug;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "service.service-areas")
     @JoinTable(
         name = "search_serviceservicearea",
         joinColumns = @JoinColumn(name = SERVICE_ID),
@@ -9,12 +9,15 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 @SuppressWarnings({"PMD.ExcessiveParameterList"})
 @Entity
 @Table(name = "search_servicearea")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "service-area")
 @Getter
 @Setter
 public class ServiceArea {
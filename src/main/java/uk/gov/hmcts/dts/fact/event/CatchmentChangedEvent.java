@@ -0,0 +1,14 @@
+package uk.gov.hmcts.dts.fact.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Published by the admin services after the postcode gazetteer, which places each postcode and gives its local
+ * authority, has been changed, so that cached postcode lookups can be discarded. Listeners should use
+ * {@code @TransactionalEventListener(fallbackExecution = true)} so they only run once the change is committed.
+ */
+@EqualsAndHashCode
+@ToString
+public class CatchmentChangedEvent {
+}
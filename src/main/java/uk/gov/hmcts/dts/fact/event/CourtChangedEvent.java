@@ -0,0 +1,19 @@
+package uk.gov.hmcts.dts.fact.event;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the admin services after the data held for a court has been changed, so that anything derived
+ * from it (caches, indexes) can be refreshed. Listeners should use
+ * {@code @TransactionalEventListener(fallbackExecution = true)} so they only run once the change is committed.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CourtChangedEvent {
+    private final String slug;
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.dts.fact.event;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+
+/**
+ * Published by the admin list services after a reference data table (address types, areas of law etc.) has been
+ * changed, so that the cached copy of it can be discarded. Listeners should use
+ * {@code @TransactionalEventListener(fallbackExecution = true)} so they only run once the change is committed.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class ReferenceDataChangedEvent {
+    private final ReferenceData table;
+}
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.PostcodeGazetteer;
+import uk.gov.hmcts.dts.fact.repositories.PostcodeGazetteerRepository;
+import uk.gov.hmcts.dts.fact.repositories.PostcodeGazetteerRepository.Centroid;
+import uk.gov.hmcts.dts.fact.util.Postcode;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+
+/**
+ * Answers postcode lookups from the offline postcode gazetteer table.
+ *
+ * <p>The data is returned in the same shape mapit uses, with the local authority held under the council
+ * shortcut and the region as an area of type ER, so callers cannot tell which source answered. A postcode held
+ * without the name of its local authority or its region, as in an ONSPD file which has only their codes, is not
+ * answered here so that mapit is asked instead.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "postcode-gazetteer", name = "enabled", havingValue = "true")
+public class GazetteerPostcodeLookup implements PostcodeLookup {
+    private static final String NAME = "name";
+    private static final String TYPE = "type";
+    private static final String REGION_AREA = "region";
+    private static final String REGION_TYPE = "ER";
+    private static final String LOCAL_AUTHORITY_TYPE = "UTA";
+
+    private final PostcodeGazetteerRepository postcodeGazetteerRepository;
+
+    @Autowired
+    public GazetteerPostcodeLookup(final PostcodeGazetteerRepository postcodeGazetteerRepository) {
+        this.postcodeGazetteerRepository = postcodeGazetteerRepository;
+    }
+
+    @Override
+    public Optional<MapitData> getMapitData(final String postcode) {
+        return postcodeGazetteerRepository.findById(upperCaseAndStripAllSpaces(postcode))
+            .filter(GazetteerPostcodeLookup::hasAreaNames)
+            .map(GazetteerPostcodeLookup::toMapitData);
+    }
+
+    @Override
+    public Optional<MapitData> getMapitDataWithPartial(final String partialPostcode) {
+        final Centroid centroid = postcodeGazetteerRepository.findCentroidByPartialPostcode(
+            normalisePartialPostcode(partialPostcode)
+        );
+        if (centroid == null || centroid.getLat() == null || centroid.getLon() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new MapitData(centroid.getLat(), centroid.getLon(), null, null));
+    }
+
+    /**
+     * Outcodes are stored without a space and sectors with a single space, e.g. OX1 and OX1 1. A space entered
+     * before the inward code digit is kept; without one the sector is parsed from the postcode, so OX111 is the
+     * OX11 1 sector and OX11 is the OX11 outcode.
+     *
+     * @param partialPostcode the partial postcode as entered
+     * @return the partial postcode in the form held in the outcode and sector columns
+     */
+    static String normalisePartialPostcode(final String partialPostcode) {
+        final String normalised = StringUtils.normalizeSpace(partialPostcode).toUpperCase(Locale.ROOT);
+        if (normalised.indexOf(' ') >= 0) {
+            return normalised;
+        }
+        return Postcode.parse(normalised).map(Postcode::toString).orElse(normalised);
+    }
+
+    private static boolean hasAreaNames(final PostcodeGazetteer postcode) {
+        return StringUtils.isNotBlank(postcode.getRegionName())
+            && (StringUtils.isBlank(postcode.getLocalAuthorityCode())
+                || StringUtils.isNotBlank(postcode.getLocalAuthorityName()));
+    }
+
+    private static MapitData toMapitData(final PostcodeGazetteer postcode) {
+        final JsonNodeFactory factory = JsonNodeFactory.instance;
+        final ObjectNode shortcuts = factory.objectNode();
+        final ObjectNode areas = factory.objectNode();
+
+        if (StringUtils.isNotBlank(postcode.getLocalAuthorityCode())) {
+            shortcuts.put("council", postcode.getLocalAuthorityCode());
+            areas.set(postcode.getLocalAuthorityCode(), area(postcode.getLocalAuthorityName(), LOCAL_AUTHORITY_TYPE));
+        }
+        areas.set(REGION_AREA, area(postcode.getRegionName(), REGION_TYPE));
+        return new MapitData(postcode.getLat(), postcode.getLon(), shortcuts, areas);
+    }
+
+    private static ObjectNode area(final String name, final String type) {
+        return JsonNodeFactory.instance.objectNode()
+            .put(NAME, name)
+            .put(TYPE, type);
+    }
+}
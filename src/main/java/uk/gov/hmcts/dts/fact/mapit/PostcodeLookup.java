@@ -0,0 +1,25 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import java.util.Optional;
+
+/**
+ * A source of mapit shaped postcode data which can answer lookups without calling mapit.
+ */
+public interface PostcodeLookup {
+
+    /**
+     * Look up a full postcode.
+     *
+     * @param postcode the postcode, in any case and with or without spaces
+     * @return the lat, lon, council shortcut and region area for the postcode, or empty if it is not known
+     */
+    Optional<MapitData> getMapitData(String postcode);
+
+    /**
+     * Look up an outcode (e.g. OX1) or sector (e.g. OX1 1).
+     *
+     * @param partialPostcode the outcode or sector
+     * @return the centre of the matching postcodes, or empty if none are known
+     */
+    Optional<MapitData> getMapitDataWithPartial(String partialPostcode);
+}
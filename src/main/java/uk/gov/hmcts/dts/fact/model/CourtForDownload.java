@@ -17,9 +17,8 @@ import uk.gov.hmcts.dts.fact.entity.CourtType;
 import uk.gov.hmcts.dts.fact.entity.Facility;
 import uk.gov.hmcts.dts.fact.entity.util.ElementFormatter;
 
-import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
 import java.util.Collection;
-import java.util.Locale;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -35,6 +34,8 @@ import static java.util.stream.Collectors.joining;
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 @SuppressWarnings("PMD.TooManyFields")
 public class CourtForDownload {
+    private static final DateTimeFormatter UPDATED_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
+
     private String name;
     private String open;
     private String updated;
@@ -56,7 +57,7 @@ public class CourtForDownload {
         this.name = courtEntity.getName();
         this.open = courtEntity.getDisplayed() ? "open" : "closed";
         this.updated = courtEntity.getUpdatedAt() == null
-            ? null : new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH).format(courtEntity.getUpdatedAt());
+            ? null : UPDATED_FORMAT.format(courtEntity.getUpdatedAt().toLocalDateTime());
         this.addresses = ofNullable(courtEntity.getAddresses())
             .map(Collection::stream)
             .orElseGet(Stream::empty)
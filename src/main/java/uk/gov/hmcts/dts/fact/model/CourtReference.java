@@ -4,8 +4,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository.CourtSummary;
 
 import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.Locale;
 
 import static uk.gov.hmcts.dts.fact.util.Utils.chooseString;
@@ -24,10 +26,21 @@ public class CourtReference {
     public CourtReference(uk.gov.hmcts.dts.fact.entity.Court courtEntity) {
         this.name = chooseString(courtEntity.getNameCy(), courtEntity.getName());
         this.slug = courtEntity.getSlug();
-        this.updatedAt = courtEntity.getUpdatedAt() == null
-            ? null : new SimpleDateFormat("dd MMM yyyy", Locale.ENGLISH).format(courtEntity.getUpdatedAt());
+        this.updatedAt = formatDate(courtEntity.getUpdatedAt());
         this.displayed = courtEntity.getDisplayed();
         this.region = courtEntity.getRegionId();
     }
 
+    public CourtReference(final CourtSummary court) {
+        this.name = chooseString(court.getNameCy(), court.getName());
+        this.slug = court.getSlug();
+        this.updatedAt = formatDate(court.getUpdatedAt());
+        this.displayed = court.getDisplayed();
+        this.region = court.getRegionId();
+    }
+
+    private static String formatDate(final Date date) {
+        return date == null ? null : new SimpleDateFormat("dd MMM yyyy", Locale.ENGLISH).format(date);
+    }
+
 }
@@ -3,6 +3,7 @@ package uk.gov.hmcts.dts.fact.model;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -21,13 +22,13 @@ public class CourtReferenceWithDistance {
     private BigDecimal distance;
     private List<String> areasOfLawSpoe;
 
-    public CourtReferenceWithDistance(final uk.gov.hmcts.dts.fact.entity.CourtWithDistance courtEntity) {
-        this.name = chooseString(courtEntity.getNameCy(), courtEntity.getName());
-        this.slug = courtEntity.getSlug();
-        this.open = courtEntity.getDisplayed();
-        this.areasOfLawSpoe = courtEntity.getAreasOfLawSpoe();
+    public CourtReferenceWithDistance(final CourtSearchResult court) {
+        this.name = chooseString(court.getNameCy(), court.getName());
+        this.slug = court.getSlug();
+        this.open = court.getDisplayed();
+        this.areasOfLawSpoe = court.getAreasOfLawSpoe();
 
-        ofNullable(courtEntity.getDistance())
+        ofNullable(court.getDistance())
             .ifPresent(value -> this.distance = BigDecimal.valueOf(value).setScale(1, RoundingMode.HALF_UP));
     }
 }
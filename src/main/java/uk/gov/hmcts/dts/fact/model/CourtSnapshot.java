@@ -0,0 +1,15 @@
+package uk.gov.hmcts.dts.fact.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The serialised JSON for a {@link Court}, in a single language, together with the entity tag identifying it.
+ */
+@Getter
+@AllArgsConstructor
+@SuppressWarnings("PMD.MethodReturnsInternalArray")
+public class CourtSnapshot {
+    private final byte[] json;
+    private final String etag;
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.dts.fact.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A court suggested while its name is being typed. When the court was found by one of its old names, that name is
+ * given as the historical name.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@JsonPropertyOrder({"name", "slug", "region", "historical_name"})
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CourtSuggestion {
+    private final String name;
+    private final String slug;
+    private final Integer region;
+    @JsonProperty("historical_name")
+    private final String historicalName;
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.dts.fact.model.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * The audits to find: those whose location and email contain the given values, created between the given times.
+ * Any of them may be left out.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AuditFilter {
+    private final Optional<String> location;
+    private final Optional<String> email;
+    private final Optional<LocalDateTime> dateFrom;
+    private final Optional<LocalDateTime> dateTo;
+}
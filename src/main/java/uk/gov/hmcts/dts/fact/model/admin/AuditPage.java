@@ -0,0 +1,24 @@
+package uk.gov.hmcts.dts.fact.model.admin;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of audits, newest first. The next cursor is given when there may be more audits, and the total only when
+ * it was asked for.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuditPage {
+    private List<Audit> audits;
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+    private Long total;
+}
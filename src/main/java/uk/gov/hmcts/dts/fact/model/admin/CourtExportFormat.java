@@ -0,0 +1,46 @@
+package uk.gov.hmcts.dts.fact.model.admin;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Enum for the formats the court download can be exported in.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public enum CourtExportFormat {
+    JSON_LINES("jsonl", MediaType.parseMediaType(CourtExportFormat.JSON_LINES_VALUE)),
+    CSV("csv", MediaType.parseMediaType(CourtExportFormat.CSV_VALUE));
+
+    /**
+     * The media type of the JSON lines format, for use in request mappings.
+     */
+    public static final String JSON_LINES_VALUE = "application/x-ndjson";
+
+    /**
+     * The media type of the CSV format, for use in request mappings.
+     */
+    public static final String CSV_VALUE = "text/csv";
+
+    private final String name;
+    private final MediaType mediaType;
+
+    /**
+     * Find export format by name.
+     *
+     * @param name the name, e.g. csv
+     * @return the export format
+     */
+    public static CourtExportFormat findByName(final String name) {
+        final String key = name.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+            .filter(f -> f.name.equals(key))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown export format: " + name));
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.dts.fact.model.admin;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The result of replacing the postcodes of a court: how many were added, removed and left as they were, and how
+ * many of the given postcodes repeated an earlier one.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CourtPostcodeCatchmentUpdate {
+    @JsonProperty("added")
+    private int added;
+    @JsonProperty("removed")
+    private int removed;
+    @JsonProperty("unchanged")
+    private int unchanged;
+    @JsonProperty("duplicates")
+    private int duplicates;
+}
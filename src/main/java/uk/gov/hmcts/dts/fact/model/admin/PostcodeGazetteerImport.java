@@ -0,0 +1,16 @@
+package uk.gov.hmcts.dts.fact.model.admin;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostcodeGazetteerImport {
+    @JsonProperty("imported")
+    private long imported;
+    @JsonProperty("skipped")
+    private long skipped;
+}
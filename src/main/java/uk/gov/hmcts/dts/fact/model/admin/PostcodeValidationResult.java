@@ -0,0 +1,37 @@
+package uk.gov.hmcts.dts.fact.model.admin;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The result of validating one postcode, with the reason it failed if it is not valid.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostcodeValidationResult {
+    @JsonProperty("postcode")
+    private String postcode;
+    @JsonProperty("valid")
+    private boolean valid;
+    @JsonProperty("reason")
+    private Reason reason;
+
+    /**
+     * Why a postcode is not valid.
+     */
+    public enum Reason {
+        /** The postcode is empty. */
+        BLANK,
+        /** The postcode is neither a full postcode, a postcode area nor a partial postcode. */
+        INVALID_FORMAT,
+        /** Mapit has no data for the postcode. */
+        NOT_FOUND,
+        /** Mapit could not be asked about the postcode within the rate budget, or the lookup failed. */
+        LOOKUP_UNAVAILABLE
+    }
+}
@@ -3,10 +3,13 @@ package uk.gov.hmcts.dts.fact.repositories;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Audit;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Transactional
 public interface AuditRepository extends JpaRepository<Audit, Long> {
@@ -16,4 +19,39 @@ public interface AuditRepository extends JpaRepository<Audit, Long> {
     Page<Audit> findAllByLocationContainingAndUserEmailContainingAndCreationTimeBetweenOrderByCreationTimeDesc(String location, String email,
                                                                                                                LocalDateTime dateFrom, LocalDateTime dateTo,
                                                                                                                Pageable pageable);
+
+    /**
+     * Get the first page of audits matching the filter, newest first. The location and email are LIKE patterns,
+     * escaped with '!'.
+     */
+    @Query("SELECT a FROM Audit a JOIN FETCH a.auditType "
+        + "WHERE a.location LIKE :location ESCAPE '!' AND a.userEmail LIKE :email ESCAPE '!' "
+        + "AND a.creationTime BETWEEN :dateFrom AND :dateTo "
+        + "ORDER BY a.creationTime DESC, a.id DESC")
+    List<Audit> findFirstByFilter(@Param("location") String location, @Param("email") String email,
+                                  @Param("dateFrom") LocalDateTime dateFrom, @Param("dateTo") LocalDateTime dateTo,
+                                  Pageable pageable);
+
+    /**
+     * Get the page of audits matching the filter which follows the given audit, newest first. The location and
+     * email are LIKE patterns, escaped with '!'.
+     */
+    @Query("SELECT a FROM Audit a JOIN FETCH a.auditType "
+        + "WHERE a.location LIKE :location ESCAPE '!' AND a.userEmail LIKE :email ESCAPE '!' "
+        + "AND a.creationTime BETWEEN :dateFrom AND :dateTo "
+        + "AND a.creationTime <= :lastTime AND (a.creationTime < :lastTime OR a.id < :lastId) "
+        + "ORDER BY a.creationTime DESC, a.id DESC")
+    List<Audit> findByFilterAfter(@Param("location") String location, @Param("email") String email,
+                                  @Param("dateFrom") LocalDateTime dateFrom, @Param("dateTo") LocalDateTime dateTo,
+                                  @Param("lastTime") LocalDateTime lastTime, @Param("lastId") Integer lastId,
+                                  Pageable pageable);
+
+    /**
+     * Count the audits matching the filter. The location and email are LIKE patterns, escaped with '!'.
+     */
+    @Query("SELECT COUNT(a) FROM Audit a "
+        + "WHERE a.location LIKE :location ESCAPE '!' AND a.userEmail LIKE :email ESCAPE '!' "
+        + "AND a.creationTime BETWEEN :dateFrom AND :dateTo")
+    long countByFilter(@Param("location") String location, @Param("email") String email,
+                       @Param("dateFrom") LocalDateTime dateFrom, @Param("dateTo") LocalDateTime dateTo);
 }
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import uk.gov.hmcts.dts.fact.entity.Court;
+
+import java.util.List;
+
+/**
+ * Lightweight reads of court coordinates and search links, used to build the in-memory spatial index. Links are
+ * read by id; the names of areas of law and local authorities are read once, to resolve a name to its id.
+ */
+public interface CourtLocationRepository extends Repository<Court, Integer> {
+
+    interface CourtLocation {
+        Integer getId();
+
+        String getName();
+
+        Double getLat();
+
+        Double getLon();
+
+        Boolean getDisplayed();
+    }
+
+    interface CourtSearchLink {
+        Integer getCourtId();
+
+        Integer getAreaOfLawId();
+
+        Integer getLocalAuthorityId();
+    }
+
+    interface NamedId {
+        Integer getId();
+
+        String getName();
+    }
+
+    @Query(nativeQuery = true,
+        value = "SELECT c.id as id, c.name as name, c.lat as lat, c.lon as lon, c.displayed as displayed "
+            + "FROM search_court as c "
+            + "WHERE c.displayed IS NOT NULL "
+            + "ORDER BY c.name")
+    List<CourtLocation> findAllCourtLocations();
+
+    @Query(nativeQuery = true,
+        value = "SELECT caol.court_id as \"courtId\", caol.area_of_law_id as \"areaOfLawId\", "
+            + "CAST(NULL AS integer) as \"localAuthorityId\" "
+            + "FROM search_courtareaoflaw caol")
+    List<CourtSearchLink> findAllCourtAreasOfLaw();
+
+    @Query(nativeQuery = true,
+        value = "SELECT claaol.court_id as \"courtId\", claaol.area_of_law_id as \"areaOfLawId\", "
+            + "claaol.local_authority_id as \"localAuthorityId\" "
+            + "FROM search_courtlocalauthorityareaoflaw claaol")
+    List<CourtSearchLink> findAllCourtLocalAuthorityAreasOfLaw();
+
+    @Query(nativeQuery = true,
+        value = "SELECT DISTINCT sac.court_id "
+            + "FROM search_serviceareacourt sac "
+            + "WHERE sac.catchment_type = 'regional'")
+    List<Integer> findAllRegionalCourtIds();
+
+    @Query(nativeQuery = true,
+        value = "SELECT aol.id as id, UPPER(aol.name) as name "
+            + "FROM search_areaoflaw aol")
+    List<NamedId> findAllAreaOfLawNames();
+
+    @Query(nativeQuery = true,
+        value = "SELECT la.id as id, UPPER(la.name) as name "
+            + "FROM search_localauthority la")
+    List<NamedId> findAllLocalAuthorityNames();
+}
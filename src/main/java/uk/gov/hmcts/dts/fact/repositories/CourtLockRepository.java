@@ -1,9 +1,17 @@
 package uk.gov.hmcts.dts.fact.repositories;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.CourtLock;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CourtLockRepository extends JpaRepository<CourtLock, Integer> {
     List<CourtLock> findCourtLockByCourtSlug(String courtSlug);
@@ -12,4 +20,36 @@ public interface CourtLockRepository extends JpaRepository<CourtLock, Integer> {
                                                          String userEmail);
 
     List<CourtLock> deleteAllByUserEmail(String userEmail);
+
+    /**
+     * Get the lock for the court, locking its row until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CourtLock> findForUpdateByCourtSlug(String courtSlug);
+
+    /**
+     * Add a lock for the court unless it already has one.
+     *
+     * @return 1 if the lock was added, 0 if the court already had a lock
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true,
+        value = "INSERT INTO admin_courtlock (lock_acquired, user_email, court_slug) "
+            + "VALUES (:lockAcquired, :userEmail, :courtSlug) ON CONFLICT (court_slug) DO NOTHING")
+    int insertIfAbsent(@Param("lockAcquired") LocalDateTime lockAcquired,
+                       @Param("userEmail") String userEmail,
+                       @Param("courtSlug") String courtSlug);
+
+    /**
+     * Delete the locks last refreshed before the given time, skipping any being refreshed at the moment.
+     *
+     * @return the number of locks deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true,
+        value = "DELETE FROM admin_courtlock WHERE id IN "
+            + "(SELECT id FROM admin_courtlock WHERE lock_acquired < :expiredBefore FOR UPDATE SKIP LOCKED)")
+    int deleteExpired(@Param("expiredBefore") LocalDateTime expiredBefore);
 }
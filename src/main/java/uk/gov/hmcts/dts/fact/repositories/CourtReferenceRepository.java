@@ -0,0 +1,35 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import uk.gov.hmcts.dts.fact.entity.Court;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Lightweight reads of the columns shown in the court reference lists, leaving out the long text columns (info,
+ * directions, alerts) and the collections of the court entity.
+ */
+public interface CourtReferenceRepository extends Repository<Court, Integer> {
+
+    interface CourtSummary {
+        String getName();
+
+        String getNameCy();
+
+        String getSlug();
+
+        Timestamp getUpdatedAt();
+
+        Boolean getDisplayed();
+
+        Integer getRegionId();
+    }
+
+    @Query("SELECT c.name AS name, c.nameCy AS nameCy, c.slug AS slug, c.updatedAt AS updatedAt, "
+        + "c.displayed AS displayed, c.regionId AS regionId "
+        + "FROM Court c "
+        + "ORDER BY c.name")
+    List<CourtSummary> findAllCourtSummaries();
+}
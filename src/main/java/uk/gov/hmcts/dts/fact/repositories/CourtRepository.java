@@ -1,17 +1,39 @@
 package uk.gov.hmcts.dts.fact.repositories;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import uk.gov.hmcts.dts.fact.entity.Court;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @SuppressWarnings({"PMD.AvoidDuplicateLiterals", "PMD.TooManyMethods"})
 public interface CourtRepository extends JpaRepository<Court, Integer> {
 
+    /**
+     * The ids of the courts whose normalised name contains the normalised query. Matches on the name and on the
+     * address are looked up separately, so that each can use the trigram indexes of its own table, rather than as
+     * one condition over the join, which can only be evaluated row by row. A query that normalises to nothing
+     * matches no court rather than every court.
+     */
+    String NAME_CANDIDATES = "SELECT id FROM search_court"
+        + " WHERE search_normalise(:query) <> '' AND search_name LIKE concat('%', search_normalise(:query), '%') ";
+
+    /**
+     * The ids of the courts with a normalised address, town or postcode containing the normalised query.
+     * @see #NAME_CANDIDATES
+     */
+    String ADDRESS_CANDIDATES = "SELECT court_id FROM search_courtaddress"
+        + " WHERE address_type_id != 5881 AND search_normalise(:query) <> '' AND ("
+        + "  search_address LIKE concat('%', search_normalise(:query), '%')"
+        + "  OR search_town LIKE concat('%', search_normalise(:query), '%')"
+        + "  OR search_postcode LIKE concat('%', search_normalise(:query), '%')) ";
+
     /**
      * Get an active (displayed = true) court using ID.
      * @param id a search court id
@@ -21,8 +43,61 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
 
     Optional<Court> findBySlug(String slug);
 
+    /**
+     * Get a court using slug, fetching everything shown on the court details page.
+     * @param slug the slug of the court
+     * @return Optional a court if one is found
+     */
+    @EntityGraph(Court.DETAIL_GRAPH)
+    Optional<Court> findDetailBySlug(String slug);
+
+    /**
+     * Get every court, fetching everything included in the court download.
+     * @return all courts
+     */
+    @EntityGraph(Court.DOWNLOAD_GRAPH)
+    @Query("SELECT c FROM Court c")
+    List<Court> findAllForDownload();
+
+    /**
+     * Get the given courts, fetching everything included in the court download.
+     * @param ids the ids of the courts
+     * @return the courts, in no particular order
+     */
+    @EntityGraph(Court.DOWNLOAD_GRAPH)
+    @Query("SELECT c FROM Court c WHERE c.id IN :ids")
+    List<Court> findAllForDownloadByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Get the ids of the first page of courts, ordered by name.
+     * @param pageable the page size
+     * @return the court ids
+     */
+    @Query("SELECT c.id FROM Court c ORDER BY c.name, c.id")
+    List<Integer> findFirstIdsOrderByName(Pageable pageable);
+
+    /**
+     * Get the ids of the page of courts following the given court, ordered by name.
+     * @param name the name of the last court on the previous page
+     * @param id the id of the last court on the previous page
+     * @param pageable the page size
+     * @return the court ids
+     */
+    @Query("SELECT c.id FROM Court c WHERE c.name > :name OR (c.name = :name AND c.id > :id) ORDER BY c.name, c.id")
+    List<Integer> findIdsOrderByNameAfter(@Param("name") String name, @Param("id") Integer id, Pageable pageable);
+
+    /**
+     * Get the courts with the given ids, fetching only what is needed for a court reference.
+     * @param ids the court ids
+     * @return the courts, in no particular order
+     */
+    @EntityGraph(Court.REFERENCE_GRAPH)
+    @Query("SELECT c FROM Court c WHERE c.id IN :ids")
+    List<Court> findAllForReferenceByIdIn(@Param("ids") Collection<Integer> ids);
+
     Optional<Court> findCourtById(int id);
 
+    @EntityGraph(Court.DETAIL_GRAPH)
     List<Court> findByCourtTypesSearchIgnoreCaseInAndDisplayedIsTrueOrderByName(List<String> courtTypes);
 
     @Modifying(clearAutomatically = true)
@@ -42,8 +117,18 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
     @Query(value = "UPDATE search_court SET image_file = :imageFile WHERE slug = :slug RETURNING image_file", nativeQuery = true)
     String updateCourtImageBySlug(String slug, String imageFile);
 
+    @EntityGraph(Court.REFERENCE_GRAPH)
     List<Court> findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc(String prefix, boolean active);
 
+    /**
+     * Searching by court code, or by court name, address, town or postcode. Names, addresses, towns and postcodes are
+     * compared using the normalised search columns (lower case letters and digits only, with accents removed), which
+     * are trigram indexed.
+     *
+     * @param query the search string
+     * @param includeClosed whether closed courts should be included
+     * @return a list of courts matching the search string
+     */
     @Query(nativeQuery = true,
         value = "SELECT c.* FROM search_court c LEFT JOIN search_courtaddress ca ON ca.court_id = c.id AND ca"
             + ".address_type_id != 5881 "
@@ -52,28 +137,32 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
         + "     WHEN :includeClosed THEN c.displayed IS NOT NULL "
         + "     ELSE c.displayed "
         + "END "
+        + " AND c.id IN ("
+        + "  SELECT id FROM search_court WHERE CAST (cci_code AS text) ILIKE concat('%', :query, '%') "
+        + "    OR CAST (number AS text) ILIKE concat('%', :query, '%') "
+        + "    OR CAST (magistrate_code AS text) ILIKE concat('%', :query, '%') "
+        + "  UNION " + NAME_CANDIDATES
+        + "  UNION " + ADDRESS_CANDIDATES
+        + ") "
         + " AND ("
         + "  CAST (c.cci_code AS text) ILIKE concat('%', :query, '%') "
         + "  OR CAST (c.number AS text) ILIKE concat('%', :query, '%') "
         + "  OR CAST (c.magistrate_code AS text) ILIKE concat('%', :query, '%') "
-        + "  OR c.name ILIKE concat('%', :query, '%') "
-        + "  OR c.name_cy ILIKE concat('%', :query, '%') "
-        + "  OR ca.address ILIKE concat('%', :query, '%') "
-        + "  OR ca.address_cy ILIKE concat('%', :query, '%') "
-        + "  OR ca.town_name ILIKE concat('%', :query, '%') "
-        + "  OR ca.town_name_cy ILIKE concat('%', :query, '%') "
-        + "  OR REPLACE(ca.postcode, ' ', '') ILIKE REPLACE(concat('%', :query, '%'), ' ', '') "
+        + "  OR c.search_name LIKE concat('%', search_normalise(:query), '%') "
+        + "  OR ca.search_address LIKE concat('%', search_normalise(:query), '%') "
+        + "  OR ca.search_town LIKE concat('%', search_normalise(:query), '%') "
+        + "  OR ca.search_postcode LIKE concat('%', search_normalise(:query), '%') "
         + ") "
         + "ORDER BY "
-        + "  CASE WHEN REPLACE(COALESCE(ca.postcode, ''), ' ', '') ILIKE REPLACE(concat('%', :query, '%'), ' ', '') THEN 1 ELSE 0 END DESC, "
+        + "  CASE WHEN COALESCE(ca.search_postcode, '') LIKE concat('%', search_normalise(:query), '%') THEN 1 ELSE 0 END DESC, "
         + "  CASE WHEN "
         + "    COALESCE(CAST(c.cci_code AS text), '') ILIKE concat('%', :query, '%') "
         + "    OR COALESCE(CAST(c.number AS text), '') ILIKE concat('%', :query, '%') "
         + "    OR COALESCE(CAST(c.magistrate_code AS text), '') ILIKE concat('%', :query, '%') "
         + "    THEN 1 ELSE 0 END DESC, "
-        + "  CASE WHEN COALESCE(c.name, '') ILIKE concat('%', :query, '%') OR COALESCE(c.name_cy, '') ILIKE concat('%', :query, '%') THEN 1 ELSE 0 END DESC, "
-        + "  CASE WHEN COALESCE(ca.town_name, '') ILIKE concat('%', :query, '%') OR COALESCE(ca.town_name_cy, '') ILIKE concat('%', :query, '%') THEN 1 ELSE 0 END DESC, "
-        + "  CASE WHEN COALESCE(ca.address, '') ILIKE concat('%', :query, '%') OR COALESCE(ca.address_cy, '') ILIKE concat('%', :query, '%') THEN 1 ELSE 0 END DESC, "
+        + "  CASE WHEN c.search_name LIKE concat('%', search_normalise(:query), '%') THEN 1 ELSE 0 END DESC, "
+        + "  CASE WHEN COALESCE(ca.search_town, '') LIKE concat('%', search_normalise(:query), '%') THEN 1 ELSE 0 END DESC, "
+        + "  CASE WHEN COALESCE(ca.search_address, '') LIKE concat('%', search_normalise(:query), '%') THEN 1 ELSE 0 END DESC, "
         + "  name")
     List<Court> queryBy(String query, Boolean includeClosed);
 
@@ -127,7 +216,8 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
 
     /**
      * Searching by court name, town name, court address or partial postcode by exact match only (i.e. the input search string matches all/part of the record in the database).
-     * Notes: Punctuations are stripped off before the comparison, and casing are ignored.
+     * Notes: Punctuations are stripped off before the comparison, and casing and accents are ignored. The comparison uses the
+     * normalised search columns, which are trigram indexed.
      * Sorting of the results is in the following order:
      * - Exact match to the court name in alphabetical order
      * - Exact match to the town name in alphabetical order
@@ -140,24 +230,17 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
     @Query(nativeQuery = true,
         value = "SELECT c.* FROM search_court c LEFT JOIN search_courtaddress ca"
             + "    ON ca.court_id = c.id AND ca.address_type_id != 5881"
-            + "  WHERE displayed = true AND ("
-            + "    regexp_replace(c.name, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(c.name_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.address, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.address_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.town_name, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.town_name_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.postcode, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%'))"
+            + "  WHERE displayed = true"
+            + "  AND c.id IN (" + NAME_CANDIDATES + " UNION " + ADDRESS_CANDIDATES + ")"
+            + "  AND ("
+            + "    c.search_name LIKE concat('%', search_normalise(:query), '%')"
+            + "    OR ca.search_address LIKE concat('%', search_normalise(:query), '%')"
+            + "    OR ca.search_town LIKE concat('%', search_normalise(:query), '%')"
+            + "    OR ca.search_postcode LIKE concat('%', search_normalise(:query), '%'))"
             + "  ORDER BY"
-            + "    CASE WHEN COALESCE(regexp_replace(c.name, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', :query, '%')"
-            + "           OR COALESCE(regexp_replace(c.name_cy, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', :query, '%')"
-            + "         THEN 1 ELSE 0 END DESC,"
-            + "    CASE WHEN COALESCE(regexp_replace(ca.town_name, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', :query, '%')"
-            + "           OR COALESCE(regexp_replace(ca.town_name_cy, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', :query, '%')"
-            + "         THEN 1 ELSE 0 END DESC,"
-            + "    CASE WHEN COALESCE(regexp_replace(ca.address, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', :query, '%')"
-            + "           OR COALESCE(regexp_replace(ca.address_cy, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', :query, '%')"
-            + "         THEN 1 ELSE 0 END DESC,"
+            + "    CASE WHEN c.search_name LIKE concat('%', search_normalise(:query), '%') THEN 1 ELSE 0 END DESC,"
+            + "    CASE WHEN COALESCE(ca.search_town, '') LIKE concat('%', search_normalise(:query), '%') THEN 1 ELSE 0 END DESC,"
+            + "    CASE WHEN COALESCE(ca.search_address, '') LIKE concat('%', search_normalise(:query), '%') THEN 1 ELSE 0 END DESC,"
             + "    name")
     List<Court> findCourtByNameAddressTownOrPartialPostcodeExactMatch(String query);
 
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import uk.gov.hmcts.dts.fact.entity.Court;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lightweight reads of the courts found by the court searches, holding only what the search results show: the
+ * names, slug, whether the court is open, the distance in miles and the single point of entry areas of law, which
+ * are gathered into one array column by postgres. The queries match those of {@link CourtWithDistanceRepository},
+ * which reads whole courts for the deprecated search endpoints.
+ */
+public interface CourtSearchResultRepository extends Repository<Court, Integer> {
+    String SELECT_SEARCH_RESULT = "SELECT c.id as id, c.name as name, c.name_cy as \"nameCy\", c.slug as slug, "
+        + "c.displayed as displayed, (point(c.lon, c.lat) <@> point(:lon, :lat)) as distance, "
+        + "ARRAY(SELECT aol_spoe.name FROM search_courtareaoflawspoe caols "
+        + "JOIN search_areaoflaw aol_spoe ON aol_spoe.id = caols.area_of_law_id "
+        + "WHERE caols.court_id = c.id ORDER BY aol_spoe.name) as \"areasOfLawSpoe\" ";
+    String FROM_SEARCH_COURT_AS_C = "FROM search_court as c ";
+    String WHERE_C_DISPLAYED = "WHERE c.displayed ";
+    String ORDER_BY_DISTANCE_C_NAME = "ORDER BY c.earth_point <-> ll_to_earth(:lat, :lon), c.name ";
+    String LIMIT_10 = "LIMIT 10";
+    String LIMIT_1 = "LIMIT 1";
+    String LAT = "lat";
+    String LON = "lon";
+    String JOIN_AREA_OF_LAW = "JOIN search_courtareaoflaw caol ON caol.court_id = c.id "
+        + "JOIN search_areaoflaw aol ON aol.id = caol.area_of_law_id ";
+    String JOIN_LOCAL_AUTHORITY_AREA_OF_LAW =
+        "JOIN search_courtlocalauthorityareaoflaw claaol ON claaol.court_id = c.id "
+        + "JOIN search_localauthority la ON la.id = claaol.local_authority_id "
+        + "JOIN search_areaoflaw aol ON aol.id = claaol.area_of_law_id ";
+    String JOIN_REGIONAL_SERVICE_AREA = "JOIN search_serviceareacourt sac ON sac.court_id = c.id ";
+    String AND_UPPER_AOL_NAME_UPPER_AOL = "AND UPPER(aol.name) = UPPER(:aol) ";
+    String AND_UPPER_LA_NAME_UPPER_LOCAL_AUTHORITY = "AND UPPER(la.name) = UPPER(:localAuthority) ";
+    String AND_REGIONAL = "AND sac.catchment_type = 'regional' ";
+    String WHERE_INCLUDES_CLOSED = "WHERE "
+        + "CASE "
+        + "   WHEN :includeClosed THEN c.displayed IS NOT NULL "
+        + "   ELSE c.displayed "
+        + "END ";
+
+    interface CourtSearchResult {
+        Integer getId();
+
+        String getName();
+
+        String getNameCy();
+
+        String getSlug();
+
+        Boolean getDisplayed();
+
+        Double getDistance();
+
+        List<String> getAreasOfLawSpoe();
+    }
+
+    @Query(nativeQuery = true,
+        value = SELECT_SEARCH_RESULT
+            + FROM_SEARCH_COURT_AS_C
+            + WHERE_C_DISPLAYED
+            + ORDER_BY_DISTANCE_C_NAME
+            + LIMIT_10)
+    List<CourtSearchResult> findNearestTen(@Param(LAT) Double lat, @Param(LON) Double lon);
+
+    @Query(nativeQuery = true,
+        value = SELECT_SEARCH_RESULT
+            + FROM_SEARCH_COURT_AS_C
+            + JOIN_AREA_OF_LAW
+            + WHERE_INCLUDES_CLOSED
+            + AND_UPPER_AOL_NAME_UPPER_AOL
+            + ORDER_BY_DISTANCE_C_NAME
+            + LIMIT_10)
+    List<CourtSearchResult> findNearestTenByAreaOfLaw(@Param(LAT) Double lat, @Param(LON) Double lon, String aol, Boolean includeClosed);
+
+    /**
+     * Find the courts for an area of law whose catchment holds the longest of the given postcode prefixes, such as
+     * the full postcode, the postcode without its unit, the outcode and the area. Court postcodes are held
+     * normalised, so the prefixes must be upper case without spaces.
+     */
+    @Query(nativeQuery = true,
+        value = "WITH matches AS ("
+            + SELECT_SEARCH_RESULT
+            + ", LENGTH(cp.postcode) AS match_length "
+            + FROM_SEARCH_COURT_AS_C
+            + JOIN_AREA_OF_LAW
+            + "JOIN search_courtpostcode cp ON cp.court_id = c.id "
+            + WHERE_INCLUDES_CLOSED
+            + AND_UPPER_AOL_NAME_UPPER_AOL
+            + "AND cp.postcode IN (:postcodes)) "
+            + "SELECT * FROM matches "
+            + "WHERE match_length = (SELECT MAX(match_length) FROM matches) "
+            + "ORDER BY distance, name")
+    List<CourtSearchResult> findNearestByAreaOfLawAndLongestCourtPostcodePrefix(@Param(LAT) Double lat, @Param(LON) Double lon, String aol, Collection<String> postcodes, Boolean includeClosed);
+
+    @Query(nativeQuery = true,
+        value = SELECT_SEARCH_RESULT
+            + FROM_SEARCH_COURT_AS_C
+            + JOIN_LOCAL_AUTHORITY_AREA_OF_LAW
+            + WHERE_INCLUDES_CLOSED
+            + AND_UPPER_AOL_NAME_UPPER_AOL
+            + AND_UPPER_LA_NAME_UPPER_LOCAL_AUTHORITY
+            + ORDER_BY_DISTANCE_C_NAME
+            + LIMIT_10)
+    List<CourtSearchResult> findNearestTenByAreaOfLawAndLocalAuthority(@Param(LAT) Double lat, @Param(LON) Double lon, String aol, String localAuthority, Boolean includeClosed);
+
+    @Query(nativeQuery = true,
+        value = SELECT_SEARCH_RESULT
+            + FROM_SEARCH_COURT_AS_C
+            + JOIN_LOCAL_AUTHORITY_AREA_OF_LAW
+            + JOIN_REGIONAL_SERVICE_AREA
+            + WHERE_C_DISPLAYED
+            + AND_UPPER_AOL_NAME_UPPER_AOL
+            + AND_UPPER_LA_NAME_UPPER_LOCAL_AUTHORITY
+            + AND_REGIONAL
+            + ORDER_BY_DISTANCE_C_NAME
+            + LIMIT_1)
+    List<CourtSearchResult> findNearestRegionalByAreaOfLawAndLocalAuthority(@Param(LAT) Double lat, @Param(LON) Double lon, String aol, String localAuthority);
+
+    @Query(nativeQuery = true,
+        value = SELECT_SEARCH_RESULT
+            + FROM_SEARCH_COURT_AS_C
+            + JOIN_LOCAL_AUTHORITY_AREA_OF_LAW
+            + JOIN_REGIONAL_SERVICE_AREA
+            + WHERE_C_DISPLAYED
+            + AND_UPPER_AOL_NAME_UPPER_AOL
+            + AND_REGIONAL
+            + ORDER_BY_DISTANCE_C_NAME
+            + LIMIT_1)
+    List<CourtSearchResult> findNearestRegionalByAreaOfLaw(@Param(LAT) Double lat, @Param(LON) Double lon, String aol);
+
+    @Query(nativeQuery = true,
+        value = SELECT_SEARCH_RESULT
+            + FROM_SEARCH_COURT_AS_C
+            + "WHERE c.id IN (:ids) "
+            + ORDER_BY_DISTANCE_C_NAME)
+    List<CourtSearchResult> findAllByIdWithDistance(@Param(LAT) Double lat, @Param(LON) Double lon, @Param("ids") Collection<Integer> ids);
+}
@@ -0,0 +1,93 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import uk.gov.hmcts.dts.fact.entity.Court;
+
+import java.util.List;
+
+/**
+ * Lightweight reads of the court names, addresses, towns and historical names matched by the fuzzy court search
+ * and by court name autocomplete, used to build their in-memory indexes.
+ */
+public interface CourtSearchTextRepository extends Repository<Court, Integer> {
+
+    interface CourtSearchText {
+        Integer getCourtId();
+
+        String getSlug();
+
+        Boolean getDisplayed();
+
+        String getName();
+
+        String getNameCy();
+
+        Integer getAddressId();
+
+        String getAddress();
+
+        String getAddressCy();
+
+        String getTownName();
+
+        String getTownNameCy();
+    }
+
+    interface CourtName {
+        Integer getCourtId();
+
+        String getSlug();
+
+        String getName();
+
+        String getNameCy();
+
+        Integer getRegionId();
+    }
+
+    interface CourtHistoricalName {
+        Integer getCourtId();
+
+        String getName();
+
+        String getNameCy();
+    }
+
+    @Query(nativeQuery = true,
+        value = "SELECT c.id as \"courtId\", c.slug as slug, c.displayed as displayed, "
+            + "c.name as name, c.name_cy as \"nameCy\", ca.id as \"addressId\", ca.address as address, ca.address_cy as \"addressCy\", "
+            + "ca.town_name as \"townName\", ca.town_name_cy as \"townNameCy\" "
+            + "FROM search_court c LEFT JOIN search_courtaddress ca "
+            + "ON ca.court_id = c.id AND ca.address_type_id != 5881 "
+            + "WHERE c.displayed = true ORDER BY c.id, ca.id")
+    List<CourtSearchText> findAllDisplayedSearchText();
+
+    @Query(nativeQuery = true,
+        value = "SELECT c.id as \"courtId\", c.slug as slug, c.displayed as displayed, "
+            + "c.name as name, c.name_cy as \"nameCy\", ca.id as \"addressId\", ca.address as address, ca.address_cy as \"addressCy\", "
+            + "ca.town_name as \"townName\", ca.town_name_cy as \"townNameCy\" "
+            + "FROM search_court c LEFT JOIN search_courtaddress ca "
+            + "ON ca.court_id = c.id AND ca.address_type_id != 5881 "
+            + "WHERE c.slug = :slug ORDER BY c.id, ca.id")
+    List<CourtSearchText> findSearchTextBySlug(String slug);
+
+    @Query(nativeQuery = true,
+        value = "SELECT h.search_court_id as \"courtId\", h.court_name as name, h.court_name_cy as \"nameCy\" "
+            + "FROM admin_court_history h JOIN search_court c ON c.id = h.search_court_id "
+            + "WHERE c.displayed = true")
+    List<CourtHistoricalName> findAllDisplayedHistoricalNames();
+
+    @Query(nativeQuery = true,
+        value = "SELECT h.search_court_id as \"courtId\", h.court_name as name, h.court_name_cy as \"nameCy\" "
+            + "FROM admin_court_history h JOIN search_court c ON c.id = h.search_court_id "
+            + "WHERE c.slug = :slug")
+    List<CourtHistoricalName> findHistoricalNamesBySlug(String slug);
+
+    @Query(nativeQuery = true,
+        value = "SELECT c.id as \"courtId\", c.slug as slug, c.name as name, c.name_cy as \"nameCy\", "
+            + "c.region_id as \"regionId\" "
+            + "FROM search_court c "
+            + "WHERE c.displayed = true")
+    List<CourtName> findAllDisplayedCourtNames();
+}
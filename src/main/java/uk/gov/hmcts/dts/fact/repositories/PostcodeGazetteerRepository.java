@@ -0,0 +1,24 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uk.gov.hmcts.dts.fact.entity.PostcodeGazetteer;
+
+public interface PostcodeGazetteerRepository extends JpaRepository<PostcodeGazetteer, String> {
+
+    /**
+     * The mean position of the postcodes in an outcode or sector. Both values are null when nothing matched.
+     */
+    interface Centroid {
+        Double getLat();
+
+        Double getLon();
+    }
+
+    @Query(nativeQuery = true,
+        value = "SELECT avg(g.lat) as lat, avg(g.lon) as lon "
+            + "FROM search_postcodegazetteer as g "
+            + "WHERE g.outcode = :partialPostcode OR g.sector = :partialPostcode")
+    Centroid findCentroidByPartialPostcode(@Param("partialPostcode") String partialPostcode);
+}
@@ -1,12 +1,21 @@
 package uk.gov.hmcts.dts.fact.repositories;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 public interface ServiceAreaRepository extends JpaRepository<ServiceArea, Integer> {
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = "service-area-by-slug")
+    })
     Optional<ServiceArea> findBySlugIgnoreCase(String slug);
 
     List<ServiceArea> findByAreaOfLawId(Integer areaOfLawId);
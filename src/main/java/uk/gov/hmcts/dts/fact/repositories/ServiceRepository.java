@@ -1,10 +1,19 @@
 package uk.gov.hmcts.dts.fact.repositories;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import uk.gov.hmcts.dts.fact.entity.Service;
 
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 public interface ServiceRepository extends JpaRepository<Service, Integer> {
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = "service-by-slug")
+    })
     Optional<Service> findBySlugIgnoreCase(String slug);
 }
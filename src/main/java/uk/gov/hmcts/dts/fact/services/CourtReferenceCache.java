@@ -0,0 +1,80 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository.CourtSummary;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Holds the summary of every court, sorted by name, from which the admin list of courts and the court name prefix
+ * search are built.
+ *
+ * <p>The summaries are a {@link VersionedCache}, published as {@code court-reference} and expiring after
+ * {@code court-reference.cache.ttl-minutes}. It is invalidated once a change to any court is committed, as the
+ * change may have renamed, opened or closed it.</p>
+ *
+ * <p>The cached summaries are shared between requests and cannot be changed by the caller.</p>
+ */
+@Component
+public class CourtReferenceCache {
+    private final CourtReferenceRepository courtReferenceRepository;
+    private final VersionedCache<CourtSummary> summaries;
+
+    /**
+     * Constructor for the CourtReferenceCache.
+     * @param courtReferenceRepository The repository the court summaries are read from
+     * @param meterRegistry The registry the cache statistics are published to
+     * @param ttlMinutes The number of minutes the summaries are held for
+     */
+    @Autowired
+    public CourtReferenceCache(final CourtReferenceRepository courtReferenceRepository,
+                               final MeterRegistry meterRegistry,
+                               @Value("${court-reference.cache.ttl-minutes:5}") final long ttlMinutes) {
+        this.courtReferenceRepository = courtReferenceRepository;
+        this.summaries = new VersionedCache<>(meterRegistry, "court-reference", ttlMinutes);
+    }
+
+    /**
+     * Get the summary of every court.
+     * @return The summaries, sorted by name
+     */
+    public List<CourtSummary> getAll() {
+        return summaries.get(courtReferenceRepository::findAllCourtSummaries);
+    }
+
+    /**
+     * Get the summaries of the displayed courts whose names start with a prefix, ignoring case.
+     * @param prefix The start of the court name
+     * @return The summaries, sorted by name
+     */
+    public List<CourtSummary> findDisplayedByNamePrefix(final String prefix) {
+        return getAll().stream()
+            .filter(court -> Boolean.TRUE.equals(court.getDisplayed()))
+            .filter(court -> court.getName().regionMatches(true, 0, prefix, 0, prefix.length()))
+            .collect(toList());
+    }
+
+    /**
+     * Discard the cached summaries.
+     */
+    public void invalidate() {
+        summaries.invalidate();
+    }
+
+    /**
+     * Discard the cached summaries once a change to a court has been committed.
+     * @param event The court changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(final CourtChangedEvent event) {
+        invalidate();
+    }
+}
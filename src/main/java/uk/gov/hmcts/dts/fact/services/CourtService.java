@@ -16,12 +16,16 @@ import uk.gov.hmcts.dts.fact.model.deprecated.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
 import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
-import uk.gov.hmcts.dts.fact.services.search.FallbackProximitySearch;
+import uk.gov.hmcts.dts.fact.services.search.CourtFuzzySearch;
 import uk.gov.hmcts.dts.fact.services.search.ProximitySearch;
+import uk.gov.hmcts.dts.fact.services.search.Search;
+import uk.gov.hmcts.dts.fact.services.search.SearchMetrics;
 import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
 import uk.gov.hmcts.dts.fact.util.Action;
+import uk.gov.hmcts.dts.fact.util.Postcode;
 
 import java.util.Arrays;
 import java.util.List;
@@ -29,21 +33,22 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static uk.gov.hmcts.dts.fact.services.validation.PostcodeValidator.isFullPostcodeFormat;
-import static uk.gov.hmcts.dts.fact.util.Utils.isNorthernIrishPostcode;
-import static uk.gov.hmcts.dts.fact.util.Utils.isScottishPostcode;
 
 /**
  * Service to get courts.
  */
 @Service
 @Slf4j
+@SuppressWarnings("PMD.ExcessiveImports")
 public class CourtService {
 
     private static final String IMMIGRATION_AREA_OF_LAW = "Immigration";
+    private static final Pattern LETTER_OR_DIGIT = Pattern.compile("[\\p{L}\\p{N}]");
     private static final String GLASGOW_TRIBUNAL_CENTRE = "Glasgow Tribunals Centre";
 
     private final MapitService mapitService;
@@ -52,7 +57,9 @@ public class CourtService {
     private final CourtWithDistanceRepository courtWithDistanceRepository;
     private final ServiceAreaRepository serviceAreaRepository;
     private final ServiceAreaSearchFactory serviceAreaSearchFactory;
-    private final FallbackProximitySearch fallbackProximitySearch;
+    private final CourtFuzzySearch courtFuzzySearch;
+    private final SearchMetrics searchMetrics;
+    private final CourtReferenceCache courtReferenceCache;
 
     private final CourtHistoryRepository courtHistoryRepository;
 
@@ -65,26 +72,33 @@ public class CourtService {
      * @param courtWithDistanceRepository the repository to get courts with distance from
      * @param serviceAreaRepository      the repository to get service areas from
      * @param serviceAreaSearchFactory   the service area search factory
-     * @param fallbackProximitySearch    the fallback proximity search
      * @param courtHistoryRepository the repository for getting court histories
+     * @param courtFuzzySearch           the fuzzy court name, address and town search
+     * @param searchMetrics              the metrics the searches are timed with
+     * @param courtReferenceCache        the cache of court summaries
      */
     @Autowired
+    @SuppressWarnings("PMD.ExcessiveParameterList")
     public CourtService(final MapitService mapitService,
                         final CourtRepository courtRepository,
                         final ProximitySearch proximitySearch,
                         final CourtWithDistanceRepository courtWithDistanceRepository,
                         final ServiceAreaRepository serviceAreaRepository,
                         final ServiceAreaSearchFactory serviceAreaSearchFactory,
-                        final FallbackProximitySearch fallbackProximitySearch,
-                        final CourtHistoryRepository courtHistoryRepository) {
+                        final CourtHistoryRepository courtHistoryRepository,
+                        final CourtFuzzySearch courtFuzzySearch,
+                        final SearchMetrics searchMetrics,
+                        final CourtReferenceCache courtReferenceCache) {
         this.mapitService = mapitService;
         this.courtWithDistanceRepository = courtWithDistanceRepository;
         this.proximitySearch = proximitySearch;
         this.courtRepository = courtRepository;
         this.serviceAreaRepository = serviceAreaRepository;
         this.serviceAreaSearchFactory = serviceAreaSearchFactory;
-        this.fallbackProximitySearch = fallbackProximitySearch;
         this.courtHistoryRepository = courtHistoryRepository;
+        this.courtFuzzySearch = courtFuzzySearch;
+        this.searchMetrics = searchMetrics;
+        this.courtReferenceCache = courtReferenceCache;
     }
 
     /**
@@ -94,7 +108,7 @@ public class CourtService {
      */
     public OldCourt getCourtBySlugDeprecated(final String slug) {
         return courtRepository
-            .findBySlug(slug)
+            .findDetailBySlug(slug)
             .map(OldCourt::new)
             .orElseThrow(() -> new NotFoundException(slug));
     }
@@ -106,7 +120,7 @@ public class CourtService {
      */
     public Court getCourtBySlug(final String slug) {
         return courtRepository
-            .findBySlug(slug)
+            .findDetailBySlug(slug)
             .map(Court::new)
             .orElseThrow(() -> new NotFoundException(slug));
     }
@@ -181,7 +195,8 @@ public class CourtService {
     }
 
     /**
-     * Get nearest courts by postcode, area of law and local authority.
+     * Get nearest courts by postcode, area of law and local authority, or the nearest courts by postcode and area
+     * of law if none cover the local authority.
      * @param postcode the postcode
      * @param areaOfLaw the area of law
      * @param includeClosed whether to include closed courts
@@ -199,7 +214,7 @@ public class CourtService {
 
         final MapitData mapitData = optionalMapitData.get();
 
-        List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
+        final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
             .map(localAuthority -> courtWithDistanceRepository
                 .findNearestTenByAreaOfLawAndLocalAuthority(
                     mapitData.getLat(),
@@ -208,9 +223,11 @@ public class CourtService {
                     localAuthority,
                     includeClosed
                 ))
-            .orElse(emptyList());
+            .filter(courts -> !courts.isEmpty())
+            .orElseGet(() -> courtWithDistanceRepository
+                .findNearestTenByAreaOfLaw(mapitData.getLat(), mapitData.getLon(), areaOfLaw, includeClosed));
 
-        return fallbackProximitySearch.fallbackIfEmpty(courtsWithDistance, areaOfLaw, includeClosed, mapitData)
+        return courtsWithDistance
             .stream()
             .map(CourtWithDistance::new)
             .collect(toList());
@@ -224,7 +241,10 @@ public class CourtService {
             return emptyList(); // Return empty so the frontend logic can be invoked
         }
 
-        List<CourtReferenceWithDistance> courtReferences = convert(proximitySearch.searchWith(optionalMapitData.get()));
+        List<CourtReferenceWithDistance> courtReferences = convert(searchMetrics.time(
+            ProximitySearch.class.getSimpleName(),
+            () -> proximitySearch.searchWith(optionalMapitData.get())
+        ));
         log.debug("Found {} nearest courts for postcode {}: {}",
                   courtReferences.size(), postcode, Arrays.stream(courtReferences.toArray()).toArray()
         );
@@ -247,9 +267,7 @@ public class CourtService {
         final ServiceArea serviceArea = serviceAreaOptional.get();
         final MapitData mapitData = optionalMapitData.get();
 
-        final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courts = serviceAreaSearchFactory
-            .getSearchFor(serviceArea, mapitData, action)
-            .searchWith(serviceArea, mapitData, postcode, includeClosed);
+        final List<CourtSearchResult> courts = search(serviceArea, mapitData, postcode, includeClosed, action);
 
         return new ServiceAreaWithCourtReferencesWithDistance(serviceArea, convert(courts));
     }
@@ -259,9 +277,7 @@ public class CourtService {
             serviceAreaSlug));
         final MapitData mapitData = mapitService.getMapitData(postcode).orElseThrow(() -> new NotFoundException(
             serviceAreaSlug));
-        final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courts = serviceAreaSearchFactory
-            .getSearchFor(serviceArea, mapitData, action)
-            .searchWith(serviceArea, mapitData, postcode, includeClosed);
+        final List<CourtSearchResult> courts = search(serviceArea, mapitData, postcode, includeClosed, action);
 
         return new ServiceAreaWithCourtReferencesWithDistance(serviceArea, convert(courts));
     }
@@ -286,20 +302,29 @@ public class CourtService {
         return results;
     }
 
+    /**
+     * Get the displayed courts whose names start with a prefix, ignoring case.
+     *
+     * @param prefix the start of the court name
+     * @return the list of courts, sorted by name
+     */
     public List<CourtReference> getCourtsByPrefixAndActiveSearch(String prefix) {
-        return courtRepository.findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc(prefix, true)
+        return courtReferenceCache.findDisplayedByNamePrefix(prefix)
             .stream()
             .map(CourtReference::new)
             .collect(toList());
     }
 
-    private List<CourtReferenceWithDistance> convert(final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courtsWithDistance) {
-        return courtsWithDistance.stream()
+    private List<CourtReferenceWithDistance> convert(final List<CourtSearchResult> courts) {
+        return courts.stream()
             .map(CourtReferenceWithDistance::new)
             .collect(toList());
     }
 
     private <T> List<T> getCourtByQuery(final String query, final Boolean includeClosed, final Function<uk.gov.hmcts.dts.fact.entity.Court, T> function) {
+        if (!isSearchable(query)) {
+            return emptyList();
+        }
         return courtRepository
             .queryBy(query, includeClosed)
             .stream()
@@ -308,30 +333,58 @@ public class CourtService {
     }
 
     private List<uk.gov.hmcts.dts.fact.entity.Court> getCourtsFromRepository(final String query) {
-        if (query.matches("^\\d+$")) {
+        if (!isSearchable(query)) {
+            return emptyList();
+        } else if (query.matches("^\\d+$")) {
             return courtRepository.findCourtByCourtCode(Integer.valueOf(query));
         } else if (isFullPostcodeFormat(query)) {
             return courtRepository.findCourtByFullPostcode(query);
         }
 
-        // For court name, address or town name search, we first search using exact match only (ignore punctuations and casing). If this
-        // doesn't return any result, fuzzy match searching will then be attempted.
-        List<uk.gov.hmcts.dts.fact.entity.Court> courts = courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(
-            query.replaceAll("[^A-Za-z0-9]+", ""));
+        // For court name, address or town name search, we first search using exact match only (ignore punctuations, accents and
+        // casing). If this doesn't return any result, fuzzy match searching will then be attempted.
+        List<uk.gov.hmcts.dts.fact.entity.Court> courts = courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(query);
         if (courts.isEmpty()) {
-            courts = courtRepository.findCourtByNameAddressOrTownFuzzyMatch(query);
+            courts = searchMetrics.time(
+                CourtFuzzySearch.class.getSimpleName(),
+                () -> courtFuzzySearch.findCourtByNameAddressOrTownFuzzyMatch(query)
+            );
         }
         return courts;
     }
 
+    private List<CourtSearchResult> search(final ServiceArea serviceArea,
+                                           final MapitData mapitData,
+                                           final String postcode,
+                                           final Boolean includeClosed,
+                                           final Action action) {
+        final Search search = serviceAreaSearchFactory.getSearchFor(serviceArea, mapitData, action);
+        return searchMetrics.search(
+            search,
+            serviceArea,
+            action,
+            () -> search.searchWith(serviceArea, mapitData, postcode, includeClosed)
+        );
+    }
+
+    /**
+     * Whether a query has anything left to match once the search normalises it, which strips everything but letters
+     * and digits. Otherwise it would match every court.
+     */
+    private static boolean isSearchable(final String query) {
+        return query != null && LETTER_OR_DIGIT.matcher(query).find();
+    }
+
     private boolean filterResultByPostcode(final String postcode, final String areaOfLaw) {
-        return isScottishPostcode(postcode)
-            || isNorthernIrishPostcode(postcode) && !IMMIGRATION_AREA_OF_LAW.equalsIgnoreCase(areaOfLaw);
+        return Postcode.parse(postcode)
+            .map(p -> p.isScottish() || p.isNorthernIrish() && !IMMIGRATION_AREA_OF_LAW.equalsIgnoreCase(areaOfLaw))
+            .orElse(false);
     }
 
     private Predicate<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> getCourtWithDistancePredicate(String postcode, String areaOfLaw) {
         // Only allow courts not in Northern Ireland or Glasglow court for Northern Ireland postcode and Immigration area of law
-        return c -> !isNorthernIrishPostcode(postcode)
+        final boolean northernIrish = Postcode.parse(postcode).map(Postcode::isNorthernIrish).orElse(false);
+        return c -> !northernIrish
             || IMMIGRATION_AREA_OF_LAW.equalsIgnoreCase(areaOfLaw) && c.getName().contains(GLASGOW_TRIBUNAL_CENTRE);
     }
 
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+import uk.gov.hmcts.dts.fact.model.Court;
+import uk.gov.hmcts.dts.fact.model.CourtSnapshot;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service holding the serialised court details returned by the public court detail page.
+ *
+ * <p>Court details are built from many tables and are read far more often than they change, so the JSON for each
+ * court is cached per language and served with an entity tag. Entries are evicted when an admin change to the court
+ * is committed, and every entry is evicted when a change to shared reference data (area of law names, facility
+ * types etc.) is committed, as any court may show it. Entries otherwise expire after a fixed time.</p>
+ */
+@Service
+public class CourtSnapshotService {
+
+    private static final String WELSH = "cy";
+    private static final String ENGLISH = "en";
+    private static final String KEY_SEPARATOR = ":";
+
+    private final CourtService courtService;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CourtSnapshot> snapshots;
+
+    /**
+     * Constructor for the CourtSnapshotService.
+     *
+     * @param courtService the service the court details are built by
+     * @param objectMapper the mapper the court details are serialised with
+     * @param meterRegistry the registry the cache statistics are published to
+     * @param maximumSize the maximum number of snapshots held
+     * @param ttlMinutes the number of minutes a snapshot is held for
+     */
+    @Autowired
+    public CourtSnapshotService(final CourtService courtService,
+                                final ObjectMapper objectMapper,
+                                final MeterRegistry meterRegistry,
+                                @Value("${court-snapshot.maximum-size:2000}") final long maximumSize,
+                                @Value("${court-snapshot.ttl-minutes:60}") final long ttlMinutes) {
+        this.courtService = courtService;
+        this.objectMapper = objectMapper;
+        this.snapshots = GuavaCacheMetrics.monitor(
+            meterRegistry,
+            CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .<String, CourtSnapshot>build(),
+            "court-snapshot"
+        );
+    }
+
+    /**
+     * Get the snapshot of a court, in the language of the current request.
+     *
+     * @param slug the slug of the court
+     * @return the serialised court details and their entity tag
+     */
+    public CourtSnapshot getCourtSnapshot(final String slug) {
+        final String key = key(slug, currentLanguage());
+        final CourtSnapshot cachedSnapshot = snapshots.getIfPresent(key);
+        if (cachedSnapshot != null) {
+            return cachedSnapshot;
+        }
+
+        final CourtSnapshot snapshot = toSnapshot(courtService.getCourtBySlug(slug));
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Discard the snapshots of a court once a change to it has been committed.
+     *
+     * @param event the court changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(final CourtChangedEvent event) {
+        snapshots.invalidate(key(event.getSlug(), ENGLISH));
+        snapshots.invalidate(key(event.getSlug(), WELSH));
+    }
+
+    /**
+     * Discard every snapshot once a change to a reference data table has been committed.
+     *
+     * @param event the reference data changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(final ReferenceDataChangedEvent event) {
+        evictAll();
+    }
+
+    /**
+     * Discard every snapshot.
+     */
+    public void evictAll() {
+        snapshots.invalidateAll();
+    }
+
+    private CourtSnapshot toSnapshot(final Court court) {
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(court);
+            return new CourtSnapshot(json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+        } catch (final JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String currentLanguage() {
+        return WELSH.equals(LocaleContextHolder.getLocale().getLanguage()) ? WELSH : ENGLISH;
+    }
+
+    private static String key(final String slug, final String language) {
+        return language + KEY_SEPARATOR + slug;
+    }
+}
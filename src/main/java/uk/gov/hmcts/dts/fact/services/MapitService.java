@@ -1,34 +1,96 @@
 package uk.gov.hmcts.dts.fact.services;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.event.CatchmentChangedEvent;
+import uk.gov.hmcts.dts.fact.mapit.MapitArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitClient;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.PostcodeLookup;
 
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
 
 /**
  * Service to get mapit data.
+ *
+ * <p>Responses from mapit are held in bounded, time-evicted caches so that repeated searches for the same
+ * postcode, outcode or local authority do not make another HTTP call. Lookups which mapit could not answer
+ * (no coordinates, or a 400/404 response) are held in a separate, shorter lived cache. Transient failures
+ * are never cached. Hit, miss and eviction counts are published through micrometer, as is the time taken by each
+ * call to mapit, tagged with the client method, the HTTP status and its outcome.</p>
+ *
+ * <p>When a {@link PostcodeLookup} is available (e.g. the offline postcode gazetteer) it is consulted before
+ * mapit, which is then only called for postcodes the lookup does not know about.</p>
  */
 @Service
 public class MapitService {
 
+    private static final String LOCAL_AUTHORITY_TYPES = "MTD,UTA,LBO,CTY";
+    private static final String POSTCODE = "postcode";
+    private static final String PARTIAL_POSTCODE = "partial-postcode";
+    private static final String LOCAL_AUTHORITY = "local-authority";
+    private static final String CACHE_PREFIX = "mapit.";
+    private static final String REQUEST_TIMER = "mapit.requests";
+    private static final String SUCCESS_STATUS = "200";
+
     private final Logger logger;
     private final MapitClient mapitClient;
+    private final Optional<PostcodeLookup> postcodeLookup;
+    private final Cache<String, MapitData> postcodeCache;
+    private final Cache<String, MapitData> partialPostcodeCache;
+    private final Cache<String, Boolean> localAuthorityCache;
+    private final Cache<String, Boolean> negativeCache;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Constructor for the MapitService.
      *
      * @param logger the logger
      * @param mapitClient the client to get mapit data from
+     * @param postcodeLookup the lookup to try before calling mapit, if one is configured
+     * @param meterRegistry the registry the cache statistics and request timers are published to
+     * @param maximumSize the maximum number of entries held in each of the positive caches
+     * @param ttlMinutes the number of minutes a positive result is cached for
+     * @param negativeMaximumSize the maximum number of entries held in the negative cache
+     * @param negativeTtlMinutes the number of minutes a negative result is cached for
      */
     @Autowired
-    public MapitService(final Logger logger, final MapitClient mapitClient) {
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public MapitService(final Logger logger,
+                        final MapitClient mapitClient,
+                        final ObjectProvider<PostcodeLookup> postcodeLookup,
+                        final MeterRegistry meterRegistry,
+                        @Value("${mapit.cache.maximum-size:20000}") final long maximumSize,
+                        @Value("${mapit.cache.ttl-minutes:1440}") final long ttlMinutes,
+                        @Value("${mapit.cache.negative-maximum-size:5000}") final long negativeMaximumSize,
+                        @Value("${mapit.cache.negative-ttl-minutes:10}") final long negativeTtlMinutes) {
         this.logger = logger;
         this.mapitClient = mapitClient;
+        this.postcodeLookup = Optional.ofNullable(postcodeLookup.getIfAvailable());
+        this.postcodeCache = monitor(meterRegistry, POSTCODE, buildCache(maximumSize, ttlMinutes));
+        this.partialPostcodeCache = monitor(meterRegistry, PARTIAL_POSTCODE, buildCache(maximumSize, ttlMinutes));
+        this.localAuthorityCache = monitor(meterRegistry, LOCAL_AUTHORITY, buildCache(maximumSize, ttlMinutes));
+        this.negativeCache = monitor(meterRegistry, "negative", buildCache(negativeMaximumSize, negativeTtlMinutes));
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -40,15 +102,9 @@ public class MapitService {
     public Optional<MapitData> getMapitData(final String postcode) {
 
         if (!postcode.isBlank()) {
-            try {
-                final MapitData mapitData = mapitClient.getMapitData(postcode);
-
-                if (mapitData.hasLatAndLonValues()) {
-                    return Optional.of(mapitData);
-                }
-            } catch (final FeignException ex) {
-                logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
-            }
+            return getCachedMapitData(POSTCODE, postcode, upperCaseAndStripAllSpaces(postcode), postcodeCache,
+                                      lookup -> lookup.getMapitData(postcode),
+                                      p -> timed("getMapitData", () -> mapitClient.getMapitData(p)));
         }
 
         return Optional.empty();
@@ -63,15 +119,10 @@ public class MapitService {
     public Optional<MapitData> getMapitDataWithPartial(final String postcode) {
 
         if (!StringUtils.isBlank(postcode)) {
-            try {
-                final MapitData mapitData = mapitClient.getMapitDataWithPartial(postcode);
-
-                if (mapitData.hasLatAndLonValues()) {
-                    return Optional.of(mapitData);
-                }
-            } catch (final FeignException ex) {
-                logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
-            }
+            return getCachedMapitData(PARTIAL_POSTCODE, postcode, partialPostcodeKey(postcode),
+                                      partialPostcodeCache,
+                                      lookup -> lookup.getMapitDataWithPartial(postcode),
+                                      p -> timed("getMapitDataWithPartial", () -> mapitClient.getMapitDataWithPartial(p)));
         }
 
         return Optional.empty();
@@ -86,11 +137,27 @@ public class MapitService {
     public Boolean localAuthorityExists(final String localAuthorityName) {
 
         if (StringUtils.isNotBlank(localAuthorityName)) {
+            final String key = localAuthorityName.trim().toLowerCase(Locale.ROOT);
+            if (localAuthorityCache.getIfPresent(key) != null) {
+                return true;
+            } else if (negativeCache.getIfPresent(negativeKey(LOCAL_AUTHORITY, key)) != null) {
+                return false;
+            }
+
             try {
-                return mapitClient.getMapitDataForLocalAuthorities(localAuthorityName, "MTD,UTA,LBO,CTY")
-                    .values()
+                final Map<String, MapitArea> areas = timed(
+                    "getMapitDataForLocalAuthorities",
+                    () -> mapitClient.getMapitDataForLocalAuthorities(localAuthorityName, LOCAL_AUTHORITY_TYPES)
+                );
+                final boolean exists = areas.values()
                     .stream()
                     .anyMatch(la -> la.getName().equalsIgnoreCase(localAuthorityName));
+                if (exists) {
+                    localAuthorityCache.put(key, Boolean.TRUE);
+                } else {
+                    negativeCache.put(negativeKey(LOCAL_AUTHORITY, key), Boolean.TRUE);
+                }
+                return exists;
             } catch (final FeignException ex) {
                 logger.warn(
                     "Mapit API call (local authority validation) failed. HTTP Status: {} Message: {}",
@@ -103,4 +170,169 @@ public class MapitService {
         }
         return false;
     }
+
+    /**
+     * Discard every cached mapit response, positive and negative.
+     */
+    public void evictAll() {
+        postcodeCache.invalidateAll();
+        partialPostcodeCache.invalidateAll();
+        localAuthorityCache.invalidateAll();
+        negativeCache.invalidateAll();
+    }
+
+    /**
+     * Discard every cached mapit response once a change to the postcode gazetteer has been committed.
+     * @param event The catchment changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatchmentChanged(final CatchmentChangedEvent event) {
+        evictAll();
+    }
+
+    /**
+     * Get mapit data from the cache. On a miss the postcode lookup is tried first, then mapit itself.
+     *
+     * @param type the type of lookup, used to separate the negative cache entries
+     * @param postcode the full or partial postcode
+     * @param key the key the postcode is cached under
+     * @param cache the cache holding the positive results for this type of lookup
+     * @param offlineLookup the postcode lookup call to make on a cache miss
+     * @param lookup the mapit client call to make if the postcode lookup has no answer
+     * @return the mapit data
+     */
+    private Optional<MapitData> getCachedMapitData(final String type,
+                                                   final String postcode,
+                                                   final String key,
+                                                   final Cache<String, MapitData> cache,
+                                                   final Function<PostcodeLookup, Optional<MapitData>> offlineLookup,
+                                                   final Function<String, MapitData> lookup) {
+        final MapitData cachedMapitData = cache.getIfPresent(key);
+        if (cachedMapitData != null) {
+            return Optional.of(cachedMapitData);
+        } else if (negativeCache.getIfPresent(negativeKey(type, key)) != null) {
+            return Optional.empty();
+        }
+
+        final Optional<MapitData> offlineMapitData = getOfflineMapitData(offlineLookup);
+        if (offlineMapitData.isPresent()) {
+            cache.put(key, offlineMapitData.get());
+            return offlineMapitData;
+        }
+
+        try {
+            final MapitData mapitData = lookup.apply(postcode);
+
+            if (mapitData.hasLatAndLonValues()) {
+                cache.put(key, mapitData);
+                return Optional.of(mapitData);
+            }
+            negativeCache.put(negativeKey(type, key), Boolean.TRUE);
+        } catch (final FeignException ex) {
+            logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
+            if (isNegativeResponse(ex)) {
+                negativeCache.put(negativeKey(type, key), Boolean.TRUE);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Ask the postcode lookup, if there is one. A lookup which fails reading its data is treated as having no
+     * answer, so that mapit is asked instead.
+     *
+     * @param offlineLookup the postcode lookup call to make
+     * @return the mapit data, or empty if there is no lookup, it has no answer or it failed
+     */
+    private Optional<MapitData> getOfflineMapitData(final Function<PostcodeLookup, Optional<MapitData>> offlineLookup) {
+        try {
+            return postcodeLookup.flatMap(offlineLookup);
+        } catch (final DataAccessException ex) {
+            logger.warn("Postcode lookup failed, falling back to mapit. Message: {}", ex.getMessage(), ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Mapit answers 400 for a malformed postcode and 404 for an unknown one. Both are stable answers for the
+     * same input, so they can be cached. Anything else (rate limiting, server errors, timeouts) may succeed on retry.
+     *
+     * @param ex the exception thrown by the mapit client
+     * @return true if the response can be cached as a negative result
+     */
+    private static boolean isNegativeResponse(final FeignException ex) {
+        return ex.status() == 400 || ex.status() == 404;
+    }
+
+    /**
+     * Time a call to mapit. A call which fails with a response is tagged with its status; one which fails without
+     * a response, such as a timeout, with {@code IO_ERROR}.
+     *
+     * @param method the name of the mapit client method called
+     * @param request the call
+     * @return the response
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private <T> T timed(final String method, final Supplier<T> request) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String status = SUCCESS_STATUS;
+        try {
+            return request.get();
+        } catch (final FeignException ex) {
+            status = ex.status() < 0 ? "IO_ERROR" : String.valueOf(ex.status());
+            throw ex;
+        } catch (final RuntimeException ex) {
+            status = "UNKNOWN";
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(REQUEST_TIMER)
+                            .description("Time taken by a call to mapit")
+                            .tag("method", method)
+                            .tag("status", status)
+                            .tag("outcome", outcome(status))
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+        }
+    }
+
+    private static String outcome(final String status) {
+        switch (status.charAt(0)) {
+            case '2':
+                return "SUCCESS";
+            case '4':
+                return "CLIENT_ERROR";
+            case '5':
+                return "SERVER_ERROR";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    /**
+     * A partial postcode keeps the space it was entered with, as OX1 1 (a sector) and OX11 (an outcode) are
+     * different places.
+     *
+     * @param postcode the partial postcode
+     * @return the partial postcode, trimmed and upper cased with each run of whitespace replaced by one space
+     */
+    private static String partialPostcodeKey(final String postcode) {
+        return StringUtils.normalizeSpace(postcode).toUpperCase(Locale.ROOT);
+    }
+
+    private static String negativeKey(final String type, final String key) {
+        return type + ":" + key;
+    }
+
+    private static <V> Cache<String, V> buildCache(final long maximumSize, final long ttlMinutes) {
+        return CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+    }
+
+    private static <V> Cache<String, V> monitor(final MeterRegistry meterRegistry, final String name, final Cache<String, V> cache) {
+        return GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_PREFIX + name);
+    }
 }
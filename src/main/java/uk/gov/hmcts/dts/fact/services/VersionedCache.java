@@ -0,0 +1,72 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Holds a list of rows which are read often and changed rarely, such as a reference data table.
+ *
+ * <p>The rows are cached against a version. Invalidating the cache, once a change to the rows has been committed,
+ * bumps the version, so a load which was already running when the change was made is kept under the old version
+ * and never served again. Rows also expire after a time to live, which bounds how long a change is missed for when
+ * it is not notified. Hit and miss counts are published through micrometer under the name of the cache.</p>
+ *
+ * <p>The cached rows are shared between requests and cannot be changed by the caller.</p>
+ *
+ * @param <T> The type of the rows
+ */
+public final class VersionedCache<T> {
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<Long, List<T>> rows;
+
+    /**
+     * Constructor for the VersionedCache.
+     * @param meterRegistry The registry the cache statistics are published to
+     * @param name The name the cache statistics are published as
+     * @param ttlMinutes The number of minutes the rows are held for
+     */
+    public VersionedCache(final MeterRegistry meterRegistry, final String name, final long ttlMinutes) {
+        this.rows = GuavaCacheMetrics.monitor(
+            meterRegistry,
+            CacheBuilder.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .<Long, List<T>>build(),
+            name
+        );
+    }
+
+    /**
+     * Get the rows, loading them if they are not cached at the current version.
+     * @param loader Loads the rows
+     * @return The rows, which cannot be modified
+     */
+    public List<T> get(final Supplier<List<T>> loader) {
+        final long currentVersion = version.get();
+        final List<T> cachedRows = rows.getIfPresent(currentVersion);
+        if (cachedRows != null) {
+            return cachedRows;
+        }
+
+        final List<T> loadedRows = Collections.unmodifiableList(loader.get());
+        rows.put(currentVersion, loadedRows);
+        return loadedRows;
+    }
+
+    /**
+     * Discard the cached rows.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        rows.invalidateAll();
+    }
+}
@@ -2,22 +2,38 @@ package uk.gov.hmcts.dts.fact.services.admin;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.SneakyThrows;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.entity.Audit;
+import uk.gov.hmcts.dts.fact.entity.AuditType;
+import uk.gov.hmcts.dts.fact.model.admin.AuditFilter;
+import uk.gov.hmcts.dts.fact.model.admin.AuditPage;
 import uk.gov.hmcts.dts.fact.repositories.AuditRepository;
 import uk.gov.hmcts.dts.fact.repositories.AuditTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.audit.AuditOutbox;
+import uk.gov.hmcts.dts.fact.util.Utils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for audit data.
@@ -26,18 +42,48 @@ import java.util.stream.Collectors;
 @SuppressWarnings("PMD.UseObjectForClearerAPI")
 public class AdminAuditService {
 
+    static final String SYNC = "sync";
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final ZoneId UK = ZoneId.of("Europe/London");
+    // Used in place of a missing date, within the range of a postgres timestamp
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String CSV_HEADER =
+        "id,user_email,action,location,creation_time,action_data_before,action_data_after";
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    // Configured once and only used to write, so safe to share between threads
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
     private final AuditRepository auditRepository;
     private final AuditTypeRepository auditTypeRepository;
+    private final AuditOutbox auditOutbox;
+    private final boolean sync;
+    private final int exportPageSize;
+    // The audit types are fixed by migrations, so are read once each
+    private final Map<String, AuditType> auditTypes = new ConcurrentHashMap<>();
 
     /**
      * Constructor for the AdminAuditService.
      * @param auditRepository The repository for audit
      * @param auditTypeRepository The repository for audit type
+     * @param auditOutbox The outbox audits are written to
+     * @param mode How audits are written: outbox, or sync to write them to the audit table straight away
+     * @param exportPageSize The number of audits read at a time by the export
      */
     @Autowired
-    public AdminAuditService(AuditRepository auditRepository, AuditTypeRepository auditTypeRepository) {
+    public AdminAuditService(AuditRepository auditRepository,
+                             AuditTypeRepository auditTypeRepository,
+                             AuditOutbox auditOutbox,
+                             @Value("${audit.mode:outbox}") String mode,
+                             @Value("${audit.export-page-size:500}") int exportPageSize) {
         this.auditRepository = auditRepository;
         this.auditTypeRepository = auditTypeRepository;
+        this.auditOutbox = auditOutbox;
+        this.sync = SYNC.equalsIgnoreCase(mode);
+        this.exportPageSize = exportPageSize;
     }
 
     /**
@@ -64,21 +110,60 @@ public class AdminAuditService {
 
         return auditPage
             .stream()
-            .map(audit -> {
-                // Convert UTC LocalDateTime to ZonedDateTime for Europe/London
-                ZonedDateTime creationTimeInUk = audit.getCreationTime()
-                    .atZone(ZoneId.of("UTC"))
-                    .withZoneSameInstant(ZoneId.of("Europe/London")); // show as GMT/BST
-                // Map to the DTO, adjusting the creation time
-                uk.gov.hmcts.dts.fact.model.admin.Audit dto = new uk.gov.hmcts.dts.fact.model.admin.Audit(audit);
-                dto.setCreationTime(creationTimeInUk.toLocalDateTime()); // Update creation time
-                return dto;
-            })
+            .map(AdminAuditService::toUkAudit)
             .collect(Collectors.toList());
     }
 
     /**
-     * Save audit data.
+     * Get a page of audits matching the filter, newest first. Pages are read from the cursor given with the page
+     * before, so a deep page costs the same to read as the first. Creation time will be returned as GMT/BST
+     * instead of UTC.
+     * @param filter The audits to find
+     * @param size The page size
+     * @param cursor The cursor returned with the previous page, or empty for the first page
+     * @param includeTotal Whether to count every audit matching the filter
+     * @return The page of audits, with the cursor for the next page if there may be more
+     */
+    public AuditPage getAuditPage(AuditFilter filter, int size, Optional<String> cursor, boolean includeTotal) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        final List<Audit> audits = findAudits(filter, cursor.map(Cursor::decode).orElse(null), size);
+        return new AuditPage(
+            audits.stream().map(AdminAuditService::toUkAudit).collect(Collectors.toList()),
+            audits.size() == size ? Cursor.from(audits.get(size - 1)).encode() : null,
+            includeTotal ? countAudits(filter) : null
+        );
+    }
+
+    /**
+     * Write every audit matching the filter, newest first, to the output stream as CSV. The audits are read and
+     * written a page at a time. Creation time will be written as GMT/BST instead of UTC.
+     * @param filter The audits to export
+     * @param outputStream The stream to write to
+     * @throws IOException if the audits could not be written
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public void exportAudits(AuditFilter filter, OutputStream outputStream) throws IOException {
+        writeLine(outputStream, CSV_HEADER);
+        Cursor cursor = null;
+        List<Audit> audits;
+        do {
+            audits = findAudits(filter, cursor, exportPageSize);
+            for (final Audit audit : audits) {
+                writeLine(outputStream, toCsvRow(audit));
+            }
+            outputStream.flush();
+            if (!audits.isEmpty()) {
+                cursor = Cursor.from(audits.get(audits.size() - 1));
+            }
+        } while (audits.size() == exportPageSize);
+    }
+
+    /**
+     * Save audit data. In the default outbox mode the audit is written to the audit outbox and moved to the audit
+     * table shortly after the current transaction commits; in sync mode it is written to the audit table straight
+     * away, so that it can be read back at once.
      * @param auditType The audit type
      * @param auditDataBefore The audit data before
      * @param auditDataAfter The audit data after
@@ -86,14 +171,104 @@ public class AdminAuditService {
      */
     @SneakyThrows
     public void saveAudit(String auditType, Object auditDataBefore, Object auditDataAfter, String auditLocation) {
-        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-        auditRepository.save(new Audit(
+        final Audit audit = new Audit(
             SecurityContextHolder.getContext().getAuthentication().getName(),
-            auditTypeRepository.findByName(auditType),
-            objectMapper.writeValueAsString(auditDataBefore),
-            objectMapper.writeValueAsString(auditDataAfter),
+            auditTypes.computeIfAbsent(auditType, auditTypeRepository::findByName),
+            OBJECT_MAPPER.writeValueAsString(auditDataBefore),
+            OBJECT_MAPPER.writeValueAsString(auditDataAfter),
             auditLocation,
             LocalDateTime.now()
-        ));
+        );
+        if (sync) {
+            auditRepository.save(audit);
+        } else {
+            auditOutbox.add(audit);
+        }
+    }
+
+    private List<Audit> findAudits(AuditFilter filter, Cursor after, int size) {
+        final String location = containing(filter.getLocation());
+        final String email = containing(filter.getEmail());
+        final LocalDateTime dateFrom = filter.getDateFrom().orElse(EARLIEST);
+        final LocalDateTime dateTo = filter.getDateTo().orElse(LATEST);
+        return after == null
+            ? auditRepository.findFirstByFilter(location, email, dateFrom, dateTo, Pageable.ofSize(size))
+            : auditRepository.findByFilterAfter(location, email, dateFrom, dateTo,
+                                                after.getCreationTime(), after.getId(), Pageable.ofSize(size));
+    }
+
+    private long countAudits(AuditFilter filter) {
+        return auditRepository.countByFilter(containing(filter.getLocation()), containing(filter.getEmail()),
+                                             filter.getDateFrom().orElse(EARLIEST), filter.getDateTo().orElse(LATEST));
+    }
+
+    /**
+     * A LIKE pattern matching values which contain the given value, escaped with '!'.
+     */
+    private static String containing(Optional<String> value) {
+        return "%" + value.orElse("").replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    private static uk.gov.hmcts.dts.fact.model.admin.Audit toUkAudit(Audit audit) {
+        final uk.gov.hmcts.dts.fact.model.admin.Audit dto = new uk.gov.hmcts.dts.fact.model.admin.Audit(audit);
+        dto.setCreationTime(toUkTime(audit.getCreationTime()));
+        return dto;
+    }
+
+    private static LocalDateTime toUkTime(LocalDateTime utcTime) {
+        // Audits are stored in UTC, but shown as GMT/BST
+        return utcTime.atZone(UTC).withZoneSameInstant(UK).toLocalDateTime();
+    }
+
+    private static void writeLine(OutputStream outputStream, String line) throws IOException {
+        outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+        outputStream.write(NEW_LINE);
+    }
+
+    private static String toCsvRow(Audit audit) {
+        return Stream.of(
+                audit.getId(),
+                audit.getUserEmail(),
+                audit.getAuditType() == null ? null : audit.getAuditType().getName(),
+                audit.getLocation(),
+                toUkTime(audit.getCreationTime()),
+                audit.getActionDataBefore(),
+                audit.getActionDataAfter()
+            )
+            .map(Utils::toCsvField)
+            .collect(Collectors.joining(","));
+    }
+
+    /**
+     * The position of the last audit of a page, which the next page is read from. It is given to clients as an
+     * opaque URL-safe string.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Cursor {
+        private static final String SEPARATOR = "|";
+
+        private final LocalDateTime creationTime;
+        private final Integer id;
+
+        static Cursor from(Audit audit) {
+            return new Cursor(audit.getCreationTime(), audit.getId());
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((creationTime + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                final String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                final int separator = value.indexOf(SEPARATOR);
+                return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                                  Integer.valueOf(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+                throw new IllegalArgumentException("Invalid audit cursor: " + cursor, ex);
+            }
+        }
     }
 }
@@ -3,6 +3,8 @@ package uk.gov.hmcts.dts.fact.services.admin;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.model.admin.County;
 import uk.gov.hmcts.dts.fact.repositories.CountyRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 
 import java.util.Comparator;
 import java.util.List;
@@ -17,13 +19,16 @@ import static java.util.stream.Collectors.toMap;
 @Service
 public class AdminCountyService {
     private final CountyRepository countyRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Constructor for the AdminCountyService.
      * @param countyRepository The repository for county
+     * @param referenceDataCache The cache for reference data
      */
-    public AdminCountyService(CountyRepository countyRepository) {
+    public AdminCountyService(CountyRepository countyRepository, ReferenceDataCache referenceDataCache) {
         this.countyRepository = countyRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -31,7 +36,7 @@ public class AdminCountyService {
      * @return A list of counties
      */
     public List<County> getAllCounties() {
-        return countyRepository.findAll()
+        return getCounties()
             .stream()
             .map(County::new)
             .sorted(Comparator.comparing(County::getName))
@@ -43,8 +48,12 @@ public class AdminCountyService {
      * @return A map of counties
      */
     public Map<Integer, uk.gov.hmcts.dts.fact.entity.County> getCountyMap() {
-        return countyRepository.findAll()
+        return getCounties()
             .stream()
             .collect(toMap(uk.gov.hmcts.dts.fact.entity.County::getId, county -> county));
     }
+
+    private List<uk.gov.hmcts.dts.fact.entity.County> getCounties() {
+        return referenceDataCache.get(ReferenceData.COUNTIES, countyRepository::findAll);
+    }
 }
@@ -1,10 +1,12 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAdditionalLink;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.AdditionalLink;
 import uk.gov.hmcts.dts.fact.repositories.CourtAdditionalLinkRepository;
@@ -24,20 +26,24 @@ public class AdminCourtAdditionalLinkService {
     private final CourtRepository courtRepository;
     private final CourtAdditionalLinkRepository courtAdditionalLinkRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminCourtAdditionalLinkService.
      * @param courtRepository The repository for court
      * @param courtAdditionalLinkRepository The repository for court additional link
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
      */
     @Autowired
     public AdminCourtAdditionalLinkService(final CourtRepository courtRepository,
                                            final CourtAdditionalLinkRepository courtAdditionalLinkRepository,
-                                           final AdminAuditService adminAuditService) {
+                                           final AdminAuditService adminAuditService,
+                                           final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtAdditionalLinkRepository = courtAdditionalLinkRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -81,6 +87,7 @@ public class AdminCourtAdditionalLinkService {
                                   .map(AdditionalLink::new)
                                   .collect(toList()),
             newLinks, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return newLinks;
     }
 
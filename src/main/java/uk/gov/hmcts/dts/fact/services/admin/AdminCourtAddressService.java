@@ -2,6 +2,7 @@ package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -12,6 +13,7 @@ import uk.gov.hmcts.dts.fact.entity.County;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtSecondaryAddressType;
 import uk.gov.hmcts.dts.fact.entity.CourtType;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.InvalidPostcodeException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
@@ -53,6 +55,7 @@ public class AdminCourtAddressService {
     private final ValidationService validationService;
     private final AdminAuditService adminAuditService;
     private final AdminCourtLockService adminCourtLockService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminCourtAddressService.
@@ -67,6 +70,7 @@ public class AdminCourtAddressService {
      * @param validationService                   The service for validation
      * @param adminAuditService                   The service for admin audit
      * @param adminCourtLockService               The service for admin court locking
+     * @param eventPublisher The publisher for court changed events
      */
     @Autowired
     public AdminCourtAddressService(final CourtRepository courtRepository,
@@ -77,7 +81,8 @@ public class AdminCourtAddressService {
                                     final AdminService adminService,
                                     final MapitService mapitService,
                                     final ValidationService validationService,
-                                    final AdminAuditService adminAuditService, AdminCourtLockService adminCourtLockService) {
+                                    final AdminAuditService adminAuditService, AdminCourtLockService adminCourtLockService,
+                                    final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtAddressRepository = courtAddressRepository;
         this.courtSecondaryAddressTypeRepository = courtSecondaryAddressTypeRepository;
@@ -88,6 +93,7 @@ public class AdminCourtAddressService {
         this.validationService = validationService;
         this.adminAuditService = adminAuditService;
         this.adminCourtLockService = adminCourtLockService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -160,6 +166,7 @@ public class AdminCourtAddressService {
             courtAddresses,
             updatedAddresses, slug
         );
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return updatedAddresses;
     }
 
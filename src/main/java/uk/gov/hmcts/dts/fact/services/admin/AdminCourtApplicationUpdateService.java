@@ -1,10 +1,12 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtApplicationUpdate;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.ApplicationUpdate;
 import uk.gov.hmcts.dts.fact.repositories.CourtApplicationUpdateRepository;
@@ -25,20 +27,24 @@ public class AdminCourtApplicationUpdateService {
     private final CourtRepository courtRepository;
     private final CourtApplicationUpdateRepository applicationUpdateRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminCourtApplicationUpdateService.
      * @param courtRepository The repository for court
      * @param applicationUpdateRepository The repository for court application update
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
      */
     @Autowired
     public AdminCourtApplicationUpdateService(final CourtRepository courtRepository,
                                               final CourtApplicationUpdateRepository applicationUpdateRepository,
-                                              final AdminAuditService adminAuditService) {
+                                              final AdminAuditService adminAuditService,
+                                              final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.applicationUpdateRepository = applicationUpdateRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -89,6 +95,7 @@ public class AdminCourtApplicationUpdateService {
                 .map(ApplicationUpdate::new)
                 .collect(toList()),
             resultApplicationUpdateList, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return resultApplicationUpdateList;
     }
 
@@ -1,10 +1,12 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLaw;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawRepository;
@@ -27,6 +29,7 @@ public class AdminCourtAreasOfLawService {
     private final CourtAreaOfLawRepository courtAreaOfLawRepository;
     private final AdminAuditService adminAuditService;
     private final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminCourtAreasOfLawService.
@@ -34,14 +37,17 @@ public class AdminCourtAreasOfLawService {
      * @param courtAreaOfLawRepository The repository for court area of law
      * @param courtAreaOfLawSpoeRepository The repository for court area of law spoe
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
      */
     @Autowired
     public AdminCourtAreasOfLawService(final CourtRepository courtRepository, final CourtAreaOfLawRepository courtAreaOfLawRepository,
-                                       final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository, final AdminAuditService adminAuditService) {
+                                       final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository, final AdminAuditService adminAuditService,
+                                       final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtAreaOfLawRepository = courtAreaOfLawRepository;
         this.courtAreaOfLawSpoeRepository = courtAreaOfLawSpoeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -93,6 +99,7 @@ public class AdminCourtAreasOfLawService {
                                     originalCourtAol,
                                     newAreaOfLawList,
                                     slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return newAreaOfLawList;
     }
 
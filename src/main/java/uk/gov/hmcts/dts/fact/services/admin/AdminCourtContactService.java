@@ -1,16 +1,20 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtContact;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.Contact;
 import uk.gov.hmcts.dts.fact.model.admin.ContactType;
 import uk.gov.hmcts.dts.fact.repositories.ContactTypeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtContactRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
 import java.util.ArrayList;
@@ -30,6 +34,8 @@ public class AdminCourtContactService {
     private final CourtContactRepository courtContactRepository;
     private final ContactTypeRepository contactTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Constructor for the AdminCourtContactService.
@@ -37,16 +43,22 @@ public class AdminCourtContactService {
      * @param courtContactRepository The repository for court contact
      * @param contactTypeRepository The repository for contact type
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
+     * @param referenceDataCache The cache for reference data
      */
     @Autowired
     public AdminCourtContactService(final CourtRepository courtRepository,
                                     final CourtContactRepository courtContactRepository,
                                     final ContactTypeRepository contactTypeRepository,
-                                    final AdminAuditService adminAuditService) {
+                                    final AdminAuditService adminAuditService,
+                                    final ApplicationEventPublisher eventPublisher,
+                                    final ReferenceDataCache referenceDataCache) {
         this.courtRepository = courtRepository;
         this.courtContactRepository = courtContactRepository;
         this.contactTypeRepository = contactTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -80,6 +92,7 @@ public class AdminCourtContactService {
             AuditType.findByName("Update court contacts"),
             originalContactList,
             newContactList, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return newContactList;
     }
 
@@ -88,7 +101,7 @@ public class AdminCourtContactService {
      * @return A list of contact types
      */
     public List<ContactType> getAllCourtContactTypes() {
-        return contactTypeRepository.findAll()
+        return getContactTypes()
             .stream()
             .map(ContactType::new)
             .sorted(Comparator.comparing(ContactType::getType))
@@ -135,11 +148,15 @@ public class AdminCourtContactService {
      * @return A map of contact types
      */
     private Map<Integer, uk.gov.hmcts.dts.fact.entity.ContactType> getContactTypeMap() {
-        return contactTypeRepository.findAll()
+        return getContactTypes()
             .stream()
             .collect(toMap(uk.gov.hmcts.dts.fact.entity.ContactType::getId, type -> type));
     }
 
+    private List<uk.gov.hmcts.dts.fact.entity.ContactType> getContactTypes() {
+        return referenceDataCache.get(ReferenceData.CONTACT_TYPES, contactTypeRepository::findAll);
+    }
+
     /**
      * Construct new court contacts.
      * @param court The court
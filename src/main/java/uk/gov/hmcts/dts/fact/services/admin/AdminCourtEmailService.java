@@ -1,10 +1,12 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtEmail;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.Email;
 import uk.gov.hmcts.dts.fact.model.admin.EmailType;
@@ -31,6 +33,7 @@ public class AdminCourtEmailService {
     private final CourtEmailRepository emailRepository;
     private final EmailTypeRepository emailTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminCourtEmailService.
@@ -38,16 +41,19 @@ public class AdminCourtEmailService {
      * @param emailRepository The repository for court email
      * @param emailTypeRepository The repository for email type
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
      */
     @Autowired
     public AdminCourtEmailService(final CourtRepository courtRepository,
                                   final CourtEmailRepository emailRepository,
                                   final EmailTypeRepository emailTypeRepository,
-                                  final AdminAuditService adminAuditService) {
+                                  final AdminAuditService adminAuditService,
+                                  final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.emailRepository = emailRepository;
         this.emailTypeRepository = emailTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -94,6 +100,7 @@ public class AdminCourtEmailService {
                 .map(Email::new)
                 .collect(toList()),
             resultEmailList, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return resultEmailList;
     }
 
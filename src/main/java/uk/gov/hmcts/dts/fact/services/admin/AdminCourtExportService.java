@@ -0,0 +1,168 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.model.CourtForDownload;
+import uk.gov.hmcts.dts.fact.model.admin.CourtExportFormat;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.util.Utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for exporting the court download.
+ *
+ * <p>Courts are read a page at a time, in name order, using the last court of each page as the starting point for
+ * the next one. Each page is loaded in its own short read-only transaction and written out before the next is read,
+ * so memory use and database connection time do not grow with the number of courts.</p>
+ */
+@Service
+public class AdminCourtExportService {
+
+    private static final Map<String, Function<CourtForDownload, Object>> CSV_COLUMNS = csvColumns();
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final CourtRepository courtRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+
+    /**
+     * Constructor for the AdminCourtExportService.
+     *
+     * @param courtRepository the repository for courts
+     * @param objectMapper the mapper the JSON lines are written with
+     * @param transactionManager the transaction manager each page is read with
+     * @param pageSize the number of courts read at a time
+     */
+    @Autowired
+    public AdminCourtExportService(final CourtRepository courtRepository,
+                                   final ObjectMapper objectMapper,
+                                   final PlatformTransactionManager transactionManager,
+                                   @Value("${court-export.page-size:100}") final int pageSize) {
+        this.courtRepository = courtRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Write every court, ordered by name, to the output stream.
+     *
+     * @param format the format to write the courts in
+     * @param outputStream the stream to write to
+     * @throws IOException if the courts could not be written
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public void exportCourts(final CourtExportFormat format, final OutputStream outputStream) throws IOException {
+        if (format == CourtExportFormat.CSV) {
+            writeLine(outputStream, String.join(",", CSV_COLUMNS.keySet()));
+        }
+
+        Page page = null;
+        do {
+            page = readPage(page);
+            for (final CourtForDownload court : page.getCourts()) {
+                if (format == CourtExportFormat.CSV) {
+                    writeLine(outputStream, toCsvRow(court));
+                } else {
+                    outputStream.write(objectMapper.writeValueAsBytes(court));
+                    outputStream.write(NEW_LINE);
+                }
+            }
+            outputStream.flush();
+        } while (page.isFull());
+    }
+
+    private Page readPage(final Page previous) {
+        return transactionTemplate.execute(status -> {
+            final Pageable pageable = Pageable.ofSize(pageSize);
+            final List<Integer> ids = previous == null
+                ? courtRepository.findFirstIdsOrderByName(pageable)
+                : courtRepository.findIdsOrderByNameAfter(previous.getLastName(), previous.getLastId(), pageable);
+            if (ids.isEmpty()) {
+                return Page.EMPTY;
+            }
+
+            final Map<Integer, Court> courtsById = courtRepository.findAllForDownloadByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Court::getId, Function.identity()));
+            final List<CourtForDownload> courts = new ArrayList<>(ids.size());
+            Court last = null;
+            for (final Integer id : ids) {
+                final Court court = courtsById.get(id);
+                if (court != null) {
+                    courts.add(new CourtForDownload(court));
+                    last = court;
+                }
+            }
+            return last == null ? Page.EMPTY : new Page(courts, last.getName(), last.getId(), ids.size() == pageSize);
+        });
+    }
+
+    private static void writeLine(final OutputStream outputStream, final String line) throws IOException {
+        outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+        outputStream.write(NEW_LINE);
+    }
+
+    private static String toCsvRow(final CourtForDownload court) {
+        return CSV_COLUMNS.values()
+            .stream()
+            .map(column -> column.apply(court))
+            .map(Utils::toCsvField)
+            .collect(Collectors.joining(","));
+    }
+
+    private static Map<String, Function<CourtForDownload, Object>> csvColumns() {
+        final LinkedHashMap<String, Function<CourtForDownload, Object>> columns = new LinkedHashMap<>();
+        columns.put("name", CourtForDownload::getName);
+        columns.put("open", CourtForDownload::getOpen);
+        columns.put("updated", CourtForDownload::getUpdated);
+        columns.put("addresses", CourtForDownload::getAddresses);
+        columns.put("areas_of_law", CourtForDownload::getAreasOfLaw);
+        columns.put("court_types", CourtForDownload::getCourtTypes);
+        columns.put("crown_court_code", CourtForDownload::getCrownCourtCode);
+        columns.put("county_court_code", CourtForDownload::getCountyCourtCode);
+        columns.put("magistrates_court_code", CourtForDownload::getMagistratesCourtCode);
+        columns.put("facilities", CourtForDownload::getFacilities);
+        columns.put("slug", CourtForDownload::getSlug);
+        columns.put("emails", CourtForDownload::getEmails);
+        columns.put("contacts", CourtForDownload::getContacts);
+        columns.put("opening_times", CourtForDownload::getOpeningTimes);
+        columns.put("application_updates", CourtForDownload::getApplicationUpdates);
+        columns.put("dx_number", CourtForDownload::getDxNumber);
+        return columns;
+    }
+
+    /**
+     * A page of courts and the position to read the next page from.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Page {
+        private static final Page EMPTY = new Page(List.of(), null, null, false);
+
+        private final List<CourtForDownload> courts;
+        private final String lastName;
+        private final Integer lastId;
+        // A full page means there may be more courts to read
+        private final boolean full;
+    }
+}
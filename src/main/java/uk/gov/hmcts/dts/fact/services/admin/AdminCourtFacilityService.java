@@ -1,23 +1,29 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtFacility;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.html.sanitizer.OwaspHtmlSanitizer;
 import uk.gov.hmcts.dts.fact.model.admin.Facility;
 import uk.gov.hmcts.dts.fact.repositories.CourtFacilityRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.FacilityTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 /**
  * Service for admin court facility data.
@@ -28,6 +34,8 @@ public class AdminCourtFacilityService {
     private final CourtFacilityRepository courtFacilityRepository;
     private final FacilityTypeRepository facilityTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Constructor for the AdminCourtFacilityService.
@@ -35,16 +43,22 @@ public class AdminCourtFacilityService {
      * @param courtFacilityRepository The repository for court facility
      * @param facilityTypeRepository The repository for facility type
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
+     * @param referenceDataCache The cache for reference data
      */
     @Autowired
     public AdminCourtFacilityService(final CourtRepository courtRepository,
                                      final CourtFacilityRepository courtFacilityRepository,
                                      final FacilityTypeRepository facilityTypeRepository,
-                                     final AdminAuditService adminAuditService) {
+                                     final AdminAuditService adminAuditService,
+                                     final ApplicationEventPublisher eventPublisher,
+                                     final ReferenceDataCache referenceDataCache) {
         this.courtRepository = courtRepository;
         this.courtFacilityRepository = courtFacilityRepository;
         this.facilityTypeRepository = facilityTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -88,6 +102,7 @@ public class AdminCourtFacilityService {
                             .map(Facility::new)
                             .collect(toList()),
             newFacilities, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return newFacilities;
     }
 
@@ -122,11 +137,14 @@ public class AdminCourtFacilityService {
      * @return A list of facilities
      */
     private List<uk.gov.hmcts.dts.fact.entity.Facility> getNewFacilityEntity(final List<Facility> facilities) {
+        final Map<Integer, uk.gov.hmcts.dts.fact.entity.FacilityType> facilityTypes =
+            referenceDataCache.get(ReferenceData.FACILITY_TYPES, facilityTypeRepository::findAll)
+                .stream()
+                .collect(toMap(uk.gov.hmcts.dts.fact.entity.FacilityType::getId, type -> type));
 
         return facilities.stream()
             .map(f -> new uk.gov.hmcts.dts.fact.entity.Facility(f.getDescription(), f.getDescriptionCy(),
-                                                                Objects.requireNonNull(facilityTypeRepository.findById(
-                                                                    f.getId()).orElse(null))
+                                                                Objects.requireNonNull(facilityTypes.get(f.getId()))
             ))
             .collect(toList());
     }
@@ -1,12 +1,14 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.config.security.RolesProvider;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.InPerson;
 import uk.gov.hmcts.dts.fact.entity.ServiceCentre;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.html.sanitizer.OwaspHtmlSanitizer;
 import uk.gov.hmcts.dts.fact.model.admin.CourtGeneralInfo;
@@ -25,19 +27,23 @@ public class AdminCourtGeneralInfoService {
     private final CourtRepository courtRepository;
     private final RolesProvider rolesProvider;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminCourtGeneralInfoService.
      * @param courtRepository The repository for court
      * @param rolesProvider The service for roles provider
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
      */
     @Autowired
     public AdminCourtGeneralInfoService(final CourtRepository courtRepository, final RolesProvider rolesProvider,
-                                        final AdminAuditService adminAuditService) {
+                                        final AdminAuditService adminAuditService,
+                                        final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.rolesProvider = rolesProvider;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -110,6 +116,10 @@ public class AdminCourtGeneralInfoService {
             AuditType.findByName("Update court general info"),
             originalGeneralInfo,
             updatedGeneralInfo, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
+        if (!slug.equals(courtEntity.getSlug())) {
+            eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getSlug()));
+        }
         return updatedGeneralInfo;
     }
 
@@ -2,9 +2,11 @@ package uk.gov.hmcts.dts.fact.services.admin;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.CourtHistory;
 import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
@@ -25,12 +27,15 @@ public class AdminCourtHistoryService {
     private final CourtRepository courtRepository;
 
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public AdminCourtHistoryService(CourtHistoryRepository courtHistoryRepository, CourtRepository courtRepository, AdminAuditService adminAuditService) {
+    public AdminCourtHistoryService(CourtHistoryRepository courtHistoryRepository, CourtRepository courtRepository,
+                                    AdminAuditService adminAuditService, ApplicationEventPublisher eventPublisher) {
         this.courtHistoryRepository = courtHistoryRepository;
         this.courtRepository = courtRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -93,6 +98,7 @@ public class AdminCourtHistoryService {
 
         CourtHistory courtHistoryModel = new CourtHistory(courtHistoryRepository.save(new uk.gov.hmcts.dts.fact.entity.CourtHistory(courtHistory)));
         adminAuditService.saveAudit("Create court history", courtHistoryModel, null, courtHistoryModel.getCourtName());
+        publishCourtChanged(courtHistoryModel.getSearchCourtId());
         return courtHistoryModel;
     }
 
@@ -114,6 +120,7 @@ public class AdminCourtHistoryService {
         CourtHistory courtHistoryModel = new CourtHistory(courtHistoryRepository.save(courtHistoryEntity));
 
         adminAuditService.saveAudit("Update court history", courtHistoryModel, null, courtHistoryModel.getCourtName());
+        publishCourtChanged(courtHistoryModel.getSearchCourtId());
         return courtHistoryModel;
     }
 
@@ -128,6 +135,7 @@ public class AdminCourtHistoryService {
         CourtHistory courtHistoryToDelete = getCourtHistoryById(courtHistoryId);
         courtHistoryRepository.deleteById(courtHistoryToDelete.getId());
         adminAuditService.saveAudit("Delete court history", courtHistoryToDelete, null, courtHistoryToDelete.getCourtName());
+        publishCourtChanged(courtHistoryToDelete.getSearchCourtId());
         return courtHistoryToDelete;
     }
 
@@ -147,6 +155,7 @@ public class AdminCourtHistoryService {
 
         adminAuditService.saveAudit("Delete court history", courtHistoryList,
                                     null, court.getSlug());
+        eventPublisher.publishEvent(new CourtChangedEvent(court.getSlug()));
 
         return courtHistoryList;
     }
@@ -178,6 +187,7 @@ public class AdminCourtHistoryService {
             .toList();
 
         adminAuditService.saveAudit("Update court history", beforeUpdateCourtHistories, newCourtHistoryList, courtEntity.getName());
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         //save court's new court histories
         return newCourtHistoryList;
     }
@@ -191,4 +201,15 @@ public class AdminCourtHistoryService {
             .map(CourtHistory::new)
             .toList();
     }
+
+    /**
+     * Let anything derived from the historical names of a court know that they have changed.
+     * @param courtId the id of the court
+     */
+    private void publishCourtChanged(final Integer courtId) {
+        if (courtId != null) {
+            courtRepository.findCourtById(courtId)
+                .ifPresent(court -> eventPublisher.publishEvent(new CourtChangedEvent(court.getSlug())));
+        }
+    }
 }
@@ -1,11 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtLocalAuthorityAreaOfLaw;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.LocalAuthority;
 import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
@@ -25,20 +27,24 @@ public class AdminCourtLocalAuthoritiesService {
     private final CourtRepository courtRepository;
     private final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminCourtLocalAuthoritiesService.
      * @param courtRepository The repository for court
      * @param courtLocalAuthorityAreaOfLawRepository The repository for court local authority area of law
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
      */
     @Autowired
     public AdminCourtLocalAuthoritiesService(final CourtRepository courtRepository,
                                              final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository,
-                                             final AdminAuditService adminAuditService) {
+                                             final AdminAuditService adminAuditService,
+                                             final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtLocalAuthorityAreaOfLawRepository = courtLocalAuthorityAreaOfLawRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -88,6 +94,7 @@ public class AdminCourtLocalAuthoritiesService {
                             .map(la -> new LocalAuthority(la.getLocalAuthority().getId(), la.getLocalAuthority().getName()))
                             .collect(toList()),
             updatedLocalAuthorities, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return updatedLocalAuthorities;
     }
 
@@ -2,6 +2,8 @@ package uk.gov.hmcts.dts.fact.services.admin;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.exception.LockExistsException;
@@ -10,10 +12,12 @@ import uk.gov.hmcts.dts.fact.model.admin.CourtLock;
 import uk.gov.hmcts.dts.fact.repositories.CourtLockRepository;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -25,25 +29,28 @@ import java.util.stream.Collectors;
 public class AdminCourtLockService {
     private final CourtLockRepository courtLockRepository;
     private final AdminAuditService adminAuditService;
-    private static final int LOCK_AMOUNT_PER_COURT = 1;
+    private final Duration ttl;
 
     /**
      * Constructor for the AdminCourtLockService.
      * @param courtLockRepository The repository for court lock
      * @param adminAuditService The service for admin audit
+     * @param ttlMinutes The number of minutes a lock is held for after it was last acquired or refreshed
      */
     @Autowired
     public AdminCourtLockService(final CourtLockRepository courtLockRepository,
-                                 final AdminAuditService adminAuditService) {
+                                 final AdminAuditService adminAuditService,
+                                 @Value("${court-lock.ttl-minutes:20}") final long ttlMinutes) {
         this.courtLockRepository = courtLockRepository;
         this.adminAuditService = adminAuditService;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
     }
 
     /**
      *
      * <p>Get all court locks from the database that match a provided court slug.</p>
      *
-     * <p> Important to note is at the moment one lock is used per court, but this is
+     * <p> Important to note is that one lock is used per court, which the database enforces, but this is
      * being returned as a list to accommodate for a future change where more than one
      * lock may be required instead. </p>
      *
@@ -59,55 +66,20 @@ public class AdminCourtLockService {
     }
 
     /**
-     * <p>Add the new court lock to the database.</p>
+     * <p>Acquire the lock on a court for the user in the new court lock.</p>
      *
-     * <p>Exceptions will occur if a lock already exists for a court and a different user is
-     * attempting to retrieve that lock (by calling this method).</p>
+     * <p>Locks are leases: a lock is held for {@code court-lock.ttl-minutes} after it was last acquired or
+     * refreshed, after which another user may take it over, and it is removed by the expiry sweep.</p>
      *
-     * <p>If the same user is hitting the logic that calls this method, then we simply update their
-     * timestamp on the database by calling updateCourtLock.</p>
-     *
-     * <p>Otherwise we add them to the database</p>
+     * <p>If the user already holds the lock it is refreshed. Exceptions will occur if the lock is held by a
+     * different user and has not expired.</p>
      *
      * @param courtLock the new CourtLock object to add to the database.
-     * @return The new CourtLock object that has been added to the database.
+     * @return The CourtLock object now held by the user.
      */
+    @Transactional
     public CourtLock addNewCourtLock(CourtLock courtLock) {
-        String courtSlug = courtLock.getCourtSlug();
-        String courtUserEmail = courtLock.getUserEmail();
-        List<uk.gov.hmcts.dts.fact.entity.CourtLock> courtLockEntityList =
-            courtLockRepository.findCourtLockByCourtSlug(courtSlug);
-        int courtListSize = courtLockEntityList.size();
-
-        if (courtListSize == LOCK_AMOUNT_PER_COURT && !courtLockEntityList.get(0).getUserEmail().equals(courtUserEmail)) {
-            // If the name doesn't match, but we have a lock for the court, return with an error code
-            throw new LockExistsException(String.format("Lock for court '%s' is currently held by user '%s'",
-                                                        courtSlug, courtLockEntityList.get(0).getUserEmail()
-            ));
-        } else if (courtListSize == LOCK_AMOUNT_PER_COURT && courtLockEntityList.get(0).getUserEmail().equals(courtUserEmail)) {
-            // If we have one row, and the name is the same as the incoming name, update it
-            log.debug("Updating court lock for slug {} and user {}", courtSlug, courtUserEmail);
-            return updateCourtLock(courtSlug, courtUserEmail);
-        } else if (courtListSize > LOCK_AMOUNT_PER_COURT) {
-            throw new LockExistsException(String.format(
-                "More than one lock exists for %s: %s",
-                courtSlug,
-                Arrays.toString(courtLockEntityList.toArray())
-            ));
-        } else {
-            // If it exists, delete and update the resource
-            log.debug("Creating court lock for slug {} and user {}", courtSlug, courtUserEmail);
-            courtLock.setLockAcquired(LocalDateTime.now(ZoneOffset.UTC));
-            CourtLock savedCourtLock = new CourtLock(courtLockRepository.save(new uk.gov.hmcts.dts.fact.entity.CourtLock(
-                courtLock)));
-            adminAuditService.saveAudit(
-                AuditType.findByName("Create court lock"),
-                courtLockEntityList,
-                savedCourtLock,
-                courtLock.getCourtSlug()
-            );
-            return savedCourtLock;
-        }
+        return acquireLock(courtLock.getCourtSlug(), courtLock.getUserEmail());
     }
 
     /**
@@ -159,12 +131,14 @@ public class AdminCourtLockService {
     public List<CourtLock> deleteCourtLockByEmail(String userEmail) {
         List<uk.gov.hmcts.dts.fact.entity.CourtLock> courtLockList =
             courtLockRepository.deleteAllByUserEmail(userEmail);
-        adminAuditService.saveAudit(
-            AuditType.findByName("Delete court lock"),
-            courtLockList,
-            null,
-            null
-        );
+        if (!courtLockList.isEmpty()) {
+            adminAuditService.saveAudit(
+                AuditType.findByName("Delete court lock"),
+                courtLockList,
+                null,
+                null
+            );
+        }
         return courtLockList.stream().map(CourtLock::new).collect(Collectors.toList());
     }
 
@@ -177,50 +151,86 @@ public class AdminCourtLockService {
      *
      * <p>The timeout for a lock is based upon the most recent action time of the user who has it allocated to them.
      * This is to ensure that if a user quits the admin portal by closing their browser, that
-     * the lock is not indefinitely attributed to them.</p>
+     * the lock is not indefinitely attributed to them. A refresh is not audited, only a change of the
+     * user holding the lock.</p>
      *
      * @param courtSlug the court slug.
      * @param userEmail the users email, for example kupocat@justice.cat.meow.
      * @return The updated court lock object.
      */
+    @Transactional
     public CourtLock updateCourtLock(String courtSlug, String userEmail) {
-        List<uk.gov.hmcts.dts.fact.entity.CourtLock> courtLockList =
-            courtLockRepository.findCourtLockByCourtSlugAndUserEmail(courtSlug, userEmail);
+        return acquireLock(courtSlug, userEmail);
+    }
 
-        if (courtLockList.isEmpty()) {
-            // If a user attempts to update a lock, and no row exists for the slug at all,
-            // apply the lock to them
-            log.debug("When updating user: {}, no row was found. Creating lock now for court: {}",
-                      userEmail, courtSlug
+    /**
+     * Remove the locks which have not been refreshed within their time to live. Locks being refreshed at the
+     * moment are left alone, as are locks on other instances' rows being swept at the same time.
+     */
+    @Scheduled(fixedDelayString = "${court-lock.sweep-millis:60000}")
+    public void deleteExpiredCourtLocks() {
+        final int deleted = courtLockRepository.deleteExpired(LocalDateTime.now(ZoneOffset.UTC).minus(ttl));
+        if (deleted > 0) {
+            log.info("Removed {} expired court locks", deleted);
+        }
+    }
+
+    /**
+     * The lock row is locked while it is checked and refreshed, and a new lock is only added if no other user
+     * added one first, so two users cannot both acquire a court.
+     */
+    private CourtLock acquireLock(String courtSlug, String userEmail) {
+        final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        final Optional<uk.gov.hmcts.dts.fact.entity.CourtLock> current =
+            courtLockRepository.findForUpdateByCourtSlug(courtSlug);
+
+        if (current.isEmpty()) {
+            if (courtLockRepository.insertIfAbsent(now, userEmail, courtSlug) == 0) {
+                // Another user acquired the court since it was read
+                throw lockExists(courtSlug, courtLockRepository.findCourtLockByCourtSlug(courtSlug));
+            }
+            log.debug("Creating court lock for slug {} and user {}", courtSlug, userEmail);
+            final CourtLock savedCourtLock = new CourtLock(courtLockRepository.findCourtLockByCourtSlug(courtSlug).get(0));
+            adminAuditService.saveAudit(
+                AuditType.findByName("Create court lock"),
+                Collections.emptyList(),
+                savedCourtLock,
+                courtSlug
             );
-            return addNewCourtLock(new CourtLock(
-                LocalDateTime.now(ZoneOffset.UTC),
-                courtSlug,
-                userEmail
-            ));
-        } else if (courtLockList.size() > LOCK_AMOUNT_PER_COURT) {
-            throw new LockExistsException(String.format(
-                "More than one lock exists for %s: %s",
-                courtSlug,
-                Arrays.toString(courtLockList.toArray())
-            ));
+            return savedCourtLock;
         }
-        LocalDateTime newTime = LocalDateTime.now(ZoneOffset.UTC);
+
+        final uk.gov.hmcts.dts.fact.entity.CourtLock lock = current.get();
+        if (userEmail.equals(lock.getUserEmail())) {
+            log.debug("Refreshing court lock for slug {} and user {}", courtSlug, userEmail);
+            lock.setLockAcquired(now);
+            return new CourtLock(courtLockRepository.save(lock));
+        }
+        if (!lock.getLockAcquired().isBefore(now.minus(ttl))) {
+            throw lockExists(courtSlug, List.of(lock));
+        }
+
+        log.debug("Taking over expired court lock for slug {} from user {} for user {}",
+                  courtSlug, lock.getUserEmail(), userEmail);
+        final CourtLock expiredCourtLock = new CourtLock(lock);
+        lock.setUserEmail(userEmail);
+        lock.setLockAcquired(now);
+        final CourtLock savedCourtLock = new CourtLock(courtLockRepository.save(lock));
         adminAuditService.saveAudit(
-            AuditType.findByName("Update court lock"),
-            String.format(
-                "User %s has a lock acquired time (before) of: %s",
-                courtLockList.get(0).getUserEmail(),
-                courtLockList.get(0).getLockAcquired()
-            ),
-            String.format(
-                "User %s has a lock acquired time (after) of: %s",
-                courtLockList.get(0).getUserEmail(),
-                newTime
-            ),
+            AuditType.findByName("Create court lock"),
+            List.of(expiredCourtLock),
+            savedCourtLock,
             courtSlug
         );
-        courtLockList.get(0).setLockAcquired(newTime);
-        return new CourtLock(courtLockRepository.save(courtLockList.get(0)));
+        return savedCourtLock;
+    }
+
+    private static LockExistsException lockExists(String courtSlug,
+                                                  List<uk.gov.hmcts.dts.fact.entity.CourtLock> courtLocks) {
+        return new LockExistsException(String.format(
+            "Lock for court '%s' is currently held by user '%s'",
+            courtSlug,
+            courtLocks.isEmpty() ? "unknown" : courtLocks.get(0).getUserEmail()
+        ));
     }
 }
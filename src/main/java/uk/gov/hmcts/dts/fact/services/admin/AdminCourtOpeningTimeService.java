@@ -1,15 +1,19 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtOpeningTime;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningTime;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningType;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.OpeningTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
 import java.util.ArrayList;
@@ -28,20 +32,28 @@ public class AdminCourtOpeningTimeService {
     private final CourtRepository courtRepository;
     private final OpeningTypeRepository openingTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Constructor for the AdminCourtOpeningTimeService.
      * @param courtRepository The repository for court
      * @param openingTypeRepository The repository for opening type
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
+     * @param referenceDataCache The cache for reference data
      */
     @Autowired
     public AdminCourtOpeningTimeService(final CourtRepository courtRepository,
                                         final OpeningTypeRepository openingTypeRepository,
-                                        final AdminAuditService adminAuditService) {
+                                        final AdminAuditService adminAuditService,
+                                        final ApplicationEventPublisher eventPublisher,
+                                        final ReferenceDataCache referenceDataCache) {
         this.courtRepository = courtRepository;
         this.openingTypeRepository = openingTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -75,6 +87,7 @@ public class AdminCourtOpeningTimeService {
             AuditType.findByName("Update court opening times"),
             originalOpeningTimes,
             updatedOpeningTimes, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return updatedOpeningTimes;
     }
 
@@ -83,7 +96,7 @@ public class AdminCourtOpeningTimeService {
      * @return The opening types for a court
      */
     public List<OpeningType> getAllCourtOpeningTypes() {
-        return openingTypeRepository.findAll()
+        return getOpeningTypes()
             .stream()
             .map(OpeningType::new)
             .sorted(Comparator.comparing(OpeningType::getType))
@@ -136,11 +149,15 @@ public class AdminCourtOpeningTimeService {
      * @return The opening types for the court
      */
     private Map<Integer, uk.gov.hmcts.dts.fact.entity.OpeningType> getOpeningTypeMap() {
-        return openingTypeRepository.findAll()
+        return getOpeningTypes()
             .stream()
             .collect(toMap(uk.gov.hmcts.dts.fact.entity.OpeningType::getId, type -> type));
     }
 
+    private List<uk.gov.hmcts.dts.fact.entity.OpeningType> getOpeningTypes() {
+        return referenceDataCache.get(ReferenceData.OPENING_TYPES, openingTypeRepository::findAll);
+    }
+
     /**
      * Get the new court opening times.
      * @return The court opening times
@@ -2,6 +2,8 @@ package uk.gov.hmcts.dts.fact.services.admin;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -10,42 +12,74 @@ import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeExistedException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeNotFoundException;
+import uk.gov.hmcts.dts.fact.model.admin.CourtPostcodeCatchmentUpdate;
 import uk.gov.hmcts.dts.fact.repositories.CourtPostcodeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.util.AuditType;
-import uk.gov.hmcts.dts.fact.util.Utils;
+import uk.gov.hmcts.dts.fact.util.Postcode;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
-import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Service for admin court postcode data.
+ *
+ * <p>Postcodes are added, deleted and replaced with set-based statements: the existing postcodes of the court are
+ * read once, new postcodes are inserted in batches and removed postcodes deleted with one statement. A court cannot
+ * hold the same postcode twice, which the database enforces.</p>
  */
 @Service
 @Slf4j
-@SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.TooManyMethods"})
 public class AdminCourtPostcodeService {
+    static final String EXISTING_SQL = "SELECT postcode FROM search_courtpostcode WHERE court_id = ?";
+    static final String INSERT_SQL = "INSERT INTO search_courtpostcode (postcode, court_id) VALUES (?, ?) "
+        + "ON CONFLICT (court_id, postcode) DO NOTHING";
+    static final String DELETE_SQL = "DELETE FROM search_courtpostcode WHERE court_id = ? AND postcode = ANY (?) "
+        + "RETURNING postcode";
+
+    private static final String POSTCODE_HEADER = "postcode";
+
     private final CourtRepository courtRepository;
     private final CourtPostcodeRepository courtPostcodeRepository;
     private final AdminAuditService adminAuditService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
 
     /**
      * Constructor for the AdminCourtPostcodeService.
      * @param courtRepository The repository for court
      * @param courtPostcodeRepository The repository for court postcode
      * @param adminAuditService The service for admin audit
+     * @param jdbcTemplate The template used to add and delete postcodes in batches
+     * @param batchSize The number of postcodes inserted per batch
      */
     @Autowired
     public AdminCourtPostcodeService(final CourtRepository courtRepository,
                                      final CourtPostcodeRepository courtPostcodeRepository,
-                                     final AdminAuditService adminAuditService) {
+                                     final AdminAuditService adminAuditService,
+                                     final JdbcTemplate jdbcTemplate,
+                                     @Value("${court-postcode.batch-size:1000}") final int batchSize) {
         this.courtRepository = courtRepository;
         this.courtPostcodeRepository = courtPostcodeRepository;
         this.adminAuditService = adminAuditService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -63,11 +97,11 @@ public class AdminCourtPostcodeService {
      * @param postcodes The postcodes
      */
     private void checkPostcodesExist(List<CourtPostcode> sourceCourtPostcodes, List<String> postcodes) {
-        final List<String> sourcePostcodes = sourceCourtPostcodes.stream()
+        final Set<String> sourcePostcodes = sourceCourtPostcodes.stream()
             .map(CourtPostcode::getPostcode)
-            .collect(toList());
+            .collect(toSet());
         final List<String> invalidPostcodes = postcodes.stream()
-            .filter(p -> !sourcePostcodes.contains(upperCaseAndStripAllSpaces(p)))
+            .filter(p -> !sourcePostcodes.contains(Postcode.normalise(p)))
             .collect(toList());
         if (!CollectionUtils.isEmpty(invalidPostcodes)) {
             log.warn("Postcodes do not exist for specified slug (for requested deletion). "
@@ -82,11 +116,11 @@ public class AdminCourtPostcodeService {
      * @param postcodes The postcodes
      */
     public void checkPostcodesDoNotExist(final String destinationSlug, final List<String> postcodes) {
-        final List<String> destPostcodes = getCourtPostcodes(destinationSlug, postcodes).stream()
+        final Set<String> destPostcodes = getCourtPostcodes(destinationSlug, postcodes).stream()
             .map(CourtPostcode::getPostcode)
-            .collect(toList());
+            .collect(toSet());
         final List<String> duplicatedPostcodes = postcodes.stream()
-            .filter(p -> destPostcodes.contains(upperCaseAndStripAllSpaces(p)))
+            .filter(p -> destPostcodes.contains(Postcode.normalise(p)))
             .collect(toList());
         if (!CollectionUtils.isEmpty(duplicatedPostcodes)) {
             log.warn("Postcodes already exist in destination table: {}", duplicatedPostcodes);
@@ -109,7 +143,8 @@ public class AdminCourtPostcodeService {
     }
 
     /**
-     * Add postcodes to a court by slug.
+     * Add postcodes to a court by slug. Postcodes the court already has, or which are given more than once, are
+     * only added once.
      * @param slug The slug of the court
      * @param postcodes The postcodes to add
      * @return The postcodes added to the court
@@ -117,23 +152,16 @@ public class AdminCourtPostcodeService {
     @Transactional()
     public List<String> addCourtPostcodes(final String slug, final List<String> postcodes) {
         final Court courtEntity = getCourtEntity(slug);
-        final List<String> originalPostcodes = courtEntity.getCourtPostcodes()
-            .stream()
-            .map(CourtPostcode::getPostcode)
-            .collect(toList());
-        List<String> newPostcodes = createNewCourtPostcodesEntity(courtEntity, postcodes).stream()
-            .filter(p -> !postcodeExists(
-                courtEntity,
-                p.getPostcode()
-            )) // If the same valid postcode entered more than once, we only add a single one
-            .map(courtPostcodeRepository::save)
-            .map(CourtPostcode::getPostcode)
-            .collect(toList());
+        final List<String> originalPostcodes = findPostcodes(courtEntity);
+        final Set<String> newPostcodes = normalise(postcodes);
+        newPostcodes.removeAll(originalPostcodes);
+        final List<String> addedPostcodes = new ArrayList<>(newPostcodes);
+        insertPostcodes(courtEntity, addedPostcodes);
         adminAuditService.saveAudit(
             AuditType.findByName("Create court postcodes"),
             originalPostcodes,
-            newPostcodes, slug);
-        return newPostcodes;
+            addedPostcodes, slug);
+        return addedPostcodes;
     }
 
     /**
@@ -145,25 +173,84 @@ public class AdminCourtPostcodeService {
     @Transactional()
     public int deleteCourtPostcodes(final String slug, final List<String> postcodes) {
         final Court courtEntity = getCourtEntity(slug);
-        final List<String> originalPostcodes = courtEntity.getCourtPostcodes()
-            .stream()
-            .map(CourtPostcode::getPostcode)
-            .collect(toList());
-
-        int deletedPostcodes = postcodes.stream()
-            .map(p -> courtPostcodeRepository.deleteByCourtIdAndPostcode(
-                courtEntity.getId(),
-                upperCaseAndStripAllSpaces(p)
-            ))
-            .mapToInt(List::size)
-            .sum();
+        final List<String> originalPostcodes = findPostcodes(courtEntity);
+        final List<String> deletedPostcodes = deletePostcodes(courtEntity, normalise(postcodes));
+        final List<String> remainingPostcodes = new ArrayList<>(originalPostcodes);
+        remainingPostcodes.removeAll(deletedPostcodes);
 
         adminAuditService.saveAudit(
             AuditType.findByName("Delete court postcodes"),
             originalPostcodes,
-            getCourtPostcodesBySlug(slug),
+            remainingPostcodes,
             null);
-        return deletedPostcodes;
+        return deletedPostcodes.size();
+    }
+
+    /**
+     * Replace the postcodes of a court by slug. The existing postcodes are read once and compared with those
+     * given: postcodes the court no longer covers are deleted and new postcodes inserted, leaving the rest alone.
+     * @param slug The slug of the court
+     * @param postcodes The postcodes the court should cover
+     * @return The number of postcodes added, removed and left unchanged, and the number of repeated postcodes
+     */
+    @Transactional()
+    public CourtPostcodeCatchmentUpdate replaceCourtPostcodes(final String slug, final List<String> postcodes) {
+        if (postcodes.isEmpty()) {
+            throw new IllegalArgumentException("No postcodes given for court " + slug);
+        }
+        final Court courtEntity = getCourtEntity(slug);
+        final Set<String> requiredPostcodes = normalise(postcodes);
+        final Set<String> existingPostcodes = new HashSet<>(findPostcodes(courtEntity));
+
+        final List<String> postcodesToRemove = new ArrayList<>();
+        for (final String postcode : existingPostcodes) {
+            if (!requiredPostcodes.contains(postcode)) {
+                postcodesToRemove.add(postcode);
+            }
+        }
+        final List<String> postcodesToAdd = new ArrayList<>();
+        for (final String postcode : requiredPostcodes) {
+            if (!existingPostcodes.contains(postcode)) {
+                postcodesToAdd.add(postcode);
+            }
+        }
+
+        final List<String> removedPostcodes = deletePostcodes(courtEntity, postcodesToRemove);
+        insertPostcodes(courtEntity, postcodesToAdd);
+
+        adminAuditService.saveAudit(
+            AuditType.findByName("Update court postcodes"),
+            removedPostcodes,
+            postcodesToAdd, slug);
+        return new CourtPostcodeCatchmentUpdate(
+            postcodesToAdd.size(),
+            removedPostcodes.size(),
+            requiredPostcodes.size() - postcodesToAdd.size(),
+            postcodes.size() - requiredPostcodes.size()
+        );
+    }
+
+    /**
+     * Read the postcodes from a CSV file, taking the first column of each line. A header line with a first column
+     * of "postcode" and blank lines are skipped. The file is read a line at a time.
+     * @param csv The CSV file
+     * @return The postcodes, in the order they appear in the file
+     */
+    public List<String> readPostcodes(final InputStream csv) {
+        final List<String> postcodes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                final String postcode = AdminPostcodeGazetteerService.splitCsvLine(line).get(0).trim();
+                if (!postcode.isEmpty() && !POSTCODE_HEADER.equalsIgnoreCase(postcode)) {
+                    postcodes.add(postcode);
+                }
+                line = reader.readLine();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return postcodes;
     }
 
     /**
@@ -205,29 +292,44 @@ public class AdminCourtPostcodeService {
         return postcodesMoved;
     }
 
-    /**
-     * Update postcodes for a court by slug.
-     * @param slug The slug of the court
-     * @param postcodes The postcodes to update
-     * @return The updated postcodes for the court
-     */
-    private boolean postcodeExists(final Court court, final String postcode) {
-        return !courtPostcodeRepository.findByCourtIdAndPostcode(
-            court.getId(),
-            upperCaseAndStripAllSpaces(postcode)
-        ).isEmpty();
+    private List<String> findPostcodes(final Court court) {
+        return jdbcTemplate.queryForList(EXISTING_SQL, String.class, court.getId());
+    }
+
+    private void insertPostcodes(final Court court, final List<String> postcodes) {
+        if (!postcodes.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, postcodes, batchSize, (statement, postcode) -> {
+                statement.setString(1, postcode);
+                statement.setInt(2, court.getId());
+            });
+        }
+    }
+
+    private List<String> deletePostcodes(final Court court, final Collection<String> postcodes) {
+        if (postcodes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jdbcTemplate.query(
+            DELETE_SQL,
+            statement -> {
+                statement.setInt(1, court.getId());
+                statement.setArray(2, statement.getConnection().createArrayOf("varchar", postcodes.toArray()));
+            },
+            (result, rowNum) -> result.getString(1)
+        );
     }
 
     /**
-     * Create new court postcodes entity.
-     * @param court The court entity
-     * @param postcodes The postcodes to create
-     * @return The new court postcodes entity
+     * Upper case the postcodes and strip their spaces, dropping any repeated postcodes.
+     * @param postcodes The postcodes
+     * @return The distinct postcodes, in the order given
      */
-    private List<CourtPostcode> createNewCourtPostcodesEntity(final Court court, final List<String> postcodes) {
-        return postcodes.stream()
-            .map(p -> new CourtPostcode(upperCaseAndStripAllSpaces(p), court))
-            .collect(toList());
+    private static Set<String> normalise(final List<String> postcodes) {
+        final Set<String> normalised = new LinkedHashSet<>();
+        for (final String postcode : postcodes) {
+            normalised.add(Postcode.normalise(postcode));
+        }
+        return normalised;
     }
 
     /**
@@ -253,7 +355,7 @@ public class AdminCourtPostcodeService {
     private List<CourtPostcode> getCourtPostcodes(String slug, List<String> postcodes) {
         final Court courtEntity = getCourtEntity(slug);
         final List<String> postcodesToRetrieve = postcodes.stream()
-            .map(Utils::upperCaseAndStripAllSpaces)
+            .map(Postcode::normalise)
             .collect(toList());
         return courtPostcodeRepository.findByCourtIdAndPostcodeIn(courtEntity.getId(), postcodesToRetrieve);
     }
@@ -1,10 +1,12 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLawSpoe;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.SpoeAreaOfLaw;
@@ -26,18 +28,22 @@ public class AdminCourtSpoeAreasOfLawService {
     private final CourtRepository courtRepository;
     private final AdminAuditService adminAuditService;
     private final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminCourtSpoeAreasOfLawService.
      * @param courtRepository The repository for court
      * @param courtAreaOfLawSpoeRepository The repository for court area of law spoe
      * @param adminAuditService The service for admin audit
+     * @param eventPublisher The publisher for court changed events
      */
     @Autowired
-    public AdminCourtSpoeAreasOfLawService(final CourtRepository courtRepository, final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository, final AdminAuditService adminAuditService) {
+    public AdminCourtSpoeAreasOfLawService(final CourtRepository courtRepository, final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository, final AdminAuditService adminAuditService,
+                                           final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtAreaOfLawSpoeRepository = courtAreaOfLawSpoeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -95,6 +101,7 @@ public class AdminCourtSpoeAreasOfLawService {
                                     originalCourtAol,
                                     newSpoeAreaOfLawList,
                                     slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return newSpoeAreaOfLawList;
     }
 
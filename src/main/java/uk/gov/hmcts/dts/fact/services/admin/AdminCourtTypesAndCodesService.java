@@ -1,9 +1,11 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtDxCode;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.CourtType;
 import uk.gov.hmcts.dts.fact.model.admin.CourtTypesAndCodes;
@@ -11,6 +13,8 @@ import uk.gov.hmcts.dts.fact.model.admin.DxCode;
 import uk.gov.hmcts.dts.fact.repositories.CourtDxCodesRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 import uk.gov.hmcts.dts.fact.util.MapCourtCode;
 
 import java.util.List;
@@ -26,6 +30,8 @@ public class AdminCourtTypesAndCodesService {
     private final CourtTypeRepository courtTypeRepository;
     private final MapCourtCode mapCourtCode;
     private final CourtDxCodesRepository courtDxCodesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Constructor for the AdminCourtTypesAndCodesService.
@@ -33,14 +39,20 @@ public class AdminCourtTypesAndCodesService {
      * @param courtTypeRepository The repository for court type
      * @param mapCourtCode The utility for mapping court codes
      * @param courtDxCodesRepository The repository for court dx codes
+     * @param eventPublisher The publisher for court changed events
+     * @param referenceDataCache The cache for reference data
      */
     @Autowired
     public AdminCourtTypesAndCodesService(final CourtRepository courtRepository, final CourtTypeRepository courtTypeRepository,
-                                          final MapCourtCode mapCourtCode, final CourtDxCodesRepository courtDxCodesRepository) {
+                                          final MapCourtCode mapCourtCode, final CourtDxCodesRepository courtDxCodesRepository,
+                                          final ApplicationEventPublisher eventPublisher,
+                                          final ReferenceDataCache referenceDataCache) {
         this.courtRepository = courtRepository;
         this.courtTypeRepository = courtTypeRepository;
         this.mapCourtCode = mapCourtCode;
         this.courtDxCodesRepository = courtDxCodesRepository;
+        this.eventPublisher = eventPublisher;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -48,7 +60,7 @@ public class AdminCourtTypesAndCodesService {
      * @return The court types
      */
     public List<CourtType> getAllCourtTypes() {
-        return  courtTypeRepository.findAll()
+        return referenceDataCache.get(ReferenceData.COURT_TYPES, courtTypeRepository::findAll)
             .stream()
             .map(CourtType::new)
             .collect(toList());
@@ -102,8 +114,9 @@ public class AdminCourtTypesAndCodesService {
     public CourtTypesAndCodes updateCourtTypesAndCodes(final String slug, final CourtTypesAndCodes courtTypesAndCodes) {
         final Court courtEntity = courtRepository.findBySlug(slug)
             .orElseThrow(() -> new NotFoundException(slug));
-        return saveNewCourtTypesAndCodes(courtEntity, courtTypesAndCodes);
-
+        final CourtTypesAndCodes updatedCourtTypesAndCodes = saveNewCourtTypesAndCodes(courtEntity, courtTypesAndCodes);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
+        return updatedCourtTypesAndCodes;
     }
 
     /**
@@ -0,0 +1,258 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.event.CatchmentChangedEvent;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeGazetteerImport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+
+/**
+ * Service for loading the offline postcode gazetteer.
+ *
+ * <p>The input is a CSV file in the style of the ONS Postcode Directory. It is read a line at a time and
+ * written in batches, so the whole file is never held in memory. The file replaces the gazetteer in a single
+ * transaction, so lookups carry on using the previous gazetteer until the import is committed, and a failed import
+ * leaves it unchanged.</p>
+ */
+@Service
+@Slf4j
+@SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+public class AdminPostcodeGazetteerService {
+    static final String DELETE_SQL = "DELETE FROM search_postcodegazetteer";
+    static final String UPSERT_SQL = "INSERT INTO search_postcodegazetteer "
+        + "(postcode, outcode, sector, lat, lon, local_authority_code, local_authority_name, region_name, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, now()) "
+        + "ON CONFLICT (postcode) DO UPDATE SET "
+        + "outcode = excluded.outcode, sector = excluded.sector, lat = excluded.lat, lon = excluded.lon, "
+        + "local_authority_code = excluded.local_authority_code, "
+        + "local_authority_name = excluded.local_authority_name, "
+        + "region_name = excluded.region_name, updated_at = excluded.updated_at";
+
+    // ONSPD uses 99.999999 as the latitude of postcodes without a grid reference
+    private static final double NO_GRID_REFERENCE_LATITUDE = 99.0;
+    private static final int INWARD_CODE_LENGTH = 3;
+    private static final int MIN_POSTCODE_LENGTH = 5;
+    private static final int MAX_POSTCODE_LENGTH = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    /**
+     * Constructor for the AdminPostcodeGazetteerService.
+     * @param jdbcTemplate The template used to write the gazetteer in batches
+     * @param eventPublisher The publisher for the catchment changed event sent after an import
+     * @param batchSize The number of rows written per batch
+     */
+    @Autowired
+    public AdminPostcodeGazetteerService(final JdbcTemplate jdbcTemplate,
+                                         final ApplicationEventPublisher eventPublisher,
+                                         @Value("${postcode-gazetteer.import-batch-size:1000}") final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import postcodes into the gazetteer.
+     *
+     * <p>The header row must contain a postcode column (pcds, pcd or postcode), a latitude column
+     * (lat or latitude) and a longitude column (long, lon or longitude). The local authority code
+     * (oslaua, laua or local_authority_code), local authority name (local_authority_name), region
+     * name (region_name) and termination date (doterm) columns are optional. Terminated postcodes
+     * and postcodes without a grid reference are skipped. A postcode imported without its local authority
+     * name or region name is only used to locate partial postcodes; a search for it still asks mapit.</p>
+     *
+     * <p>Postcodes held before the import which are not in the file, such as those since terminated, are removed.
+     * A file without any postcodes to import is rejected rather than emptying the gazetteer.</p>
+     *
+     * @param csv the CSV file
+     * @return the number of postcodes imported and skipped
+     */
+    @Transactional
+    public PostcodeGazetteerImport importPostcodes(final InputStream csv) {
+        long imported = 0;
+        long skipped = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            final String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("Postcode gazetteer file is empty");
+            }
+            final Columns columns = new Columns(splitCsvLine(header));
+            final List<Object[]> batch = new ArrayList<>(batchSize);
+            // Deleted rather than truncated, so that lookups are not blocked while the import runs
+            jdbcTemplate.update(DELETE_SQL);
+
+            String line = reader.readLine();
+            while (line != null) {
+                final Optional<Object[]> row = columns.toRow(splitCsvLine(line));
+                if (row.isPresent()) {
+                    batch.add(row.get());
+                    if (batch.size() >= batchSize) {
+                        imported += writeBatch(batch);
+                    }
+                } else {
+                    skipped++;
+                }
+                line = reader.readLine();
+            }
+            imported += writeBatch(batch);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (imported == 0) {
+            throw new IllegalArgumentException("Postcode gazetteer file has no postcodes to import");
+        }
+
+        eventPublisher.publishEvent(new CatchmentChangedEvent());
+        log.info("Postcode gazetteer import complete. Imported: {} Skipped: {}", imported, skipped);
+        return new PostcodeGazetteerImport(imported, skipped);
+    }
+
+    private int writeBatch(final List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, List.copyOf(batch));
+        final int written = batch.size();
+        batch.clear();
+        return written;
+    }
+
+    /**
+     * Split a CSV line into its fields, allowing for quoted fields containing commas and escaped quotes.
+     *
+     * @param line the line
+     * @return the unquoted fields
+     */
+    static List<String> splitCsvLine(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int index = 0;
+        while (index < line.length()) {
+            final char ch = line.charAt(index);
+            if (ch == '"' && quoted && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                field.append('"');
+                index++;
+            } else if (ch == '"') {
+                quoted = !quoted;
+            } else if (ch == ',' && !quoted) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+            index++;
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    /**
+     * The positions of the columns of interest, taken from the header row.
+     */
+    private static final class Columns {
+        private final int postcode;
+        private final int lat;
+        private final int lon;
+        private final int localAuthorityCode;
+        private final int localAuthorityName;
+        private final int regionName;
+        private final int terminated;
+
+        Columns(final List<String> header) {
+            final List<String> names = header.stream().map(h -> h.toLowerCase(Locale.ROOT)).toList();
+            postcode = required(names, "postcode", "pcds", "pcd", "postcode");
+            lat = required(names, "latitude", "lat", "latitude");
+            lon = required(names, "longitude", "long", "lon", "longitude");
+            localAuthorityCode = indexOf(names, "oslaua", "laua", "local_authority_code");
+            localAuthorityName = indexOf(names, "local_authority_name");
+            regionName = indexOf(names, "region_name");
+            terminated = indexOf(names, "doterm");
+        }
+
+        /**
+         * Convert a line of the file to the parameters of the upsert.
+         *
+         * @param fields the fields of the line
+         * @return the parameters, or empty if the line should be skipped
+         */
+        Optional<Object[]> toRow(final List<String> fields) {
+            if (StringUtils.isNotBlank(field(fields, terminated))) {
+                return Optional.empty();
+            }
+            final String normalisedPostcode = upperCaseAndStripAllSpaces(StringUtils.defaultString(field(fields, postcode)));
+            final Double latitude = parseCoordinate(field(fields, lat));
+            final Double longitude = parseCoordinate(field(fields, lon));
+            if (normalisedPostcode.length() < MIN_POSTCODE_LENGTH || normalisedPostcode.length() > MAX_POSTCODE_LENGTH
+                || latitude == null || longitude == null || latitude > NO_GRID_REFERENCE_LATITUDE) {
+                return Optional.empty();
+            }
+
+            final String outcode = normalisedPostcode.substring(0, normalisedPostcode.length() - INWARD_CODE_LENGTH);
+            final String sector = outcode + " " + normalisedPostcode.charAt(outcode.length());
+            return Optional.of(new Object[]{
+                normalisedPostcode,
+                outcode,
+                sector,
+                latitude,
+                longitude,
+                StringUtils.trimToNull(field(fields, localAuthorityCode)),
+                StringUtils.trimToNull(field(fields, localAuthorityName)),
+                StringUtils.trimToNull(field(fields, regionName))
+            });
+        }
+
+        private static String field(final List<String> fields, final int index) {
+            return index >= 0 && index < fields.size() ? fields.get(index) : null;
+        }
+
+        private static Double parseCoordinate(final String value) {
+            if (StringUtils.isBlank(value)) {
+                return null;
+            }
+            try {
+                return Double.valueOf(value);
+            } catch (final NumberFormatException ex) {
+                return null;
+            }
+        }
+
+        private static int required(final List<String> names, final String description, final String... aliases) {
+            final int index = indexOf(names, aliases);
+            if (index < 0) {
+                throw new IllegalArgumentException("Postcode gazetteer file has no " + description + " column");
+            }
+            return index;
+        }
+
+        private static int indexOf(final List<String> names, final String... aliases) {
+            for (final String alias : aliases) {
+                final int index = names.indexOf(alias);
+                if (index >= 0) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package uk.gov.hmcts.dts.fact.services.admin;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.model.admin.Region;
 import uk.gov.hmcts.dts.fact.repositories.RegionRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 
 import java.util.Comparator;
 import java.util.List;
@@ -17,13 +19,16 @@ import static java.util.stream.Collectors.toMap;
 @Service
 public class AdminRegionService {
     private final RegionRepository regionRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Constructor for the AdminRegionService.
      * @param regionRepository The repository for region
+     * @param referenceDataCache The cache for reference data
      */
-    public AdminRegionService(RegionRepository regionRepository) {
+    public AdminRegionService(RegionRepository regionRepository, ReferenceDataCache referenceDataCache) {
         this.regionRepository = regionRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -31,7 +36,7 @@ public class AdminRegionService {
      * @return The regions
      */
     public List<Region> getAllRegions() {
-        return regionRepository.findAll()
+        return getRegions()
             .stream()
             .map(Region::new)
             .sorted(Comparator.comparing(Region::getName))
@@ -39,8 +44,12 @@ public class AdminRegionService {
     }
 
     public Map<Integer, uk.gov.hmcts.dts.fact.entity.Region> getRegionMap() {
-        return regionRepository.findAll()
+        return getRegions()
             .stream()
             .collect(toMap(uk.gov.hmcts.dts.fact.entity.Region::getId, region -> region));
     }
+
+    private List<uk.gov.hmcts.dts.fact.entity.Region> getRegions() {
+        return referenceDataCache.get(ReferenceData.REGIONS, regionRepository::findAll);
+    }
 }
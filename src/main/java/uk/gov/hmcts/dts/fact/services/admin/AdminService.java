@@ -1,6 +1,7 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.config.security.RolesProvider;
@@ -10,6 +11,7 @@ import uk.gov.hmcts.dts.fact.entity.InPerson;
 import uk.gov.hmcts.dts.fact.entity.OpeningTime;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.entity.ServiceCentre;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.CourtForDownload;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
@@ -20,6 +22,7 @@ import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.CourtReferenceCache;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 import uk.gov.hmcts.dts.fact.util.RepoUtils;
 import uk.gov.hmcts.dts.fact.util.Utils;
@@ -40,6 +43,7 @@ import static java.util.stream.Collectors.toList;
  * Service for admin court data.
  */
 @Service
+@SuppressWarnings("PMD.ExcessiveImports")
 public class AdminService {
 
     private final CourtRepository courtRepository;
@@ -51,6 +55,8 @@ public class AdminService {
     private final CourtHistoryRepository courtHistoryRepository;
 
     private final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CourtReferenceCache courtReferenceCache;
 
     private static final String INTRO_PARAGRAPH = "This location services all of England and Wales for {serviceArea}. We do not provide an in-person service.";
     private static final String INTRO_PARAGRAPH_CY = "Mae’r lleoliad hwn yn gwasanaethu Cymru a Lloegr i gyd ar gyfer {serviceArea}. Nid ydym yn darparu gwasanaeth wyneb yn wyneb.";
@@ -62,6 +68,8 @@ public class AdminService {
      * @param adminAuditService The service for admin audit
      * @param serviceAreaRepository The repository for service area
      * @param areasOfLawRepository The repository for areas of law
+     * @param eventPublisher The publisher for court changed events
+     * @param courtReferenceCache The cache of court summaries
      */
     @Autowired
     public AdminService(final CourtRepository courtRepository,
@@ -70,7 +78,9 @@ public class AdminService {
                         final ServiceAreaRepository serviceAreaRepository,
                         final AreasOfLawRepository areasOfLawRepository,
                         CourtHistoryRepository courtHistoryRepository,
-                        CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository) {
+                        CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository,
+                        final ApplicationEventPublisher eventPublisher,
+                        final CourtReferenceCache courtReferenceCache) {
         this.courtRepository = courtRepository;
         this.rolesProvider = rolesProvider;
         this.adminAuditService = adminAuditService;
@@ -78,15 +88,17 @@ public class AdminService {
         this.areasOfLawRepository = areasOfLawRepository;
         this.courtHistoryRepository = courtHistoryRepository;
         this.courtLocalAuthorityAreaOfLawRepository = courtLocalAuthorityAreaOfLawRepository;
+        this.eventPublisher = eventPublisher;
+        this.courtReferenceCache = courtReferenceCache;
     }
 
     /**
      * Get all court references.
-     * @return The court references
+     * @return The court references, sorted by name
      */
     public List<CourtReference> getAllCourtReferences() {
-        return courtRepository
-            .findAll()
+        return courtReferenceCache
+            .getAll()
             .stream()
             .map(CourtReference::new)
             .collect(toList());
@@ -98,7 +110,7 @@ public class AdminService {
      */
     public List<CourtForDownload> getAllCourtsForDownload() {
         return courtRepository
-            .findAll()
+            .findAllForDownload()
             .stream()
             .map(CourtForDownload::new)
             .sorted(Comparator.comparing(CourtForDownload::getName))
@@ -172,6 +184,7 @@ public class AdminService {
             AuditType.findByName("Update court details"),
             court,
             updatedCourtModel, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
         return updatedCourtModel;
     }
 
@@ -182,6 +195,7 @@ public class AdminService {
     @Transactional
     public void updateMultipleCourtsInfo(CourtInfoUpdate info) {
         courtRepository.updateInfoForSlugs(info.getCourts(), info.getInfo(), info.getInfoCy());
+        info.getCourts().forEach(slug -> eventPublisher.publishEvent(new CourtChangedEvent(slug)));
     }
 
     /**
@@ -193,6 +207,7 @@ public class AdminService {
     @Transactional
     public void updateCourtLatLon(final String slug, final Double lat, final Double lon) {
         courtRepository.updateLatLonBySlug(slug, lat, lon);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
     }
 
     /**
@@ -203,6 +218,7 @@ public class AdminService {
     @Transactional
     public void updateCourtRegion(final String slug, final String region) {
         courtRepository.updateRegionBySlug(slug, region);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
     }
 
     /**
@@ -224,7 +240,9 @@ public class AdminService {
             throw new NotFoundException(slug);
         }
         court.get().setUpdatedAt(Timestamp.from(Instant.now()));
-        return courtRepository.updateCourtImageBySlug(slug, imageFile);
+        final String updatedImageFile = courtRepository.updateCourtImageBySlug(slug, imageFile);
+        eventPublisher.publishEvent(new CourtChangedEvent(slug));
+        return updatedImageFile;
     }
 
     /**
@@ -299,6 +317,7 @@ public class AdminService {
             AuditType.findByName("Create new court"),
             null,
             createdCourtModel, newCourtSlug);
+        eventPublisher.publishEvent(new CourtChangedEvent(newCourtSlug));
 
         return createdCourtModel;
     }
@@ -317,6 +336,7 @@ public class AdminService {
         courtHistoryRepository.deleteCourtHistoriesBySearchCourtId(court.getId());
         courtLocalAuthorityAreaOfLawRepository.deleteByCourtId(court.getId());
         courtRepository.deleteById(court.getId());
+        eventPublisher.publishEvent(new CourtChangedEvent(courtSlug));
     }
 
     /**
@@ -0,0 +1,212 @@
+package uk.gov.hmcts.dts.fact.services.admin.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.dts.fact.entity.Audit;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A transactional outbox for audits.
+ *
+ * <p>An audit is written to the outbox table in the transaction of the change it records, so it is only kept if
+ * the change is committed. Once the transaction has committed its id is put on a bounded queue, which a single
+ * background thread drains every {@code audit.flush-millis}, moving up to {@code audit.batch-size} audits at a
+ * time into the audit table with one statement. When the queue is full the audit stays in the outbox, as do
+ * audits left there by a failed move or a restart, and is moved by the sweep which runs every
+ * {@code audit.sweep-seconds}. Moving an audit deletes it from the outbox in the same statement, so an audit is
+ * never moved twice, even by two instances at once.</p>
+ *
+ * <p>The queue size, the number of audits which did not fit on the queue and the time taken to move each batch
+ * are published through micrometer.</p>
+ */
+@Component
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class AuditOutbox {
+    static final String INSERT_SQL = "INSERT INTO admin_audit_outbox "
+        + "(user_email, action_id, action_data_before, action_data_after, location, creation_time) "
+        + "VALUES (?, ?, ?, ?, ?, ?) RETURNING id";
+    static final String MOVE_SQL = "WITH moved AS ("
+        + "DELETE FROM admin_audit_outbox WHERE id = ANY (?) "
+        + "RETURNING id, user_email, action_id, action_data_before, action_data_after, location, creation_time) "
+        + "INSERT INTO admin_audit "
+        + "(user_email, action_id, action_data_before, action_data_after, location, creation_time) "
+        + "SELECT user_email, action_id, action_data_before, action_data_after, location, creation_time "
+        + "FROM moved ORDER BY id";
+    static final String PENDING_SQL = "SELECT id FROM admin_audit_outbox ORDER BY id LIMIT ?";
+
+    private static final String METRIC_PREFIX = "audit.outbox.";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Long> queue;
+    private final int batchSize;
+    private final long flushMillis;
+    private final long sweepSeconds;
+    private final Counter rejected;
+    private final Counter moved;
+    private final Timer moveTimer;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructor for the AuditOutbox.
+     * @param jdbcTemplate The template used to write and move the audits
+     * @param meterRegistry The registry the queue statistics are published to
+     * @param queueCapacity The maximum number of audits waiting to be moved from the queue
+     * @param batchSize The maximum number of audits moved by one statement
+     * @param flushMillis The interval at which the queue is drained, in milliseconds
+     * @param sweepSeconds The interval at which audits left in the outbox are moved, in seconds
+     */
+    @Autowired
+    public AuditOutbox(final JdbcTemplate jdbcTemplate,
+                       final MeterRegistry meterRegistry,
+                       @Value("${audit.queue-capacity:10000}") final int queueCapacity,
+                       @Value("${audit.batch-size:100}") final int batchSize,
+                       @Value("${audit.flush-millis:200}") final long flushMillis,
+                       @Value("${audit.sweep-seconds:60}") final long sweepSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.sweepSeconds = sweepSeconds;
+        Gauge.builder(METRIC_PREFIX + "queue.size", queue, Collection::size)
+            .description("Audits waiting to be moved from the outbox")
+            .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + "queue.rejected")
+            .description("Audits left for the sweep because the queue was full")
+            .register(meterRegistry);
+        this.moved = Counter.builder(METRIC_PREFIX + "moved")
+            .description("Audits moved from the outbox to the audit table")
+            .register(meterRegistry);
+        this.moveTimer = Timer.builder(METRIC_PREFIX + "move")
+            .description("Time taken to move a batch of audits")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Start moving audits. Audits left in the outbox by the last run are moved by the first sweep.
+     */
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "audit-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::sweep, 0, sweepSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stop moving audits, moving those already on the queue first.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(flushMillis * 10, TimeUnit.MILLISECONDS)) {
+                log.warn("Audit outbox did not stop in time; remaining audits will be moved on the next start");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Write an audit to the outbox, in the current transaction if there is one. It is queued to be moved to the
+     * audit table once the transaction has committed, or straight away if there is no transaction.
+     * @param audit The audit
+     */
+    public void add(final Audit audit) {
+        final Long id = jdbcTemplate.queryForObject(
+            INSERT_SQL,
+            Long.class,
+            audit.getUserEmail(),
+            audit.getAuditType() == null ? null : audit.getAuditType().getId(),
+            audit.getActionDataBefore(),
+            audit.getActionDataAfter(),
+            audit.getLocation(),
+            Timestamp.valueOf(audit.getCreationTime())
+        );
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(id);
+                }
+            });
+        } else {
+            enqueue(id);
+        }
+    }
+
+    /**
+     * Move the queued audits to the audit table, a batch at a time.
+     */
+    void flush() {
+        final List<Long> ids = new ArrayList<>(batchSize);
+        while (queue.drainTo(ids, batchSize) > 0) {
+            move(ids);
+            ids.clear();
+        }
+    }
+
+    /**
+     * Move every audit in the outbox to the audit table, a batch at a time.
+     */
+    void sweep() {
+        try {
+            List<Long> ids;
+            do {
+                ids = jdbcTemplate.queryForList(PENDING_SQL, Long.class, batchSize);
+            } while (!ids.isEmpty() && move(ids) && ids.size() == batchSize);
+        } catch (final DataAccessException ex) {
+            log.warn("Unable to read the audit outbox: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void enqueue(final Long id) {
+        if (!queue.offer(id)) {
+            // The audit is safe in the outbox, so is left there for the sweep rather than holding up the caller
+            rejected.increment();
+        }
+    }
+
+    private boolean move(final List<Long> ids) {
+        final Timer.Sample sample = Timer.start();
+        try {
+            final int count = jdbcTemplate.update(
+                MOVE_SQL,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("bigint", ids.toArray()))
+            );
+            sample.stop(moveTimer);
+            moved.increment(count);
+            return true;
+        } catch (final DataAccessException ex) {
+            // The audits stay in the outbox and are moved by the next sweep
+            log.warn("Unable to move {} audits from the outbox: {}", ids.size(), ex.getMessage(), ex);
+            return false;
+        }
+    }
+}
@@ -16,9 +16,11 @@ import static java.util.stream.Collectors.toMap;
 @Service
 public class AdminAddressTypeService {
     private final AddressTypeRepository addressTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public AdminAddressTypeService(AddressTypeRepository addressTypeRepository) {
+    public AdminAddressTypeService(AddressTypeRepository addressTypeRepository, ReferenceDataCache referenceDataCache) {
         this.addressTypeRepository = addressTypeRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -26,15 +28,19 @@ public class AdminAddressTypeService {
      * @return The address types
      */
     public List<AddressType> getAllAddressTypes() {
-        return addressTypeRepository.findAll()
+        return getAddressTypes()
             .stream()
             .map(AddressType::new)
             .collect(toList());
     }
 
     public Map<Integer, uk.gov.hmcts.dts.fact.entity.AddressType> getAddressTypeMap() {
-        return addressTypeRepository.findAll()
+        return getAddressTypes()
             .stream()
             .collect(toMap(uk.gov.hmcts.dts.fact.entity.AddressType::getId, type -> type));
     }
+
+    private List<uk.gov.hmcts.dts.fact.entity.AddressType> getAddressTypes() {
+        return referenceDataCache.get(ReferenceData.ADDRESS_TYPES, addressTypeRepository::findAll);
+    }
 }
@@ -2,8 +2,10 @@ package uk.gov.hmcts.dts.fact.services.admin.list;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
@@ -31,6 +33,8 @@ public class AdminAreasOfLawService {
     private final CourtAreaOfLawRepository courtAreaOfLawRepository;
     private final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepo;
     private final ServiceAreaRepository serviceAreaRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminAreasOfLawService.
@@ -39,6 +43,8 @@ public class AdminAreasOfLawService {
      * @param courtLocalAuthorityAreaOfLawRepo The repository for court local authority area of law
      * @param serviceAreaRepository The repository for service area
      * @param adminAuditService The service for admin audit
+     * @param referenceDataCache The cache for reference data
+     * @param eventPublisher The publisher for reference data changed events
      */
     @Autowired
     public AdminAreasOfLawService(
@@ -46,13 +52,17 @@ public class AdminAreasOfLawService {
         final CourtAreaOfLawRepository courtAreaOfLawRepository,
         final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepo,
         final ServiceAreaRepository serviceAreaRepository,
-        final AdminAuditService adminAuditService) {
+        final AdminAuditService adminAuditService,
+        final ReferenceDataCache referenceDataCache,
+        final ApplicationEventPublisher eventPublisher) {
 
         this.areasOfLawRepository = areasOfLawRepository;
         this.courtAreaOfLawRepository = courtAreaOfLawRepository;
         this.courtLocalAuthorityAreaOfLawRepo = courtLocalAuthorityAreaOfLawRepo;
         this.serviceAreaRepository = serviceAreaRepository;
         this.adminAuditService = adminAuditService;
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -73,7 +83,7 @@ public class AdminAreasOfLawService {
      * @return The areas of law
      */
     public List<AreaOfLaw> getAllAreasOfLaw() {
-        return areasOfLawRepository.findAll()
+        return referenceDataCache.get(ReferenceData.AREAS_OF_LAW, areasOfLawRepository::findAll)
             .stream()
             .map(AreaOfLaw::new)
             .collect(toList());
@@ -97,12 +107,13 @@ public class AdminAreasOfLawService {
             checkIfAreaOfLawAlreadyExists(updatedAreaOfLaw.getAlternativeName());
         }
 
-        final List<AreaOfLaw> originalAreasOfLaw = getAllAreasOfLaw();
+        final List<AreaOfLaw> originalAreasOfLaw = findAllAreasOfLaw();
         final uk.gov.hmcts.dts.fact.entity.AreaOfLaw entity = updateEntityPropertiesFromModel(updatedAreaOfLaw, areaOfLawEntity);
         AreaOfLaw newAreaOfLaw = new AreaOfLaw(areasOfLawRepository.save(entity));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.AREAS_OF_LAW));
         adminAuditService.saveAudit(AuditType.findByName("Update area of law"),
                                     originalAreasOfLaw,
-                                    getAllAreasOfLaw(),
+                                    findAllAreasOfLaw(),
                                     null);
         return newAreaOfLaw;
     }
@@ -116,6 +127,7 @@ public class AdminAreasOfLawService {
     public AreaOfLaw createAreaOfLaw(final AreaOfLaw areaOfLaw) {
         checkIfAreaOfLawAlreadyExists(areaOfLaw.getName());
         AreaOfLaw newAreaOfLaw = new AreaOfLaw(areasOfLawRepository.save(createNewAreaOfLawEntityFromModel(areaOfLaw)));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.AREAS_OF_LAW));
 
         adminAuditService.saveAudit(AuditType.findByName("Create area of law"),
                                     areaOfLaw,
@@ -133,6 +145,18 @@ public class AdminAreasOfLawService {
 
         ensureAreaOfLawIsNotInUse(areaOfLawId);
         areasOfLawRepository.deleteById(areaOfLaw.getId());
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.AREAS_OF_LAW));
+    }
+
+    /**
+     * Load all areas of law from the repository, bypassing the cache.
+     * @return The areas of law
+     */
+    private List<AreaOfLaw> findAllAreasOfLaw() {
+        return areasOfLawRepository.findAll()
+            .stream()
+            .map(AreaOfLaw::new)
+            .collect(toList());
     }
 
     /**
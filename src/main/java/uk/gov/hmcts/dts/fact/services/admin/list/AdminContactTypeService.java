@@ -2,10 +2,12 @@ package uk.gov.hmcts.dts.fact.services.admin.list;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
@@ -31,6 +33,8 @@ public class AdminContactTypeService {
     private final ContactRepository contactRepository;
     private final EmailRepository emailRepository;
     private final EmailTypeRepository emailTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminContactTypeService.
@@ -38,16 +42,22 @@ public class AdminContactTypeService {
      * @param contactRepository The repository for contact
      * @param emailRepository The repository for email
      * @param emailTypeRepository The repository for email type
+     * @param referenceDataCache The cache for reference data
+     * @param eventPublisher The publisher for reference data changed events
      */
     @Autowired
     public AdminContactTypeService(final ContactTypeRepository contactTypeRepository,
                                    final ContactRepository contactRepository,
                                    final EmailRepository emailRepository,
-                                   final EmailTypeRepository emailTypeRepository) {
+                                   final EmailTypeRepository emailTypeRepository,
+                                   final ReferenceDataCache referenceDataCache,
+                                   final ApplicationEventPublisher eventPublisher) {
         this.contactTypeRepository = contactTypeRepository;
         this.contactRepository = contactRepository;
         this.emailRepository = emailRepository;
         this.emailTypeRepository = emailTypeRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -55,7 +65,7 @@ public class AdminContactTypeService {
      * @return The contact types
      */
     public List<ContactType> getAllContactTypes() {
-        return contactTypeRepository.findAll()
+        return referenceDataCache.get(ReferenceData.CONTACT_TYPES, contactTypeRepository::findAll)
             .stream()
             .map(ContactType::new)
             .sorted(Comparator.comparing(ContactType::getType))
@@ -84,7 +94,9 @@ public class AdminContactTypeService {
     public ContactType createContactType(final ContactType contactType) {
         checkIfContactTypeAlreadyExists(contactType.getType());
         emailTypeRepository.save(new uk.gov.hmcts.dts.fact.entity.EmailType(contactType.getType(), contactType.getTypeCy()));
-        return new ContactType(contactTypeRepository.save(createNewContactTypeEntityFromModel(contactType)));
+        final ContactType newContactType = new ContactType(contactTypeRepository.save(createNewContactTypeEntityFromModel(contactType)));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.CONTACT_TYPES));
+        return newContactType;
     }
 
     /**
@@ -111,7 +123,9 @@ public class AdminContactTypeService {
         contactTypeEntity.setDescription(updatedContactType.getType());
         contactTypeEntity.setDescriptionCy(updatedContactType.getTypeCy());
         emailTypeRepository.save(emailTypeEntity);
-        return new ContactType(contactTypeRepository.save(contactTypeEntity));
+        final ContactType newContactType = new ContactType(contactTypeRepository.save(contactTypeEntity));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.CONTACT_TYPES));
+        return newContactType;
     }
 
     /**
@@ -132,6 +146,7 @@ public class AdminContactTypeService {
         try {
             emailTypeRepository.deleteById(emailTypeEntity.getId());
             contactTypeRepository.deleteById(contactTypeId);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.CONTACT_TYPES));
         } catch (EmptyResultDataAccessException ex) {
             log.warn("Contact Type could not be deleted because it no longer exists: " + contactTypeId);
             throw new NotFoundException(ex);
@@ -2,8 +2,10 @@ package uk.gov.hmcts.dts.fact.services.admin.list;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
@@ -28,16 +30,25 @@ public class AdminFacilityService {
 
     private final FacilityRepository facilityRepository;
 
+    private final ReferenceDataCache referenceDataCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Constructor for the AdminFacilityService.
      * @param facilityTypeRepository The repository for facility type
      * @param facilityRepository The repository for facility
+     * @param referenceDataCache The cache for reference data
+     * @param eventPublisher The publisher for reference data changed events
      */
     @Autowired
     public AdminFacilityService(
-        final FacilityTypeRepository facilityTypeRepository, final FacilityRepository facilityRepository) {
+        final FacilityTypeRepository facilityTypeRepository, final FacilityRepository facilityRepository,
+        final ReferenceDataCache referenceDataCache, final ApplicationEventPublisher eventPublisher) {
         this.facilityTypeRepository = facilityTypeRepository;
         this.facilityRepository = facilityRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -45,7 +56,7 @@ public class AdminFacilityService {
      * @return The facility types
      */
     public List<FacilityType> getAllFacilityTypes() {
-        return facilityTypeRepository.findAll()
+        return referenceDataCache.get(ReferenceData.FACILITY_TYPES, facilityTypeRepository::findAll)
             .stream()
             .map(FacilityType::new)
             .collect(toList());
@@ -82,7 +93,9 @@ public class AdminFacilityService {
         newFacilityType.setImage("");
         newFacilityType.setImageDescription("");
 
-        return new FacilityType(facilityTypeRepository.save(newFacilityType));
+        final FacilityType createdFacilityType = new FacilityType(facilityTypeRepository.save(newFacilityType));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.FACILITY_TYPES));
+        return createdFacilityType;
     }
 
     /**
@@ -100,7 +113,9 @@ public class AdminFacilityService {
         entity.setNameCy(facilityType.getNameCy());
         entity.setOrder(facilityType.getOrder());
 
-        return new FacilityType(facilityTypeRepository.save(entity));
+        final FacilityType updatedFacilityType = new FacilityType(facilityTypeRepository.save(entity));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.FACILITY_TYPES));
+        return updatedFacilityType;
     }
 
     /**
@@ -112,6 +127,7 @@ public class AdminFacilityService {
 
         ensureFacilityTypeNotInUse(facilityType.getId());
         facilityTypeRepository.deleteById(facilityTypeId);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.FACILITY_TYPES));
     }
 
     /**
@@ -132,6 +148,7 @@ public class AdminFacilityService {
 
             facilityTypeRepository.save(entity);
         }
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.FACILITY_TYPES));
 
         return facilityTypeRepository.findAll().stream()
             .map(FacilityType::new)
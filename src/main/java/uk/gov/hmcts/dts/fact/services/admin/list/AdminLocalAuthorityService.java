@@ -1,8 +1,10 @@
 package uk.gov.hmcts.dts.fact.services.admin.list;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.LocalAuthority;
@@ -23,17 +25,25 @@ public class AdminLocalAuthorityService {
 
     private final LocalAuthorityRepository localAuthorityRepository;
     private final AdminAuditService adminAuditService;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminLocalAuthorityService.
      * @param localAuthorityRepository The repository for local authority
      * @param adminAuditService The service for admin audit
+     * @param referenceDataCache The cache for reference data
+     * @param eventPublisher The publisher for reference data changed events
      */
     @Autowired
     public AdminLocalAuthorityService(final LocalAuthorityRepository localAuthorityRepository,
-                                      final AdminAuditService adminAuditService) {
+                                      final AdminAuditService adminAuditService,
+                                      final ReferenceDataCache referenceDataCache,
+                                      final ApplicationEventPublisher eventPublisher) {
         this.localAuthorityRepository = localAuthorityRepository;
         this.adminAuditService = adminAuditService;
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -41,7 +51,7 @@ public class AdminLocalAuthorityService {
      * @return The local authorities
      */
     public List<LocalAuthority> getAllLocalAuthorities() {
-        return localAuthorityRepository.findAll()
+        return referenceDataCache.get(ReferenceData.LOCAL_AUTHORITIES, localAuthorityRepository::findAll)
             .stream()
             .map(LocalAuthority::new)
             .collect(toList());
@@ -66,18 +76,30 @@ public class AdminLocalAuthorityService {
         checkIfLocalAuthorityAlreadyExists(localAuthorityId, name);
 
         // Change local authority entity name
-        final List<LocalAuthority> originalList = getAllLocalAuthorities();
+        final List<LocalAuthority> originalList = findAllLocalAuthorities();
         final uk.gov.hmcts.dts.fact.entity.LocalAuthority existingEntity = localAuthorityEntity.get();
         existingEntity.setName(name);
         LocalAuthority newLocalAuthority = new LocalAuthority(localAuthorityRepository.save(existingEntity));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.LOCAL_AUTHORITIES));
         adminAuditService.saveAudit(
             AuditType.findByName("Update local authority"),
             originalList,
-            getAllLocalAuthorities(),
+            findAllLocalAuthorities(),
             null);
         return newLocalAuthority;
     }
 
+    /**
+     * Load all local authorities from the repository, bypassing the cache.
+     * @return The local authorities
+     */
+    private List<LocalAuthority> findAllLocalAuthorities() {
+        return localAuthorityRepository.findAll()
+            .stream()
+            .map(LocalAuthority::new)
+            .collect(toList());
+    }
+
     /**
      * Check if a local authority already exists.
      * @param localAuthorityId The id of the local authority
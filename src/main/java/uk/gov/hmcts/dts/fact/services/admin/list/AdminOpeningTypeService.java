@@ -3,10 +3,12 @@ package uk.gov.hmcts.dts.fact.services.admin.list;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
@@ -31,20 +33,28 @@ public class AdminOpeningTypeService {
     private final OpeningTimeRepository openingTimeRepository;
     private final OpeningTypeRepository openingTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for the AdminOpeningTypeService.
      * @param openingTimeRepository The repository for opening time
      * @param openingTypeRepository The repository for opening type
      * @param adminAuditService The service for admin audit
+     * @param referenceDataCache The cache for reference data
+     * @param eventPublisher The publisher for reference data changed events
      */
     @Autowired
     public AdminOpeningTypeService(final OpeningTimeRepository openingTimeRepository,
                                    final OpeningTypeRepository openingTypeRepository,
-                                   final AdminAuditService adminAuditService) {
+                                   final AdminAuditService adminAuditService,
+                                   final ReferenceDataCache referenceDataCache,
+                                   final ApplicationEventPublisher eventPublisher) {
         this.openingTimeRepository = openingTimeRepository;
         this.openingTypeRepository = openingTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -52,7 +62,7 @@ public class AdminOpeningTypeService {
      * @return The opening types
      */
     public List<OpeningType> getAllOpeningTypes() {
-        return openingTypeRepository.findAll()
+        return referenceDataCache.get(ReferenceData.OPENING_TYPES, openingTypeRepository::findAll)
             .stream()
             .map(OpeningType::new)
             .sorted(Comparator.comparing(OpeningType::getType))
@@ -81,6 +91,7 @@ public class AdminOpeningTypeService {
     public OpeningType createOpeningType(final OpeningType openingType) {
         checkIfOpeningTypeAlreadyExists(openingType.getType());
         OpeningType newOpeningType  = new OpeningType(openingTypeRepository.save(createNewOpeningTypeEntityFromModel(openingType)));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.OPENING_TYPES));
 
         adminAuditService.saveAudit(
             AuditType.findByName("Create opening type"),
@@ -106,6 +117,7 @@ public class AdminOpeningTypeService {
         openingTypeEntity.setDescriptionCy(updatedOpeningType.getTypeCy());
 
         OpeningType newOpeningType  =  new OpeningType(openingTypeRepository.save(openingTypeEntity));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.OPENING_TYPES));
 
         adminAuditService.saveAudit(
             AuditType.findByName("Update opening type"),
@@ -132,6 +144,7 @@ public class AdminOpeningTypeService {
 
         try {
             openingTypeRepository.deleteById(openingTypeId);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceData.OPENING_TYPES));
         } catch (EmptyResultDataAccessException ex) {
             log.warn("Opening Type could not be deleted because it no longer exists: " + openingTypeId);
             throw new NotFoundException(ex);
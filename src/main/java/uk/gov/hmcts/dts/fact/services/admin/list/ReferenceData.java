@@ -0,0 +1,30 @@
+package uk.gov.hmcts.dts.fact.services.admin.list;
+
+/**
+ * The reference data tables held by the {@link ReferenceDataCache}.
+ */
+public enum ReferenceData {
+    ADDRESS_TYPES("address-types"),
+    COUNTIES("counties"),
+    REGIONS("regions"),
+    COURT_TYPES("court-types"),
+    FACILITY_TYPES("facility-types"),
+    AREAS_OF_LAW("areas-of-law"),
+    CONTACT_TYPES("contact-types"),
+    OPENING_TYPES("opening-types"),
+    LOCAL_AUTHORITIES("local-authorities");
+
+    private final String cacheName;
+
+    ReferenceData(final String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * Get the name the cache statistics for the table are published under.
+     * @return The cache name
+     */
+    public String getCacheName() {
+        return cacheName;
+    }
+}
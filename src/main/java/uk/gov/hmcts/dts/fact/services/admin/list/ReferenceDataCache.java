@@ -0,0 +1,72 @@
+package uk.gov.hmcts.dts.fact.services.admin.list;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+import uk.gov.hmcts.dts.fact.services.VersionedCache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Holds the rows of the reference data tables (address types, counties, areas of law etc.), which are read on most
+ * admin requests and changed rarely.
+ *
+ * <p>Each table has its own {@link VersionedCache}, invalidated once a change to the table is committed, which
+ * expires after {@code reference-data.cache.ttl-minutes} and is published as {@code reference-data.<table>}.</p>
+ *
+ * <p>The cached rows are shared between requests and must not be changed by the caller.</p>
+ */
+@Component
+public class ReferenceDataCache {
+    private static final String CACHE_PREFIX = "reference-data.";
+
+    private final Map<ReferenceData, VersionedCache<?>> caches = new EnumMap<>(ReferenceData.class);
+
+    /**
+     * Constructor for the ReferenceDataCache.
+     * @param meterRegistry The registry the cache statistics are published to
+     * @param ttlMinutes The number of minutes the rows of a table are held for
+     */
+    @Autowired
+    public ReferenceDataCache(final MeterRegistry meterRegistry,
+                              @Value("${reference-data.cache.ttl-minutes:5}") final long ttlMinutes) {
+        for (final ReferenceData table : ReferenceData.values()) {
+            caches.put(table, new VersionedCache<>(meterRegistry, CACHE_PREFIX + table.getCacheName(), ttlMinutes));
+        }
+    }
+
+    /**
+     * Get the rows of a table, loading them if they are not cached at the current version of the table.
+     * @param table The table
+     * @param loader Loads the rows of the table
+     * @param <T> The type of the rows
+     * @return The rows, which cannot be modified
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(final ReferenceData table, final Supplier<List<T>> loader) {
+        return ((VersionedCache<T>) caches.get(table)).get(loader);
+    }
+
+    /**
+     * Discard the cached rows of a table.
+     * @param table The table
+     */
+    public void invalidate(final ReferenceData table) {
+        caches.get(table).invalidate();
+    }
+
+    /**
+     * Discard the cached rows of a table once a change to it has been committed.
+     * @param event The reference data changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(final ReferenceDataChangedEvent event) {
+        invalidate(event.getTable());
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.dts.fact.services.invalidation;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * A change committed by one instance which the caches of the other instances must follow, sent between instances
+ * as the JSON payload of a postgres notification.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CacheInvalidation {
+    /**
+     * What was changed.
+     */
+    public enum Type {
+        /** A court, keyed by its slug. */
+        COURT,
+        /** A reference data table, keyed by its name. */
+        REFERENCE_DATA,
+        /** The postcode gazetteer, with no key. */
+        CATCHMENT
+    }
+
+    private Type type;
+    private String key;
+    private String origin;
+    private long sentAt;
+}
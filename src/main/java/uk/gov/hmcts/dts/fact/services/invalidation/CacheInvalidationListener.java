@@ -0,0 +1,240 @@
+package uk.gov.hmcts.dts.fact.services.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Listens for the changes made through the other instances, on a postgres connection of its own, and applies them
+ * to the caches of this instance.
+ *
+ * <p>Notifications sent while the connection is down are lost, so every cache is discarded each time the
+ * connection is made again. The time from a change being sent to it being applied here is published as
+ * {@value #LAG_TIMER}, and whether the connection is up as {@value #CONNECTED_GAUGE}. The connection is checked
+ * each {@code cache-invalidation.poll-millis} and, once lost, made again after
+ * {@code cache-invalidation.reconnect-millis}.</p>
+ */
+@Component
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class CacheInvalidationListener {
+    static final String LAG_TIMER = "cache.invalidation.lag";
+    static final String RESYNC_COUNTER = "cache.invalidation.resync";
+    static final String CONNECTED_GAUGE = "cache.invalidation.connected";
+    static final String TYPE_TAG = "type";
+
+    private static final int VALID_TIMEOUT_SECONDS = 5;
+
+    private final CacheInvalidationNotifier cacheInvalidationNotifier;
+    private final CacheInvalidator cacheInvalidator;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final int pollMillis;
+    private final long reconnectMillis;
+    private final Counter resyncs;
+    private final AtomicInteger connected = new AtomicInteger();
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile boolean running;
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile Connection connection;
+    private ExecutorService executor;
+
+    /**
+     * Constructor for the CacheInvalidationListener.
+     * @param cacheInvalidationNotifier The notifier, giving the id of this instance
+     * @param cacheInvalidator The invalidator the changes are applied by
+     * @param objectMapper The mapper the notifications are read with
+     * @param meterRegistry The registry the lag, resyncs and connection state are published to
+     * @param dataSourceProperties The properties the connection is made with
+     * @param enabled Whether to listen for changes
+     * @param pollMillis The number of milliseconds to wait for notifications before checking the connection
+     * @param reconnectMillis The number of milliseconds to wait before making a lost connection again
+     */
+    @Autowired
+    public CacheInvalidationListener(final CacheInvalidationNotifier cacheInvalidationNotifier,
+                                     final CacheInvalidator cacheInvalidator,
+                                     final ObjectMapper objectMapper,
+                                     final MeterRegistry meterRegistry,
+                                     final DataSourceProperties dataSourceProperties,
+                                     @Value("${cache-invalidation.enabled:true}") final boolean enabled,
+                                     @Value("${cache-invalidation.poll-millis:10000}") final int pollMillis,
+                                     @Value("${cache-invalidation.reconnect-millis:5000}") final long reconnectMillis) {
+        this.cacheInvalidationNotifier = cacheInvalidationNotifier;
+        this.cacheInvalidator = cacheInvalidator;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(SimpleDriverDataSource.class)
+            .build();
+        this.enabled = enabled;
+        this.pollMillis = pollMillis;
+        this.reconnectMillis = reconnectMillis;
+        this.resyncs = Counter.builder(RESYNC_COUNTER)
+            .description("Times every cache was discarded because changes may have been missed")
+            .register(meterRegistry);
+        Gauge.builder(CONNECTED_GAUGE, connected, AtomicInteger::get)
+            .description("Whether the cache invalidation connection is up")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Start listening for changes, on a background thread.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cache-invalidation-listener");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::listen);
+    }
+
+    /**
+     * Stop listening for changes, closing the connection.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        close(connection);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Apply a notification sent by an instance, unless it was sent by this one, which has already applied it.
+     * A notification which cannot be read, such as one from a newer version during a deployment, discards every
+     * cache instead.
+     * @param payload The payload of the notification
+     */
+    void receive(final String payload) {
+        final CacheInvalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(payload, CacheInvalidation.class);
+        } catch (final JsonProcessingException ex) {
+            log.warn("Unreadable cache invalidation, discarding every cache: {}", payload, ex);
+            resync();
+            return;
+        }
+        if (cacheInvalidationNotifier.getOrigin().equals(invalidation.getOrigin())) {
+            return;
+        }
+
+        try {
+            cacheInvalidator.apply(invalidation);
+        } catch (final IllegalArgumentException ex) {
+            log.warn("Unknown cache invalidation, discarding every cache: {}", payload, ex);
+            resync();
+            return;
+        }
+        Timer.builder(LAG_TIMER)
+            .description("Time from a change being committed on another instance to it being applied on this one")
+            .tag(TYPE_TAG, invalidation.getType().name().toLowerCase(Locale.ROOT))
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - invalidation.getSentAt())));
+    }
+
+    /**
+     * Discard every cache, as changes may have been missed.
+     */
+    void resync() {
+        resyncs.increment();
+        cacheInvalidator.resync();
+    }
+
+    private void listen() {
+        boolean missedChanges = false;
+        while (running) {
+            try (Connection listening = dataSource.getConnection()) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationNotifier.CHANNEL);
+                }
+                connected.set(1);
+                if (missedChanges) {
+                    resync();
+                }
+                poll(listening);
+            } catch (final SQLException | RuntimeException ex) {
+                if (running) {
+                    log.warn("Cache invalidation connection lost, reconnecting in {}ms", reconnectMillis, ex);
+                }
+            } finally {
+                connected.set(0);
+                connection = null;
+            }
+            // Changes made from here until the connection is made again are missed, as are any made before a first
+            // attempt which failed
+            missedChanges = true;
+            pause();
+        }
+    }
+
+    private void poll(final Connection listening) throws SQLException {
+        final PGConnection notifications = listening.unwrap(PGConnection.class);
+        while (running) {
+            final PGNotification[] received = notifications.getNotifications(pollMillis);
+            if (received != null && received.length > 0) {
+                for (final PGNotification notification : received) {
+                    receive(notification.getParameter());
+                }
+            } else if (!listening.isValid(VALID_TIMEOUT_SECONDS)) {
+                throw new SQLException("Cache invalidation connection is no longer valid");
+            }
+        }
+    }
+
+    private void pause() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectMillis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void close(final Connection closing) {
+        if (closing == null) {
+            return;
+        }
+        try {
+            closing.close();
+        } catch (final SQLException ex) {
+            log.debug("Could not close the cache invalidation connection", ex);
+        }
+    }
+}
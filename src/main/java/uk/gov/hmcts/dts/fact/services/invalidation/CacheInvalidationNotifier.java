@@ -0,0 +1,112 @@
+package uk.gov.hmcts.dts.fact.services.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.event.CatchmentChangedEvent;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Sends the changes made through this instance to the other instances, as postgres notifications on the
+ * {@value #CHANNEL} channel.
+ *
+ * <p>The notification is sent inside the transaction making the change, as it is about to commit. Postgres only
+ * delivers it once the transaction commits, and drops it if the transaction rolls back, so the other instances
+ * never hear of a change they cannot yet read. Changes made outside a transaction are sent straight away.</p>
+ */
+@Component
+public class CacheInvalidationNotifier {
+    static final String CHANNEL = "fact_cache_invalidation";
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final ThreadLocal<Boolean> APPLYING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String origin = UUID.randomUUID().toString();
+
+    /**
+     * Constructor for the CacheInvalidationNotifier.
+     * @param jdbcTemplate The template the notifications are sent with
+     * @param objectMapper The mapper the notifications are serialised with
+     * @param enabled Whether changes are sent to the other instances
+     */
+    @Autowired
+    public CacheInvalidationNotifier(final JdbcTemplate jdbcTemplate,
+                                     final ObjectMapper objectMapper,
+                                     @Value("${cache-invalidation.enabled:true}") final boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the id of this instance, sent with each notification so that it can ignore its own.
+     * @return The instance id
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Send a change to a court.
+     * @param event The court changed event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCourtChanged(final CourtChangedEvent event) {
+        send(CacheInvalidation.Type.COURT, event.getSlug());
+    }
+
+    /**
+     * Send a change to a reference data table.
+     * @param event The reference data changed event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(final ReferenceDataChangedEvent event) {
+        send(CacheInvalidation.Type.REFERENCE_DATA, event.getTable().name());
+    }
+
+    /**
+     * Send a change to the postcode gazetteer.
+     * @param event The catchment changed event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCatchmentChanged(final CatchmentChangedEvent event) {
+        send(CacheInvalidation.Type.CATCHMENT, null);
+    }
+
+    /**
+     * Apply a change received from another instance, without sending it on again.
+     * @param invalidation Applies the change, by publishing the matching local event
+     */
+    void applying(final Runnable invalidation) {
+        APPLYING.set(Boolean.TRUE);
+        try {
+            invalidation.run();
+        } finally {
+            APPLYING.remove();
+        }
+    }
+
+    private void send(final CacheInvalidation.Type type, final String key) {
+        if (!enabled || APPLYING.get()) {
+            return;
+        }
+        final CacheInvalidation invalidation = new CacheInvalidation(type, key, origin, System.currentTimeMillis());
+        try {
+            jdbcTemplate.queryForList(NOTIFY_SQL, CHANNEL, objectMapper.writeValueAsString(invalidation));
+        } catch (final JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
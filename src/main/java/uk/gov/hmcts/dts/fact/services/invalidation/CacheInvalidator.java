@@ -0,0 +1,124 @@
+package uk.gov.hmcts.dts.fact.services.invalidation;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.event.CatchmentChangedEvent;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+import uk.gov.hmcts.dts.fact.services.CourtReferenceCache;
+import uk.gov.hmcts.dts.fact.services.CourtSnapshotService;
+import uk.gov.hmcts.dts.fact.services.MapitService;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
+import uk.gov.hmcts.dts.fact.services.search.CourtAutocomplete;
+import uk.gov.hmcts.dts.fact.services.search.CourtFuzzySearch;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndex;
+
+/**
+ * Applies the changes made through other instances to the caches of this instance.
+ *
+ * <p>A change is applied by publishing the event the instance making it published, so each cache follows it just
+ * as it follows a local change. A reference data change also clears the hibernate second-level cache, which holds
+ * the reference entities. When changes may have been missed, every cache is discarded instead.</p>
+ */
+@Component
+public class CacheInvalidator {
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidationNotifier cacheInvalidationNotifier;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CourtSnapshotService courtSnapshotService;
+    private final CourtReferenceCache courtReferenceCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final CourtSpatialIndex courtSpatialIndex;
+    private final CourtAutocomplete courtAutocomplete;
+    private final CourtFuzzySearch courtFuzzySearch;
+    private final MapitService mapitService;
+
+    /**
+     * Constructor for the CacheInvalidator.
+     * @param eventPublisher The publisher the changes are applied through
+     * @param cacheInvalidationNotifier The notifier, which must not send the applied changes on again
+     * @param entityManagerFactory The factory holding the second-level cache
+     * @param courtSnapshotService The cache of court details
+     * @param courtReferenceCache The cache of court summaries
+     * @param referenceDataCache The cache of reference data tables
+     * @param courtSpatialIndex The in-memory index of court locations and catchments
+     * @param courtAutocomplete The in-memory court name tries
+     * @param courtFuzzySearch The in-memory fuzzy court search index
+     * @param mapitService The service holding the cached postcode lookups
+     */
+    @Autowired
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public CacheInvalidator(final ApplicationEventPublisher eventPublisher,
+                            final CacheInvalidationNotifier cacheInvalidationNotifier,
+                            final EntityManagerFactory entityManagerFactory,
+                            final CourtSnapshotService courtSnapshotService,
+                            final CourtReferenceCache courtReferenceCache,
+                            final ReferenceDataCache referenceDataCache,
+                            final CourtSpatialIndex courtSpatialIndex,
+                            final CourtAutocomplete courtAutocomplete,
+                            final CourtFuzzySearch courtFuzzySearch,
+                            final MapitService mapitService) {
+        this.eventPublisher = eventPublisher;
+        this.cacheInvalidationNotifier = cacheInvalidationNotifier;
+        this.entityManagerFactory = entityManagerFactory;
+        this.courtSnapshotService = courtSnapshotService;
+        this.courtReferenceCache = courtReferenceCache;
+        this.referenceDataCache = referenceDataCache;
+        this.courtSpatialIndex = courtSpatialIndex;
+        this.courtAutocomplete = courtAutocomplete;
+        this.courtFuzzySearch = courtFuzzySearch;
+        this.mapitService = mapitService;
+    }
+
+    /**
+     * Apply a change made through another instance.
+     * @param invalidation The change
+     * @throws IllegalArgumentException if this instance does not know what was changed
+     */
+    public void apply(final CacheInvalidation invalidation) {
+        if (invalidation.getType() == null
+            || (invalidation.getType() != CacheInvalidation.Type.CATCHMENT && invalidation.getKey() == null)) {
+            throw new IllegalArgumentException("Incomplete cache invalidation: " + invalidation);
+        }
+        final Object event;
+        switch (invalidation.getType()) {
+            case COURT:
+                event = new CourtChangedEvent(invalidation.getKey());
+                break;
+            case REFERENCE_DATA:
+                event = new ReferenceDataChangedEvent(ReferenceData.valueOf(invalidation.getKey()));
+                evictSecondLevelCache();
+                break;
+            case CATCHMENT:
+                event = new CatchmentChangedEvent();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown cache invalidation: " + invalidation.getType());
+        }
+        cacheInvalidationNotifier.applying(() -> eventPublisher.publishEvent(event));
+    }
+
+    /**
+     * Discard every cache, for when changes made through other instances may have been missed.
+     */
+    public void resync() {
+        courtSnapshotService.evictAll();
+        courtReferenceCache.invalidate();
+        for (final ReferenceData table : ReferenceData.values()) {
+            referenceDataCache.invalidate(table);
+        }
+        courtSpatialIndex.invalidate();
+        courtAutocomplete.invalidate();
+        courtFuzzySearch.invalidate();
+        mapitService.evictAll();
+        evictSecondLevelCache();
+    }
+
+    private void evictSecondLevelCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
@@ -0,0 +1,95 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A BK-tree of words, finding every word within a Levenshtein distance of a query without comparing it to all of
+ * them. Each child of a node is keyed by its distance from the node, and the triangle inequality means only the
+ * children whose key is within the search radius of the query's distance from the node need to be visited.
+ *
+ * <p>Words can be added but not removed; callers filter out words that are no longer in use. The tree is not
+ * thread safe.</p>
+ */
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+final class BkTree {
+
+    private Node root;
+    private int size;
+
+    private static final class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(final String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * Add a word. Adding a word already in the tree has no effect.
+     *
+     * @param word the word
+     */
+    void add(final String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            final int distance = TextSimilarity.levenshtein(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            final Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Find every word within a distance of the query.
+     *
+     * @param query the query
+     * @param radius the greatest distance, inclusive
+     * @return the words found, in no particular order
+     */
+    List<String> search(final String query, final int radius) {
+        final List<String> found = new ArrayList<>();
+        if (root == null) {
+            return found;
+        }
+        final List<Node> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            final Node node = pending.remove(pending.size() - 1);
+            final int distance = TextSimilarity.levenshtein(query, node.word);
+            if (distance <= radius) {
+                found.add(node.word);
+            }
+            for (final Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= radius) {
+                    pending.add(child.getValue());
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Get the number of words in the tree.
+     *
+     * @return the number of words
+     */
+    int size() {
+        return size;
+    }
+}
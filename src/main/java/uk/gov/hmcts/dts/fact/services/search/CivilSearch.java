@@ -1,13 +1,19 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
+import uk.gov.hmcts.dts.fact.util.Postcode;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -16,22 +22,24 @@ import static java.util.stream.Collectors.toList;
 @Component
 public class CivilSearch implements Search {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSearchResultRepository courtSearchResultRepository;
     private final FallbackProximitySearch fallbackProximitySearch;
 
     /**
      * Constructor for the CivilSearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSearchResultRepository The repository for court search results
      * @param fallbackProximitySearch The fallback proximity search
      */
-    public CivilSearch(final CourtWithDistanceRepository courtWithDistanceRepository,
+    public CivilSearch(final CourtSearchResultRepository courtSearchResultRepository,
                        final FallbackProximitySearch fallbackProximitySearch) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+        this.courtSearchResultRepository = courtSearchResultRepository;
         this.fallbackProximitySearch = fallbackProximitySearch;
     }
 
     /**
-     * Search for civil courts.
+     * Search for civil courts. The courts whose catchment holds the longest prefix of the postcode are found with
+     * one query, trying the full postcode, its sector, its district and its area in turn. If none of them match,
+     * the nearest courts for the area of law are used instead.
      * @param serviceArea The service area
      * @param mapitData The mapit data
      * @param postcode The postcode
@@ -39,45 +47,44 @@ public class CivilSearch implements Search {
      * @return A list of courts with distance
      */
     @Override
-    public List<CourtWithDistance> searchWith(final ServiceArea serviceArea, final MapitData mapitData, final String postcode, final Boolean includeClosed) {
+    public List<CourtSearchResult> searchWith(final ServiceArea serviceArea, final MapitData mapitData, final String postcode, final Boolean includeClosed) {
 
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
-        List<CourtWithDistance> courtsWithDistance = courtWithDistanceRepository
-            .findNearestTenByAreaOfLawAndCourtPostcode(mapitData.getLat(), mapitData.getLon(), areaOfLaw, postcode, includeClosed);
+        final List<CourtSearchResult> courtsWithDistance = fallbackProximitySearch.fallbackIfEmpty(
+            courtSearchResultRepository.findNearestByAreaOfLawAndLongestCourtPostcodePrefix(
+                mapitData.getLat(),
+                mapitData.getLon(),
+                areaOfLaw,
+                postcodePrefixes(postcode),
+                includeClosed
+            ),
+            areaOfLaw,
+            includeClosed,
+            mapitData
+        );
 
-        if (courtsWithDistance.isEmpty()) {
-            final String postCodeMinusUnitCode = postcode.substring(0, postcode.length() - 2);
-            courtsWithDistance = courtWithDistanceRepository
-                .findNearestTenByAreaOfLawAndCourtPostcode(
-                    mapitData.getLat(),
-                    mapitData.getLon(),
-                    areaOfLaw,
-                    postCodeMinusUnitCode,
-                    includeClosed
-                );
-        }
-
-        if (courtsWithDistance.isEmpty()) {
-            final String outcode = postcode.substring(0, postcode.length() - 3);
-            courtsWithDistance = courtWithDistanceRepository
-                .findNearestTenByAreaOfLawAndCourtPostcode(
-                    mapitData.getLat(),
-                    mapitData.getLon(),
-                    areaOfLaw,
-                    outcode.trim(),
-                    includeClosed
-                );
-        }
+        return courtsWithDistance.stream().distinct().limit(10).collect(toList());
+    }
 
-        if (courtsWithDistance.isEmpty()) {
-            final String areacode = postcode.split("\\d")[0];
-            courtsWithDistance = courtWithDistanceRepository
-                .findNearestTenByAreaOfLawAndCourtPostcode(mapitData.getLat(), mapitData.getLon(), areaOfLaw, areacode, includeClosed);
+    /**
+     * Get the prefixes of a postcode a court catchment may hold, longest first: the full postcode, its sector, its
+     * district and its area. They are upper case without spaces, as court postcodes are held. A postcode which cannot
+     * be parsed is its own only prefix.
+     * @param postcode The postcode
+     * @return The distinct postcode prefixes
+     */
+    static List<String> postcodePrefixes(final String postcode) {
+        final Optional<Postcode> parsed = Postcode.parse(postcode);
+        if (parsed.isEmpty()) {
+            return singletonList(Postcode.normalise(postcode));
         }
 
-        courtsWithDistance = fallbackProximitySearch.fallbackIfEmpty(courtsWithDistance, areaOfLaw, includeClosed, mapitData);
-
-        return courtsWithDistance.stream().distinct().limit(10).collect(toList());
+        final Set<String> prefixes = new LinkedHashSet<>();
+        prefixes.add(parsed.get().getNormalised());
+        parsed.get().getSector().ifPresent(prefixes::add);
+        prefixes.add(parsed.get().getDistrict());
+        prefixes.add(parsed.get().getArea());
+        return new ArrayList<>(prefixes);
     }
 }
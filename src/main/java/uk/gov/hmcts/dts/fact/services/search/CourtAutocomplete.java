@@ -0,0 +1,201 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.entity.CourtHistory;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.model.CourtSuggestion;
+import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository.CourtName;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.text.Normalizer;
+import java.text.ParseException;
+import java.text.RuleBasedCollator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Suggests displayed courts whose English, Welsh or historical name starts with what has been typed, from an
+ * in-memory {@link PrefixTrie} per language.
+ *
+ * <p>Names are matched ignoring case, accents and repeated spaces. Suggestions are ordered by the name shown in
+ * the language of the request, using the Welsh alphabet (where ch, dd, ff, ng, ll, ph, rh and th are letters) for
+ * Welsh. A court found by its current name is suggested without a historical name; otherwise the old name it was
+ * found by is given.</p>
+ *
+ * <p>The tries are a {@link RefreshingSnapshot}, rebuilt after an admin change to a court is committed and at least
+ * every {@code autocomplete.refresh-minutes}.</p>
+ */
+@Component
+@Slf4j
+public class CourtAutocomplete {
+    private static final String WELSH = "cy";
+    private static final String WELSH_LETTERS = "& c < ch & d < dd & f < ff & g < ng & l < ll & p < ph & r < rh & t < th";
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final CourtSearchTextRepository courtSearchTextRepository;
+    private final CourtHistoryRepository courtHistoryRepository;
+    private final RefreshingSnapshot<Snapshot> snapshot;
+
+    /**
+     * Constructor for the CourtAutocomplete.
+     * @param courtSearchTextRepository The repository the court names are read from
+     * @param courtHistoryRepository The repository the historical court names are read from
+     * @param refreshMinutes The maximum age of the tries, in minutes
+     */
+    @Autowired
+    public CourtAutocomplete(final CourtSearchTextRepository courtSearchTextRepository,
+                             final CourtHistoryRepository courtHistoryRepository,
+                             @Value("${autocomplete.refresh-minutes:5}") final long refreshMinutes) {
+        this.courtSearchTextRepository = courtSearchTextRepository;
+        this.courtHistoryRepository = courtHistoryRepository;
+        this.snapshot = new RefreshingSnapshot<>(this::build, refreshMinutes);
+    }
+
+    /**
+     * Suggest courts with a name starting with a prefix, in the language of the request.
+     * @param prefix The start of the name
+     * @param limit The maximum number of courts to suggest
+     * @return The courts, ordered by name
+     */
+    public List<CourtSuggestion> suggest(final String prefix, final int limit) {
+        final Snapshot current = snapshot.get();
+        final PrefixTrie<Entry> trie = WELSH.equals(LocaleContextHolder.getLocale().getLanguage())
+            ? current.getWelsh()
+            : current.getEnglish();
+        return trie.find(normalise(prefix), limit).stream()
+            .map(Entry::getSuggestion)
+            .toList();
+    }
+
+    /**
+     * Discard the tries once a change to a court has been committed. They are rebuilt on the next search.
+     * @param event The court changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(final CourtChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Discard the tries. They are rebuilt on the next search.
+     */
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    /**
+     * Normalise a name or prefix for matching: lower case, without accents and with single spaces.
+     * @param text The name or prefix
+     * @return The normalised text
+     */
+    static String normalise(final String text) {
+        final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        final String unaccented = ACCENTS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(unaccented.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private Snapshot build() {
+        final List<CourtName> courts = courtSearchTextRepository.findAllDisplayedCourtNames();
+        final HashMap<Integer, List<CourtHistory>> historiesByCourt = new HashMap<>();
+        for (final CourtHistory history : courtHistoryRepository.findAll()) {
+            historiesByCourt.computeIfAbsent(history.getSearchCourtId(), id -> new ArrayList<>()).add(history);
+        }
+
+        final Snapshot built = new Snapshot(
+            trie(courts, historiesByCourt, false, englishCollator()),
+            trie(courts, historiesByCourt, true, welshCollator())
+        );
+        log.info("Built court autocomplete of {} courts", courts.size());
+        return built;
+    }
+
+    private static PrefixTrie<Entry> trie(final List<CourtName> courts,
+                                          final Map<Integer, List<CourtHistory>> historiesByCourt,
+                                          final boolean welsh,
+                                          final Collator collator) {
+        final HashMap<String, List<Entry>> entries = new HashMap<>();
+        for (final CourtName court : courts) {
+            final String name = choose(welsh, court.getNameCy(), court.getName());
+            final CollationKey sortKey = collator.getCollationKey(name.toLowerCase(Locale.ROOT));
+            final Entry current = new Entry(court.getCourtId(), sortKey, false,
+                                            new CourtSuggestion(name, court.getSlug(), court.getRegionId(), null));
+            add(entries, court.getName(), current);
+            add(entries, court.getNameCy(), current);
+            for (final CourtHistory history : historiesByCourt.getOrDefault(court.getCourtId(), List.of())) {
+                final String historicalName = choose(welsh, history.getCourtNameCy(), history.getCourtName());
+                final Entry historical = new Entry(court.getCourtId(), sortKey, true,
+                                                   new CourtSuggestion(name, court.getSlug(), court.getRegionId(), historicalName));
+                add(entries, history.getCourtName(), historical);
+                add(entries, history.getCourtNameCy(), historical);
+            }
+        }
+        return PrefixTrie.build(
+            entries,
+            Comparator.comparing(Entry::getSortKey)
+                .thenComparing(Entry::isHistorical)
+                .thenComparing(Entry::getCourtId),
+            Entry::getCourtId
+        );
+    }
+
+    private static String choose(final boolean welsh, final String welshName, final String englishName) {
+        return welsh && welshName != null && !welshName.isBlank() ? welshName : englishName;
+    }
+
+    private static void add(final Map<String, List<Entry>> entries, final String name, final Entry entry) {
+        if (name != null && !name.isBlank()) {
+            entries.computeIfAbsent(normalise(name), key -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    private static Collator englishCollator() {
+        return Collator.getInstance(Locale.UK);
+    }
+
+    private static Collator welshCollator() {
+        try {
+            // Names are compared in lower case, so only the lower case forms of the Welsh letters are needed
+            return new RuleBasedCollator(((RuleBasedCollator) englishCollator()).getRules() + WELSH_LETTERS);
+        } catch (final ParseException ex) {
+            throw new IllegalStateException("Invalid Welsh collation rules", ex);
+        }
+    }
+
+    /**
+     * A court under one of its names.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Entry {
+        private final int courtId;
+        private final CollationKey sortKey;
+        private final boolean historical;
+        private final CourtSuggestion suggestion;
+    }
+
+    /**
+     * An immutable build of the tries.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Snapshot {
+        private final PrefixTrie<Entry> english;
+        private final PrefixTrie<Entry> welsh;
+    }
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository.CourtHistoricalName;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository.CourtSearchText;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Answers the fuzzy court name, address and town search, either with the postgres query or from an in-memory
+ * {@link FuzzyCourtIndex}, as chosen by {@code fuzzy-search.engine} ({@code postgres} or {@code in-memory}).
+ *
+ * <p>The in-memory index also matches the historical names of a court. It is a {@link RefreshingSnapshot}, built
+ * on the first search and rebuilt at least every {@code fuzzy-search.refresh-minutes}, and updated in place for a
+ * single court once an admin change to that court has been committed.</p>
+ */
+@Component
+@Slf4j
+public class CourtFuzzySearch {
+    static final String IN_MEMORY = "in-memory";
+
+    private final CourtRepository courtRepository;
+    private final CourtSearchTextRepository courtSearchTextRepository;
+    private final boolean inMemory;
+    private final RefreshingSnapshot<FuzzyCourtIndex> index;
+
+    /**
+     * Constructor for the CourtFuzzySearch.
+     * @param courtRepository The repository for courts
+     * @param courtSearchTextRepository The repository the in-memory index is built from
+     * @param engine The search engine to use, postgres or in-memory
+     * @param refreshMinutes The maximum age of the in-memory index, in minutes
+     */
+    @Autowired
+    public CourtFuzzySearch(final CourtRepository courtRepository,
+                            final CourtSearchTextRepository courtSearchTextRepository,
+                            @Value("${fuzzy-search.engine:postgres}") final String engine,
+                            @Value("${fuzzy-search.refresh-minutes:5}") final long refreshMinutes) {
+        this.courtRepository = courtRepository;
+        this.courtSearchTextRepository = courtSearchTextRepository;
+        this.inMemory = IN_MEMORY.equalsIgnoreCase(engine);
+        this.index = new RefreshingSnapshot<>(this::build, refreshMinutes);
+    }
+
+    /**
+     * Search displayed courts by name, address or town, allowing for misspellings.
+     * @param query The search string
+     * @return The matching courts, in order of relevance
+     */
+    public List<Court> findCourtByNameAddressOrTownFuzzyMatch(final String query) {
+        if (!inMemory) {
+            return courtRepository.findCourtByNameAddressOrTownFuzzyMatch(query);
+        }
+        final List<Integer> courtIds = index.get().search(query);
+        if (courtIds.isEmpty()) {
+            return emptyList();
+        }
+        final Map<Integer, Court> courts = courtRepository.findAllForReferenceByIdIn(new HashSet<>(courtIds))
+            .stream()
+            .collect(toMap(Court::getId, Function.identity()));
+        return courtIds.stream()
+            .map(courts::get)
+            .filter(Objects::nonNull)
+            .collect(toList());
+    }
+
+    /**
+     * Update the court in the in-memory index once a change to it has been committed.
+     * @param event The court changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(final CourtChangedEvent event) {
+        if (!inMemory) {
+            return;
+        }
+        index.update(current -> {
+            final List<FuzzyCourtIndex.CourtText> courts = read(
+                courtSearchTextRepository.findSearchTextBySlug(event.getSlug()),
+                courtSearchTextRepository.findHistoricalNamesBySlug(event.getSlug())
+            );
+            if (courts.isEmpty()) {
+                current.remove(event.getSlug());
+            } else {
+                courts.forEach(current::put);
+            }
+        });
+    }
+
+    /**
+     * Discard the in-memory index. It is rebuilt on the next search.
+     */
+    public void invalidate() {
+        index.invalidate();
+    }
+
+    private FuzzyCourtIndex build() {
+        final FuzzyCourtIndex built = new FuzzyCourtIndex();
+        read(courtSearchTextRepository.findAllDisplayedSearchText(),
+             courtSearchTextRepository.findAllDisplayedHistoricalNames()).forEach(built::put);
+        log.info("Built court fuzzy search index of {} courts", built.size());
+        return built;
+    }
+
+    /**
+     * Group the rows read for courts into their searchable text. Courts which are not displayed are left out.
+     */
+    private static List<FuzzyCourtIndex.CourtText> read(final List<CourtSearchText> rows,
+                                                        final List<CourtHistoricalName> historicalNames) {
+        final HashMap<Integer, List<String>> namesByCourt = new HashMap<>();
+        for (final CourtHistoricalName historicalName : historicalNames) {
+            Stream.of(historicalName.getName(), historicalName.getNameCy())
+                .filter(name -> name != null && !name.isBlank())
+                .forEach(name -> namesByCourt.computeIfAbsent(historicalName.getCourtId(), id -> new ArrayList<>())
+                    .add(name));
+        }
+
+        final Map<Integer, List<CourtSearchText>> rowsByCourt = rows.stream()
+            .filter(row -> Boolean.TRUE.equals(row.getDisplayed()))
+            .collect(groupingBy(CourtSearchText::getCourtId, LinkedHashMap::new, toList()));
+
+        final List<FuzzyCourtIndex.CourtText> courts = new ArrayList<>();
+        rowsByCourt.forEach((courtId, courtRows) -> {
+            final CourtSearchText first = courtRows.get(0);
+            final List<FuzzyCourtIndex.AddressText> addresses = courtRows.stream()
+                .filter(row -> row.getAddressId() != null)
+                .map(row -> new FuzzyCourtIndex.AddressText(row.getAddress(), row.getAddressCy(),
+                                                             row.getTownName(), row.getTownNameCy()))
+                .collect(toList());
+            courts.add(new FuzzyCourtIndex.CourtText(courtId, first.getSlug(), first.getName(), first.getNameCy(),
+                                                     addresses, namesByCourt.getOrDefault(courtId, emptyList())));
+        });
+        return courts;
+    }
+}
@@ -0,0 +1,325 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository.CourtLocation;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository.CourtSearchLink;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository.NamedId;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Answers the nearest court queries of {@link CourtSearchResultRepository} from an in-memory spatial index.
+ *
+ * <p>The index holds the position of every court, and one k-d tree per catchment: an area of law, or an area of
+ * law and local authority pair, with either all of its courts or only its regional courts. Catchments are keyed
+ * by upper case name, which is how the repository matches them, so names differing only in case share one
+ * catchment with the courts of every area of law or local authority going by that name. Choosing the
+ * nearest courts is done in memory; only the chosen courts are then read, by id, with their distance calculated
+ * by postgres so the miles reported are unchanged.</p>
+ *
+ * <p>The index is a {@link RefreshingSnapshot}, rebuilt after an admin change to a court, an area of law or a local
+ * authority is committed and at least every {@code spatial-index.refresh-minutes}. When {@code spatial-index.enabled} is false every query goes straight to the
+ * repository.</p>
+ */
+@Component
+@Slf4j
+@SuppressWarnings("PMD.TooManyMethods")
+public class CourtSpatialIndex {
+    private static final int LIMIT_10 = 10;
+    private static final int LIMIT_1 = 1;
+
+    private final CourtSearchResultRepository courtSearchResultRepository;
+    private final CourtLocationRepository courtLocationRepository;
+    private final boolean enabled;
+    private final RefreshingSnapshot<Snapshot> snapshot;
+
+    /**
+     * Constructor for the CourtSpatialIndex.
+     * @param courtSearchResultRepository The repository for court search results
+     * @param courtLocationRepository The repository the index is built from
+     * @param enabled Whether searches are answered from the index
+     * @param refreshMinutes The maximum age of the index, in minutes
+     */
+    @Autowired
+    public CourtSpatialIndex(final CourtSearchResultRepository courtSearchResultRepository,
+                             final CourtLocationRepository courtLocationRepository,
+                             @Value("${spatial-index.enabled:true}") final boolean enabled,
+                             @Value("${spatial-index.refresh-minutes:5}") final long refreshMinutes) {
+        this.courtSearchResultRepository = courtSearchResultRepository;
+        this.courtLocationRepository = courtLocationRepository;
+        this.enabled = enabled;
+        this.snapshot = new RefreshingSnapshot<>(this::build, refreshMinutes);
+    }
+
+    /**
+     * Find the ten nearest open courts.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @return A list of courts with distance
+     */
+    public List<CourtSearchResult> findNearestTen(final Double lat, final Double lon) {
+        if (!enabled) {
+            return courtSearchResultRepository.findNearestTen(lat, lon);
+        }
+        final Snapshot current = snapshot.get();
+        return hydrate(lat, lon, current.getAll().nearest(lat, lon, LIMIT_10, current.getDisplayed()::get));
+    }
+
+    /**
+     * Find the ten nearest courts for an area of law.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @param includeClosed A boolean indicating if closed courts should be included
+     * @return A list of courts with distance
+     */
+    public List<CourtSearchResult> findNearestTenByAreaOfLaw(final Double lat, final Double lon,
+                                                             final String areaOfLaw, final Boolean includeClosed) {
+        if (!enabled) {
+            return courtSearchResultRepository.findNearestTenByAreaOfLaw(lat, lon, areaOfLaw, includeClosed);
+        }
+        final Snapshot current = snapshot.get();
+        return nearest(current.catchment(areaOfLaw, null, false), lat, lon, LIMIT_10, openOrAll(current, includeClosed));
+    }
+
+    /**
+     * Find the ten nearest courts for an area of law which cover a local authority.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @param localAuthority The local authority name
+     * @param includeClosed A boolean indicating if closed courts should be included
+     * @return A list of courts with distance
+     */
+    public List<CourtSearchResult> findNearestTenByAreaOfLawAndLocalAuthority(final Double lat, final Double lon,
+                                                                              final String areaOfLaw,
+                                                                              final String localAuthority,
+                                                                              final Boolean includeClosed) {
+        if (!enabled) {
+            return courtSearchResultRepository.findNearestTenByAreaOfLawAndLocalAuthority(
+                lat, lon, areaOfLaw, localAuthority, includeClosed);
+        }
+        final Snapshot current = snapshot.get();
+        return nearest(current.catchment(areaOfLaw, localAuthority, false),
+                       lat, lon, LIMIT_10, openOrAll(current, includeClosed));
+    }
+
+    /**
+     * Find the nearest open regional court for an area of law which covers a local authority.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @param localAuthority The local authority name
+     * @return A list of at most one court with distance
+     */
+    public List<CourtSearchResult> findNearestRegionalByAreaOfLawAndLocalAuthority(final Double lat, final Double lon,
+                                                                                   final String areaOfLaw,
+                                                                                   final String localAuthority) {
+        if (!enabled) {
+            return courtSearchResultRepository.findNearestRegionalByAreaOfLawAndLocalAuthority(
+                lat, lon, areaOfLaw, localAuthority);
+        }
+        final Snapshot current = snapshot.get();
+        return nearest(current.catchment(areaOfLaw, localAuthority, true),
+                       lat, lon, LIMIT_1, current.getDisplayed()::get);
+    }
+
+    /**
+     * Find the nearest open regional court for an area of law.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @return A list of at most one court with distance
+     */
+    public List<CourtSearchResult> findNearestRegionalByAreaOfLaw(final Double lat, final Double lon, final String areaOfLaw) {
+        if (!enabled) {
+            return courtSearchResultRepository.findNearestRegionalByAreaOfLaw(lat, lon, areaOfLaw);
+        }
+        final Snapshot current = snapshot.get();
+        return nearest(current.catchment(areaOfLaw, null, true), lat, lon, LIMIT_1, current.getDisplayed()::get);
+    }
+
+    /**
+     * Discard the index once a change to a court has been committed. It is rebuilt on the next search.
+     * @param event The court changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(final CourtChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Discard the index once a change to the areas of law or local authorities has been committed, as the
+     * catchments are keyed by their names.
+     * @param event The reference data changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(final ReferenceDataChangedEvent event) {
+        if (event.getTable() == ReferenceData.AREAS_OF_LAW || event.getTable() == ReferenceData.LOCAL_AUTHORITIES) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Discard the index. It is rebuilt on the next search.
+     */
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    private List<CourtSearchResult> nearest(final SpatialIndex index, final Double lat, final Double lon,
+                                            final int limit, final IntPredicate filter) {
+        if (index == null) {
+            return emptyList();
+        }
+        return hydrate(lat, lon, index.nearest(lat, lon, limit, filter));
+    }
+
+    private List<CourtSearchResult> hydrate(final Double lat, final Double lon, final int[] courtIds) {
+        if (courtIds.length == 0) {
+            return emptyList();
+        }
+        return courtSearchResultRepository.findAllByIdWithDistance(
+            lat, lon, Arrays.stream(courtIds).boxed().collect(toList()));
+    }
+
+    private static IntPredicate openOrAll(final Snapshot current, final Boolean includeClosed) {
+        return Boolean.TRUE.equals(includeClosed) ? id -> true : current.getDisplayed()::get;
+    }
+
+    private Snapshot build() {
+        // Courts are read in name order, under the database collation, and points are kept in that order so that
+        // courts at the same distance, and those without coordinates, are returned by name as postgres would
+        final List<CourtLocation> courts = courtLocationRepository.findAllCourtLocations();
+        final LinkedHashMap<Integer, SpatialIndex.Point> points = new LinkedHashMap<>();
+        final BitSet displayed = new BitSet();
+        for (final CourtLocation court : courts) {
+            points.put(court.getId(), new SpatialIndex.Point(court.getId(), court.getLat(), court.getLon()));
+            if (Boolean.TRUE.equals(court.getDisplayed())) {
+                displayed.set(court.getId());
+            }
+        }
+
+        final BitSet regional = new BitSet();
+        courtLocationRepository.findAllRegionalCourtIds().forEach(regional::set);
+
+        final List<CourtSearchLink> links = new ArrayList<>(courtLocationRepository.findAllCourtAreasOfLaw());
+        links.addAll(courtLocationRepository.findAllCourtLocalAuthorityAreasOfLaw());
+
+        final Snapshot built = new Snapshot(
+            new SpatialIndex(new ArrayList<>(points.values())),
+            catchments(links, points, regional,
+                       names(courtLocationRepository.findAllAreaOfLawNames()),
+                       names(courtLocationRepository.findAllLocalAuthorityNames())),
+            displayed
+        );
+        log.info("Built court spatial index of {} courts", built.getAll().size());
+        return built;
+    }
+
+    private static Map<CatchmentKey, SpatialIndex> catchments(final List<CourtSearchLink> links,
+                                                              final Map<Integer, SpatialIndex.Point> points,
+                                                              final BitSet regional,
+                                                              final Map<Integer, String> areaOfLawNames,
+                                                              final Map<Integer, String> localAuthorityNames) {
+        final HashMap<CatchmentKey, Set<Integer>> grouped = new HashMap<>();
+        for (final CourtSearchLink link : links) {
+            final String areaOfLaw = areaOfLawNames.get(link.getAreaOfLawId());
+            if (link.getLocalAuthorityId() == null) {
+                add(grouped, new CatchmentKey(areaOfLaw, null, false), link);
+            } else {
+                final String localAuthority = localAuthorityNames.get(link.getLocalAuthorityId());
+                add(grouped, new CatchmentKey(areaOfLaw, localAuthority, false), link);
+                if (regional.get(link.getCourtId())) {
+                    // As in CourtSearchResultRepository, the regional courts of an area of law are those which
+                    // cover a local authority for it
+                    add(grouped, new CatchmentKey(areaOfLaw, localAuthority, true), link);
+                    add(grouped, new CatchmentKey(areaOfLaw, null, true), link);
+                }
+            }
+        }
+
+        final HashMap<CatchmentKey, SpatialIndex> indexes = new HashMap<>();
+        grouped.forEach((key, courtIds) -> indexes.put(key, new SpatialIndex(
+            points.values().stream().filter(point -> courtIds.contains(point.getId())).collect(toList())
+        )));
+        return indexes;
+    }
+
+    private static void add(final Map<CatchmentKey, Set<Integer>> grouped, final CatchmentKey key,
+                            final CourtSearchLink link) {
+        grouped.computeIfAbsent(key, k -> new HashSet<>()).add(link.getCourtId());
+    }
+
+    private static Map<Integer, String> names(final List<NamedId> names) {
+        return names.stream().collect(toMap(NamedId::getId, NamedId::getName));
+    }
+
+    private static String key(final String name) {
+        return name == null ? null : name.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * The courts for an area of law, or an area of law and local authority, either all of them or only the
+     * regional ones. Names are in upper case, and the local authority is null for every court of the area of law.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class CatchmentKey {
+        private final String areaOfLaw;
+        private final String localAuthority;
+        private final boolean regionalOnly;
+    }
+
+    /**
+     * An immutable build of the index.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Snapshot {
+        private final SpatialIndex all;
+        private final Map<CatchmentKey, SpatialIndex> catchments;
+        private final BitSet displayed;
+
+        /**
+         * Get the k-d tree of a catchment, matching the names searched for ignoring case.
+         * @param areaOfLaw The area of law name
+         * @param localAuthority The local authority name, or null for every court of the area of law
+         * @param regionalOnly Whether only regional courts are wanted
+         * @return The k-d tree, or null if the area of law or local authority is unknown or has no courts
+         */
+        SpatialIndex catchment(final String areaOfLaw, final String localAuthority, final boolean regionalOnly) {
+            if (areaOfLaw == null) {
+                return null;
+            }
+            return catchments.get(new CatchmentKey(key(areaOfLaw), key(localAuthority), regionalOnly));
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
@@ -14,14 +13,14 @@ import java.util.List;
 @Component
 public class DefaultSearch implements Search {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
 
     /**
      * Constructor for the DefaultSearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
      */
-    public DefaultSearch(final CourtWithDistanceRepository courtWithDistanceRepository) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+    public DefaultSearch(final CourtSpatialIndex courtSpatialIndex) {
+        this.courtSpatialIndex = courtSpatialIndex;
     }
 
     /**
@@ -33,9 +32,9 @@ public class DefaultSearch implements Search {
      * @return A list of courts with distance
      */
     @Override
-    public List<CourtWithDistance> searchWith(
+    public List<CourtSearchResult> searchWith(
         final ServiceArea serviceArea, final MapitData mapitData, final String postcode, final Boolean includeClosed) {
-        return courtWithDistanceRepository.findNearestTenByAreaOfLaw(
+        return courtSpatialIndex.findNearestTenByAreaOfLaw(
             mapitData.getLat(),
             mapitData.getLon(),
             serviceArea.getAreaOfLaw().getName(),
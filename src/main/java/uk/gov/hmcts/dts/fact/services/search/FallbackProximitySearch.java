@@ -1,9 +1,8 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
@@ -13,14 +12,19 @@ import java.util.List;
 @Component
 public class FallbackProximitySearch {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private static final String SEARCH_NAME = FallbackProximitySearch.class.getSimpleName();
+
+    private final CourtSpatialIndex courtSpatialIndex;
+    private final SearchMetrics searchMetrics;
 
     /**
      * Constructor for the FallbackProximitySearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
+     * @param searchMetrics The metrics the fallbacks are counted and timed with
      */
-    public FallbackProximitySearch(final CourtWithDistanceRepository courtWithDistanceRepository) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+    public FallbackProximitySearch(final CourtSpatialIndex courtSpatialIndex, final SearchMetrics searchMetrics) {
+        this.courtSpatialIndex = courtSpatialIndex;
+        this.searchMetrics = searchMetrics;
     }
 
     /**
@@ -31,13 +35,14 @@ public class FallbackProximitySearch {
      * @param mapitData The mapit data
      * @return A list of courts with distance
      */
-    public List<CourtWithDistance> fallbackIfEmpty(final List<CourtWithDistance> courts,
+    public List<CourtSearchResult> fallbackIfEmpty(final List<CourtSearchResult> courts,
                                                    final String areaOfLaw,
                                                    final Boolean includeClosed,
                                                    final MapitData mapitData) {
         if (courts.isEmpty()) {
-            return courtWithDistanceRepository
-                .findNearestTenByAreaOfLaw(mapitData.getLat(), mapitData.getLon(), areaOfLaw, includeClosed);
+            searchMetrics.fallback(SEARCH_NAME);
+            return searchMetrics.time(SEARCH_NAME, () -> courtSpatialIndex
+                .findNearestTenByAreaOfLaw(mapitData.getLat(), mapitData.getLon(), areaOfLaw, includeClosed));
         }
 
         return courts;
@@ -1,10 +1,9 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
@@ -16,17 +15,17 @@ import static java.util.Collections.emptyList;
 @Component
 public class FamilyNonRegionalSearch implements Search {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
     private final FallbackProximitySearch fallbackProximitySearch;
 
     /**
      * Constructor for the FamilyNonRegionalSearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
      * @param fallbackProximitySearch The fallback proximity search
      */
-    public FamilyNonRegionalSearch(final CourtWithDistanceRepository courtWithDistanceRepository,
+    public FamilyNonRegionalSearch(final CourtSpatialIndex courtSpatialIndex,
                                    final FallbackProximitySearch fallbackProximitySearch) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+        this.courtSpatialIndex = courtSpatialIndex;
         this.fallbackProximitySearch = fallbackProximitySearch;
     }
 
@@ -39,12 +38,12 @@ public class FamilyNonRegionalSearch implements Search {
      * @return A list of courts with distance
      */
     @Override
-    public List<CourtWithDistance> searchWith(final ServiceArea serviceArea, final MapitData mapitData, final String postcode, final Boolean includeClosed) {
+    public List<CourtSearchResult> searchWith(final ServiceArea serviceArea, final MapitData mapitData, final String postcode, final Boolean includeClosed) {
 
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
-        final List<CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
-            .map(localAuthority -> courtWithDistanceRepository
+        final List<CourtSearchResult> courtsWithDistance = mapitData.getLocalAuthority()
+            .map(localAuthority -> courtSpatialIndex
                 .findNearestTenByAreaOfLawAndLocalAuthority(mapitData.getLat(), mapitData.getLon(), areaOfLaw, localAuthority, includeClosed))
             .orElse(emptyList());
 
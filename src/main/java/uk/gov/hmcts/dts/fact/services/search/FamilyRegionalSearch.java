@@ -1,10 +1,9 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
@@ -16,14 +15,19 @@ import static java.util.Collections.emptyList;
 @Component
 public class FamilyRegionalSearch implements Search {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private static final String SEARCH_NAME = FamilyRegionalSearch.class.getSimpleName();
+
+    private final CourtSpatialIndex courtSpatialIndex;
+    private final SearchMetrics searchMetrics;
 
     /**
      * Constructor for the FamilyRegionalSearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
+     * @param searchMetrics The metrics the fallbacks are counted with
      */
-    public FamilyRegionalSearch(final CourtWithDistanceRepository courtWithDistanceRepository) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+    public FamilyRegionalSearch(final CourtSpatialIndex courtSpatialIndex, final SearchMetrics searchMetrics) {
+        this.courtSpatialIndex = courtSpatialIndex;
+        this.searchMetrics = searchMetrics;
     }
 
     /**
@@ -35,12 +39,12 @@ public class FamilyRegionalSearch implements Search {
      * @return A list of courts with distance
      */
     @Override
-    public List<CourtWithDistance> searchWith(final ServiceArea serviceArea, final MapitData mapitData, final String postcode, final Boolean includeClosed) {
+    public List<CourtSearchResult> searchWith(final ServiceArea serviceArea, final MapitData mapitData, final String postcode, final Boolean includeClosed) {
 
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
-        final List<CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
-            .map(localAuthority -> courtWithDistanceRepository
+        final List<CourtSearchResult> courtsWithDistance = mapitData.getLocalAuthority()
+            .map(localAuthority -> courtSpatialIndex
                 .findNearestRegionalByAreaOfLawAndLocalAuthority(mapitData.getLat(), mapitData.getLon(), areaOfLaw, localAuthority))
             .orElse(emptyList());
 
@@ -54,11 +58,12 @@ public class FamilyRegionalSearch implements Search {
      * @param mapitData The mapit data
      * @return A list of courts with distance
      */
-    private List<CourtWithDistance> fallbackIfEmpty(final List<CourtWithDistance> courts,
+    private List<CourtSearchResult> fallbackIfEmpty(final List<CourtSearchResult> courts,
                                                     final String areaOfLaw,
                                                     final MapitData mapitData) {
         if (courts.isEmpty()) {
-            return courtWithDistanceRepository
+            searchMetrics.fallback(SEARCH_NAME);
+            return courtSpatialIndex
                 .findNearestRegionalByAreaOfLaw(mapitData.getLat(), mapitData.getLon(), areaOfLaw);
         }
 
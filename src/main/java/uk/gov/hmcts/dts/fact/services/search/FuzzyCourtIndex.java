@@ -0,0 +1,396 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An in-memory index of court names, historical names, addresses and towns, answering the fuzzy court search with
+ * the same matching and ordering rules as {@code CourtRepository.findCourtByNameAddressOrTownFuzzyMatch}.
+ *
+ * <p>An inverted index from trigram to court narrows a search to the courts sharing enough trigrams with the
+ * query to reach the word similarity thresholds, and a {@link BkTree} of towns finds the towns within matching
+ * Levenshtein distance. Only those courts, and those whose name contains the first word of the query, are then
+ * compared in full. As with the query, a court is returned once for every one of its addresses that matches.</p>
+ *
+ * <p>Courts can be added, replaced and removed while the index is being searched; the maps are guarded by a
+ * read write lock.</p>
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.UseConcurrentHashMap"})
+final class FuzzyCourtIndex {
+    private static final double MATCH_SIMILARITY = 0.6;
+    private static final double PREFIX_SIMILARITY = 0.5;
+    private static final double GOOD_SIMILARITY = 0.85;
+    private static final double TOWN_RATE = 0.79;
+    private static final char SPACE = ' ';
+
+    private static final Comparator<Hit> ORDER = Comparator
+        .comparing(Hit::isNameGood, Comparator.reverseOrder())
+        .thenComparing(Hit::getTownDiff, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Hit::isAddressGood, Comparator.reverseOrder())
+        .thenComparing(Hit::isPrefix, Comparator.reverseOrder())
+        .thenComparing(Hit::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+        .thenComparing(Hit::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Hit::getCourtId);
+
+    private final Map<Integer, IndexedCourt> courts = new HashMap<>();
+    private final Map<String, Integer> courtIdsBySlug = new HashMap<>();
+    private final Map<String, Set<Integer>> courtIdsByTrigram = new HashMap<>();
+    private final Map<String, Set<Integer>> courtIdsByTown = new HashMap<>();
+    private final BkTree towns = new BkTree();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The searchable text of a court.
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class CourtText {
+        private final int id;
+        private final String slug;
+        private final String name;
+        private final String nameCy;
+        private final List<AddressText> addresses;
+        private final List<String> historicalNames;
+    }
+
+    /**
+     * The searchable text of a court address.
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class AddressText {
+        private final String address;
+        private final String addressCy;
+        private final String townName;
+        private final String townNameCy;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class IndexedAddress {
+        private final List<String> address;
+        private final List<String> addressCy;
+        private final String town;
+        private final String townCy;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class IndexedCourt {
+        private final CourtText text;
+        private final String lowerName;
+        private final String lowerNameCy;
+        private final List<String> name;
+        private final List<String> nameCy;
+        private final List<List<String>> historicalNames;
+        private final List<IndexedAddress> addresses;
+        private final Set<String> trigrams;
+        private final Set<String> towns;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Query {
+        private final String lowerCase;
+        private final Set<String> trigrams;
+        private final String firstWord;
+        private final String prefix;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Hit {
+        private final int courtId;
+        private final boolean nameGood;
+        private final Integer townDiff;
+        private final boolean addressGood;
+        private final boolean prefix;
+        private final String name;
+    }
+
+    /**
+     * Add a court, replacing any court already indexed with the same id.
+     *
+     * @param court the court
+     */
+    void put(final CourtText court) {
+        final IndexedCourt indexed = index(court);
+        lock.writeLock().lock();
+        try {
+            removeCourt(court.getId());
+            courts.put(court.getId(), indexed);
+            courtIdsBySlug.put(court.getSlug(), court.getId());
+            indexed.getTrigrams().forEach(trigram -> courtIdsByTrigram
+                .computeIfAbsent(trigram, key -> new HashSet<>()).add(court.getId()));
+            indexed.getTowns().forEach(town -> {
+                courtIdsByTown.computeIfAbsent(town, key -> new HashSet<>()).add(court.getId());
+                towns.add(town);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a court, if it is indexed.
+     *
+     * @param slug the slug of the court
+     */
+    void remove(final String slug) {
+        lock.writeLock().lock();
+        try {
+            final Integer courtId = courtIdsBySlug.get(slug);
+            if (courtId != null) {
+                removeCourt(courtId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search the index.
+     *
+     * @param query the search string
+     * @return the ids of the matching courts, once for each matching address, in order
+     */
+    List<Integer> search(final String query) {
+        final Query parsed = parse(query);
+        lock.readLock().lock();
+        try {
+            final List<Hit> hits = new ArrayList<>();
+            for (final Integer courtId : candidates(parsed)) {
+                addHits(parsed, courts.get(courtId), hits);
+            }
+            hits.sort(ORDER);
+            return hits.stream().map(Hit::getCourtId).collect(toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of courts in the index.
+     *
+     * @return the number of courts
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return courts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeCourt(final int courtId) {
+        final IndexedCourt removed = courts.remove(courtId);
+        if (removed == null) {
+            return;
+        }
+        courtIdsBySlug.remove(removed.getText().getSlug(), courtId);
+        removed.getTrigrams().forEach(trigram -> removeFrom(courtIdsByTrigram, trigram, courtId));
+        // Towns stay in the tree, but once no court has them they no longer lead to any court
+        removed.getTowns().forEach(town -> removeFrom(courtIdsByTown, town, courtId));
+    }
+
+    private static void removeFrom(final Map<String, Set<Integer>> courtIds, final String key, final int courtId) {
+        final Set<Integer> ids = courtIds.get(key);
+        if (ids != null) {
+            ids.remove(courtId);
+            if (ids.isEmpty()) {
+                courtIds.remove(key);
+            }
+        }
+    }
+
+    private Set<Integer> candidates(final Query query) {
+        final Set<Integer> candidates = new HashSet<>();
+
+        // Sharing trigrams with any field is an upper bound on the word similarity with that field
+        final HashMap<Integer, Integer> shared = new HashMap<>();
+        for (final String trigram : query.getTrigrams()) {
+            courtIdsByTrigram.getOrDefault(trigram, Set.of()).forEach(id -> shared.merge(id, 1, Integer::sum));
+        }
+        final double minimumShared = PREFIX_SIMILARITY * query.getTrigrams().size();
+        shared.forEach((id, count) -> {
+            if (count > minimumShared) {
+                candidates.add(id);
+            }
+        });
+
+        if (query.getFirstWord() != null) {
+            courts.values().stream()
+                .filter(court -> contains(court.getLowerName(), query.getFirstWord())
+                    || contains(court.getLowerNameCy(), query.getFirstWord()))
+                .forEach(court -> candidates.add(court.getText().getId()));
+        }
+
+        // A town matches when the distance is under (1 - rate) of its length, so it can be no longer than this
+        final int radius = (int) Math.ceil(query.getLowerCase().length() * (1 - TOWN_RATE) / TOWN_RATE);
+        for (final String town : towns.search(query.getLowerCase(), radius)) {
+            candidates.addAll(courtIdsByTown.getOrDefault(town, Set.of()));
+        }
+        return candidates;
+    }
+
+    private static void addHits(final Query query, final IndexedCourt court, final List<Hit> hits) {
+        final double name = TextSimilarity.wordSimilarity(query.getTrigrams(), court.getName());
+        final double nameCy = TextSimilarity.wordSimilarity(query.getTrigrams(), court.getNameCy());
+        double historicalName = 0;
+        for (final List<String> trigrams : court.getHistoricalNames()) {
+            historicalName = Math.max(historicalName, TextSimilarity.wordSimilarity(query.getTrigrams(), trigrams));
+        }
+
+        final boolean nameMatch = nameMatches(query, court, name, nameCy)
+            || historicalName > MATCH_SIMILARITY;
+        final boolean nameGood = Math.max(Math.max(name, nameCy), historicalName) > GOOD_SIMILARITY;
+        final boolean prefix = startsWith(nullToEmpty(court.getLowerName()), query.getPrefix())
+            || startsWith(nullToEmpty(court.getLowerNameCy()), query.getPrefix());
+
+        for (final IndexedAddress address : court.getAddresses()) {
+            final double addressSimilarity = Math.max(
+                TextSimilarity.wordSimilarity(query.getTrigrams(), address.getAddress()),
+                TextSimilarity.wordSimilarity(query.getTrigrams(), address.getAddressCy())
+            );
+            if (nameMatch || addressSimilarity > MATCH_SIMILARITY || townMatches(address, query)) {
+                hits.add(new Hit(court.getText().getId(), nameGood, townDiff(address, query),
+                                 addressSimilarity > GOOD_SIMILARITY, prefix, court.getText().getName()));
+            }
+        }
+    }
+
+    private static boolean nameMatches(final Query query, final IndexedCourt court,
+                                       final double name, final double nameCy) {
+        if (query.getFirstWord() != null
+            && (contains(court.getLowerName(), query.getFirstWord()) || contains(court.getLowerNameCy(), query.getFirstWord()))) {
+            return true;
+        }
+        return Math.max(name, nameCy) > MATCH_SIMILARITY
+            || startsWith(court.getLowerName(), query.getPrefix()) && name > PREFIX_SIMILARITY
+            || startsWith(court.getLowerNameCy(), query.getPrefix()) && nameCy > PREFIX_SIMILARITY;
+    }
+
+    private static boolean townMatches(final IndexedAddress address, final Query query) {
+        return townMatches(address.getTown(), query) || townMatches(address.getTownCy(), query);
+    }
+
+    private static boolean townMatches(final String town, final Query query) {
+        if (town == null || town.isEmpty()) {
+            return false;
+        }
+        final int distance = TextSimilarity.levenshtein(town, query.getLowerCase());
+        return (double) (town.length() - distance) / town.length() > TOWN_RATE;
+    }
+
+    private static Integer townDiff(final IndexedAddress address, final Query query) {
+        final boolean hasTown = address.getTown() != null && !address.getTown().isEmpty();
+        final boolean hasTownCy = address.getTownCy() != null && !address.getTownCy().isEmpty();
+        if (hasTown && !hasTownCy) {
+            return TextSimilarity.levenshtein(address.getTown(), query.getLowerCase());
+        } else if (hasTownCy && !hasTown) {
+            return TextSimilarity.levenshtein(address.getTownCy(), query.getLowerCase());
+        }
+        Integer least = null;
+        for (final String town : new String[]{address.getTown(), address.getTownCy()}) {
+            if (town != null) {
+                final int distance = TextSimilarity.levenshtein(town, query.getLowerCase());
+                least = least == null ? distance : Math.min(least, distance);
+            }
+        }
+        return least;
+    }
+
+    private static IndexedCourt index(final CourtText court) {
+        final List<IndexedAddress> addresses = new ArrayList<>();
+        final Set<String> trigrams = new HashSet<>();
+        final Set<String> towns = new HashSet<>();
+        for (final AddressText address : court.getAddresses()) {
+            final IndexedAddress indexed = new IndexedAddress(
+                TextSimilarity.trigrams(address.getAddress()),
+                TextSimilarity.trigrams(address.getAddressCy()),
+                lowerCase(address.getTownName()),
+                lowerCase(address.getTownNameCy())
+            );
+            addresses.add(indexed);
+            trigrams.addAll(indexed.getAddress());
+            trigrams.addAll(indexed.getAddressCy());
+            addTown(indexed.getTown(), towns);
+            addTown(indexed.getTownCy(), towns);
+        }
+        if (addresses.isEmpty()) {
+            // A court without an address is still matched on its name, as with an outer join
+            addresses.add(new IndexedAddress(List.of(), List.of(), null, null));
+        }
+
+        final List<String> name = TextSimilarity.trigrams(court.getName());
+        final List<String> nameCy = TextSimilarity.trigrams(court.getNameCy());
+        final List<List<String>> historicalNames = court.getHistoricalNames().stream()
+            .map(TextSimilarity::trigrams)
+            .collect(toList());
+        trigrams.addAll(name);
+        trigrams.addAll(nameCy);
+        historicalNames.forEach(trigrams::addAll);
+
+        return new IndexedCourt(court, lowerCase(court.getName()), lowerCase(court.getNameCy()), name, nameCy,
+                                historicalNames, addresses, trigrams, towns);
+    }
+
+    private static void addTown(final String town, final Set<String> towns) {
+        if (town != null && !town.isEmpty()) {
+            towns.add(town);
+        }
+    }
+
+    private static Query parse(final String query) {
+        final String lowerCase = query.toLowerCase(Locale.ROOT);
+        final String trimmed = trimSpaces(lowerCase);
+        final String firstWord = trimmed.isEmpty() ? null : firstWord(trimmed);
+        return new Query(lowerCase, TextSimilarity.trigramSet(query), firstWord, firstWord(lowerCase));
+    }
+
+    private static String trimSpaces(final String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) == SPACE) {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) == SPACE) {
+            end--;
+        }
+        return text.substring(start, end);
+    }
+
+    private static String firstWord(final String text) {
+        final int space = text.indexOf(SPACE);
+        return space < 0 ? text : text.substring(0, space);
+    }
+
+    private static boolean contains(final String text, final String part) {
+        return text != null && text.contains(part);
+    }
+
+    private static boolean startsWith(final String text, final String prefix) {
+        return text != null && text.startsWith(prefix);
+    }
+
+    private static String nullToEmpty(final String text) {
+        return text == null ? "" : text;
+    }
+
+    private static String lowerCase(final String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,12 +1,12 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
 @SuppressWarnings("PMD.FinalParameterInAbstractMethod")
 public interface IProximitySearch {
 
-    List<CourtWithDistance> searchWith(final MapitData mapitData);
+    List<CourtSearchResult> searchWith(final MapitData mapitData);
 }
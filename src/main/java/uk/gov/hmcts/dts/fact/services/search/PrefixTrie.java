@@ -0,0 +1,146 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * A compressed (radix) trie from text keys to values, answering which values have a key starting with a prefix.
+ *
+ * <p>Every node holds the values under it, already ordered and with duplicates removed, so a search only walks
+ * down the prefix and takes the first values of the node it ends at. The trie cannot be changed once built, and
+ * so can be searched from any number of threads.</p>
+ *
+ * @param <T> the type of the values
+ */
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+final class PrefixTrie<T> {
+    private final Node<T> root;
+
+    private static final class Node<T> {
+        private String label;
+        private final Map<Character, Node<T>> children = new TreeMap<>();
+        private final List<T> values = new ArrayList<>();
+        private List<T> matches = emptyList();
+
+        private Node(final String label) {
+            this.label = label;
+        }
+    }
+
+    private PrefixTrie(final Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Build a trie.
+     *
+     * @param entries the values for each key
+     * @param order the order values are returned in
+     * @param identity the identity of a value; where values share an identity only the first in order is returned
+     * @param <T> the type of the values
+     * @return the trie
+     */
+    static <T> PrefixTrie<T> build(final Map<String, List<T>> entries,
+                                   final Comparator<? super T> order,
+                                   final Function<? super T, ?> identity) {
+        final Node<T> root = new Node<>("");
+        entries.forEach((key, values) -> insert(root, key, values));
+        collect(root, order, identity);
+        return new PrefixTrie<>(root);
+    }
+
+    /**
+     * Find the values with a key starting with a prefix.
+     *
+     * @param prefix the prefix
+     * @param limit the maximum number of values to return
+     * @return the values, in order
+     */
+    List<T> find(final String prefix, final int limit) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            final Node<T> child = node.children.get(prefix.charAt(index));
+            if (child == null) {
+                return emptyList();
+            }
+            final int remaining = prefix.length() - index;
+            if (remaining <= child.label.length()) {
+                // The prefix ends part way along the edge to this child
+                return child.label.regionMatches(0, prefix, index, remaining) ? first(child, limit) : emptyList();
+            }
+            if (!prefix.startsWith(child.label, index)) {
+                return emptyList();
+            }
+            index += child.label.length();
+            node = child;
+        }
+        return first(node, limit);
+    }
+
+    private static <T> List<T> first(final Node<T> node, final int limit) {
+        return node.matches.subList(0, Math.min(limit, node.matches.size()));
+    }
+
+    private static <T> void insert(final Node<T> root, final String key, final List<T> values) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node<T> child = node.children.get(key.charAt(index));
+            if (child == null) {
+                child = new Node<>(key.substring(index));
+                node.children.put(key.charAt(index), child);
+                node = child;
+                break;
+            }
+            final int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                // Split the edge where the key leaves it
+                final Node<T> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                node.children.put(split.label.charAt(0), split);
+                child = split;
+            }
+            index += common;
+            node = child;
+        }
+        node.values.addAll(values);
+    }
+
+    private static int commonPrefixLength(final String label, final String key, final int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+            && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static <T> List<T> collect(final Node<T> node, final Comparator<? super T> order,
+                                       final Function<? super T, ?> identity) {
+        final List<T> all = new ArrayList<>(node.values);
+        for (final Node<T> child : node.children.values()) {
+            all.addAll(collect(child, order, identity));
+        }
+        all.sort(order);
+
+        final Set<Object> seen = new HashSet<>();
+        final List<T> matches = new ArrayList<>();
+        for (final T value : all) {
+            if (seen.add(identity.apply(value))) {
+                matches.add(value);
+            }
+        }
+        node.matches = List.copyOf(matches);
+        return node.matches;
+    }
+}
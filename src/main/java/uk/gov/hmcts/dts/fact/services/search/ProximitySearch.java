@@ -1,9 +1,8 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
@@ -13,14 +12,14 @@ import java.util.List;
 @Component
 public class ProximitySearch implements IProximitySearch {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
 
     /**
      * Constructor for the ProximitySearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
      */
-    public ProximitySearch(final CourtWithDistanceRepository courtWithDistanceRepository) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+    public ProximitySearch(final CourtSpatialIndex courtSpatialIndex) {
+        this.courtSpatialIndex = courtSpatialIndex;
     }
 
     /**
@@ -29,8 +28,8 @@ public class ProximitySearch implements IProximitySearch {
      * @return A list of 10 courts
      */
     @Override
-    public List<CourtWithDistance> searchWith(final MapitData mapitData) {
-        return courtWithDistanceRepository.findNearestTen(
+    public List<CourtSearchResult> searchWith(final MapitData mapitData) {
+        return courtSpatialIndex.findNearestTen(
             mapitData.getLat(),
             mapitData.getLon()
         );
@@ -0,0 +1,109 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds an in-memory build of data read from the database, such as a search index, and rebuilds it once it is out
+ * of date.
+ *
+ * <p>A build is out of date once it has been invalidated, which is done when a change to the data it was read
+ * from is committed, through this instance or another, or once it is older than the refresh interval. The refresh
+ * interval only bounds how long a change is missed for when it is not notified, such as a notification lost while
+ * this instance was disconnected, or a change made directly to the database.</p>
+ *
+ * <p>Only one thread rebuilds at a time, on the request it was searching for. Until the first build is made
+ * searches wait for it, but after that an out of date build carries on being returned to the other searches while
+ * it is rebuilt, so a rebuild never holds up more than one request.</p>
+ *
+ * @param <T> The type of the build
+ */
+public final class RefreshingSnapshot<T> {
+    private final Supplier<T> builder;
+    private final long refreshNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile Build<T> current;
+
+    /**
+     * Constructor for the RefreshingSnapshot. Nothing is built until it is first asked for.
+     * @param builder Builds the data from the database
+     * @param refreshMinutes The maximum age of a build, in minutes
+     */
+    public RefreshingSnapshot(final Supplier<T> builder, final long refreshMinutes) {
+        this.builder = builder;
+        this.refreshNanos = TimeUnit.MINUTES.toNanos(refreshMinutes);
+    }
+
+    /**
+     * Get the build, rebuilding it if it is out of date and no other thread is already doing so.
+     * @return The current build, or the previous one while it is being rebuilt
+     */
+    public T get() {
+        final Build<T> existing = current;
+        if (isCurrent(existing)) {
+            return existing.value;
+        }
+        if (existing == null) {
+            rebuildLock.lock();
+        } else if (!rebuildLock.tryLock()) {
+            return existing.value;
+        }
+        try {
+            if (!isCurrent(current)) {
+                final long buildGeneration = generation.get();
+                final long builtAt = System.nanoTime();
+                current = new Build<>(buildGeneration, builtAt, builder.get());
+            }
+            return current.value;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Change the build in place, without rebuilding it. Nothing is done if there is no build yet. The change cannot
+     * run alongside a rebuild, so it cannot be lost to a rebuild which read the data before it was changed.
+     * @param update The change to the build
+     */
+    public void update(final Consumer<T> update) {
+        rebuildLock.lock();
+        try {
+            final Build<T> existing = current;
+            if (existing != null) {
+                update.accept(existing.value);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Mark the build as out of date. It is rebuilt on the next search.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private boolean isCurrent(final Build<T> build) {
+        return build != null
+            && build.generation == generation.get()
+            && System.nanoTime() - build.builtAt < refreshNanos;
+    }
+
+    /**
+     * A build, with the generation it was started at and when.
+     */
+    @AllArgsConstructor
+    private static final class Build<T> {
+        private final long generation;
+        private final long builtAt;
+        private final T value;
+    }
+}
@@ -1,15 +1,15 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
 @SuppressWarnings("PMD.FinalParameterInAbstractMethod")
 public interface Search {
 
-    List<CourtWithDistance> searchWith(
+    List<CourtSearchResult> searchWith(
         final ServiceArea serviceArea,
         final MapitData mapitData,
         final String postcode,
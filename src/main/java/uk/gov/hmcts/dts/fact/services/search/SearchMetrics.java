@@ -0,0 +1,125 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.util.Action;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static uk.gov.hmcts.dts.fact.model.ServiceAreaType.serviceAreaTypeFrom;
+
+/**
+ * Publishes the time taken by each court search strategy through micrometer, along with the number of searches
+ * which found no courts and the number which fell back to a proximity search.
+ *
+ * <p>A search for a service area runs with the type of the service area and the search action as its context.
+ * Every meter recorded while it runs on the same thread, including the repository invocation timers, is tagged
+ * with them, or with {@code none} outside a search. The tags only take a few fixed values each, so the number of
+ * time series stays small.</p>
+ */
+@Component
+public class SearchMetrics {
+    static final String SEARCH_TIMER = "court.search";
+    static final String EMPTY_COUNTER = "court.search.empty";
+    static final String FALLBACK_COUNTER = "court.search.fallback";
+    static final String SEARCH_TAG = "search";
+    static final String SERVICE_AREA_TYPE_TAG = "service.area.type";
+    static final String ACTION_TAG = "action";
+
+    private static final String NONE = "none";
+    private static final Tags NO_CONTEXT = Tags.of(SERVICE_AREA_TYPE_TAG, NONE, ACTION_TAG, NONE);
+    private static final ThreadLocal<Tags> CONTEXT = ThreadLocal.withInitial(() -> NO_CONTEXT);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for the SearchMetrics.
+     * @param meterRegistry The registry the search timers and counters are published to
+     */
+    public SearchMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Run a search for a service area, timing it and tagging everything recorded while it runs with the type of
+     * the service area and the action.
+     * @param search The search strategy, whose class names the timer
+     * @param serviceArea The service area searched for
+     * @param action The search action
+     * @param courts The search
+     * @param <T> The type of the courts found
+     * @return The courts found
+     */
+    public <T> List<T> search(final Object search, final ServiceArea serviceArea, final Action action,
+                              final Supplier<List<T>> courts) {
+        final Tags previousContext = CONTEXT.get();
+        CONTEXT.set(Tags.of(SERVICE_AREA_TYPE_TAG, serviceAreaType(serviceArea), ACTION_TAG, action(action)));
+        try {
+            return time(ClassUtils.getUserClass(search).getSimpleName(), courts);
+        } finally {
+            CONTEXT.set(previousContext);
+        }
+    }
+
+    /**
+     * Time a search, counting it if it finds no courts.
+     * @param search The name of the search strategy
+     * @param courts The search
+     * @param <T> The type of the courts found
+     * @return The courts found
+     */
+    public <T> List<T> time(final String search, final Supplier<List<T>> courts) {
+        final Tags tags = getContextTags().and(SEARCH_TAG, search);
+        final List<T> found = Timer.builder(SEARCH_TIMER)
+            .description("Time taken by a court search strategy")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(courts);
+        if (found == null || found.isEmpty()) {
+            Counter.builder(EMPTY_COUNTER)
+                .description("Court searches which found no courts")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment();
+        }
+        return found;
+    }
+
+    /**
+     * Count a search which found no courts and fell back to the nearest courts.
+     * @param search The name of the search strategy which fell back
+     */
+    public void fallback(final String search) {
+        Counter.builder(FALLBACK_COUNTER)
+            .description("Court searches which fell back to the nearest courts")
+            .tags(getContextTags().and(SEARCH_TAG, search))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Get the service area type and action of the search running on this thread.
+     * @return The context tags, {@code none} outside a search
+     */
+    public Tags getContextTags() {
+        return CONTEXT.get();
+    }
+
+    private static String serviceAreaType(final ServiceArea serviceArea) {
+        return serviceArea.getType() == null
+            ? NONE
+            : serviceAreaTypeFrom(serviceArea.getType()).name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String action(final Action action) {
+        return action == null ? NONE : action.getName();
+    }
+}
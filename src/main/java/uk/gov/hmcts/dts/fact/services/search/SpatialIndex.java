@@ -0,0 +1,218 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * An immutable k-d tree of court positions, answering nearest neighbour queries without touching the database.
+ *
+ * <p>Positions are held as unit vectors on the sphere, in primitive arrays laid out in tree order (the node for
+ * a range is its middle element). Euclidean distance between unit vectors increases with great circle distance,
+ * so the nearest courts by chord are also the nearest by miles. Courts without coordinates are kept to one side
+ * and returned after every located court, as postgres does when ordering by a null distance.</p>
+ *
+ * <p>Courts at the same distance are returned in the order they were given to the index, which is their rank.
+ * Given in name order, the index answers as {@code ORDER BY distance, name} would, including which of the
+ * co-located courts survive the limit.</p>
+ */
+final class SpatialIndex {
+    private static final int DIMENSIONS = 3;
+    private static final int ID = DIMENSIONS;
+    private static final int RANK = DIMENSIONS + 1;
+
+    private final int[] ids;
+    private final int[] ranks;
+    private final double[][] coordinates;
+    private final int[] unlocatedIds;
+
+    /**
+     * A court to be indexed.
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class Point {
+        private final int id;
+        private final Double lat;
+        private final Double lon;
+
+        boolean isLocated() {
+            return lat != null && lon != null;
+        }
+    }
+
+    /**
+     * Build an index over the given courts.
+     *
+     * @param points the courts, in the order courts at the same distance are returned. Those without a lat and
+     *               lon are returned last, in the order given.
+     */
+    SpatialIndex(final List<Point> points) {
+        final List<double[]> located = new ArrayList<>();
+        final List<Integer> unlocated = new ArrayList<>();
+        for (int rank = 0; rank < points.size(); rank++) {
+            final Point point = points.get(rank);
+            if (point.isLocated()) {
+                final double[] vector = toUnitVector(point.getLat(), point.getLon());
+                located.add(new double[]{vector[0], vector[1], vector[2], point.getId(), rank});
+            } else {
+                unlocated.add(point.getId());
+            }
+        }
+
+        build(located, 0, located.size(), 0);
+        this.ids = new int[located.size()];
+        this.ranks = new int[located.size()];
+        this.coordinates = new double[DIMENSIONS][located.size()];
+        for (int i = 0; i < located.size(); i++) {
+            final double[] node = located.get(i);
+            for (int axis = 0; axis < DIMENSIONS; axis++) {
+                coordinates[axis][i] = node[axis];
+            }
+            ids[i] = (int) node[ID];
+            ranks[i] = (int) node[RANK];
+        }
+        this.unlocatedIds = unlocated.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Find the ids of the courts nearest to a position.
+     *
+     * @param lat the latitude
+     * @param lon the longitude
+     * @param limit the maximum number of courts to return
+     * @param filter the courts which may be returned
+     * @return the ids of up to {@code limit} courts, nearest first
+     */
+    int[] nearest(final double lat, final double lon, final int limit, final IntPredicate filter) {
+        if (limit <= 0) {
+            return new int[0];
+        }
+        final Neighbours neighbours = new Neighbours(limit);
+        search(toUnitVector(lat, lon), 0, ids.length, 0, filter, neighbours);
+
+        final int[] result = new int[limit];
+        int found = neighbours.copyIdsTo(result);
+        for (int i = 0; i < unlocatedIds.length && found < limit; i++) {
+            if (filter.test(unlocatedIds[i])) {
+                result[found++] = unlocatedIds[i];
+            }
+        }
+        return found == limit ? result : Arrays.copyOf(result, found);
+    }
+
+    int size() {
+        return ids.length + unlocatedIds.length;
+    }
+
+    private void search(final double[] query, final int low, final int high, final int depth,
+                        final IntPredicate filter, final Neighbours neighbours) {
+        if (low >= high) {
+            return;
+        }
+        final int mid = (low + high) >>> 1;
+        if (filter.test(ids[mid])) {
+            neighbours.offer(squaredDistance(query, mid), ranks[mid], ids[mid]);
+        }
+
+        final int axis = depth % DIMENSIONS;
+        final double delta = query[axis] - coordinates[axis][mid];
+        if (delta < 0) {
+            search(query, low, mid, depth + 1, filter, neighbours);
+            if (neighbours.mayReach(delta * delta)) {
+                search(query, mid + 1, high, depth + 1, filter, neighbours);
+            }
+        } else {
+            search(query, mid + 1, high, depth + 1, filter, neighbours);
+            if (neighbours.mayReach(delta * delta)) {
+                search(query, low, mid, depth + 1, filter, neighbours);
+            }
+        }
+    }
+
+    private double squaredDistance(final double[] query, final int node) {
+        double sum = 0;
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            final double delta = query[axis] - coordinates[axis][node];
+            sum += delta * delta;
+        }
+        return sum;
+    }
+
+    private static void build(final List<double[]> nodes, final int low, final int high, final int depth) {
+        if (high - low <= 1) {
+            return;
+        }
+        final int axis = depth % DIMENSIONS;
+        nodes.subList(low, high).sort(Comparator.comparingDouble(node -> node[axis]));
+        final int mid = (low + high) >>> 1;
+        build(nodes, low, mid, depth + 1);
+        build(nodes, mid + 1, high, depth + 1);
+    }
+
+    private static double[] toUnitVector(final double lat, final double lon) {
+        final double phi = Math.toRadians(lat);
+        final double lambda = Math.toRadians(lon);
+        return new double[]{
+            Math.cos(phi) * Math.cos(lambda),
+            Math.cos(phi) * Math.sin(lambda),
+            Math.sin(phi)
+        };
+    }
+
+    /**
+     * The best candidates found so far, kept sorted by distance and then rank. The limit is small (at most ten) so
+     * an insertion sort over primitive arrays is cheaper than a heap.
+     */
+    private static final class Neighbours {
+        private final double[] distances;
+        private final int[] ranks;
+        private final int[] candidates;
+        private int size;
+
+        Neighbours(final int limit) {
+            this.distances = new double[limit];
+            this.ranks = new int[limit];
+            this.candidates = new int[limit];
+        }
+
+        /**
+         * Check if a court at least this far away could still be kept. A court at exactly the distance of the
+         * furthest candidate may displace it on rank, so the bound is inclusive.
+         */
+        boolean mayReach(final double squaredDistance) {
+            return size < distances.length || squaredDistance <= distances[size - 1];
+        }
+
+        void offer(final double squaredDistance, final int rank, final int id) {
+            if (size == distances.length && !precedes(squaredDistance, rank, size - 1)) {
+                return;
+            }
+            int position = size < distances.length ? size++ : size - 1;
+            while (position > 0 && precedes(squaredDistance, rank, position - 1)) {
+                distances[position] = distances[position - 1];
+                ranks[position] = ranks[position - 1];
+                candidates[position] = candidates[position - 1];
+                position--;
+            }
+            distances[position] = squaredDistance;
+            ranks[position] = rank;
+            candidates[position] = id;
+        }
+
+        private boolean precedes(final double squaredDistance, final int rank, final int position) {
+            return squaredDistance < distances[position]
+                || squaredDistance == distances[position] && rank < ranks[position];
+        }
+
+        int copyIdsTo(final int[] target) {
+            System.arraycopy(candidates, 0, target, 0, size);
+            return size;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * In-memory equivalents of the postgres {@code pg_trgm} and {@code fuzzystrmatch} functions used by the fuzzy
+ * court search, so that the same matching rules can be applied without a query.
+ *
+ * <p>Trigrams are extracted as {@code pg_trgm} does: the text is lower cased and split into words of letters and
+ * digits, each word is padded with two spaces before and one after, and every run of three characters is a
+ * trigram. Word similarity is the greatest similarity between the trigrams of the query and those of any
+ * continuous extent of the trigrams of the text, similarity being the number of shared trigrams divided by the
+ * number of distinct trigrams in both.</p>
+ */
+final class TextSimilarity {
+
+    private static final String WORD_PREFIX = "  ";
+    private static final String WORD_SUFFIX = " ";
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private TextSimilarity() {
+    }
+
+    /**
+     * Get the trigrams of a text, in the order they appear. A trigram appearing more than once is repeated.
+     *
+     * @param text the text, may be null
+     * @return the trigrams
+     */
+    static List<String> trigrams(final String text) {
+        final List<String> trigrams = new ArrayList<>();
+        if (text == null) {
+            return trigrams;
+        }
+        final String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int index = 0; index <= lowerCase.length(); index++) {
+            final boolean wordCharacter = index < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(index));
+            if (wordCharacter && start < 0) {
+                start = index;
+            } else if (!wordCharacter && start >= 0) {
+                addWordTrigrams(WORD_PREFIX + lowerCase.substring(start, index) + WORD_SUFFIX, trigrams);
+                start = -1;
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Get the distinct trigrams of a text.
+     *
+     * @param text the text, may be null
+     * @return the trigrams
+     */
+    static Set<String> trigramSet(final String text) {
+        return new LinkedHashSet<>(trigrams(text));
+    }
+
+    /**
+     * Equivalent of {@code word_similarity(query, text)}.
+     *
+     * @param query the distinct trigrams of the query
+     * @param text the trigrams of the text, in order
+     * @return the word similarity, between 0 and 1
+     */
+    static double wordSimilarity(final Set<String> query, final List<String> text) {
+        if (query.isEmpty()) {
+            return 0;
+        }
+        double best = 0;
+        final Set<String> extent = new HashSet<>();
+        for (int start = 0; start < text.size() && best < 1; start++) {
+            extent.clear();
+            int shared = 0;
+            for (int end = start; end < text.size(); end++) {
+                final String trigram = text.get(end);
+                if (extent.add(trigram) && query.contains(trigram)) {
+                    shared++;
+                }
+                if (shared > 0) {
+                    best = Math.max(best, (double) shared / (query.size() + extent.size() - shared));
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Equivalent of {@code levenshtein(source, target)}, with insertions, deletions and substitutions all costing 1.
+     *
+     * @param source the source text
+     * @param target the target text
+     * @return the number of edits needed to turn the source into the target
+     */
+    static int levenshtein(final String source, final String target) {
+        final int[] sourceCodePoints = source.codePoints().toArray();
+        final int[] targetCodePoints = target.codePoints().toArray();
+        int[] previous = new int[targetCodePoints.length + 1];
+        int[] current = new int[targetCodePoints.length + 1];
+        for (int column = 0; column <= targetCodePoints.length; column++) {
+            previous[column] = column;
+        }
+        for (int row = 1; row <= sourceCodePoints.length; row++) {
+            current[0] = row;
+            for (int column = 1; column <= targetCodePoints.length; column++) {
+                final int substitution = sourceCodePoints[row - 1] == targetCodePoints[column - 1] ? 0 : 1;
+                current[column] = Math.min(
+                    Math.min(current[column - 1] + 1, previous[column] + 1),
+                    previous[column - 1] + substitution
+                );
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[targetCodePoints.length];
+    }
+
+    private static void addWordTrigrams(final String paddedWord, final List<String> trigrams) {
+        for (int index = 0; index + TRIGRAM_LENGTH <= paddedWord.length(); index++) {
+            trigrams.add(paddedWord.substring(index, index + TRIGRAM_LENGTH));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package uk.gov.hmcts.dts.fact.services.validation;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeValidationResult;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeValidationResult.Reason;
+import uk.gov.hmcts.dts.fact.services.MapitService;
+import uk.gov.hmcts.dts.fact.util.Postcode;
+import uk.gov.hmcts.dts.fact.util.PostcodeArea;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import static uk.gov.hmcts.dts.fact.services.validation.PostcodeValidator.isFullPostcodeFormat;
+import static uk.gov.hmcts.dts.fact.services.validation.PostcodeValidator.shortenPartialPostcode;
+
+/**
+ * Validates many postcodes at once, such as the postcodes of a court catchment uploaded by an admin. A postcode
+ * is valid on the same terms as {@link PostcodeValidator#postcodeDataExists(String)}.
+ *
+ * <p>The postcodes are normalised, and each distinct full postcode and partial postcode (an outcode or sector) is
+ * looked up in mapit once, however many of the given postcodes share it. The lookups run concurrently on virtual
+ * threads, at most {@code mapit.validation.concurrency} at a time and no more than
+ * {@code mapit.validation.rate-per-second} a second. A lookup which cannot start within
+ * {@code mapit.validation.timeout-seconds} is given up. Shortened partial postcodes, which are only tried when
+ * mapit has no data for a partial postcode, are looked up in a second round for the postcodes still unresolved.</p>
+ */
+@Slf4j
+@Component
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class BulkPostcodeValidator {
+    private final PostcodeValidator postcodeValidator;
+    private final MapitService mapitService;
+    private final Semaphore permits;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Constructor for the BulkPostcodeValidator.
+     * @param postcodeValidator The validator which finds the partial postcodes to look up
+     * @param mapitService The service used to look up the postcodes
+     * @param concurrency The maximum number of mapit lookups made at once
+     * @param ratePerSecond The maximum number of mapit lookups started each second
+     * @param timeoutSeconds The time a lookup waits to start before it is given up, in seconds
+     */
+    @Autowired
+    public BulkPostcodeValidator(final PostcodeValidator postcodeValidator,
+                                 final MapitService mapitService,
+                                 @Value("${mapit.validation.concurrency:10}") final int concurrency,
+                                 @Value("${mapit.validation.rate-per-second:50}") final int ratePerSecond,
+                                 @Value("${mapit.validation.timeout-seconds:30}") final long timeoutSeconds) {
+        this.postcodeValidator = postcodeValidator;
+        this.mapitService = mapitService;
+        this.permits = new Semaphore(concurrency);
+        this.rateLimiter = RateLimiter.of("mapit-validation", RateLimiterConfig.custom()
+            .limitForPeriod(ratePerSecond)
+            .limitRefreshPeriod(Duration.ofSeconds(1))
+            .timeoutDuration(Duration.ofSeconds(timeoutSeconds))
+            .build());
+    }
+
+    /**
+     * Validate the postcodes.
+     * @param postcodes The postcodes
+     * @return A result for each postcode, in the order given
+     */
+    public List<PostcodeValidationResult> validate(final List<String> postcodes) {
+        final LinkedHashMap<String, Candidate> candidates = new LinkedHashMap<>();
+        for (final String postcode : postcodes) {
+            candidates.computeIfAbsent(normalise(postcode), this::toCandidate);
+        }
+
+        final Set<String> fullPostcodes = new LinkedHashSet<>();
+        final Set<String> partialPostcodes = new LinkedHashSet<>();
+        for (final Candidate candidate : candidates.values()) {
+            if (candidate.isFullPostcode()) {
+                fullPostcodes.add(candidate.getPostcode());
+            }
+            partialPostcodes.addAll(candidate.getPartialPostcodes());
+        }
+        final Lookups lookups = lookUp(fullPostcodes, partialPostcodes);
+
+        final Set<String> shortenedPartialPostcodes = new LinkedHashSet<>();
+        for (final Candidate candidate : candidates.values()) {
+            if (candidate.needsShortenedPartialPostcodes(lookups)) {
+                for (final String partialPostcode : candidate.getPartialPostcodes()) {
+                    shortenedPartialPostcodes.add(shortenPartialPostcode(partialPostcode));
+                }
+            }
+        }
+        shortenedPartialPostcodes.removeAll(partialPostcodes);
+        lookups.add(lookUp(new LinkedHashSet<>(), shortenedPartialPostcodes));
+
+        final List<PostcodeValidationResult> results = new ArrayList<>(postcodes.size());
+        for (final String postcode : postcodes) {
+            final Optional<Reason> reason = candidates.get(normalise(postcode)).check(lookups);
+            results.add(new PostcodeValidationResult(postcode, reason.isEmpty(), reason.orElse(null)));
+        }
+        return results;
+    }
+
+    private Candidate toCandidate(final String postcode) {
+        if (StringUtils.isBlank(postcode) || PostcodeArea.isValidArea(postcode)) {
+            return new Candidate(postcode, false, new ArrayList<>());
+        }
+        return new Candidate(postcode, isFullPostcodeFormat(postcode), postcodeValidator.partialPostcodes(postcode));
+    }
+
+    private Lookups lookUp(final Set<String> fullPostcodes, final Set<String> partialPostcodes) {
+        final HashMap<String, Future<Outcome>> fullLookups = new HashMap<>();
+        final HashMap<String, Future<Outcome>> partialLookups = new HashMap<>();
+        if (!fullPostcodes.isEmpty() || !partialPostcodes.isEmpty()) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (final String postcode : fullPostcodes) {
+                    fullLookups.put(postcode, executor.submit(() -> lookUp(postcode, mapitService::getMapitData)));
+                }
+                for (final String postcode : partialPostcodes) {
+                    partialLookups.put(
+                        postcode,
+                        executor.submit(() -> lookUp(postcode, mapitService::getMapitDataWithPartial))
+                    );
+                }
+            }
+        }
+        return new Lookups(outcomes(fullLookups), outcomes(partialLookups));
+    }
+
+    private Outcome lookUp(final String postcode, final Function<String, Optional<MapitData>> lookup) {
+        try {
+            permits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Outcome.UNAVAILABLE;
+        }
+        try {
+            if (!rateLimiter.acquirePermission()) {
+                log.warn("Mapit lookup for {} was not made within the rate budget", postcode);
+                return Outcome.UNAVAILABLE;
+            }
+            return lookup.apply(postcode).isPresent() ? Outcome.FOUND : Outcome.NOT_FOUND;
+        } catch (final RuntimeException ex) {
+            log.warn("Mapit lookup for {} failed: {}", postcode, ex.getMessage(), ex);
+            return Outcome.UNAVAILABLE;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static Map<String, Outcome> outcomes(final Map<String, Future<Outcome>> lookups) {
+        final HashMap<String, Outcome> outcomes = new HashMap<>();
+        lookups.forEach((postcode, lookup) -> outcomes.put(postcode, lookup.resultNow()));
+        return outcomes;
+    }
+
+    private static String normalise(final String postcode) {
+        return postcode == null ? "" : Postcode.normalise(postcode);
+    }
+
+    private enum Outcome {
+        FOUND,
+        NOT_FOUND,
+        UNAVAILABLE
+    }
+
+    /**
+     * The outcome of each mapit lookup, by full or partial postcode.
+     */
+    private static final class Lookups {
+        private final Map<String, Outcome> fullPostcodes;
+        private final Map<String, Outcome> partialPostcodes;
+
+        Lookups(final Map<String, Outcome> fullPostcodes, final Map<String, Outcome> partialPostcodes) {
+            this.fullPostcodes = new HashMap<>(fullPostcodes);
+            this.partialPostcodes = new HashMap<>(partialPostcodes);
+        }
+
+        void add(final Lookups lookups) {
+            fullPostcodes.putAll(lookups.fullPostcodes);
+            partialPostcodes.putAll(lookups.partialPostcodes);
+        }
+
+        Outcome fullPostcode(final String postcode) {
+            return fullPostcodes.getOrDefault(postcode, Outcome.NOT_FOUND);
+        }
+
+        Outcome partialPostcode(final String postcode) {
+            return partialPostcodes.getOrDefault(postcode, Outcome.NOT_FOUND);
+        }
+    }
+
+    /**
+     * A distinct normalised postcode and the lookups which can show it is valid.
+     */
+    private static final class Candidate {
+        private final String postcode;
+        private final boolean fullPostcode;
+        private final List<String> partialPostcodes;
+
+        Candidate(final String postcode, final boolean fullPostcode, final List<String> partialPostcodes) {
+            this.postcode = postcode;
+            this.fullPostcode = fullPostcode;
+            this.partialPostcodes = partialPostcodes;
+        }
+
+        String getPostcode() {
+            return postcode;
+        }
+
+        boolean isFullPostcode() {
+            return fullPostcode;
+        }
+
+        List<String> getPartialPostcodes() {
+            return partialPostcodes;
+        }
+
+        boolean needsShortenedPartialPostcodes(final Lookups lookups) {
+            if (partialPostcodes.isEmpty() || fullPostcode && lookups.fullPostcode(postcode) == Outcome.FOUND) {
+                return false;
+            }
+            return partialPostcodes.stream().noneMatch(p -> lookups.partialPostcode(p) == Outcome.FOUND);
+        }
+
+        /**
+         * Check the postcode against the lookups.
+         * @param lookups The outcome of the lookups
+         * @return The reason the postcode is not valid, or empty if it is
+         */
+        Optional<Reason> check(final Lookups lookups) {
+            if (StringUtils.isBlank(postcode)) {
+                return Optional.of(Reason.BLANK);
+            } else if (PostcodeArea.isValidArea(postcode)) {
+                return Optional.empty();
+            } else if (!fullPostcode && partialPostcodes.isEmpty()) {
+                return Optional.of(Reason.INVALID_FORMAT);
+            }
+
+            final List<Outcome> outcomes = new ArrayList<>();
+            if (fullPostcode) {
+                outcomes.add(lookups.fullPostcode(postcode));
+            }
+            for (final String partialPostcode : partialPostcodes) {
+                outcomes.add(lookups.partialPostcode(partialPostcode));
+                outcomes.add(lookups.partialPostcode(shortenPartialPostcode(partialPostcode)));
+            }
+
+            if (outcomes.contains(Outcome.FOUND)) {
+                return Optional.empty();
+            }
+            return Optional.of(outcomes.contains(Outcome.UNAVAILABLE) ? Reason.LOOKUP_UNAVAILABLE : Reason.NOT_FOUND);
+        }
+    }
+}
@@ -5,8 +5,11 @@ import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.services.MapitService;
+import uk.gov.hmcts.dts.fact.util.Postcode;
 import uk.gov.hmcts.dts.fact.util.PostcodeArea;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,13 +21,11 @@ import java.util.regex.Pattern;
 public class PostcodeValidator {
 
     private final MapitService mapitService;
-    private static final String FULL_POSTCODE = "([Gg][Ii][Rr] 0[Aa]{2})|((([A-Za-z]\\d{1,2})|(([A-Za-z]"
-        + "[A-Ha-hJ-Yj-y]\\d{1,2})|(([A-Za-z]\\d[A-Za-z])|([A-Za-z][A-Ha-hJ-Yj-y]"
-        + "\\d[A-Za-z]?))))\\s?\\d[A-Za-z]{2})";
     private static final String PARTIAL_POSTCODE_SEARCH = "[A-Za-z]{2}";
-    private static final String PARTIAL_POSTCODE_NUMERIC = "(^[A-Za-z]{1,2}[0-9]{1,3}$)";
-    private static final String PARTIAL_POSTCODE_EDGECASE = "(^[A-Za-z][0-9]{1,2}[A-Za-z][0-9]?$)|"
-        + "(^[A-Za-z]{2}([0-9]{1}[A-Za-z][0-9]?)$)";
+    private static final Pattern PARTIAL_POSTCODE_NUMERIC = Pattern.compile("(^[A-Za-z]{1,2}[0-9]{1,3}$)");
+    private static final Pattern PARTIAL_POSTCODE_EDGECASE = Pattern.compile(
+        "(^[A-Za-z][0-9]{1,2}[A-Za-z][0-9]?$)|(^[A-Za-z]{2}([0-9]{1}[A-Za-z][0-9]?)$)"
+    );
 
     /**
      * Constructor for the PostcodeValidator.
@@ -36,11 +37,11 @@ public class PostcodeValidator {
 
     /**
      * Checks if a postcode is valid.
-     * @param postcode the postcode to check
-     * @return true if the full postcode matches, false otherwise
+     * @param postcode the postcode to check, in any case and with or without spaces
+     * @return true if the postcode parses as a full postcode, false otherwise
      */
     public static boolean isFullPostcodeFormat(final String postcode) {
-        return postcode.matches(FULL_POSTCODE);
+        return Postcode.parse(postcode).map(Postcode::isFull).orElse(false);
     }
 
     /**
@@ -57,25 +58,47 @@ public class PostcodeValidator {
             return true;
         }
 
-        // Partial postcode search criteria:
-        //  - One of two letters only. We check against a valid postcode area list
-        //  - One or two letters at the start, two or three digits
-        // If the starting is one letter:
-        //  - Sub part can be one number or two numbers or three numbers
-        //  - Or sub part can be one number, and one letter
-        //  - Or two numbers with one letter
-        //  - Or sub part can be one number, and one letter, and one number
-        //  - Or two numbers with one letter, and one number
-        // If the starting is two letters:
-        //  - sub part can be one number or two numbers or three numbers
-        //  - Or sub part can be one number, and one letter
-        //  - Or sub part can be one number, and one letter, and one number
         return PostcodeArea.isValidArea(postcode)
-            || partialPostcodeValid(PARTIAL_POSTCODE_NUMERIC, postcode, 1)
-            // Check first two characters of the postcode, which will determine the result group we need
-            || (postcode.substring(0, 2).matches(PARTIAL_POSTCODE_SEARCH)
-                ? partialPostcodeValid(PARTIAL_POSTCODE_EDGECASE, postcode, 2) : // if two letter proceed
-                partialPostcodeValid(PARTIAL_POSTCODE_EDGECASE, postcode, 1));   // if one letters proceeds
+            || partialPostcodes(postcode).stream()
+                .anyMatch(p -> partialPostCodeDataExists(p) || partialPostCodeDataExists(shortenPartialPostcode(p)));
+    }
+
+    /**
+     * Gets the partial postcodes which are looked up in mapit when a postcode is not a known full postcode or
+     * postcode area, in the order they are tried. If mapit has no data for one of them, the same partial postcode
+     * without its last character is tried next.
+     *
+     * <p>Partial postcode search criteria:</p>
+     * <ul>
+     *     <li>One or two letters at the start, one to three digits</li>
+     *     <li>If the starting is one letter, the sub part can be one or two numbers and one letter, optionally
+     *     followed by one number</li>
+     *     <li>If the starting is two letters, the sub part can be one number and one letter, optionally followed by
+     *     one number</li>
+     * </ul>
+     *
+     * @param postcode the postcode, without spaces
+     * @return the partial postcodes to look up
+     */
+    List<String> partialPostcodes(final String postcode) {
+        final List<String> partialPostcodes = new ArrayList<>();
+        addPartialPostcode(partialPostcodes, PARTIAL_POSTCODE_NUMERIC, postcode, 1);
+        // Check first two characters of the postcode, which will determine the result group we need
+        final int resultGroup = postcode.length() > 1 && postcode.substring(0, 2).matches(PARTIAL_POSTCODE_SEARCH)
+            ? 2 : 1;
+        addPartialPostcode(partialPostcodes, PARTIAL_POSTCODE_EDGECASE, postcode, resultGroup);
+        return partialPostcodes;
+    }
+
+    /**
+     * Gets the partial postcode tried when mapit has no data for a partial postcode: the letters and all but the
+     * last number, as it may still be valid.
+     *
+     * @param partialPostcode the partial postcode
+     * @return the partial postcode without its last character
+     */
+    static String shortenPartialPostcode(final String partialPostcode) {
+        return partialPostcode.substring(0, partialPostcode.length() - 1);
     }
 
     public boolean fullPostcodeValid(String postcode) {
@@ -98,28 +121,24 @@ public class PostcodeValidator {
         return false;
     }
 
-    private boolean partialPostcodeValid(String regex, String postcode, int resultGroup) {
-        Matcher matcher = Pattern.compile(regex).matcher(postcode);
+    private static void addPartialPostcode(final List<String> partialPostcodes, final Pattern pattern,
+                                           final String postcode, final int resultGroup) {
+        final Matcher matcher = pattern.matcher(postcode);
 
         if (matcher.find()) {
-            String partialPostcode = matcher.group(resultGroup);
+            final String partialPostcode = matcher.group(resultGroup);
             log.debug("Partial postcode found based on regex was {}, result group was {}",
-                     partialPostcode, resultGroup);
+                      partialPostcode, resultGroup);
 
             if (StringUtils.isEmpty(partialPostcode)) {
                 log.warn("No partial postcode was extracted from the match based on the provided group of {}",
                          resultGroup);
-                return false;
+            } else {
+                partialPostcodes.add(partialPostcode);
             }
-
-            // If we send across the partial postcode to mapit and no data is found, try with
-            // the letters and remove the last number, as it may still be valid
-            return partialPostCodeDataExists(partialPostcode)
-                || partialPostCodeDataExists(partialPostcode.substring(0, partialPostcode.length() - 1));
+        } else {
+            log.info("Match failed for partial postcode search for: {}, based on regex {}", postcode, pattern);
         }
-
-        log.info("Match failed for partial postcode search for: {}, based on regex {}", postcode, regex);
-        return false;
     }
 
     private boolean partialPostCodeDataExists(String postcode) {
@@ -4,6 +4,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.exception.InvalidEpimIdException;
 import uk.gov.hmcts.dts.fact.model.admin.CourtAddress;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeValidationResult;
+import uk.gov.hmcts.dts.fact.util.Postcode;
 
 import java.util.List;
 import java.util.regex.Pattern;
@@ -15,17 +17,22 @@ public class ValidationService {
 
     private final PostcodeValidator mapitPostcodeValidator;
     private final LocalAuthorityValidator mapitlocalAuthorityValidator;
+    private final BulkPostcodeValidator bulkPostcodeValidator;
     private static final Pattern EPIM_ID_PATTERN = Pattern.compile("^[a-zA-Z0-9-]{0,30}$");
 
     /**
      * Constructor for the ValidationService.
      * @param mapitPostcodeValidator The postcode validator
      * @param mapitLocalAuthorityValidator The local authority validator
+     * @param bulkPostcodeValidator The validator for lists of postcodes
      */
     @Autowired
-    public ValidationService(PostcodeValidator mapitPostcodeValidator, LocalAuthorityValidator mapitLocalAuthorityValidator) {
+    public ValidationService(PostcodeValidator mapitPostcodeValidator,
+                             LocalAuthorityValidator mapitLocalAuthorityValidator,
+                             BulkPostcodeValidator bulkPostcodeValidator) {
         this.mapitPostcodeValidator = mapitPostcodeValidator;
         this.mapitlocalAuthorityValidator = mapitLocalAuthorityValidator;
+        this.bulkPostcodeValidator = bulkPostcodeValidator;
     }
 
     /**
@@ -34,11 +41,22 @@ public class ValidationService {
      * @return A list of strings which indicate which postcodes have failed to return geographical information
      */
     public List<String> validatePostcodes(List<String> postcodes) {
-        return postcodes.stream()
-            .filter(postcode -> !mapitPostcodeValidator.postcodeDataExists(postcode.replaceAll("\\s+","")))
+        return checkPostcodes(postcodes).stream()
+            .filter(result -> !result.isValid())
+            .map(PostcodeValidationResult::getPostcode)
             .collect(toList());
     }
 
+    /**
+     * Accepts an list of strings and checks for each if mapit data exists. Each distinct postcode, outcode and
+     * sector is looked up once, and the lookups are made concurrently.
+     * @param postcodes A list of strings which are postcodes
+     * @return The result for each postcode, with the reason it failed if it is not valid
+     */
+    public List<PostcodeValidationResult> checkPostcodes(List<String> postcodes) {
+        return bulkPostcodeValidator.validate(postcodes);
+    }
+
     /**
      * Accepts an list of full postcodes and checks for each if mapit data exists.
      * @param postcodes A list of strings which are postcodes
@@ -46,7 +64,7 @@ public class ValidationService {
      */
     public List<String> validateFullPostcodes(List<String> postcodes) {
         return postcodes.stream()
-            .filter(postcode -> !mapitPostcodeValidator.fullPostcodeValid(postcode.replaceAll("\\s+","")))
+            .filter(postcode -> !mapitPostcodeValidator.fullPostcodeValid(Postcode.normalise(postcode)))
             .collect(toList());
     }
 
@@ -32,6 +32,7 @@ public enum AuditType {
     CREATE_COURT_POSTCODES("Create court postcodes"),
     DELETE_COURT_POSTCODES("Delete court postcodes"),
     MOVE_COURT_POSTCODES("Move court postcodes"),
+    UPDATE_COURT_POSTCODES("Update court postcodes"),
     CREATE_OPENING_TYPE("Create opening type"),
     UPDATE_OPENING_TYPE("Update opening type"),
     DELETE_OPENING_TYPE("Delete opening type"),
@@ -0,0 +1,261 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A full or partial UK postcode, broken into its area ({@code SW}), district ({@code SW1A}), sector
+ * ({@code SW1A1}) and unit ({@code AA}).
+ *
+ * <p>A postcode is parsed in one pass over its characters, which ignores whitespace and case. A full postcode is
+ * an outward code of one or two letters, a digit and an optional digit or letter, followed by an inward code of a
+ * digit and two letters; {@code GIR 0AA} is also accepted. A partial postcode is an area, a district, or a
+ * district and sector. The second letter of a two letter area cannot be {@code I} or {@code Z}.</p>
+ */
+@EqualsAndHashCode
+public final class Postcode {
+    // The TD postcode area include Scottish Border, Northumberland and Carlisle counties. It is not currently counted
+    // as Scottish to keep it consistent with the implementation on CTF.
+    private static final Set<String> SCOTTISH_AREAS = Set.of(
+        "ZE", "KW", "IV", "HS", "PH", "AB", "DD", "PA", "FK", "G", "KY", "KA", "DG", "EH", "ML"
+    );
+    private static final String NORTHERN_IRISH_AREA = "BT";
+    private static final String GIRO_BANK = "GIR0AA";
+    private static final int MAX_LENGTH = 7;
+    private static final int INWARD_LENGTH = 3;
+
+    private final String normalised;
+    private final int areaLength;
+    private final int districtLength;
+    private final boolean full;
+
+    private Postcode(final String normalised, final int areaLength, final int districtLength, final boolean full) {
+        this.normalised = normalised;
+        this.areaLength = areaLength;
+        this.districtLength = districtLength;
+        this.full = full;
+    }
+
+    /**
+     * Parse a full or partial postcode.
+     *
+     * @param input the postcode, in any case and with or without spaces
+     * @return the postcode, or empty if the input is not a full or partial postcode
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public static Optional<Postcode> parse(final CharSequence input) {
+        if (input == null) {
+            return Optional.empty();
+        }
+
+        final char[] chars = new char[MAX_LENGTH];
+        int length = 0;
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (!isWhitespace(c)) {
+                if (length == MAX_LENGTH || !isDigit(c) && !isLetter(c)) {
+                    return Optional.empty();
+                }
+                chars[length] = toUpperCase(c);
+                length++;
+            }
+        }
+        return classify(chars, length);
+    }
+
+    /**
+     * Upper case a postcode and strip all of its whitespace, as postcodes are held. A postcode which is already
+     * normalised is returned as it is.
+     *
+     * @param input the postcode, which need not be valid
+     * @return the normalised postcode
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public static String normalise(final String input) {
+        int i = 0;
+        while (i < input.length() && !isWhitespace(input.charAt(i)) && !isLowerCase(input.charAt(i))) {
+            i++;
+        }
+        if (i == input.length()) {
+            return input;
+        }
+
+        final StringBuilder normalised = new StringBuilder(input.length()).append(input, 0, i);
+        while (i < input.length()) {
+            final char c = input.charAt(i);
+            if (!isWhitespace(c)) {
+                normalised.append(toUpperCase(c));
+            }
+            i++;
+        }
+        return normalised.toString();
+    }
+
+    /**
+     * Get the postcode area, such as {@code SW}.
+     *
+     * @return the area
+     */
+    public String getArea() {
+        return normalised.substring(0, areaLength);
+    }
+
+    /**
+     * Get the postcode district, or outcode, such as {@code SW1A}. For a postcode which is only an area, this is the
+     * area.
+     *
+     * @return the district
+     */
+    public String getDistrict() {
+        return normalised.substring(0, districtLength);
+    }
+
+    /**
+     * Get the postcode sector, the district and the first digit of the inward code, such as {@code SW1A1}.
+     *
+     * @return the sector, or empty if the postcode is only an area or district
+     */
+    public Optional<String> getSector() {
+        return normalised.length() > districtLength
+            ? Optional.of(normalised.substring(0, districtLength + 1))
+            : Optional.empty();
+    }
+
+    /**
+     * Get the letters which end a full postcode, such as {@code AA}.
+     *
+     * @return the unit, or empty if the postcode is partial
+     */
+    public Optional<String> getUnit() {
+        return full ? Optional.of(normalised.substring(districtLength + 1)) : Optional.empty();
+    }
+
+    /**
+     * Get the postcode in upper case without spaces, such as {@code SW1A1AA}.
+     *
+     * @return the normalised postcode
+     */
+    public String getNormalised() {
+        return normalised;
+    }
+
+    /**
+     * Check if this is a full postcode rather than an area, district or sector.
+     *
+     * @return true if the postcode is full
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Check if the postcode is in a Scottish postcode area.
+     *
+     * @return true if the postcode is Scottish
+     */
+    public boolean isScottish() {
+        return SCOTTISH_AREAS.contains(getArea());
+    }
+
+    /**
+     * Check if the postcode is in the Northern Irish postcode area.
+     *
+     * @return true if the postcode is Northern Irish
+     */
+    public boolean isNorthernIrish() {
+        return NORTHERN_IRISH_AREA.equals(getArea());
+    }
+
+    /**
+     * Get the postcode in upper case with a space before the inward code, such as {@code SW1A 1AA} or
+     * {@code SW1A 1}.
+     *
+     * @return the formatted postcode
+     */
+    @Override
+    public String toString() {
+        return normalised.length() > districtLength
+            ? normalised.substring(0, districtLength) + ' ' + normalised.substring(districtLength)
+            : normalised;
+    }
+
+    private static Optional<Postcode> classify(final char[] chars, final int length) {
+        if (length == GIRO_BANK.length() && GIRO_BANK.equals(String.valueOf(chars, 0, length))) {
+            return Optional.of(new Postcode(GIRO_BANK, 3, 3, true));
+        }
+
+        final int areaLength = areaLength(chars, length);
+        if (areaLength == 0) {
+            return Optional.empty();
+        }
+        final boolean full = isFullPostcode(chars, areaLength, length);
+        final int districtLength = full ? length - INWARD_LENGTH : partialDistrictLength(chars, areaLength, length);
+        if (districtLength == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Postcode(String.valueOf(chars, 0, length), areaLength, districtLength, full));
+    }
+
+    private static int areaLength(final char[] chars, final int length) {
+        if (length == 0 || !isLetter(chars[0])) {
+            return 0;
+        }
+        final boolean twoLetters = length > 1 && isLetter(chars[1]);
+        if (!twoLetters) {
+            return 1;
+        }
+        return chars[1] == 'I' || chars[1] == 'Z' ? 0 : 2;
+    }
+
+    private static boolean isFullPostcode(final char[] chars, final int areaLength, final int length) {
+        final int outwardLength = length - INWARD_LENGTH;
+        return outwardLength > areaLength
+            && isDistrict(chars, areaLength, outwardLength)
+            && isDigit(chars[outwardLength])
+            && isLetter(chars[outwardLength + 1])
+            && isLetter(chars[outwardLength + 2]);
+    }
+
+    /**
+     * Get the length of the district of a partial postcode, which takes the longest district it can: M11 is a
+     * district rather than the M1 district and a sector.
+     */
+    private static int partialDistrictLength(final char[] chars, final int areaLength, final int length) {
+        if (areaLength == length) {
+            return areaLength;
+        }
+        final int longestDistrictLength = Math.min(length, areaLength + 2);
+        final int districtLength = isDistrict(chars, areaLength, longestDistrictLength)
+            ? longestDistrictLength : areaLength + 1;
+        final boolean sector = length == districtLength
+            || length == districtLength + 1 && isDigit(chars[districtLength]);
+        return sector && isDistrict(chars, areaLength, districtLength) ? districtLength : 0;
+    }
+
+    private static boolean isDistrict(final char[] chars, final int from, final int to) {
+        return (to == from + 1 || to == from + 2) && isDigit(chars[from])
+            && (to == from + 1 || isDigit(chars[from + 1]) || isLetter(chars[from + 1]));
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c >= '\t' && c <= '\r';
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(final char c) {
+        return c >= 'A' && c <= 'Z' || isLowerCase(c);
+    }
+
+    private static boolean isLowerCase(final char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static char toUpperCase(final char c) {
+        return isLowerCase(c) ? (char) (c - ('a' - 'A')) : c;
+    }
+}
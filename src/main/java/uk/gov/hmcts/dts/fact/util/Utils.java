@@ -8,7 +8,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
-import java.util.regex.Pattern;
 
 import static java.util.Collections.emptyList;
 import static java.util.function.Predicate.not;
@@ -18,10 +17,7 @@ import static java.util.stream.Collectors.toList;
  * Utility class for various helper methods.
  */
 public final class Utils {
-    // The TD postcode area include Scottish Border, Northumberland and Carlisle counties. It is not currently included in the postcode regex to keep it consistently
-    // with the implementation on CTF. This regex is currently only used by the deprecated API endpoint (/search/results.json) for the consuming services.
-    private static final Pattern SCOTTISH_POSTCODE_AREA_REGEX = Pattern.compile("^(ZE|KW|IV|HS|PH|AB|DD|PA|FK|G[0-9]|KY|KA|DG|EH|ML)", Pattern.CASE_INSENSITIVE);
-    private static final String NORTHERN_IRISH_POSTCODE_AREA = "BT";
+    private static final String QUOTE = "\"";
 
     private Utils() {
 
@@ -63,34 +59,15 @@ public final class Utils {
         return welshPreferred && null != welsh && !welsh.isBlank() ? welsh : english;
     }
 
-    /**
-     * Check if a string is a valid Scottish postcode area.
-     *
-     * @param area the area to check
-     * @return true if the area is a valid UK postcode area
-     */
-    public static boolean isScottishPostcode(final String postcode) {
-        return SCOTTISH_POSTCODE_AREA_REGEX.matcher(postcode).find();
-    }
-
-    /**
-     * Check if a string is a valid Northern Irish postcode area.
-     *
-     * @param postcode the postcode to check
-     * @return true if the area is a valid UK postcode area
-     */
-    public static boolean isNorthernIrishPostcode(final String postcode) {
-        return postcode.toUpperCase(Locale.getDefault()).startsWith(NORTHERN_IRISH_POSTCODE_AREA);
-    }
-
     /**
      * Convert a string to uppercase and strip all spaces.
      *
      * @param input the string to convert
      * @return the converted string
+     * @see Postcode#normalise(String)
      */
     public static String upperCaseAndStripAllSpaces(final String input) {
-        return input.replaceAll("\\s+","").toUpperCase(Locale.getDefault());
+        return Postcode.normalise(input);
     }
 
     /**
@@ -130,4 +107,21 @@ public final class Utils {
         }
         return output.toString();
     }
+
+    /**
+     * Format a value as a CSV field, quoting it if it contains a comma, quote or line break.
+     *
+     * @param value the value, which may be null
+     * @return the CSV field, empty for null
+     */
+    public static String toCsvField(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        final String field = value.toString();
+        if (field.contains(",") || field.contains(QUOTE) || field.contains("\n") || field.contains("\r")) {
+            return QUOTE + field.replace(QUOTE, QUOTE + QUOTE) + QUOTE;
+        }
+        return field;
+    }
 }
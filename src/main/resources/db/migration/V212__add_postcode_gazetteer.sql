@@ -0,0 +1,17 @@
+-- create search_postcodegazetteer table holding an offline copy of the postcode to
+-- lat/lon/local authority lookup, so that searches do not need to call mapit
+
+CREATE TABLE public.search_postcodegazetteer (
+  postcode character varying(8) PRIMARY KEY NOT NULL,
+  outcode character varying(4) NOT NULL,
+  sector character varying(6) NOT NULL,
+  lat double precision NOT NULL,
+  lon double precision NOT NULL,
+  local_authority_code character varying(9),
+  local_authority_name character varying(255),
+  region_name character varying(255),
+  updated_at timestamp NOT NULL DEFAULT now()
+);
+
+CREATE INDEX search_postcodegazetteer_outcode_idx ON public.search_postcodegazetteer (outcode);
+CREATE INDEX search_postcodegazetteer_sector_idx ON public.search_postcodegazetteer (sector);
@@ -0,0 +1,61 @@
+-- add normalised search columns to search_court and search_courtaddress so that court searches
+-- can use trigram indexes instead of running regexp_replace on every row.
+-- The columns hold lower case letters and digits only, with '|' between the values of
+-- different fields so that a match cannot span two fields. They are kept up to date by
+-- triggers, as generated columns are not available before postgres 12.
+
+CREATE OR REPLACE FUNCTION public.search_normalise(value text) RETURNS text
+  LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+$$ SELECT lower(regexp_replace(coalesce(value, ''), '[^A-Za-z0-9]+', '', 'g')) $$;
+
+ALTER TABLE public.search_court ADD COLUMN search_name text;
+
+ALTER TABLE public.search_courtaddress
+  ADD COLUMN search_address text,
+  ADD COLUMN search_town text,
+  ADD COLUMN search_postcode text;
+
+CREATE OR REPLACE FUNCTION public.search_court_set_search_columns() RETURNS trigger
+  LANGUAGE plpgsql AS
+$$
+BEGIN
+  NEW.search_name := search_normalise(NEW.name) || '|' || search_normalise(NEW.name_cy);
+  RETURN NEW;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION public.search_courtaddress_set_search_columns() RETURNS trigger
+  LANGUAGE plpgsql AS
+$$
+BEGIN
+  NEW.search_address := search_normalise(NEW.address) || '|' || search_normalise(NEW.address_cy);
+  NEW.search_town := search_normalise(NEW.town_name) || '|' || search_normalise(NEW.town_name_cy);
+  NEW.search_postcode := search_normalise(NEW.postcode);
+  RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER search_court_search_columns
+  BEFORE INSERT OR UPDATE ON public.search_court
+  FOR EACH ROW EXECUTE PROCEDURE public.search_court_set_search_columns();
+
+CREATE TRIGGER search_courtaddress_search_columns
+  BEFORE INSERT OR UPDATE ON public.search_courtaddress
+  FOR EACH ROW EXECUTE PROCEDURE public.search_courtaddress_set_search_columns();
+
+UPDATE public.search_court
+SET search_name = search_normalise(name) || '|' || search_normalise(name_cy);
+
+UPDATE public.search_courtaddress
+SET search_address = search_normalise(address) || '|' || search_normalise(address_cy),
+    search_town = search_normalise(town_name) || '|' || search_normalise(town_name_cy),
+    search_postcode = search_normalise(postcode);
+
+CREATE INDEX search_court_search_name_trgm_idx
+  ON public.search_court USING GIN (search_name gin_trgm_ops);
+CREATE INDEX search_courtaddress_search_address_trgm_idx
+  ON public.search_courtaddress USING GIN (search_address gin_trgm_ops);
+CREATE INDEX search_courtaddress_search_town_trgm_idx
+  ON public.search_courtaddress USING GIN (search_town gin_trgm_ops);
+CREATE INDEX search_courtaddress_search_postcode_trgm_idx
+  ON public.search_courtaddress USING GIN (search_postcode gin_trgm_ops);
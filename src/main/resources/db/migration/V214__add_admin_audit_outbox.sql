@@ -0,0 +1,12 @@
+-- audits are written to this table in the same transaction as the change they record, then moved to
+-- admin_audit in batches once the transaction has committed. Rows left here by a restart are moved by
+-- the next sweep, so no audit is lost and none is written for a change that was rolled back.
+
+CREATE TABLE public.admin_audit_outbox (
+  id bigserial PRIMARY KEY,
+  user_email character varying(255) NOT NULL,
+  action_id integer NOT NULL,
+  action_data_before character varying,
+  action_data_after character varying,
+  location character varying(255),
+  creation_time timestamp NOT NULL);
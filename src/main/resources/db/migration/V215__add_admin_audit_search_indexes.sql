@@ -0,0 +1,6 @@
+-- indexes for the audit log: keyset pages are read newest first on (creation_time, id), and the
+-- location and email filters match anywhere in the value, so use trigram indexes.
+
+CREATE INDEX IF NOT EXISTS admin_audit_creation_time_id_idx ON public.admin_audit (creation_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS trgm_idx_admin_audit_location ON public.admin_audit USING GIN (location gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_admin_audit_user_email ON public.admin_audit USING GIN (user_email gin_trgm_ops);
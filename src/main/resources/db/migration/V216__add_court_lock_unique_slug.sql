@@ -0,0 +1,12 @@
+-- a court has at most one lock. Keep only the most recently refreshed lock for each court, then let
+-- the unique constraint decide between two editors acquiring the same court at once.
+
+DELETE FROM public.admin_courtlock a
+  USING public.admin_courtlock b
+  WHERE a.court_slug = b.court_slug
+    AND (a.lock_acquired < b.lock_acquired OR (a.lock_acquired = b.lock_acquired AND a.id < b.id));
+
+ALTER TABLE public.admin_courtlock ADD CONSTRAINT admin_courtlock_court_slug_key UNIQUE (court_slug);
+
+-- used by the sweep which removes expired locks
+CREATE INDEX IF NOT EXISTS admin_courtlock_lock_acquired_idx ON public.admin_courtlock (lock_acquired);
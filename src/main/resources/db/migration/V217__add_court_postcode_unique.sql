@@ -0,0 +1,14 @@
+-- a postcode is held by a court at most once. Remove any repeats, keeping the first, so that bulk
+-- catchment updates can rely on the constraint instead of checking each postcode first.
+
+DELETE FROM public.search_courtpostcode a
+  USING public.search_courtpostcode b
+  WHERE a.court_id = b.court_id
+    AND a.postcode = b.postcode
+    AND a.id > b.id;
+
+ALTER TABLE public.search_courtpostcode
+  ADD CONSTRAINT search_courtpostcode_court_id_postcode_key UNIQUE (court_id, postcode);
+
+INSERT INTO public.admin_audittype(name)
+VALUES('Update court postcodes');
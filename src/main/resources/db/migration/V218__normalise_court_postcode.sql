@@ -0,0 +1,18 @@
+-- court postcodes are held upper case without spaces, as the admin service writes them, so the civil
+-- search can match them against its postcode prefixes with an index rather than normalising every row.
+-- Remove rows which only differ from another postcode of the same court by case or spacing first.
+
+DELETE FROM public.search_courtpostcode a
+  USING public.search_courtpostcode b
+  WHERE a.court_id = b.court_id
+    AND UPPER(REPLACE(a.postcode, ' ', '')) = UPPER(REPLACE(b.postcode, ' ', ''))
+    AND a.id > b.id;
+
+UPDATE public.search_courtpostcode
+  SET postcode = UPPER(REPLACE(postcode, ' ', ''))
+  WHERE postcode <> UPPER(REPLACE(postcode, ' ', ''));
+
+ALTER TABLE public.search_courtpostcode
+  ADD CONSTRAINT search_courtpostcode_postcode_normalised CHECK (postcode = UPPER(REPLACE(postcode, ' ', '')));
+
+CREATE INDEX IF NOT EXISTS search_courtpostcode_postcode_idx ON public.search_courtpostcode (postcode);
@@ -0,0 +1,27 @@
+-- add the position of each court as a point on the earth, with a GiST index, so that nearest court searches can
+-- order by the index-assisted <-> (k-nearest-neighbour) operator instead of computing the distance to every court.
+-- The point is a cube from the earthdistance extension (V002), as postgis is not installed. The straight line
+-- distance between two such points grows with the great circle distance between them, so courts are ordered
+-- exactly as before, and the distance in miles is still reported with <@>.
+-- The column is kept up to date by a trigger, so it follows every insert and change of latitude or longitude.
+
+ALTER TABLE public.search_court ADD COLUMN earth_point cube;
+
+CREATE OR REPLACE FUNCTION public.search_court_set_earth_point() RETURNS trigger
+  LANGUAGE plpgsql AS
+$$
+BEGIN
+  NEW.earth_point := public.ll_to_earth(NEW.lat, NEW.lon);
+  RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER search_court_earth_point
+  BEFORE INSERT OR UPDATE OF lat, lon ON public.search_court
+  FOR EACH ROW EXECUTE PROCEDURE public.search_court_set_earth_point();
+
+UPDATE public.search_court
+SET earth_point = public.ll_to_earth(lat, lon);
+
+CREATE INDEX search_court_earth_point_idx
+  ON public.search_court USING GIST (earth_point);
@@ -0,0 +1,17 @@
+-- fold accented letters, such as the Welsh circumflex vowels, to their unaccented forms in the
+-- normalised search columns, instead of stripping them. unaccent is called with an explicit
+-- dictionary so that search_normalise stays immutable and the trigram indexes stay valid.
+
+CREATE EXTENSION IF NOT EXISTS unaccent WITH SCHEMA public;
+
+CREATE OR REPLACE FUNCTION public.search_normalise(value text) RETURNS text
+  LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+$$ SELECT lower(regexp_replace(public.unaccent('public.unaccent'::regdictionary, coalesce(value, '')), '[^A-Za-z0-9]+', '', 'g')) $$;
+
+UPDATE public.search_court
+SET search_name = search_normalise(name) || '|' || search_normalise(name_cy);
+
+UPDATE public.search_courtaddress
+SET search_address = search_normalise(address) || '|' || search_normalise(address_cy),
+    search_town = search_normalise(town_name) || '|' || search_normalise(town_name_cy),
+    search_postcode = search_normalise(postcode);
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsConfigurationTest {
+    private static final String REPOSITORY_INVOCATIONS = "spring.data.repository.invocations";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(
+            new MetricsConfiguration().searchRepositoryHistograms(REPOSITORY_INVOCATIONS));
+    }
+
+    @Test
+    void shouldPublishHistogramForSearchRepositories() {
+        final Timer timer = Timer.builder(REPOSITORY_INVOCATIONS)
+            .tag("repository", "CourtSearchResultRepository")
+            .register(meterRegistry);
+
+        assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    @Test
+    void shouldNotPublishHistogramForOtherRepositories() {
+        final Timer timer = Timer.builder(REPOSITORY_INVOCATIONS)
+            .tag("repository", "CourtRepository")
+            .register(meterRegistry);
+
+        assertThat(timer.takeSnapshot().histogramCounts()).isEmpty();
+    }
+
+    @Test
+    void shouldNotPublishHistogramForOtherTimers() {
+        final Timer timer = Timer.builder("court.search")
+            .tag("repository", "CourtSearchResultRepository")
+            .register(meterRegistry);
+
+        assertThat(timer.takeSnapshot().histogramCounts()).isEmpty();
+    }
+}
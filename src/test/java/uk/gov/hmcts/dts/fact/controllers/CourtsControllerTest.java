@@ -12,8 +12,12 @@ import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.Court;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.CourtReferenceWithHistoricalName;
+import uk.gov.hmcts.dts.fact.model.CourtSnapshot;
+import uk.gov.hmcts.dts.fact.model.CourtSuggestion;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
 import uk.gov.hmcts.dts.fact.services.CourtService;
+import uk.gov.hmcts.dts.fact.services.CourtSnapshotService;
+import uk.gov.hmcts.dts.fact.services.search.CourtAutocomplete;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -29,10 +33,12 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CourtsController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@SuppressWarnings("PMD.TooManyMethods")
 class CourtsControllerTest {
 
     private static final String URL = "/courts";
@@ -41,6 +47,7 @@ class CourtsControllerTest {
     private static final String SEARCH_BY_COURT_TYPES = "/court-types/Family Court,Tribunal";
 
     private static final String SEARCH_BY_COURT_HISTORY_NAME = "/court-history/search";
+    private static final String ETAG = "\"0123456789abcdef\"";
 
     @Autowired
     private transient MockMvc mockMvc;
@@ -48,6 +55,12 @@ class CourtsControllerTest {
     @MockBean
     private CourtService courtService;
 
+    @MockBean
+    private CourtSnapshotService courtSnapshotService;
+
+    @MockBean
+    private CourtAutocomplete courtAutocomplete;
+
     @Test
     void shouldFindCourtBySlugDeprecated() throws Exception {
 
@@ -110,18 +123,54 @@ class CourtsControllerTest {
     void shouldFindCourtBySlug() throws Exception {
 
         final Path path = Paths.get("src/integrationTest/resources/birmingham-civil-and-family-justice-centre.json");
-        final String expectedJson = new String(readAllBytes(path));
-        final Court court = OBJECT_MAPPER.readValue(path.toFile(), Court.class);
+        final byte[] json = readAllBytes(path);
         final String searchSlug = "some-slug";
 
-        when(courtService.getCourtBySlug(searchSlug)).thenReturn(court);
+        when(courtSnapshotService.getCourtSnapshot(searchSlug)).thenReturn(new CourtSnapshot(json, ETAG));
 
         mockMvc.perform(get(String.format(URL + "/%s", searchSlug)))
             .andExpect(status().isOk())
-            .andExpect(content().json(expectedJson))
+            .andExpect(header().string("ETag", ETAG))
+            .andExpect(header().string("Vary", "Accept-Language"))
+            .andExpect(content().json(new String(json)))
             .andReturn();
     }
 
+    @Test
+    void shouldRespondWithNotModifiedWhenCourtEtagMatches() throws Exception {
+        final String searchSlug = "some-slug";
+
+        when(courtSnapshotService.getCourtSnapshot(searchSlug)).thenReturn(new CourtSnapshot("{}".getBytes(), ETAG));
+
+        mockMvc.perform(get(String.format(URL + "/%s", searchSlug)).header("If-None-Match", ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", ETAG))
+            .andExpect(header().string("Vary", "Accept-Language"))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldRespondWithCourtWhenEtagDoesNotMatch() throws Exception {
+        final String searchSlug = "some-slug";
+
+        when(courtSnapshotService.getCourtSnapshot(searchSlug)).thenReturn(new CourtSnapshot("{}".getBytes(), ETAG));
+
+        mockMvc.perform(get(String.format(URL + "/%s", searchSlug)).header("If-None-Match", "\"stale\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", ETAG))
+            .andExpect(content().json("{}"));
+    }
+
+    @Test
+    void shouldRespondWithNotFoundForCourtSnapshotByNonExistentSlug() throws Exception {
+        final String searchSlug = "some-slug";
+
+        when(courtSnapshotService.getCourtSnapshot(searchSlug)).thenThrow(new NotFoundException(searchSlug));
+
+        mockMvc.perform(get(String.format(URL + "/%s", searchSlug)))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldFindCourtsByPrefixAndDisplayed() throws Exception {
         final Path path = Paths.get("src/test/resources/courts.json");
@@ -136,6 +185,37 @@ class CourtsControllerTest {
             .andReturn();
     }
 
+    @Test
+    void shouldSuggestCourtsByPrefix() throws Exception {
+        final List<CourtSuggestion> suggestions = List.of(
+            new CourtSuggestion("Bolton Crown Court", "bolton-crown-court", 1, null),
+            new CourtSuggestion("Manchester Crown Court", "manchester-crown-court", 1, "Bolton Combined Court")
+        );
+        when(courtAutocomplete.suggest("bol", 5)).thenReturn(suggestions);
+
+        mockMvc.perform(get(URL + "/autocomplete?prefix=bol&limit=5"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "max-age=60, public"))
+            .andExpect(content().json("[{\"name\":\"Bolton Crown Court\",\"slug\":\"bolton-crown-court\",\"region\":1},"
+                                          + "{\"name\":\"Manchester Crown Court\",\"slug\":\"manchester-crown-court\","
+                                          + "\"region\":1,\"historical_name\":\"Bolton Combined Court\"}]", true));
+    }
+
+    @Test
+    void shouldSuggestTenCourtsByDefault() throws Exception {
+        when(courtAutocomplete.suggest("b", 10)).thenReturn(List.of());
+
+        mockMvc.perform(get(URL + "/autocomplete?prefix=b"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[]"));
+    }
+
+    @Test
+    void shouldRespondWithBadRequestForBlankAutocompletePrefix() throws Exception {
+        mockMvc.perform(get(URL + "/autocomplete?prefix="))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldFindCourtsByCourtTypes() throws Exception {
 
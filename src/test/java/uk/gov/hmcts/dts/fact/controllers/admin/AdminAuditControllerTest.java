@@ -12,10 +12,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import uk.gov.hmcts.dts.fact.entity.AuditType;
 import uk.gov.hmcts.dts.fact.model.admin.Audit;
+import uk.gov.hmcts.dts.fact.model.admin.AuditFilter;
+import uk.gov.hmcts.dts.fact.model.admin.AuditPage;
 import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -23,9 +28,16 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AdminAuditController.class)
@@ -154,4 +166,65 @@ class AdminAuditControllerTest {
             .andExpect(content().json(auditJsonWithLondonTime));
     }
 
+    @Test
+    void shouldRetrieveAuditPageFromCursor() throws Exception {
+        final AuditFilter filter = new AuditFilter(Optional.of(TEST_LOCATION), Optional.empty(),
+                                                   Optional.empty(), Optional.empty());
+        when(adminAuditService.getAuditPage(filter, 3, Optional.of("abc"), true))
+            .thenReturn(new AuditPage(AUDIT_LIST, "def", 7L));
+
+        mockMvc.perform(get("/admin/audit/page?size=3&cursor=abc&includeTotal=true&location=" + TEST_LOCATION))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.audits.length()").value(3))
+            .andExpect(jsonPath("$.next_cursor").value("def"))
+            .andExpect(jsonPath("$.total").value(7));
+    }
+
+    @Test
+    void shouldLeaveOutCursorAndTotalOnLastAuditPage() throws Exception {
+        final AuditFilter filter = new AuditFilter(Optional.empty(), Optional.empty(),
+                                                   Optional.empty(), Optional.empty());
+        when(adminAuditService.getAuditPage(filter, 50, Optional.empty(), false))
+            .thenReturn(new AuditPage(AUDIT_LIST, null, null));
+
+        mockMvc.perform(get("/admin/audit/page"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.next_cursor").doesNotExist())
+            .andExpect(jsonPath("$.total").doesNotExist());
+    }
+
+    @Test
+    void shouldGetABadResponseForAuditPageIfOneDateSpecifiedButNotTheOther() throws Exception {
+        mockMvc.perform(get("/admin/audit/page?dateFrom=" + TEST_DATE_FROM))
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(adminAuditService);
+    }
+
+    @Test
+    void shouldExportAuditsAsCsv() throws Exception {
+        final AuditFilter filter = new AuditFilter(Optional.empty(), Optional.of(TEST_EMAIL),
+                                                   Optional.empty(), Optional.empty());
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(adminAuditService).exportAudits(eq(filter), any());
+
+        final MvcResult result = mockMvc.perform(get("/admin/audit/export?email=" + TEST_EMAIL))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=audits.csv"))
+            .andExpect(content().string("id\n1\n"));
+    }
+
+    @Test
+    void shouldNotExportAuditsAsJson() throws Exception {
+        mockMvc.perform(get("/admin/audit/export").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotAcceptable());
+        verifyNoInteractions(adminAuditService);
+    }
 }
@@ -15,6 +15,7 @@ import org.springframework.web.context.WebApplicationContext;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeExistedException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeNotFoundException;
+import uk.gov.hmcts.dts.fact.model.admin.CourtPostcodeCatchmentUpdate;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtLockService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtPostcodeService;
 import uk.gov.hmcts.dts.fact.services.validation.ValidationService;
@@ -46,6 +47,7 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 class AdminCourtPostcodeControllerTest {
     private static final String BASE_PATH = "/admin/courts/";
     private static final String POSTCODE_PATH = "/postcodes";
+    private static final String CATCHMENT_PATH = "/postcodes/catchment";
     private static final String TEST_SLUG = "test-slug";
     private static final String SOURCE_SLUG = "source-slug";
     private static final String DESTINATION_SLUG = "destination-slug";
@@ -338,4 +340,55 @@ class AdminCourtPostcodeControllerTest {
             .andExpect(status().isConflict())
             .andExpect(content().json(expectedExistedPostcodesJson));
     }
+
+    @Test
+    void replacePostcodesShouldReturnCounts() throws Exception {
+        when(validationService.validatePostcodes(TEST_POSTCODES)).thenReturn(Collections.emptyList());
+        when(adminService.replaceCourtPostcodes(TEST_SLUG, TEST_POSTCODES))
+            .thenReturn(new CourtPostcodeCatchmentUpdate(1, 2, 2, 0));
+
+        mockMvc.perform(put(BASE_PATH + TEST_SLUG + CATCHMENT_PATH)
+                            .with(csrf())
+                            .content(expectedPostcodeJson)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"added\":1,\"removed\":2,\"unchanged\":2,\"duplicates\":0}"));
+
+        verify(adminCourtLockService, times(1)).updateCourtLock(TEST_SLUG, TEST_USER);
+    }
+
+    @Test
+    void replacePostcodesShouldReturnBadRequestForInvalidPostcodes() throws Exception {
+        when(validationService.validatePostcodes(TEST_POSTCODES)).thenReturn(INVALID_POSTCODE);
+
+        mockMvc.perform(put(BASE_PATH + TEST_SLUG + CATCHMENT_PATH)
+                            .with(csrf())
+                            .content(expectedPostcodeJson)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().json(JSON_INVALID_POSTCODE));
+
+        verify(adminService, never()).replaceCourtPostcodes(any(), any());
+        verify(adminCourtLockService, never()).updateCourtLock(TEST_SLUG, TEST_USER);
+    }
+
+    @Test
+    void uploadPostcodesShouldReplaceThePostcodesInTheFile() throws Exception {
+        when(adminService.readPostcodes(any())).thenReturn(TEST_POSTCODES);
+        when(validationService.validatePostcodes(TEST_POSTCODES)).thenReturn(Collections.emptyList());
+        when(adminService.replaceCourtPostcodes(TEST_SLUG, TEST_POSTCODES))
+            .thenReturn(new CourtPostcodeCatchmentUpdate(3, 0, 0, 0));
+
+        mockMvc.perform(put(BASE_PATH + TEST_SLUG + CATCHMENT_PATH)
+                            .with(csrf())
+                            .content(String.join("\n", TEST_POSTCODES))
+                            .contentType("text/csv")
+                            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"added\":3,\"removed\":0,\"unchanged\":0,\"duplicates\":0}"));
+
+        verify(adminCourtLockService, times(1)).updateCourtLock(TEST_SLUG, TEST_USER);
+    }
 }
@@ -10,18 +10,23 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.context.WebApplicationContext;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.CourtForDownload;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.admin.Court;
+import uk.gov.hmcts.dts.fact.model.admin.CourtExportFormat;
 import uk.gov.hmcts.dts.fact.model.admin.CourtInfoUpdate;
 import uk.gov.hmcts.dts.fact.model.admin.ImageFile;
 import uk.gov.hmcts.dts.fact.model.admin.NewCourt;
+import uk.gov.hmcts.dts.fact.services.admin.AdminCourtExportService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtLockService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminService;
 import uk.gov.hmcts.dts.fact.util.MvcSecurityUtil;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
@@ -31,17 +36,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
@@ -75,6 +84,9 @@ class AdminCourtsControllerTest {
     @MockBean
     private AdminCourtLockService adminCourtLockService;
 
+    @MockBean
+    private AdminCourtExportService adminCourtExportService;
+
     @Autowired
     private WebApplicationContext context;
 
@@ -195,6 +207,49 @@ class AdminCourtsControllerTest {
             .andReturn();
     }
 
+    @Test
+    void shouldExportCourtsAsCsv() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("name\nAberdare\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(adminCourtExportService).exportCourts(eq(CourtExportFormat.CSV), any());
+
+        final MvcResult result = mockMvc.perform(get(TEST_URL + "/all/export?format=csv"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=courts.csv"))
+            .andExpect(content().string("name\nAberdare\n"));
+    }
+
+    @Test
+    void shouldExportCourtsAsJsonLinesByDefault() throws Exception {
+        final MvcResult result = mockMvc.perform(get(TEST_URL + "/all/export"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(header().string("Content-Type", "application/x-ndjson"));
+        verify(adminCourtExportService).exportCourts(eq(CourtExportFormat.JSON_LINES), any());
+    }
+
+    @Test
+    void shouldNotExportCourtsAsJson() throws Exception {
+        mockMvc.perform(get(TEST_URL + "/all/export").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotAcceptable());
+        verifyNoInteractions(adminCourtExportService);
+    }
+
+    @Test
+    void shouldRejectUnknownExportFormat() throws Exception {
+        mockMvc.perform(get(TEST_URL + "/all/export?format=xml"))
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(adminCourtExportService);
+    }
+
     @Test
     void shouldFindCourtBySlug() throws Exception {
 
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.dts.fact.controllers.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeGazetteerImport;
+import uk.gov.hmcts.dts.fact.services.admin.AdminPostcodeGazetteerService;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AdminPostcodeGazetteerController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class AdminPostcodeGazetteerControllerTest {
+    private static final String PATH = "/admin/postcodeGazetteer";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private transient MockMvc mockMvc;
+
+    @MockBean
+    private AdminPostcodeGazetteerService adminService;
+
+    @Test
+    void shouldImportPostcodes() throws Exception {
+        final PostcodeGazetteerImport result = new PostcodeGazetteerImport(2, 1);
+        when(adminService.importPostcodes(any(InputStream.class))).thenReturn(result);
+
+        mockMvc.perform(post(PATH)
+                            .content("pcds,lat,long\nOX1 1RZ,51.75,-1.25\n")
+                            .contentType("text/csv"))
+            .andExpect(status().isOk())
+            .andExpect(content().json(OBJECT_MAPPER.writeValueAsString(result)));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenRequiredColumnsAreMissing() throws Exception {
+        when(adminService.importPostcodes(any(InputStream.class)))
+            .thenThrow(new IllegalArgumentException("Postcode gazetteer file has no postcode column"));
+
+        mockMvc.perform(post(PATH)
+                            .content("lat,long\n")
+                            .contentType("text/csv"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.dts.fact.entity.PostcodeGazetteer;
+import uk.gov.hmcts.dts.fact.repositories.PostcodeGazetteerRepository;
+import uk.gov.hmcts.dts.fact.repositories.PostcodeGazetteerRepository.Centroid;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GazetteerPostcodeLookupTest {
+    private static final String POSTCODE = "OX11RZ";
+
+    @Mock
+    private PostcodeGazetteerRepository postcodeGazetteerRepository;
+
+    @InjectMocks
+    private GazetteerPostcodeLookup postcodeLookup;
+
+    @Test
+    void shouldReturnMapitShapedDataForKnownPostcode() {
+        when(postcodeGazetteerRepository.findById(POSTCODE)).thenReturn(Optional.of(new PostcodeGazetteer(
+            POSTCODE, "OX1", "OX1 1", 51.75, -1.25, "E07000178", "Oxford City Council", "South East"
+        )));
+
+        final Optional<MapitData> result = postcodeLookup.getMapitData("ox1 1rz");
+
+        assertThat(result).isPresent();
+        final MapitData mapitData = result.get();
+        assertThat(mapitData.getLat()).isEqualTo(51.75);
+        assertThat(mapitData.getLon()).isEqualTo(-1.25);
+        assertThat(mapitData.getLocalAuthority()).contains("Oxford City Council");
+        assertThat(mapitData.getRegionFromMapitData()).isEqualTo("South East");
+    }
+
+    @Test
+    void shouldReturnEmptyForPostcodeWithoutLocalAuthorityName() {
+        when(postcodeGazetteerRepository.findById(POSTCODE)).thenReturn(Optional.of(new PostcodeGazetteer(
+            POSTCODE, "OX1", "OX1 1", 51.75, -1.25, "E07000178", null, "South East"
+        )));
+
+        assertThat(postcodeLookup.getMapitData(POSTCODE)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyForPostcodeWithoutRegion() {
+        when(postcodeGazetteerRepository.findById(POSTCODE)).thenReturn(Optional.of(new PostcodeGazetteer(
+            POSTCODE, "OX1", "OX1 1", 51.75, -1.25, "E07000178", "Oxford City Council", null
+        )));
+
+        assertThat(postcodeLookup.getMapitData(POSTCODE)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownPostcode() {
+        when(postcodeGazetteerRepository.findById(POSTCODE)).thenReturn(Optional.empty());
+
+        assertThat(postcodeLookup.getMapitData("OX1 1RZ")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnCentroidForPartialPostcode() {
+        final Centroid centroid = mock(Centroid.class);
+        when(centroid.getLat()).thenReturn(51.7);
+        when(centroid.getLon()).thenReturn(-1.2);
+        when(postcodeGazetteerRepository.findCentroidByPartialPostcode("OX1 1")).thenReturn(centroid);
+
+        final Optional<MapitData> result = postcodeLookup.getMapitDataWithPartial(" ox1  1 ");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getLat()).isEqualTo(51.7);
+        assertThat(result.get().getLon()).isEqualTo(-1.2);
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownPartialPostcode() {
+        final Centroid centroid = mock(Centroid.class);
+        when(centroid.getLat()).thenReturn(null);
+        when(postcodeGazetteerRepository.findCentroidByPartialPostcode("ZZ9")).thenReturn(centroid);
+
+        assertThat(postcodeLookup.getMapitDataWithPartial("ZZ9")).isEmpty();
+    }
+
+    @Test
+    void shouldParseSectorWrittenWithoutSpace() {
+        assertThat(GazetteerPostcodeLookup.normalisePartialPostcode("ox111")).isEqualTo("OX11 1");
+        assertThat(GazetteerPostcodeLookup.normalisePartialPostcode("OX11")).isEqualTo("OX11");
+        assertThat(GazetteerPostcodeLookup.normalisePartialPostcode("sw1a1")).isEqualTo("SW1A 1");
+    }
+
+    @Test
+    void shouldKeepSpaceBeforeSector() {
+        assertThat(GazetteerPostcodeLookup.normalisePartialPostcode("ox1 1")).isEqualTo("OX1 1");
+    }
+}
@@ -1,16 +1,21 @@
 package uk.gov.hmcts.dts.fact.model;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository.CourtSummary;
 
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class CourtReferenceTest {
     private static Court courtEntity;
@@ -45,5 +50,30 @@ class CourtReferenceTest {
         LocaleContextHolder.resetLocaleContext();
     }
 
+    @Test
+    void shouldCreateFromCourtSummary() {
+        final CourtSummary courtSummary = mock(CourtSummary.class);
+        when(courtSummary.getName()).thenReturn("Name");
+        when(courtSummary.getSlug()).thenReturn("name-slug");
+        when(courtSummary.getUpdatedAt()).thenReturn(CURRENT_TIME);
+        when(courtSummary.getDisplayed()).thenReturn(true);
+        when(courtSummary.getRegionId()).thenReturn(1);
 
+        final CourtReference court = new CourtReference(courtSummary);
+        assertEquals("Name", court.getName());
+        assertEquals("name-slug", court.getSlug());
+        assertEquals(
+            new SimpleDateFormat("dd MMM yyyy", Locale.ENGLISH).format(CURRENT_TIME), court.getUpdatedAt());
+        assertEquals(true, court.isDisplayed());
+        assertEquals(1, court.getRegion());
+    }
+
+    @Test
+    void shouldCreateFromCourtSummaryWithoutUpdatedAt() {
+        final CourtSummary courtSummary = mock(CourtSummary.class);
+        when(courtSummary.getName()).thenReturn("Name");
+        when(courtSummary.getDisplayed()).thenReturn(false);
+
+        assertNull(new CourtReference(courtSummary).getUpdatedAt());
+    }
 }
@@ -1,34 +1,32 @@
 package uk.gov.hmcts.dts.fact.model;
 
-import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class CourtReferenceWithDistanceTest {
-    private static CourtWithDistance courtEntity;
-
-    @BeforeAll
-    static void setUp() {
-        AreaOfLaw areaOfLaw = new AreaOfLaw();
-        List<AreaOfLaw> areasOfLaw = new ArrayList<>();
-        areasOfLaw.add(areaOfLaw);
-        courtEntity = new CourtWithDistance();
-        courtEntity.setName("Name");
-        courtEntity.setSlug("name-slug");
-        courtEntity.setNameCy("Name in Welsh");
-        courtEntity.setDistance(2.2);
-        courtEntity.setAreasOfLawSpoe(areasOfLaw);
+    private CourtSearchResult courtSearchResult;
+
+    @BeforeEach
+    void setUp() {
+        courtSearchResult = mock(CourtSearchResult.class);
+        when(courtSearchResult.getName()).thenReturn("Name");
+        when(courtSearchResult.getSlug()).thenReturn("name-slug");
+        when(courtSearchResult.getNameCy()).thenReturn("Name in Welsh");
+        when(courtSearchResult.getDisplayed()).thenReturn(true);
+        when(courtSearchResult.getDistance()).thenReturn(2.2);
+        when(courtSearchResult.getAreasOfLawSpoe()).thenReturn(List.of("Children"));
     }
 
     @ParameterizedTest
@@ -39,18 +37,20 @@ class CourtReferenceWithDistanceTest {
             LocaleContextHolder.setLocale(locale);
         }
 
-        final CourtReferenceWithDistance court = new CourtReferenceWithDistance(courtEntity);
+        final CourtReferenceWithDistance court = new CourtReferenceWithDistance(courtSearchResult);
         assertEquals(welsh ? "Name in Welsh" : "Name", court.getName());
         assertEquals("name-slug", court.getSlug());
+        assertEquals(true, court.getOpen());
         assertEquals("2.2", court.getDistance().toString());
+        assertEquals(List.of("Children"), court.getAreasOfLawSpoe());
 
         LocaleContextHolder.resetLocaleContext();
     }
 
     @Test
     void shouldCreateWithNullDistance() {
-        courtEntity.setDistance(null);
-        final CourtReferenceWithDistance court = new CourtReferenceWithDistance(courtEntity);
+        when(courtSearchResult.getDistance()).thenReturn(null);
+        final CourtReferenceWithDistance court = new CourtReferenceWithDistance(courtSearchResult);
         assertEquals("Name", court.getName());
         assertEquals("name-slug", court.getSlug());
         assertNull(court.getDistance());
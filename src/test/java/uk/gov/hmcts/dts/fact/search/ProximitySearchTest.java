@@ -4,9 +4,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndex;
 import uk.gov.hmcts.dts.fact.services.search.ProximitySearch;
 
 import java.util.List;
@@ -21,19 +21,19 @@ import static org.mockito.Mockito.when;
 class ProximitySearchTest {
 
     @Mock
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @Test
     void testSearchWithReturnsCourts() {
-        final ProximitySearch proximitySearch = new ProximitySearch(courtWithDistanceRepository);
+        final ProximitySearch proximitySearch = new ProximitySearch(courtSpatialIndex);
         final MapitData mapitData = new MapitData();
         mapitData.setLat(10.0);
         mapitData.setLon(10.1);
-        when(courtWithDistanceRepository.findNearestTen(10.0, 10.1)).thenReturn(asList(
-            mock(CourtWithDistance.class), mock(CourtWithDistance.class)));
-        List<CourtWithDistance> cwd = proximitySearch.searchWith(mapitData);
+        when(courtSpatialIndex.findNearestTen(10.0, 10.1)).thenReturn(asList(
+            mock(CourtSearchResult.class), mock(CourtSearchResult.class)));
+        List<CourtSearchResult> cwd = proximitySearch.searchWith(mapitData);
         assertEquals(2, cwd.size());
-        assertThat(cwd.get(0)).isInstanceOf(CourtWithDistance.class);
-        assertThat(cwd.get(1)).isInstanceOf(CourtWithDistance.class);
+        assertThat(cwd.get(0)).isInstanceOf(CourtSearchResult.class);
+        assertThat(cwd.get(1)).isInstanceOf(CourtSearchResult.class);
     }
 }
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository.CourtSummary;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourtReferenceCacheTest {
+    private static final long TTL_MINUTES = 5;
+
+    private CourtReferenceRepository courtReferenceRepository;
+    private CourtReferenceCache courtReferenceCache;
+    private CourtSummary aylesbury;
+    private CourtSummary barnet;
+    private CourtSummary barnsley;
+
+    @BeforeEach
+    void setUp() {
+        courtReferenceRepository = mock(CourtReferenceRepository.class);
+        courtReferenceCache = new CourtReferenceCache(courtReferenceRepository, new SimpleMeterRegistry(), TTL_MINUTES);
+        aylesbury = summary("Aylesbury Crown Court", true);
+        barnet = summary("Barnet Civil and Family Courts Centre", true);
+        barnsley = summary("Barnsley Law Courts", false);
+        final List<CourtSummary> summaries = List.of(aylesbury, barnet, barnsley);
+        when(courtReferenceRepository.findAllCourtSummaries()).thenReturn(summaries);
+    }
+
+    @Test
+    void shouldLoadSummariesOnce() {
+        assertThat(courtReferenceCache.getAll()).containsExactly(aylesbury, barnet, barnsley);
+        assertThat(courtReferenceCache.getAll()).containsExactly(aylesbury, barnet, barnsley);
+
+        verify(courtReferenceRepository, times(1)).findAllCourtSummaries();
+    }
+
+    @Test
+    void shouldNotAllowCachedSummariesToBeChanged() {
+        final List<CourtSummary> summaries = courtReferenceCache.getAll();
+
+        assertThatThrownBy(() -> summaries.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldFindDisplayedCourtsByNamePrefixIgnoringCase() {
+        assertThat(courtReferenceCache.findDisplayedByNamePrefix("barn")).containsExactly(barnet);
+        assertThat(courtReferenceCache.findDisplayedByNamePrefix("AYLESBURY CROWN")).containsExactly(aylesbury);
+        assertThat(courtReferenceCache.findDisplayedByNamePrefix("Cardiff")).isEmpty();
+    }
+
+    @Test
+    void shouldReloadSummariesOnceACourtHasChanged() {
+        courtReferenceCache.getAll();
+
+        courtReferenceCache.onCourtChanged(new CourtChangedEvent("barnet-civil-and-family-courts-centre"));
+        courtReferenceCache.getAll();
+
+        verify(courtReferenceRepository, times(2)).findAllCourtSummaries();
+    }
+
+    private static CourtSummary summary(final String name, final boolean displayed) {
+        final CourtSummary summary = mock(CourtSummary.class);
+        when(summary.getName()).thenReturn(name);
+        when(summary.getDisplayed()).thenReturn(displayed);
+        return summary;
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -21,12 +22,15 @@ import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
 import uk.gov.hmcts.dts.fact.model.deprecated.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
 import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository.CourtSummary;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
-import uk.gov.hmcts.dts.fact.services.search.FallbackProximitySearch;
+import uk.gov.hmcts.dts.fact.services.search.CourtFuzzySearch;
 import uk.gov.hmcts.dts.fact.services.search.ProximitySearch;
 import uk.gov.hmcts.dts.fact.services.search.Search;
+import uk.gov.hmcts.dts.fact.services.search.SearchMetrics;
 import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
 import uk.gov.hmcts.dts.fact.util.Action;
 
@@ -48,7 +52,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = CourtService.class)
+@ContextConfiguration(classes = {CourtService.class, SearchMetrics.class, SimpleMeterRegistry.class})
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.ExcessiveImports"})
 class CourtServiceTest {
 
@@ -98,6 +102,9 @@ class CourtServiceTest {
     @MockBean
     private CourtWithDistanceRepository courtWithDistanceRepository;
 
+    @MockBean
+    private CourtReferenceCache courtReferenceCache;
+
     @MockBean
     private MapitService mapitService;
 
@@ -108,7 +115,7 @@ class CourtServiceTest {
     private ServiceAreaSearchFactory serviceAreaSearchFactory;
 
     @MockBean
-    private FallbackProximitySearch fallbackProximitySearch;
+    private CourtFuzzySearch courtFuzzySearch;
 
     @MockBean
     private ServiceArea serviceArea;
@@ -127,19 +134,19 @@ class CourtServiceTest {
 
     @Test
     void shouldThrowSlugNotFoundException() {
-        when(courtRepository.findBySlug(any())).thenReturn(empty());
+        when(courtRepository.findDetailBySlug(any())).thenReturn(empty());
         assertThrows(NotFoundException.class, () -> courtService.getCourtBySlug(SOME_SLUG));
     }
 
     @Test
     void shouldReturnOldCourtObject() {
-        when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
+        when(courtRepository.findDetailBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
         assertThat(courtService.getCourtBySlugDeprecated(SOME_SLUG)).isInstanceOf(OldCourt.class);
     }
 
     @Test
     void shouldReturnCourtObject() {
-        when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
+        when(courtRepository.findDetailBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
         assertThat(courtService.getCourtBySlug(SOME_SLUG)).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
     }
 
@@ -185,7 +192,7 @@ class CourtServiceTest {
         List<CourtOpeningTime> courtOpeningTimes = singletonList(courtOpeningTime);
 
         when(court.getCourtOpeningTimes()).thenReturn(courtOpeningTimes);
-        when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
+        when(courtRepository.findDetailBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
 
         final uk.gov.hmcts.dts.fact.model.Court result = courtService.getCourtBySlug(SOME_SLUG);
         assertThat(result).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
@@ -208,7 +215,7 @@ class CourtServiceTest {
         List<CourtContact> courtContacts = singletonList(courtContact);
 
         when(court.getCourtContacts()).thenReturn(courtContacts);
-        when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
+        when(courtRepository.findDetailBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
 
         final uk.gov.hmcts.dts.fact.model.Court result = courtService.getCourtBySlug(SOME_SLUG);
         assertThat(result).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
@@ -221,9 +228,9 @@ class CourtServiceTest {
     void shouldReturnPostcode() {
         when(mapitService.getMapitData(JE2_4BA)).thenReturn(Optional.of(mapitData));
 
-        final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courts = asList(
-            mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class),
-            mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class)
+        final List<CourtSearchResult> courts = asList(
+            mock(CourtSearchResult.class),
+            mock(CourtSearchResult.class)
         );
         when(proximitySearch.searchWith(mapitData)).thenReturn(courts);
 
@@ -257,7 +264,7 @@ class CourtServiceTest {
 
         verify(courtRepository, never()).findCourtByCourtCode(anyInt());
         verify(courtRepository, never()).findCourtByFullPostcode(query);
-        verify(courtRepository, never()).findCourtByNameAddressOrTownFuzzyMatch(query);
+        verify(courtFuzzySearch, never()).findCourtByNameAddressOrTownFuzzyMatch(query);
     }
 
     @Test
@@ -266,7 +273,7 @@ class CourtServiceTest {
         when(courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(query)).thenReturn(emptyList());
         courtService.getCourtByNameOrAddressOrPostcodeOrTownFuzzyMatch(query);
 
-        verify(courtRepository).findCourtByNameAddressOrTownFuzzyMatch(query);
+        verify(courtFuzzySearch).findCourtByNameAddressOrTownFuzzyMatch(query);
         verify(courtRepository, never()).findCourtByCourtCode(anyInt());
         verify(courtRepository, never()).findCourtByFullPostcode(query);
     }
@@ -280,7 +287,7 @@ class CourtServiceTest {
         verify(courtRepository).findCourtByCourtCode(expectedCourtCode);
         verify(courtRepository, never()).findCourtByFullPostcode(query);
         verify(courtRepository, never()).findCourtByNameAddressTownOrPartialPostcodeExactMatch(query);
-        verify(courtRepository, never()).findCourtByNameAddressOrTownFuzzyMatch(query);
+        verify(courtFuzzySearch, never()).findCourtByNameAddressOrTownFuzzyMatch(query);
     }
 
     @Test
@@ -291,7 +298,7 @@ class CourtServiceTest {
         verify(courtRepository).findCourtByFullPostcode(query);
         verify(courtRepository, never()).findCourtByCourtCode(anyInt());
         verify(courtRepository, never()).findCourtByNameAddressTownOrPartialPostcodeExactMatch(query);
-        verify(courtRepository, never()).findCourtByNameAddressOrTownFuzzyMatch(query);
+        verify(courtFuzzySearch, never()).findCourtByNameAddressOrTownFuzzyMatch(query);
     }
 
     @Test
@@ -301,7 +308,21 @@ class CourtServiceTest {
 
         verify(courtRepository, never()).findCourtByFullPostcode(query);
         verify(courtRepository, never()).findCourtByCourtCode(anyInt());
-        verify(courtRepository).findCourtByNameAddressTownOrPartialPostcodeExactMatch("M604");
+        verify(courtRepository).findCourtByNameAddressTownOrPartialPostcodeExactMatch(query);
+    }
+
+    @Test
+    void fuzzyMatchingShouldNotSearchWithoutLettersOrDigits() {
+        assertThat(courtService.getCourtByNameOrAddressOrPostcodeOrTownFuzzyMatch("- ' .")).isEmpty();
+
+        verifyNoInteractions(courtRepository, courtFuzzySearch);
+    }
+
+    @Test
+    void shouldNotQueryWithoutLettersOrDigits() {
+        assertThat(courtService.getCourtsByNameOrAddressOrPostcodeOrTown("%_", true)).isEmpty();
+
+        verifyNoInteractions(courtRepository);
     }
 
     @Test
@@ -342,7 +363,6 @@ class CourtServiceTest {
             LOCAL_AUTHORITY_NAME,
             true
         )).thenReturn(courts);
-        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW_NAME, true, mapitData)).thenReturn(courts);
 
         final List<CourtWithDistance> results = courtService.getNearestCourtsByPostcodeAndAreaOfLawAndLocalAuthority(
             JE2_4BA,
@@ -376,7 +396,7 @@ class CourtServiceTest {
             LOCAL_AUTHORITY_NAME,
             true
         )).thenReturn(emptyList());
-        when(fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW_NAME, true, mapitData)).thenReturn(courts);
+        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW_NAME, true)).thenReturn(courts);
 
         final List<CourtWithDistance> results = courtService.getNearestCourtsByPostcodeAndAreaOfLawAndLocalAuthority(
             NN7_4EH,
@@ -538,9 +558,9 @@ class CourtServiceTest {
     @Test
     void shouldReturnListForNearestCourtsByPostcodeSearch() {
         final String serviceAreaSlug = TAX;
-        final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courts = asList(
-            mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class),
-            mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class)
+        final List<CourtSearchResult> courts = asList(
+            mock(CourtSearchResult.class),
+            mock(CourtSearchResult.class)
         );
 
         when(serviceArea.getSlug()).thenReturn(serviceAreaSlug);
@@ -566,9 +586,9 @@ class CourtServiceTest {
         final String serviceAreaSlug = "childcare-arrangements";
         final String postcode = "RM19 1SR";
 
-        final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courts = asList(
-            mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class),
-            mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class)
+        final List<CourtSearchResult> courts = asList(
+            mock(CourtSearchResult.class),
+            mock(CourtSearchResult.class)
         );
 
         when(serviceArea.getSlug()).thenReturn(serviceAreaSlug);
@@ -619,9 +639,9 @@ class CourtServiceTest {
     void shouldReturnListIfMapitdataForPostcodeOnlySearchFound() {
         when(mapitService.getMapitData(JE2_4BA)).thenReturn(Optional.of(mapitData));
 
-        final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courts = asList(
-            mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class),
-            mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class)
+        final List<CourtSearchResult> courts = asList(
+            mock(CourtSearchResult.class),
+            mock(CourtSearchResult.class)
         );
         when(proximitySearch.searchWith(mapitData)).thenReturn(courts);
 
@@ -692,19 +712,22 @@ class CourtServiceTest {
 
     @Test
     void shouldReturnCourtReferenceListWhenSearchingByPrefixAndActive() {
-        when(courtRepository.findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc(anyString(), anyBoolean()))
-            .thenReturn(singletonList(court));
+        final CourtSummary courtSummary = mock(CourtSummary.class);
+        when(courtSummary.getSlug()).thenReturn("mosh-kupo");
+        when(courtSummary.getDisplayed()).thenReturn(true);
+        when(courtReferenceCache.findDisplayedByNamePrefix("mosh kupo")).thenReturn(singletonList(courtSummary));
         final List<CourtReference> results = courtService.getCourtsByPrefixAndActiveSearch("mosh kupo");
         assertThat(results).hasSize(1);
-        assertThat(results.get(0)).isInstanceOf(CourtReference.class);
+        assertThat(results.get(0).getSlug()).isEqualTo("mosh-kupo");
+        verifyNoInteractions(courtRepository);
     }
 
     @Test
     void shouldReturnNearestCourtsByAreaOfLawSinglePointOfEntry() {
         final String serviceAreaSlug = CHILDREN;
-        final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courts = new ArrayList<>();
+        final List<CourtSearchResult> courts = new ArrayList<>();
         for (int i = 0; i < 2; i++) {
-            final uk.gov.hmcts.dts.fact.entity.CourtWithDistance mock = mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class);
+            final CourtSearchResult mock = mock(CourtSearchResult.class);
             List<String> areasOfLawSpoeList = new ArrayList<>();
             areasOfLawSpoeList.add(CHILDREN);
             when(mock.getAreasOfLawSpoe()).thenReturn(areasOfLawSpoeList);
@@ -0,0 +1,130 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.model.Court;
+import uk.gov.hmcts.dts.fact.model.CourtSnapshot;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {CourtSnapshotService.class, ObjectMapper.class, SimpleMeterRegistry.class})
+class CourtSnapshotServiceTest {
+
+    private static final String SLUG = "birmingham-civil-and-family-justice-centre";
+    private static final Locale WELSH = new Locale("cy");
+
+    @MockBean
+    private CourtService courtService;
+
+    @Autowired
+    private CourtSnapshotService courtSnapshotService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Court court;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        courtSnapshotService.evictAll();
+        court = objectMapper.readValue(
+            new File("src/integrationTest/resources/birmingham-civil-and-family-justice-centre.json"), Court.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void shouldSerialiseCourtWithEtag() throws IOException {
+        when(courtService.getCourtBySlug(SLUG)).thenReturn(court);
+
+        final CourtSnapshot snapshot = courtSnapshotService.getCourtSnapshot(SLUG);
+
+        assertThat(snapshot.getJson()).isEqualTo(objectMapper.writeValueAsBytes(court));
+        assertThat(snapshot.getEtag()).matches("\"[0-9a-f]{32}\"");
+    }
+
+    @Test
+    void shouldReturnCachedSnapshot() {
+        when(courtService.getCourtBySlug(SLUG)).thenReturn(court);
+
+        final CourtSnapshot first = courtSnapshotService.getCourtSnapshot(SLUG);
+        final CourtSnapshot second = courtSnapshotService.getCourtSnapshot(SLUG);
+
+        assertThat(second).isSameAs(first);
+        verify(courtService, times(1)).getCourtBySlug(SLUG);
+    }
+
+    @Test
+    void shouldCacheEachLanguageSeparately() {
+        when(courtService.getCourtBySlug(SLUG)).thenReturn(court);
+
+        final CourtSnapshot english = courtSnapshotService.getCourtSnapshot(SLUG);
+        LocaleContextHolder.setLocale(WELSH);
+        final CourtSnapshot welsh = courtSnapshotService.getCourtSnapshot(SLUG);
+        final CourtSnapshot cachedWelsh = courtSnapshotService.getCourtSnapshot(SLUG);
+
+        assertThat(welsh).isNotSameAs(english).isSameAs(cachedWelsh);
+        verify(courtService, times(2)).getCourtBySlug(SLUG);
+    }
+
+    @Test
+    void shouldEvictBothLanguagesWhenCourtChanges() {
+        when(courtService.getCourtBySlug(SLUG)).thenReturn(court);
+        courtSnapshotService.getCourtSnapshot(SLUG);
+        LocaleContextHolder.setLocale(WELSH);
+        courtSnapshotService.getCourtSnapshot(SLUG);
+
+        courtSnapshotService.onCourtChanged(new CourtChangedEvent(SLUG));
+        courtSnapshotService.getCourtSnapshot(SLUG);
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        courtSnapshotService.getCourtSnapshot(SLUG);
+
+        verify(courtService, times(4)).getCourtBySlug(SLUG);
+    }
+
+    @Test
+    void shouldEvictEverySnapshotWhenReferenceDataChanges() {
+        when(courtService.getCourtBySlug(SLUG)).thenReturn(court);
+        courtSnapshotService.getCourtSnapshot(SLUG);
+
+        courtSnapshotService.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceData.AREAS_OF_LAW));
+        courtSnapshotService.getCourtSnapshot(SLUG);
+
+        verify(courtService, times(2)).getCourtBySlug(SLUG);
+    }
+
+    @Test
+    void shouldNotCacheMissingCourt() {
+        when(courtService.getCourtBySlug(SLUG)).thenThrow(new NotFoundException(SLUG));
+
+        assertThatThrownBy(() -> courtSnapshotService.getCourtSnapshot(SLUG)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> courtSnapshotService.getCourtSnapshot(SLUG)).isInstanceOf(NotFoundException.class);
+
+        verify(courtService, times(2)).getCourtBySlug(SLUG);
+    }
+}
@@ -1,6 +1,9 @@
 package uk.gov.hmcts.dts.fact.services;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -9,11 +12,14 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.event.CatchmentChangedEvent;
 import uk.gov.hmcts.dts.fact.mapit.MapitArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitClient;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.PostcodeLookup;
 
 import java.util.Collections;
 import java.util.Map;
@@ -22,12 +28,14 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = MapitService.class)
+@ContextConfiguration(classes = {MapitService.class, SimpleMeterRegistry.class})
+@SuppressWarnings("PMD.TooManyMethods")
 class MapitServiceTest {
 
     private static final String RESPONSE_MESSAGE = "message";
@@ -38,9 +46,20 @@ class MapitServiceTest {
     @MockBean
     private Logger logger;
 
+    @MockBean
+    private PostcodeLookup postcodeLookup;
+
     @Autowired
     private MapitService mapitService;
 
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        mapitService.evictAll();
+    }
+
     @Test
     void shouldReturnOptionalOfCoordinatesForValidPostcode() {
         final String postcode = "OX1 1RZ";
@@ -171,4 +190,193 @@ class MapitServiceTest {
         assertThat(mapitService.localAuthorityExists("Test Council")).isFalse();
         verify(logger).warn("Mapit API call (local authority validation) failed. HTTP Status: {} Message: {}", 400, RESPONSE_MESSAGE, feignException);
     }
+
+    @Test
+    void shouldCachePostcodeLookupsIgnoringCaseAndSpacing() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(mapitClient.getMapitData("OX1 1RZ")).thenReturn(mapitData);
+        final double hitsBefore = postcodeCacheHits();
+
+        assertThat(mapitService.getMapitData("OX1 1RZ")).contains(mapitData);
+        assertThat(mapitService.getMapitData("ox11rz")).contains(mapitData);
+
+        verify(mapitClient, times(1)).getMapitData(any());
+        assertThat(postcodeCacheHits() - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDiscardCachedLookupsOnceTheCatchmentsHaveChanged() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(mapitClient.getMapitData("OX1 1RZ")).thenReturn(mapitData);
+
+        mapitService.getMapitData("OX1 1RZ");
+        mapitService.onCatchmentChanged(new CatchmentChangedEvent());
+        mapitService.getMapitData("OX1 1RZ");
+
+        verify(mapitClient, times(2)).getMapitData("OX1 1RZ");
+    }
+
+    @Test
+    void shouldCachePartialPostcodeLookupsSeparatelyFromFullPostcodes() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(mapitClient.getMapitDataWithPartial("OX1")).thenReturn(mapitData);
+        when(mapitClient.getMapitData("OX1")).thenReturn(new MapitData(null, null, null, null));
+
+        assertThat(mapitService.getMapitDataWithPartial("OX1")).contains(mapitData);
+        assertThat(mapitService.getMapitDataWithPartial("OX1")).contains(mapitData);
+        assertThat(mapitService.getMapitData("OX1")).isNotPresent();
+
+        verify(mapitClient, times(1)).getMapitDataWithPartial("OX1");
+        verify(mapitClient, times(1)).getMapitData("OX1");
+    }
+
+    @Test
+    void shouldCacheNegativeResultForPostcodeWithoutCoordinates() {
+        final String postcode = "JE3 4BA";
+        when(mapitClient.getMapitData(postcode)).thenReturn(new MapitData(null, null, null, null));
+
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+
+        verify(mapitClient, times(1)).getMapitData(postcode);
+    }
+
+    @Test
+    void shouldCacheNegativeResultForNotFoundResponse() {
+        final String postcode = "ZZ1 1ZZ";
+        final FeignException feignException = mock(FeignException.class);
+        when(feignException.status()).thenReturn(404);
+        when(mapitClient.getMapitData(postcode)).thenThrow(feignException);
+
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+
+        verify(mapitClient, times(1)).getMapitData(postcode);
+    }
+
+    @Test
+    void shouldNotCacheTransientFailures() {
+        final String postcode = "OX1 1RZ";
+        final FeignException feignException = mock(FeignException.class);
+        when(feignException.status()).thenReturn(503);
+        when(mapitClient.getMapitData(postcode)).thenThrow(feignException);
+
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+
+        verify(mapitClient, times(2)).getMapitData(postcode);
+    }
+
+    @Test
+    void shouldCacheLocalAuthorityLookups() {
+        when(mapitClient.getMapitDataForLocalAuthorities(any(), any())).thenReturn(
+            Map.of("100", new MapitArea("100", "Birmingham City Council", "MTD")));
+
+        assertThat(mapitService.localAuthorityExists("Birmingham City Council")).isTrue();
+        assertThat(mapitService.localAuthorityExists("birmingham city council")).isTrue();
+
+        verify(mapitClient, times(1)).getMapitDataForLocalAuthorities(any(), any());
+    }
+
+    @Test
+    void shouldCacheUnknownLocalAuthorityAsNegativeResult() {
+        when(mapitClient.getMapitDataForLocalAuthorities(any(), any())).thenReturn(Collections.emptyMap());
+
+        assertThat(mapitService.localAuthorityExists("Non existent")).isFalse();
+        assertThat(mapitService.localAuthorityExists("Non existent")).isFalse();
+
+        verify(mapitClient, times(1)).getMapitDataForLocalAuthorities(any(), any());
+    }
+
+    @Test
+    void shouldTimeMapitRequestsByMethodAndStatus() {
+        final FeignException feignException = mock(FeignException.class);
+        when(feignException.status()).thenReturn(503);
+        when(mapitClient.getMapitData("SW1A 1AA")).thenReturn(new MapitData(51.5, -0.1, null, null));
+        when(mapitClient.getMapitDataWithPartial("SW1A")).thenThrow(feignException);
+        final long successesBefore = mapitRequests("getMapitData", "200", "SUCCESS");
+        final long failuresBefore = mapitRequests("getMapitDataWithPartial", "503", "SERVER_ERROR");
+
+        assertThat(mapitService.getMapitData("SW1A 1AA")).isPresent();
+        assertThat(mapitService.getMapitDataWithPartial("SW1A")).isNotPresent();
+
+        assertThat(mapitRequests("getMapitData", "200", "SUCCESS") - successesBefore).isEqualTo(1);
+        assertThat(mapitRequests("getMapitDataWithPartial", "503", "SERVER_ERROR") - failuresBefore).isEqualTo(1);
+    }
+
+    private long mapitRequests(final String method, final String status, final String outcome) {
+        final Timer timer = meterRegistry.find("mapit.requests")
+            .tag("method", method)
+            .tag("status", status)
+            .tag("outcome", outcome)
+            .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double postcodeCacheHits() {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", "mapit.postcode")
+            .tag("result", "hit")
+            .functionCounter()
+            .count();
+    }
+
+    @Test
+    void shouldUsePostcodeLookupBeforeCallingMapit() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(postcodeLookup.getMapitData("OX1 1RZ")).thenReturn(Optional.of(mapitData));
+
+        assertThat(mapitService.getMapitData("OX1 1RZ")).contains(mapitData);
+        assertThat(mapitService.getMapitData("OX1 1RZ")).contains(mapitData);
+
+        verify(postcodeLookup, times(1)).getMapitData("OX1 1RZ");
+        verifyNoInteractions(mapitClient);
+    }
+
+    @Test
+    void shouldUsePostcodeLookupForPartialPostcodes() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(postcodeLookup.getMapitDataWithPartial("OX1")).thenReturn(Optional.of(mapitData));
+
+        assertThat(mapitService.getMapitDataWithPartial("OX1")).contains(mapitData);
+
+        verifyNoInteractions(mapitClient);
+    }
+
+    @Test
+    void shouldFallBackToMapitWhenPostcodeLookupHasNoAnswer() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(postcodeLookup.getMapitData("OX1 1RZ")).thenReturn(Optional.empty());
+        when(mapitClient.getMapitData("OX1 1RZ")).thenReturn(mapitData);
+
+        assertThat(mapitService.getMapitData("OX1 1RZ")).contains(mapitData);
+
+        verify(mapitClient, times(1)).getMapitData("OX1 1RZ");
+    }
+
+    @Test
+    void shouldCacheSectorSeparatelyFromOutcode() {
+        final MapitData sector = new MapitData(51.7, -1.2, null, null);
+        final MapitData outcode = new MapitData(51.6, -1.3, null, null);
+        when(mapitClient.getMapitDataWithPartial("OX1 1")).thenReturn(sector);
+        when(mapitClient.getMapitDataWithPartial("OX11")).thenReturn(outcode);
+
+        assertThat(mapitService.getMapitDataWithPartial("OX1 1")).contains(sector);
+        assertThat(mapitService.getMapitDataWithPartial("OX11")).contains(outcode);
+        assertThat(mapitService.getMapitDataWithPartial(" ox1  1 ")).contains(sector);
+
+        verify(mapitClient, times(1)).getMapitDataWithPartial("OX1 1");
+        verify(mapitClient, times(1)).getMapitDataWithPartial("OX11");
+    }
+
+    @Test
+    void shouldFallBackToMapitWhenPostcodeLookupFails() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(postcodeLookup.getMapitData("OX1 1RZ")).thenThrow(new DataAccessResourceFailureException("down"));
+        when(mapitClient.getMapitData("OX1 1RZ")).thenReturn(mapitData);
+
+        assertThat(mapitService.getMapitData("OX1 1RZ")).contains(mapitData);
+
+        verify(mapitClient, times(1)).getMapitData("OX1 1RZ");
+    }
 }
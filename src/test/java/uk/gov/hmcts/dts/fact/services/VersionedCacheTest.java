@@ -0,0 +1,84 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionedCacheTest {
+    private static final String CACHE_NAME = "test-cache";
+    private static final String OLD_ROW = "old";
+    private static final String NEW_ROW = "new";
+
+    private SimpleMeterRegistry meterRegistry;
+    private VersionedCache<String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VersionedCache<>(meterRegistry, CACHE_NAME, 5);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldLoadOnceUntilInvalidated() {
+        assertThat(cache.get(loader(OLD_ROW))).containsExactly(OLD_ROW);
+        assertThat(cache.get(loader(NEW_ROW))).containsExactly(OLD_ROW);
+
+        cache.invalidate();
+
+        assertThat(cache.get(loader(NEW_ROW))).containsExactly(NEW_ROW);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReturnRowsWhichCannotBeModified() {
+        final List<String> rows = cache.get(loader(OLD_ROW));
+
+        assertThatThrownBy(() -> rows.add(NEW_ROW)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldNotServeRowsLoadedBeforeInvalidation() {
+        final List<String> rows = cache.get(() -> {
+            // The rows are changed while the old ones are being loaded
+            cache.invalidate();
+            return asList(OLD_ROW);
+        });
+
+        assertThat(rows).containsExactly(OLD_ROW);
+        assertThat(cache.get(loader(NEW_ROW))).containsExactly(NEW_ROW);
+    }
+
+    @Test
+    void shouldPublishHitsAndMissesUnderItsName() {
+        cache.get(loader(OLD_ROW));
+        cache.get(loader(OLD_ROW));
+
+        assertThat(cacheGets("hit")).isEqualTo(1.0);
+        assertThat(cacheGets("miss")).isEqualTo(1.0);
+    }
+
+    private double cacheGets(final String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", CACHE_NAME)
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private Supplier<List<String>> loader(final String row) {
+        return () -> {
+            loads.incrementAndGet();
+            return asList(row);
+        };
+    }
+}
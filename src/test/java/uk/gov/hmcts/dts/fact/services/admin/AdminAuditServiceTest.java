@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,9 +16,15 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Audit;
 import uk.gov.hmcts.dts.fact.entity.AuditType;
+import uk.gov.hmcts.dts.fact.model.admin.AuditFilter;
+import uk.gov.hmcts.dts.fact.model.admin.AuditPage;
 import uk.gov.hmcts.dts.fact.repositories.AuditRepository;
 import uk.gov.hmcts.dts.fact.repositories.AuditTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.audit.AuditOutbox;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -26,10 +33,14 @@ import java.util.Optional;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,9 +57,14 @@ class AdminAuditServiceTest {
     @MockBean
     private AuditTypeRepository auditTypeRepository;
 
+    @MockBean
+    private AuditOutbox auditOutbox;
+
     private static final List<Audit> AUDIT_DATA = new ArrayList<>();
     private static final String TEST_LOCATION = "mosh court";
     private static final String TEST_EMAIL = "kupo email";
+    private static final AuditFilter NO_FILTER = new AuditFilter(Optional.empty(), Optional.empty(),
+                                                                 Optional.empty(), Optional.empty());
 
     @BeforeAll
     static void beforeAll() {
@@ -173,6 +189,134 @@ class AdminAuditServiceTest {
 
         adminAuditService.saveAudit("test type", AUDIT_DATA, emptyList(), "some court");
 
-        verify(auditRepository, atLeastOnce()).save(any(Audit.class));
+        verify(auditOutbox, atLeastOnce()).add(any(Audit.class));
+        verify(auditRepository, never()).save(any(Audit.class));
+    }
+
+    @Test
+    void shouldSaveAuditDirectlyInSyncMode() {
+        when(auditTypeRepository.findByName(anyString())).thenReturn(new AuditType(1, "test type"));
+        setUpSecurityContext();
+        final AdminAuditService syncAuditService =
+            new AdminAuditService(auditRepository, auditTypeRepository, auditOutbox, "sync", 500);
+
+        syncAuditService.saveAudit("test type", AUDIT_DATA, emptyList(), "some court");
+
+        verify(auditRepository).save(any(Audit.class));
+        verify(auditOutbox, never()).add(any(Audit.class));
+    }
+
+    @Test
+    void shouldOnlyLookUpEachAuditTypeOnce() {
+        when(auditTypeRepository.findByName("cached type")).thenReturn(new AuditType(2, "cached type"));
+        setUpSecurityContext();
+
+        adminAuditService.saveAudit("cached type", AUDIT_DATA, emptyList(), "some court");
+        adminAuditService.saveAudit("cached type", emptyList(), AUDIT_DATA, "some court");
+
+        verify(auditTypeRepository, times(1)).findByName("cached type");
+        verify(auditOutbox, times(2)).add(any(Audit.class));
+    }
+
+    @Test
+    void shouldReadNextAuditPageFromCursor() {
+        when(auditRepository.findFirstByFilter(eq("%some court%"), eq("%%"), any(LocalDateTime.class),
+                                               any(LocalDateTime.class), eq(Pageable.ofSize(2))))
+            .thenReturn(AUDIT_DATA);
+        final AuditFilter filter = new AuditFilter(Optional.of("some court"), Optional.empty(),
+                                                   Optional.empty(), Optional.empty());
+
+        final AuditPage first = adminAuditService.getAuditPage(filter, 2, Optional.empty(), false);
+
+        assertThat(first.getAudits()).hasSize(2);
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(first.getTotal()).isNull();
+
+        final Audit last = AUDIT_DATA.get(1);
+        when(auditRepository.findByFilterAfter(eq("%some court%"), eq("%%"), any(LocalDateTime.class),
+                                               any(LocalDateTime.class), eq(last.getCreationTime()),
+                                               eq(last.getId()), eq(Pageable.ofSize(2))))
+            .thenReturn(List.of());
+
+        final AuditPage second = adminAuditService.getAuditPage(filter, 2, Optional.of(first.getNextCursor()), false);
+
+        assertThat(second.getAudits()).isEmpty();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldCountAuditsOnlyWhenAsked() {
+        when(auditRepository.findFirstByFilter(anyString(), anyString(), any(LocalDateTime.class),
+                                               any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(AUDIT_DATA);
+        when(auditRepository.countByFilter(anyString(), anyString(), any(LocalDateTime.class),
+                                           any(LocalDateTime.class))).thenReturn(42L);
+
+        final AuditPage page = adminAuditService.getAuditPage(NO_FILTER, 10, Optional.empty(), true);
+
+        assertThat(page.getTotal()).isEqualTo(42L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldEscapeLikeWildcardsInFilter() {
+        final AuditFilter filter = new AuditFilter(Optional.of("50%_off!"), Optional.of(TEST_EMAIL),
+                                                   Optional.empty(), Optional.empty());
+
+        adminAuditService.getAuditPage(filter, 10, Optional.empty(), false);
+
+        verify(auditRepository).findFirstByFilter(eq("%50!%!_off!!%"), eq("%" + TEST_EMAIL + "%"),
+                                                  any(LocalDateTime.class), any(LocalDateTime.class),
+                                                  eq(Pageable.ofSize(10)));
+    }
+
+    @Test
+    void shouldRejectInvalidAuditCursorAndPageSize() {
+        assertThatThrownBy(() -> adminAuditService.getAuditPage(NO_FILTER, 10, Optional.of("not a cursor"), false))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> adminAuditService.getAuditPage(NO_FILTER, 0, Optional.empty(), false))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> adminAuditService.getAuditPage(NO_FILTER, AdminAuditService.MAX_PAGE_SIZE + 1,
+                                                                Optional.empty(), false))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldExportAuditsAsCsvAcrossPages() throws IOException {
+        final AdminAuditService exportService =
+            new AdminAuditService(auditRepository, auditTypeRepository, auditOutbox, "outbox", 1);
+        final Audit first = AUDIT_DATA.get(0);
+        final Audit quoted = new Audit("Test String 2", new AuditType(1, "test 2"),
+                                       "{\"name\":\"a, b\"}", "after",
+                                       "some court", LocalDateTime.of(2024, 11, 10, 10, 10, 10));
+        quoted.setId(1);
+        when(auditRepository.findFirstByFilter(anyString(), anyString(), any(LocalDateTime.class),
+                                               any(LocalDateTime.class), eq(Pageable.ofSize(1))))
+            .thenReturn(List.of(first));
+        when(auditRepository.findByFilterAfter(anyString(), anyString(), any(LocalDateTime.class),
+                                               any(LocalDateTime.class), eq(first.getCreationTime()),
+                                               eq(first.getId()), eq(Pageable.ofSize(1))))
+            .thenReturn(List.of(quoted));
+        when(auditRepository.findByFilterAfter(anyString(), anyString(), any(LocalDateTime.class),
+                                               any(LocalDateTime.class), eq(quoted.getCreationTime()),
+                                               eq(quoted.getId()), eq(Pageable.ofSize(1))))
+            .thenReturn(List.of());
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.exportAudits(NO_FILTER, outputStream);
+
+        final String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).containsExactly(
+            "id,user_email,action,location,creation_time,action_data_before,action_data_after",
+            "0,Test String,test,some court,2024-11-10T10:10:10,data before,data after",
+            "1,Test String 2,test 2,some court,2024-11-10T10:10:10,\"{\"\"name\"\":\"\"a, b\"\"}\",after"
+        );
+    }
+
+    private static void setUpSecurityContext() {
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
     }
 }
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -9,11 +10,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.repositories.CountyRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
@@ -40,6 +44,15 @@ class AdminCountyServiceTest {
     @MockBean
     private CountyRepository countyRepository;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @Test
     void shouldReturnAllCounties() {
         when(countyRepository.findAll()).thenReturn(COUNTIES);
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -17,11 +18,13 @@ import uk.gov.hmcts.dts.fact.model.admin.ContactType;
 import uk.gov.hmcts.dts.fact.repositories.ContactTypeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtContactRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -92,9 +95,18 @@ class AdminCourtContactServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
     @Mock
     private Court court;
 
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @BeforeAll
     static void setUp() {
         for (int i = 0; i < CONTACT_COUNT; i++) {
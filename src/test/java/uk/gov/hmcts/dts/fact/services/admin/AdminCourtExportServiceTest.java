@@ -0,0 +1,110 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.model.admin.CourtExportFormat;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {AdminCourtExportService.class, ObjectMapper.class})
+@TestPropertySource(properties = "court-export.page-size=2")
+class AdminCourtExportServiceTest {
+
+    private static final Pageable PAGE = Pageable.ofSize(2);
+    private static final Court ABERDARE = court(1, "Aberdare County Court", "aberdare-county-court");
+    private static final Court BARNET = court(2, "Barnet, Civil and Family Courts", "barnet-civil-and-family-courts");
+    private static final Court CARDIFF = court(3, "Cardiff \"Civil\" Court", "cardiff-civil-court");
+
+    @Autowired
+    private AdminCourtExportService adminCourtExportService;
+
+    @MockBean
+    private CourtRepository courtRepository;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldExportCourtsAsJsonLinesInDatabaseOrderAcrossPages() throws IOException {
+        givenThreeCourts();
+
+        final String[] lines = export(CourtExportFormat.JSON_LINES).split("\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("\"slug\":\"aberdare-county-court\"");
+        assertThat(lines[1]).contains("\"slug\":\"barnet-civil-and-family-courts\"");
+        assertThat(lines[2]).contains("\"slug\":\"cardiff-civil-court\"");
+    }
+
+    @Test
+    void shouldExportCourtsAsCsvWithHeaderAndEscapedFields() throws IOException {
+        givenThreeCourts();
+
+        final String[] lines = export(CourtExportFormat.CSV).split("\n");
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("name,open,updated,addresses,areas_of_law,court_types,");
+        assertThat(lines[1]).startsWith("Aberdare County Court,open,");
+        assertThat(lines[2]).startsWith("\"Barnet, Civil and Family Courts\",open,");
+        assertThat(lines[3]).startsWith("\"Cardiff \"\"Civil\"\" Court\",open,");
+    }
+
+    @Test
+    void shouldStopAfterShortPage() throws IOException {
+        when(courtRepository.findFirstIdsOrderByName(PAGE)).thenReturn(List.of(1));
+        when(courtRepository.findAllForDownloadByIdIn(List.of(1))).thenReturn(List.of(ABERDARE));
+
+        assertThat(export(CourtExportFormat.JSON_LINES).split("\n")).hasSize(1);
+        verify(courtRepository, never()).findIdsOrderByNameAfter(any(), any(), any());
+    }
+
+    @Test
+    void shouldExportOnlyHeaderWhenThereAreNoCourts() throws IOException {
+        when(courtRepository.findFirstIdsOrderByName(PAGE)).thenReturn(List.of());
+
+        assertThat(export(CourtExportFormat.CSV).split("\n")).hasSize(1);
+        verify(courtRepository, never()).findAllForDownloadByIdIn(any());
+    }
+
+    private void givenThreeCourts() {
+        when(courtRepository.findFirstIdsOrderByName(PAGE)).thenReturn(List.of(1, 2));
+        when(courtRepository.findAllForDownloadByIdIn(List.of(1, 2))).thenReturn(List.of(BARNET, ABERDARE));
+        when(courtRepository.findIdsOrderByNameAfter(BARNET.getName(), BARNET.getId(), PAGE)).thenReturn(List.of(3));
+        when(courtRepository.findAllForDownloadByIdIn(List.of(3))).thenReturn(List.of(CARDIFF));
+    }
+
+    private String export(final CourtExportFormat format) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        adminCourtExportService.exportCourts(format, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Court court(final int id, final String name, final String slug) {
+        final Court court = new Court();
+        court.setId(id);
+        court.setName(name);
+        court.setSlug(slug);
+        court.setDisplayed(true);
+        return court;
+    }
+}
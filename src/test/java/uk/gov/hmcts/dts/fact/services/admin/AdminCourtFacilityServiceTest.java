@@ -20,11 +20,13 @@ import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.repositories.CourtFacilityRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.FacilityTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -92,9 +94,18 @@ class AdminCourtFacilityServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
     @Mock
     private Court court;
 
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @BeforeEach
     void init() {
 
@@ -160,10 +171,11 @@ class AdminCourtFacilityServiceTest {
         when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
         when(courtFacilityRepository.findByCourtId(anyInt())).thenReturn(COURT_FACILITIES);
         when(courtRepository.save(court)).thenReturn(court);
-        when(facilityTypeRepository.findById(any()))
-            .thenReturn(Optional.of(COURT_FACILITIES.get(0).getFacility().getFacilityType()))
-            .thenReturn(Optional.of(COURT_FACILITIES.get(1).getFacility().getFacilityType()))
-            .thenReturn(Optional.of(COURT_FACILITIES.get(2).getFacility().getFacilityType()));
+        when(facilityTypeRepository.findAll()).thenReturn(Arrays.asList(
+            COURT_FACILITIES.get(0).getFacility().getFacilityType(),
+            COURT_FACILITIES.get(1).getFacility().getFacilityType(),
+            COURT_FACILITIES.get(2).getFacility().getFacilityType()
+        ));
 
         List<uk.gov.hmcts.dts.fact.model.admin.Facility> results =
             adminCourtFacilityService.updateCourtFacility(COURT_SLUG, INPUT_COURT_FACILITIES);
@@ -9,9 +9,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtHistory;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
@@ -28,6 +31,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtHistoryService.class)
 @SuppressWarnings({"PMD.UseUnderscoresInNumericLiterals", "PMD.TooManyMethods"})
+@RecordApplicationEvents
 class AdminCourtHistoryServiceTest {
 
     @Autowired
@@ -42,6 +46,9 @@ class AdminCourtHistoryServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Captor
     ArgumentCaptor<CourtHistory> courtHistoryCaptor;
 
@@ -262,5 +269,7 @@ class AdminCourtHistoryServiceTest {
             .hasSize(1)
             .extracting("searchCourtId")
             .contains(11);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .containsExactly(new CourtChangedEvent(courtSlug));
     }
 }
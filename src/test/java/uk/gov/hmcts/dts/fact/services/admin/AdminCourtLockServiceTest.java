@@ -15,15 +15,16 @@ import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.repositories.CourtLockRepository;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -45,8 +46,12 @@ class AdminCourtLockServiceTest {
     @Captor
     private ArgumentCaptor<CourtLock> captor;
 
+    @Captor
+    private ArgumentCaptor<LocalDateTime> timeCaptor;
+
     private static final String TEST_SLUG_1 = "mosh-slug";
     private static final String TEST_SLUG_2 = "kupo-slug";
+    private static final String TEST_USER_1 = "mosh@cat.com";
     private static final String TEST_USER_2 = "kupo@cat.com";
     private static final LocalDateTime TEST_LOCK_ACQUIRED_2 =
         LocalDateTime.of(2001, 8, 28, 20, 20);
@@ -86,60 +91,62 @@ class AdminCourtLockServiceTest {
 
     @Test
     void shouldThrowLockInUseExceptionWhenAddingLock() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Collections.singletonList(
-            EXPECTED_COURT_LOCK_LIST.get(0)));
+        when(courtLockRepository.findForUpdateByCourtSlug(TEST_SLUG_2))
+            .thenReturn(Optional.of(lock(TEST_USER_1, LocalDateTime.now(ZoneOffset.UTC))));
         assertThatThrownBy(() -> adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(
             ENTITY_COURT_LOCK_2)))
             .isInstanceOf(LockExistsException.class)
             .hasMessage("Lock for court 'kupo-slug' is currently held by user 'mosh@cat.com'");
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
+        verify(courtLockRepository, never()).save(any());
+        verify(courtLockRepository, never()).insertIfAbsent(any(), any(), any());
+        verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
     }
 
     @Test
-    void shouldUpdateLockWhenAddingIfUserIsTheSame() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Collections.singletonList(
-            EXPECTED_COURT_LOCK_LIST.get(1)));
-        when(courtLockRepository.findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2)).thenReturn(
-            Collections.singletonList(
-                EXPECTED_COURT_LOCK_LIST.get(1)));
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+    void shouldRefreshLockWithoutAuditWhenAddingIfUserIsTheSame() {
+        final CourtLock held = lock(TEST_USER_2, TEST_LOCK_ACQUIRED_2);
+        when(courtLockRepository.findForUpdateByCourtSlug(TEST_SLUG_2)).thenReturn(Optional.of(held));
+        when(courtLockRepository.save(held)).thenReturn(held);
 
         assertThat(adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(
-            ENTITY_COURT_LOCK_2))).isEqualTo(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
+            ENTITY_COURT_LOCK_2)).getUserEmail()).isEqualTo(TEST_USER_2);
 
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
         verify(courtLockRepository, times(1)).save(captor.capture());
-        verify(adminAuditService, times(1)).saveAudit(anyString(), anyString(), anyString(), anyString());
-
-        // Check that the edited court has a date larger than the original
-        List<CourtLock> courtLock = captor.getAllValues();
-        assertEquals(1, courtLock.size());
-        assertThat(courtLock.get(0).getLockAcquired()).isAfter(TEST_LOCK_ACQUIRED_2);
+        verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
+        assertThat(captor.getValue().getLockAcquired()).isAfter(TEST_LOCK_ACQUIRED_2);
     }
 
     @Test
-    void shouldThrowLockInUseExceptionWhenMoreThanOneUserForCourt() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Arrays.asList(
-            EXPECTED_COURT_LOCK_LIST.get(0), EXPECTED_COURT_LOCK_LIST.get(1)));
-        assertThatThrownBy(() -> adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(
-            ENTITY_COURT_LOCK_2)))
-            .isInstanceOf(LockExistsException.class)
-            .hasMessage(String.format("More than one lock exists for kupo-slug: %s", Arrays.asList(
-                EXPECTED_COURT_LOCK_LIST.get(0), EXPECTED_COURT_LOCK_LIST.get(1))));
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
+    void shouldTakeOverExpiredLockFromAnotherUser() {
+        final CourtLock expired = lock(TEST_USER_1, TEST_LOCK_ACQUIRED_2);
+        when(courtLockRepository.findForUpdateByCourtSlug(TEST_SLUG_2)).thenReturn(Optional.of(expired));
+        when(courtLockRepository.save(expired)).thenReturn(expired);
+
+        final uk.gov.hmcts.dts.fact.model.admin.CourtLock result =
+            adminCourtLockService.updateCourtLock(TEST_SLUG_2, TEST_USER_2);
+
+        assertThat(result.getUserEmail()).isEqualTo(TEST_USER_2);
+        assertThat(result.getLockAcquired()).isAfter(TEST_LOCK_ACQUIRED_2);
+        verify(adminAuditService, times(1))
+            .saveAudit(
+                "Create court lock",
+                List.of(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(1, TEST_LOCK_ACQUIRED_2, TEST_USER_1, TEST_SLUG_2)),
+                result,
+                TEST_SLUG_2
+            );
     }
 
     @Test
     void shouldAddLockSuccess() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Collections.emptyList());
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+        when(courtLockRepository.findForUpdateByCourtSlug(TEST_SLUG_2)).thenReturn(Optional.empty());
+        when(courtLockRepository.insertIfAbsent(any(), eq(TEST_USER_2), eq(TEST_SLUG_2))).thenReturn(1);
+        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2))
+            .thenReturn(Collections.singletonList(ENTITY_COURT_LOCK_2));
 
         assertThat(adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(
             ENTITY_COURT_LOCK_2))).isEqualTo(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
 
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
-        verify(courtLockRepository, times(1)).save(captor.capture());
+        verify(courtLockRepository, times(1)).insertIfAbsent(timeCaptor.capture(), eq(TEST_USER_2), eq(TEST_SLUG_2));
         verify(adminAuditService, times(1))
             .saveAudit(
                 "Create court lock",
@@ -147,77 +154,31 @@ class AdminCourtLockServiceTest {
                 new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2),
                 TEST_SLUG_2
             );
-
-        List<CourtLock> courtLock = captor.getAllValues();
-        assertEquals(1, courtLock.size());
-        assertThat(courtLock.get(0).getLockAcquired()).isAfter(TEST_LOCK_ACQUIRED_2);
+        assertThat(timeCaptor.getValue()).isAfter(TEST_LOCK_ACQUIRED_2);
     }
 
     @Test
-    void shouldThrowLockInUseExceptionWhenMoreThanOneUserForCourtWhenUpdating() {
-        when(courtLockRepository.findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2)).thenReturn(
-            Arrays.asList(EXPECTED_COURT_LOCK_LIST.get(0), EXPECTED_COURT_LOCK_LIST.get(1)));
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+    void shouldThrowLockInUseExceptionWhenAnotherUserAddsLockFirst() {
+        when(courtLockRepository.findForUpdateByCourtSlug(TEST_SLUG_2)).thenReturn(Optional.empty());
+        when(courtLockRepository.insertIfAbsent(any(), eq(TEST_USER_2), eq(TEST_SLUG_2))).thenReturn(0);
+        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2))
+            .thenReturn(Collections.singletonList(lock(TEST_USER_1, LocalDateTime.now(ZoneOffset.UTC))));
 
         assertThatThrownBy(() -> adminCourtLockService.updateCourtLock(TEST_SLUG_2, TEST_USER_2))
             .isInstanceOf(LockExistsException.class)
-            .hasMessage(String.format("More than one lock exists for kupo-slug: %s", Arrays.asList(
-                EXPECTED_COURT_LOCK_LIST.get(0), EXPECTED_COURT_LOCK_LIST.get(1))));
-
-        verify(courtLockRepository, times(1))
-            .findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
-        verify(courtLockRepository, never()).save(any());
-    }
-
-    @Test
-    void shouldAddLockWhenUpdatingIfUserNotExistsAndSlugHasNoLocks() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Collections.emptyList());
-        when(courtLockRepository.findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2)).thenReturn(
-            Collections.emptyList());
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
-
-        assertThat(adminCourtLockService.updateCourtLock(TEST_SLUG_2, TEST_USER_2))
-            .isEqualTo(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
-
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
-        verify(courtLockRepository, times(1)).save(captor.capture());
-        verify(adminAuditService, times(1))
-            .saveAudit(
-                "Create court lock",
-                Collections.emptyList(),
-                new uk.gov.hmcts.dts.fact.model.admin.CourtLock(EXPECTED_COURT_LOCK_LIST.get(1)),
-                TEST_SLUG_2
-            );
+            .hasMessage("Lock for court 'kupo-slug' is currently held by user 'mosh@cat.com'");
+        verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
     }
 
     @Test
-    void shouldUpdateLockSuccess() {
-        when(courtLockRepository.findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2)).thenReturn(
-            Collections.singletonList(
-                EXPECTED_COURT_LOCK_LIST.get(1)));
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+    void shouldDeleteExpiredCourtLocks() {
+        final LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(20);
 
-        assertThat(adminCourtLockService.updateCourtLock(TEST_SLUG_2, TEST_USER_2))
-            .isEqualTo(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
+        adminCourtLockService.deleteExpiredCourtLocks();
 
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
-        verify(courtLockRepository, times(1)).save(captor.capture());
-        verify(adminAuditService, times(1))
-            .saveAudit(
-                "Update court lock",
-                String.format("User kupo@cat.com has a lock acquired time (before) of: %s", TEST_LOCK_ACQUIRED_2),
-                String.format(
-                    "User kupo@cat.com has a lock acquired time (after) of: %s",
-                    ENTITY_COURT_LOCK_2.getLockAcquired()
-                ),
-                TEST_SLUG_2
-            );
-
-        // Check that the edited court has a date larger than the original
-        List<CourtLock> courtLock = captor.getAllValues();
-        assertEquals(1, courtLock.size());
-        assertThat(courtLock.get(0).getLockAcquired()).isAfter(TEST_LOCK_ACQUIRED_2);
+        verify(courtLockRepository, times(1)).deleteExpired(timeCaptor.capture());
+        assertThat(timeCaptor.getValue()).isAfterOrEqualTo(before)
+            .isBefore(LocalDateTime.now(ZoneOffset.UTC).minusMinutes(19));
     }
 
     @Test
@@ -277,4 +238,16 @@ class AdminCourtLockServiceTest {
         verify(courtLockRepository, never()).delete(any());
         verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
     }
+
+    @Test
+    void shouldNotAuditDeletingCourtLocksByEmailWhenUserHasNone() {
+        when(courtLockRepository.deleteAllByUserEmail(TEST_USER_2)).thenReturn(Collections.emptyList());
+
+        assertThat(adminCourtLockService.deleteCourtLockByEmail(TEST_USER_2)).isEmpty();
+        verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
+    }
+
+    private static CourtLock lock(String userEmail, LocalDateTime lockAcquired) {
+        return new CourtLock(1, lockAcquired, userEmail, TEST_SLUG_2);
+    }
 }
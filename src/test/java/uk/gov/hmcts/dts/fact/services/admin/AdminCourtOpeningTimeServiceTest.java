@@ -1,6 +1,7 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -8,18 +9,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtOpeningTime;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningTime;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.OpeningTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,6 +39,7 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtOpeningTimeService.class)
+@RecordApplicationEvents
 class AdminCourtOpeningTimeServiceTest {
     private static final String COURT_SLUG = "some slug";
     private static final int TEST_TYPE_ID1 = 1;
@@ -73,9 +80,21 @@ class AdminCourtOpeningTimeServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Mock
     private Court court;
 
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @BeforeAll
     static void setUp() {
         for (int i = 0; i < OPENING_TIME_COUNT; i++) {
@@ -119,6 +138,9 @@ class AdminCourtOpeningTimeServiceTest {
         verify(adminAuditService, atLeastOnce()).saveAudit("Update court opening times",
                                                            EXPECTED_OPENING_TIMES,
                                                            results, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .hasSize(2)
+            .containsOnly(new CourtChangedEvent(COURT_SLUG));
     }
 
     @Test
@@ -2,10 +2,15 @@ package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
@@ -13,9 +18,12 @@ import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeExistedException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeNotFoundException;
+import uk.gov.hmcts.dts.fact.model.admin.CourtPostcodeCatchmentUpdate;
 import uk.gov.hmcts.dts.fact.repositories.CourtPostcodeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -28,12 +36,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
@@ -78,6 +89,9 @@ class AdminCourtPostcodeServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @MockBean
+    private JdbcTemplate jdbcTemplate;
+
     @Mock
     private Court court;
 
@@ -112,17 +126,40 @@ class AdminCourtPostcodeServiceTest {
     @Test
     void shouldAddCourtPostcodes() {
         when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
-        when(courtPostcodeRepository.save(any())).thenReturn(new CourtPostcode(NEW_POSTCODE, court));
 
         List<String> results = adminService.addCourtPostcodes(COURT_SLUG, singletonList(NEW_POSTCODE));
         assertThat(results)
             .hasSize(1)
             .containsExactly(NEW_POSTCODE);
+        verify(jdbcTemplate).batchUpdate(eq(AdminCourtPostcodeService.INSERT_SQL), eq(results), anyInt(), any());
         verify(adminAuditService, atLeastOnce()).saveAudit("Create court postcodes",
                                                            emptyList(),
                                                            results, COURT_SLUG);
     }
 
+    @Test
+    void shouldAddNewCourtPostcodesOnlyOnce() {
+        when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
+        when(court.getId()).thenReturn(TEST_COURT_ID);
+        when(jdbcTemplate.queryForList(AdminCourtPostcodeService.EXISTING_SQL, String.class, TEST_COURT_ID))
+            .thenReturn(POSTCODES);
+
+        List<String> results = adminService.addCourtPostcodes(COURT_SLUG, asList("m 5", TEST_POSTCODE1, NEW_POSTCODE));
+        assertThat(results).containsExactly(NEW_POSTCODE);
+    }
+
+    @Test
+    void shouldNotWriteWhenAllPostcodesExist() {
+        when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
+        when(court.getId()).thenReturn(TEST_COURT_ID);
+        when(jdbcTemplate.queryForList(AdminCourtPostcodeService.EXISTING_SQL, String.class, TEST_COURT_ID))
+            .thenReturn(POSTCODES);
+
+        assertThat(adminService.addCourtPostcodes(COURT_SLUG, POSTCODES_TO_BE_ADDED)).isEmpty();
+        verify(jdbcTemplate).queryForList(AdminCourtPostcodeService.EXISTING_SQL, String.class, TEST_COURT_ID);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
     @Test
     void shouldReturnNotFoundWhenAddingPostcodesForNonExistentCourt() {
         when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.empty());
@@ -138,18 +175,20 @@ class AdminCourtPostcodeServiceTest {
     @Test
     void shouldDeleteCourtPostcodes() {
         when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
-        when(court.getCourtPostcodes()).thenReturn(courtPostcodes).thenReturn(emptyList());
         when(court.getId()).thenReturn(TEST_COURT_ID);
-        when(courtPostcodeRepository.deleteByCourtIdAndPostcode(TEST_COURT_ID, TEST_POSTCODE2)).thenReturn(singletonList(courtPostcodes.get(1)));
-        when(courtPostcodeRepository.deleteByCourtIdAndPostcode(TEST_COURT_ID, TEST_POSTCODE3)).thenReturn(singletonList(courtPostcodes.get(2)));
+        when(jdbcTemplate.queryForList(AdminCourtPostcodeService.EXISTING_SQL, String.class, TEST_COURT_ID))
+            .thenReturn(POSTCODES);
+        when(jdbcTemplate.query(
+            eq(AdminCourtPostcodeService.DELETE_SQL),
+            any(PreparedStatementSetter.class),
+            ArgumentMatchers.<RowMapper<String>>any()
+        )).thenReturn(POSTCODES_TO_BE_DELETED);
 
         int rowsDeleted = adminService.deleteCourtPostcodes(COURT_SLUG, POSTCODES_TO_BE_DELETED);
         assertThat(rowsDeleted).isEqualTo(2);
         verify(adminAuditService, atLeastOnce()).saveAudit("Delete court postcodes",
-                                                           courtPostcodes.stream()
-                                                               .map(CourtPostcode::getPostcode)
-                                                               .collect(toList()),
-                                                           emptyList(),
+                                                           POSTCODES,
+                                                           asList(TEST_POSTCODE1, TEST_POSTCODE4),
                                                            null);
     }
 
@@ -331,4 +370,51 @@ class AdminCourtPostcodeServiceTest {
             .isInstanceOf(PostcodeExistedException.class)
             .hasMessage("Postcodes already exist: [" + TEST_POSTCODE2 + "]");
     }
+
+    @Test
+    void shouldReplaceCourtPostcodes() {
+        when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
+        when(court.getId()).thenReturn(TEST_COURT_ID);
+        when(jdbcTemplate.queryForList(AdminCourtPostcodeService.EXISTING_SQL, String.class, TEST_COURT_ID))
+            .thenReturn(POSTCODES);
+        when(jdbcTemplate.query(
+            eq(AdminCourtPostcodeService.DELETE_SQL),
+            any(PreparedStatementSetter.class),
+            ArgumentMatchers.<RowMapper<String>>any()
+        )).thenReturn(asList(TEST_POSTCODE3, TEST_POSTCODE4));
+
+        final CourtPostcodeCatchmentUpdate result = adminService.replaceCourtPostcodes(
+            COURT_SLUG,
+            asList("m1", TEST_POSTCODE2, "M 5", NEW_POSTCODE)
+        );
+
+        assertThat(result).isEqualTo(new CourtPostcodeCatchmentUpdate(1, 2, 2, 1));
+        verify(jdbcTemplate).batchUpdate(
+            eq(AdminCourtPostcodeService.INSERT_SQL),
+            eq(singletonList(NEW_POSTCODE)),
+            anyInt(),
+            ArgumentMatchers.<ParameterizedPreparedStatementSetter<String>>any()
+        );
+        verify(adminAuditService).saveAudit("Update court postcodes",
+                                            asList(TEST_POSTCODE3, TEST_POSTCODE4),
+                                            singletonList(NEW_POSTCODE),
+                                            COURT_SLUG);
+    }
+
+    @Test
+    void shouldNotReplaceCourtPostcodesWithNothing() {
+        assertThatThrownBy(() -> adminService.replaceCourtPostcodes(COURT_SLUG, emptyList()))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(jdbcTemplate);
+        verify(adminAuditService, never()).saveAudit(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldReadPostcodesFromTheFirstColumn() {
+        final String csv = "Postcode,Court\nM1 1AA,test\n\n\"M2 2BB\"\r\nM3\n";
+
+        assertThat(adminService.readPostcodes(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))))
+            .containsExactly("M1 1AA", "M2 2BB", "M3");
+    }
 }
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -19,6 +20,7 @@ import uk.gov.hmcts.dts.fact.model.admin.DxCode;
 import uk.gov.hmcts.dts.fact.repositories.CourtDxCodesRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtTypeRepository;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
 import uk.gov.hmcts.dts.fact.util.MapCourtCode;
 
 import java.util.ArrayList;
@@ -26,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,6 +38,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
+@SuppressWarnings("PMD.ExcessiveImports")
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtTypesAndCodesService.class)
 class AdminCourtTypesAndCodesServiceTest {
@@ -88,12 +92,21 @@ class AdminCourtTypesAndCodesServiceTest {
     @MockBean
     private RolesProvider rolesProvider;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
     @Autowired
     private AdminCourtTypesAndCodesService adminCourtTypesAndCodesService;
 
     @Mock
     private Court court;
 
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @BeforeAll
     static void setUp() {
         for (int i = 0; i < COURT_TYPE_COUNT; i++) {
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.event.CatchmentChangedEvent;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeGazetteerImport;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = AdminPostcodeGazetteerService.class)
+@TestPropertySource(properties = "postcode-gazetteer.import-batch-size=2")
+@RecordApplicationEvents
+class AdminPostcodeGazetteerServiceTest {
+    private static final String HEADER = "pcds,doterm,oslaua,lat,long,local_authority_name,region_name\n";
+
+    @MockBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private AdminPostcodeGazetteerService adminService;
+
+    @Test
+    void shouldImportPostcodesInBatches() {
+        final PostcodeGazetteerImport result = adminService.importPostcodes(csv(
+            HEADER
+                + "\"OX1 1RZ\",,E07000178,51.75,-1.25,\"Oxford City Council\",\"South East\"\n"
+                + "\"OX1 2JD\",,E07000178,51.76,-1.26,\"Oxford City Council\",\"South East\"\n"
+                + "\"SW1A 1AA\",,E09000033,51.50,-0.14,\"Westminster City Council\",London\n"
+        ));
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getSkipped()).isZero();
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(AdminPostcodeGazetteerService.UPSERT_SQL), captor.capture());
+        assertThat(captor.getAllValues().get(1).get(0))
+            .containsExactly("SW1A1AA", "SW1A", "SW1A 1", 51.50, -0.14,
+                             "E09000033", "Westminster City Council", "London");
+        assertThat(applicationEvents.stream(CatchmentChangedEvent.class)).hasSize(1);
+    }
+
+    @Test
+    void shouldSkipTerminatedAndUnlocatedPostcodes() {
+        final PostcodeGazetteerImport result = adminService.importPostcodes(csv(
+            HEADER
+                + "\"OX1 1RZ\",199906,E07000178,51.75,-1.25,,\n"
+                + "\"OX1 2JD\",,E07000178,99.999999,0.000000,,\n"
+                + "\"NOT A POSTCODE\",,E07000178,51.76,-1.26,,\n"
+                + "\"OX1 3BD\",,E07000178,51.77,-1.27,,\n"
+        ));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(3);
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(AdminPostcodeGazetteerService.UPSERT_SQL), anyList());
+    }
+
+    @Test
+    void shouldReplaceThePreviousPostcodes() {
+        adminService.importPostcodes(csv(HEADER + "\"OX1 1RZ\",,E07000178,51.75,-1.25,,\n"));
+
+        final InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(AdminPostcodeGazetteerService.DELETE_SQL);
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(AdminPostcodeGazetteerService.UPSERT_SQL), anyList());
+    }
+
+    @Test
+    void shouldRejectFileWithoutPostcodesToImport() {
+        assertThatThrownBy(() -> adminService.importPostcodes(csv(HEADER + "\"OX1 1RZ\",199906,E07000178,51.75,-1.25,,\n")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("no postcodes");
+        assertThat(applicationEvents.stream(CatchmentChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectFileWithoutRequiredColumns() {
+        assertThatThrownBy(() -> adminService.importPostcodes(csv("pcds,long\n")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("latitude");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldSplitQuotedFields() {
+        assertThat(AdminPostcodeGazetteerService.splitCsvLine("\"a, b\",c,\"say \"\"hi\"\"\","))
+            .containsExactly("a, b", "c", "say \"hi\"", "");
+    }
+
+    private static InputStream csv(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
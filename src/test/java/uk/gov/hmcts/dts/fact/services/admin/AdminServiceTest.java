@@ -7,12 +7,15 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.config.security.RolesProvider;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.InPerson;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.CourtForDownload;
@@ -21,8 +24,10 @@ import uk.gov.hmcts.dts.fact.model.admin.CourtInfoUpdate;
 import uk.gov.hmcts.dts.fact.repositories.AreasOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtReferenceRepository.CourtSummary;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.CourtReferenceCache;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -47,6 +52,7 @@ import static org.mockito.Mockito.when;
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessiveImports"})
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = AdminService.class)
+@RecordApplicationEvents
 class AdminServiceTest {
 
     private Court courtEntity;
@@ -66,6 +72,9 @@ class AdminServiceTest {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private CourtRepository courtRepository;
 
@@ -87,6 +96,9 @@ class AdminServiceTest {
     @MockBean
     private CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository;
 
+    @MockBean
+    private CourtReferenceCache courtReferenceCache;
+
     @BeforeEach
     void setUp() {
         courtEntity = new Court();
@@ -166,8 +178,9 @@ class AdminServiceTest {
 
     @Test
     void shouldReturnAllCourts() {
-        final Court mock = mock(Court.class);
-        when(courtRepository.findAll()).thenReturn(singletonList(mock));
+        final CourtSummary mock = mock(CourtSummary.class);
+        when(mock.getDisplayed()).thenReturn(true);
+        when(courtReferenceCache.getAll()).thenReturn(singletonList(mock));
         final List<CourtReference> results = adminService.getAllCourtReferences();
         assertThat(results).hasSize(1);
         assertThat(results.get(0)).isInstanceOf(CourtReference.class);
@@ -176,7 +189,7 @@ class AdminServiceTest {
     @Test
     void shouldReturnAllCourtsForDownload() {
         final Court mock = mock(Court.class);
-        when(courtRepository.findAll()).thenReturn(singletonList(mock));
+        when(courtRepository.findAllForDownload()).thenReturn(singletonList(mock));
         final List<CourtForDownload> results = adminService.getAllCourtsForDownload();
         assertThat(results).hasSize(1);
         assertThat(results.get(0)).isInstanceOf(CourtForDownload.class);
@@ -262,6 +275,8 @@ class AdminServiceTest {
         adminService.updateCourtLatLon(SOME_SLUG, LATITUDE, LONGITUDE);
         verify(courtRepository).updateLatLonBySlug(SOME_SLUG, LATITUDE, LONGITUDE);
         verify(adminAuditService, never()).saveAudit(anyString(), anyString(), anyString(), anyString());
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .containsExactly(new CourtChangedEvent(SOME_SLUG));
     }
 
     @Test
@@ -0,0 +1,139 @@
+package uk.gov.hmcts.dts.fact.services.admin.audit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.dts.fact.entity.Audit;
+import uk.gov.hmcts.dts.fact.entity.AuditType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditOutboxTest {
+
+    private static final Audit AUDIT = new Audit("user@justice.gov.uk", new AuditType(1, "Update court details"),
+                                                 "before", "after", "some-court",
+                                                 LocalDateTime.of(2024, 11, 10, 10, 10, 10));
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MeterRegistry meterRegistry;
+    private AuditOutbox auditOutbox;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        auditOutbox = new AuditOutbox(jdbcTemplate, meterRegistry, 2, 100, 200, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldQueueAuditStraightAwayWithoutTransaction() {
+        when(jdbcTemplate.queryForObject(eq(AuditOutbox.INSERT_SQL), eq(Long.class), any(Object[].class)))
+            .thenReturn(1L);
+        when(jdbcTemplate.update(eq(AuditOutbox.MOVE_SQL), any(PreparedStatementSetter.class))).thenReturn(1);
+
+        auditOutbox.add(AUDIT);
+        assertThat(queueSize()).isEqualTo(1);
+
+        auditOutbox.flush();
+
+        verify(jdbcTemplate).update(eq(AuditOutbox.MOVE_SQL), any(PreparedStatementSetter.class));
+        assertThat(queueSize()).isZero();
+        assertThat(meterRegistry.get("audit.outbox.moved").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyQueueAuditOnceTransactionCommits() {
+        when(jdbcTemplate.queryForObject(eq(AuditOutbox.INSERT_SQL), eq(Long.class), any(Object[].class)))
+            .thenReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        auditOutbox.add(AUDIT);
+        assertThat(queueSize()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(queueSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotQueueAuditWhenTransactionRollsBack() {
+        when(jdbcTemplate.queryForObject(eq(AuditOutbox.INSERT_SQL), eq(Long.class), any(Object[].class)))
+            .thenReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        auditOutbox.add(AUDIT);
+        TransactionSynchronizationManager.getSynchronizations().forEach(
+            synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(queueSize()).isZero();
+        auditOutbox.flush();
+        verify(jdbcTemplate, never()).update(eq(AuditOutbox.MOVE_SQL), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void shouldLeaveAuditsForTheSweepWhenQueueIsFull() {
+        when(jdbcTemplate.queryForObject(eq(AuditOutbox.INSERT_SQL), eq(Long.class), any(Object[].class)))
+            .thenReturn(1L, 2L, 3L);
+
+        auditOutbox.add(AUDIT);
+        auditOutbox.add(AUDIT);
+        auditOutbox.add(AUDIT);
+
+        assertThat(queueSize()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.outbox.queue.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSweepAuditsLeftInTheOutbox() {
+        when(jdbcTemplate.queryForList(AuditOutbox.PENDING_SQL, Long.class, 100)).thenReturn(List.of(3L, 4L));
+        when(jdbcTemplate.update(eq(AuditOutbox.MOVE_SQL), any(PreparedStatementSetter.class))).thenReturn(2);
+
+        auditOutbox.sweep();
+
+        verify(jdbcTemplate, times(1)).queryForList(AuditOutbox.PENDING_SQL, Long.class, 100);
+        assertThat(meterRegistry.get("audit.outbox.moved").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStopSweepingWhenMoveFails() {
+        when(jdbcTemplate.queryForList(AuditOutbox.PENDING_SQL, Long.class, 100)).thenReturn(List.of(3L));
+        when(jdbcTemplate.update(eq(AuditOutbox.MOVE_SQL), any(PreparedStatementSetter.class)))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+
+        auditOutbox.sweep();
+
+        verify(jdbcTemplate, times(1)).queryForList(AuditOutbox.PENDING_SQL, Long.class, 100);
+        assertThat(meterRegistry.get("audit.outbox.moved").counter().count()).isZero();
+    }
+
+    private double queueSize() {
+        return meterRegistry.get("audit.outbox.queue.size").gauge().value();
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.dts.fact.services.admin.list;
 
 import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +14,9 @@ import uk.gov.hmcts.dts.fact.repositories.AddressTypeRepository;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -40,6 +43,15 @@ class AdminAddressTypeServiceTest {
     @MockBean
     private AddressTypeRepository addressTypeRepository;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @Test
     void shouldReturnAllAddressTypes() {
         when(addressTypeRepository.findAll()).thenReturn(ADDRESS_TYPES);
@@ -2,6 +2,7 @@ package uk.gov.hmcts.dts.fact.services.admin.list;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -9,11 +10,14 @@ import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtLocalAuthorityAreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
@@ -27,6 +31,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +48,7 @@ import static org.mockito.Mockito.when;
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessiveImports"})
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminAreasOfLawService.class)
+@RecordApplicationEvents
 class AdminAreasOfLawServiceTest {
 
     @Autowired
@@ -63,6 +69,12 @@ class AdminAreasOfLawServiceTest {
     @MockBean
     private ServiceAreaRepository serviceAreaRepository;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private static final List<AreaOfLaw> AREAS_OF_LAW = Arrays.asList(
         new AreaOfLaw(
             100,
@@ -102,6 +114,12 @@ class AdminAreasOfLawServiceTest {
             "https://employment.external.text")
     );
 
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @Test
     void shouldReturnAllAreasOfLaw() {
         when(areasOfLawRepository.findAll()).thenReturn(AREAS_OF_LAW);
@@ -202,6 +220,8 @@ class AdminAreasOfLawServiceTest {
                                                            areaOfLaw,
                                                            areaOfLaw,
                                                            null);
+        assertThat(applicationEvents.stream(ReferenceDataChangedEvent.class))
+            .containsExactly(new ReferenceDataChangedEvent(ReferenceData.AREAS_OF_LAW));
     }
 
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
@@ -219,6 +239,7 @@ class AdminAreasOfLawServiceTest {
                                                      areaOfLaw,
                                                      areaOfLaw,
                                                      null);
+        assertThat(applicationEvents.stream(ReferenceDataChangedEvent.class)).isEmpty();
     }
 
     @Test
@@ -233,6 +254,8 @@ class AdminAreasOfLawServiceTest {
 
         areasOfLawService.deleteAreaOfLaw(areaOfLawId);
         verify(areasOfLawRepository, times(1)).deleteById(areaOfLawId);
+        assertThat(applicationEvents.stream(ReferenceDataChangedEvent.class))
+            .containsExactly(new ReferenceDataChangedEvent(ReferenceData.AREAS_OF_LAW));
     }
 
     @Test
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services.admin.list;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -8,9 +9,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Facility;
 import uk.gov.hmcts.dts.fact.entity.FacilityType;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
@@ -23,6 +27,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,9 +38,10 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.TooManyMethods"})
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.TooManyMethods", "PMD.ExcessiveImports"})
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminFacilityService.class)
+@RecordApplicationEvents
 class AdminFacilityServiceTest {
 
     private static final int FACILITY_TYPE_COUNT = 3;
@@ -49,6 +55,18 @@ class AdminFacilityServiceTest {
     @MockBean
     private FacilityRepository facilityRepository;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @Test
     void shouldReturnAllFacilities() {
 
@@ -140,6 +158,8 @@ class AdminFacilityServiceTest {
             .thenAnswer((Answer<FacilityType>) invocation -> invocation.getArgument(0));
 
         assertThat(adminFacilityService.createFacilityType(facilityType)).isEqualTo(facilityType);
+        assertThat(applicationEvents.stream(ReferenceDataChangedEvent.class))
+            .containsExactly(new ReferenceDataChangedEvent(ReferenceData.FACILITY_TYPES));
     }
 
     @Test
@@ -165,6 +185,8 @@ class AdminFacilityServiceTest {
         adminFacilityService.deleteFacilityType(123);
 
         verify(facilityTypeRepository).deleteById(123);
+        assertThat(applicationEvents.stream(ReferenceDataChangedEvent.class))
+            .containsExactly(new ReferenceDataChangedEvent(ReferenceData.FACILITY_TYPES));
     }
 
     @Test
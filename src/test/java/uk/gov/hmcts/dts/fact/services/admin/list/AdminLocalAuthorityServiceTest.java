@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services.admin.list;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,6 +17,7 @@ import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -41,6 +43,15 @@ class AdminLocalAuthorityServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUpReferenceDataCache() {
+        when(referenceDataCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<?>>>getArgument(1).get());
+    }
+
     @Test
     void shouldReturnAllLocalAuthorities() {
         final List<uk.gov.hmcts.dts.fact.entity.LocalAuthority> mockLocalAuthorities = Arrays.asList(
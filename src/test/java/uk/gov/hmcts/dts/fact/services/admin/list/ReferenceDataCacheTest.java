@@ -0,0 +1,95 @@
+package uk.gov.hmcts.dts.fact.services.admin.list;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceDataCacheTest {
+    private static final String COUNTY = "Greater Manchester";
+    private static final String REGION = "North West";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReferenceDataCache referenceDataCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        referenceDataCache = new ReferenceDataCache(meterRegistry, 5);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldLoadEachTableOnce() {
+        assertThat(referenceDataCache.get(ReferenceData.COUNTIES, loader(COUNTY))).containsExactly(COUNTY);
+        assertThat(referenceDataCache.get(ReferenceData.COUNTIES, loader(COUNTY))).containsExactly(COUNTY);
+        assertThat(referenceDataCache.get(ReferenceData.REGIONS, loader(REGION))).containsExactly(REGION);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReturnRowsWhichCannotBeModified() {
+        final List<String> counties = referenceDataCache.get(ReferenceData.COUNTIES, loader(COUNTY));
+
+        assertThatThrownBy(() -> counties.add(REGION)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReloadOnlyTheChangedTable() {
+        referenceDataCache.get(ReferenceData.COUNTIES, loader(COUNTY));
+        referenceDataCache.get(ReferenceData.REGIONS, loader(REGION));
+
+        referenceDataCache.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceData.COUNTIES));
+
+        assertThat(referenceDataCache.get(ReferenceData.COUNTIES, loader("Merseyside"))).containsExactly("Merseyside");
+        assertThat(referenceDataCache.get(ReferenceData.REGIONS, loader("Wales"))).containsExactly(REGION);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldNotServeRowsLoadedBeforeTheTableChanged() {
+        final List<String> rows = referenceDataCache.get(ReferenceData.COUNTIES, () -> {
+            // The table is changed while its old rows are being loaded
+            referenceDataCache.invalidate(ReferenceData.COUNTIES);
+            return asList(COUNTY);
+        });
+
+        assertThat(rows).containsExactly(COUNTY);
+        assertThat(referenceDataCache.get(ReferenceData.COUNTIES, loader("Merseyside"))).containsExactly("Merseyside");
+    }
+
+    @Test
+    void shouldPublishHitsForEachTable() {
+        referenceDataCache.get(ReferenceData.COUNTIES, loader(COUNTY));
+        referenceDataCache.get(ReferenceData.COUNTIES, loader(COUNTY));
+        referenceDataCache.get(ReferenceData.COUNTIES, loader(COUNTY));
+
+        assertThat(countyCacheGets("hit")).isEqualTo(2.0);
+        assertThat(countyCacheGets("miss")).isEqualTo(1.0);
+    }
+
+    private double countyCacheGets(final String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", "reference-data.counties")
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private Supplier<List<String>> loader(final String row) {
+        return () -> {
+            loads.incrementAndGet();
+            return asList(row);
+        };
+    }
+}
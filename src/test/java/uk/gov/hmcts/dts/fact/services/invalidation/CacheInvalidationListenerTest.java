@@ -0,0 +1,89 @@
+package uk.gov.hmcts.dts.fact.services.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.services.invalidation.CacheInvalidationListener.LAG_TIMER;
+import static uk.gov.hmcts.dts.fact.services.invalidation.CacheInvalidationListener.RESYNC_COUNTER;
+import static uk.gov.hmcts.dts.fact.services.invalidation.CacheInvalidationListener.TYPE_TAG;
+
+class CacheInvalidationListenerTest {
+    private static final String ORIGIN = "this-instance";
+    private static final long SENT_AT = 1_700_000_000_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private CacheInvalidator cacheInvalidator;
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheInvalidator = mock(CacheInvalidator.class);
+        final CacheInvalidationNotifier notifier = mock(CacheInvalidationNotifier.class);
+        when(notifier.getOrigin()).thenReturn(ORIGIN);
+        final DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:postgresql://localhost:5432/fact");
+        listener = new CacheInvalidationListener(notifier, cacheInvalidator, objectMapper, meterRegistry,
+                                                 dataSourceProperties, false, 10_000, 5_000);
+    }
+
+    @Test
+    void shouldApplyChangesFromAnotherInstanceAndRecordTheLag() throws Exception {
+        final CacheInvalidation invalidation =
+            new CacheInvalidation(CacheInvalidation.Type.COURT, "aylesbury-crown-court", "another-instance", SENT_AT);
+
+        listener.receive(objectMapper.writeValueAsString(invalidation));
+
+        verify(cacheInvalidator).apply(invalidation);
+        assertThat(meterRegistry.get(LAG_TIMER).tag(TYPE_TAG, "court").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreItsOwnChanges() throws Exception {
+        listener.receive(objectMapper.writeValueAsString(
+            new CacheInvalidation(CacheInvalidation.Type.COURT, "aylesbury-crown-court", ORIGIN, SENT_AT)
+        ));
+
+        verify(cacheInvalidator, never()).apply(any());
+        assertThat(meterRegistry.find(LAG_TIMER).timer()).isNull();
+    }
+
+    @Test
+    void shouldResyncOnUnreadableChanges() {
+        listener.receive("{\"type\":\"ROOM\"}");
+
+        verify(cacheInvalidator).resync();
+        assertThat(meterRegistry.get(RESYNC_COUNTER).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldResyncOnUnknownChanges() throws Exception {
+        final CacheInvalidation invalidation =
+            new CacheInvalidation(CacheInvalidation.Type.REFERENCE_DATA, "ROOMS", "another-instance", SENT_AT);
+        doThrow(new IllegalArgumentException("Unknown")).when(cacheInvalidator).apply(invalidation);
+
+        listener.receive(objectMapper.writeValueAsString(invalidation));
+
+        verify(cacheInvalidator).resync();
+        assertThat(meterRegistry.find(LAG_TIMER).timer()).isNull();
+    }
+
+    @Test
+    void shouldNotListenWhenDisabled() {
+        listener.start();
+        listener.stop();
+
+        verify(cacheInvalidator, never()).resync();
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.dts.fact.services.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.dts.fact.event.CatchmentChangedEvent;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static uk.gov.hmcts.dts.fact.services.invalidation.CacheInvalidationNotifier.CHANNEL;
+
+class CacheInvalidationNotifierTest {
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final String SLUG = "aylesbury-crown-court";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JdbcTemplate jdbcTemplate;
+    private CacheInvalidationNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        notifier = new CacheInvalidationNotifier(jdbcTemplate, objectMapper, true);
+    }
+
+    @Test
+    void shouldSendCourtChanges() throws Exception {
+        notifier.onCourtChanged(new CourtChangedEvent(SLUG));
+
+        final CacheInvalidation invalidation = sent();
+        assertThat(invalidation.getType()).isEqualTo(CacheInvalidation.Type.COURT);
+        assertThat(invalidation.getKey()).isEqualTo(SLUG);
+        assertThat(invalidation.getOrigin()).isEqualTo(notifier.getOrigin());
+        assertThat(invalidation.getSentAt()).isPositive();
+    }
+
+    @Test
+    void shouldSendReferenceDataChanges() throws Exception {
+        notifier.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceData.AREAS_OF_LAW));
+
+        final CacheInvalidation invalidation = sent();
+        assertThat(invalidation.getType()).isEqualTo(CacheInvalidation.Type.REFERENCE_DATA);
+        assertThat(invalidation.getKey()).isEqualTo("AREAS_OF_LAW");
+    }
+
+    @Test
+    void shouldSendCatchmentChanges() throws Exception {
+        notifier.onCatchmentChanged(new CatchmentChangedEvent());
+
+        final CacheInvalidation invalidation = sent();
+        assertThat(invalidation.getType()).isEqualTo(CacheInvalidation.Type.CATCHMENT);
+        assertThat(invalidation.getKey()).isNull();
+    }
+
+    @Test
+    void shouldNotSendChangesReceivedFromAnotherInstance() {
+        notifier.applying(() -> notifier.onCourtChanged(new CourtChangedEvent(SLUG)));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldNotSendChangesWhenDisabled() {
+        new CacheInvalidationNotifier(jdbcTemplate, objectMapper, false).onCourtChanged(new CourtChangedEvent(SLUG));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private CacheInvalidation sent() throws Exception {
+        final ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForList(eq(NOTIFY_SQL), eq(CHANNEL), payload.capture());
+        return objectMapper.readValue(payload.getValue(), CacheInvalidation.class);
+    }
+}
@@ -0,0 +1,126 @@
+package uk.gov.hmcts.dts.fact.services.invalidation;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import uk.gov.hmcts.dts.fact.event.CatchmentChangedEvent;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+import uk.gov.hmcts.dts.fact.services.CourtReferenceCache;
+import uk.gov.hmcts.dts.fact.services.CourtSnapshotService;
+import uk.gov.hmcts.dts.fact.services.MapitService;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceDataCache;
+import uk.gov.hmcts.dts.fact.services.search.CourtAutocomplete;
+import uk.gov.hmcts.dts.fact.services.search.CourtFuzzySearch;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndex;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CacheInvalidatorTest {
+    private static final String SLUG = "aylesbury-crown-court";
+
+    private ApplicationEventPublisher eventPublisher;
+    private CacheInvalidationNotifier cacheInvalidationNotifier;
+    private Cache secondLevelCache;
+    private CourtSnapshotService courtSnapshotService;
+    private CourtReferenceCache courtReferenceCache;
+    private ReferenceDataCache referenceDataCache;
+    private CourtSpatialIndex courtSpatialIndex;
+    private CourtAutocomplete courtAutocomplete;
+    private CourtFuzzySearch courtFuzzySearch;
+    private MapitService mapitService;
+    private CacheInvalidator cacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        cacheInvalidationNotifier = mock(CacheInvalidationNotifier.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(cacheInvalidationNotifier).applying(any());
+        final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        final SessionFactory sessionFactory = mock(SessionFactory.class);
+        secondLevelCache = mock(Cache.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        courtSnapshotService = mock(CourtSnapshotService.class);
+        courtReferenceCache = mock(CourtReferenceCache.class);
+        referenceDataCache = mock(ReferenceDataCache.class);
+        courtSpatialIndex = mock(CourtSpatialIndex.class);
+        courtAutocomplete = mock(CourtAutocomplete.class);
+        courtFuzzySearch = mock(CourtFuzzySearch.class);
+        mapitService = mock(MapitService.class);
+        cacheInvalidator = new CacheInvalidator(eventPublisher, cacheInvalidationNotifier, entityManagerFactory,
+                                                courtSnapshotService, courtReferenceCache, referenceDataCache,
+                                                courtSpatialIndex, courtAutocomplete, courtFuzzySearch, mapitService);
+    }
+
+    @Test
+    void shouldApplyCourtChangesThroughTheCourtChangedEvent() {
+        cacheInvalidator.apply(invalidation(CacheInvalidation.Type.COURT, SLUG));
+
+        verify(cacheInvalidationNotifier).applying(any());
+        verify(eventPublisher).publishEvent(new CourtChangedEvent(SLUG));
+        verify(secondLevelCache, never()).evictAllRegions();
+    }
+
+    @Test
+    void shouldApplyReferenceDataChangesAndClearTheSecondLevelCache() {
+        cacheInvalidator.apply(invalidation(CacheInvalidation.Type.REFERENCE_DATA, "COUNTIES"));
+
+        verify(eventPublisher).publishEvent(new ReferenceDataChangedEvent(ReferenceData.COUNTIES));
+        verify(secondLevelCache).evictAllRegions();
+    }
+
+    @Test
+    void shouldApplyCatchmentChangesThroughTheCatchmentChangedEvent() {
+        cacheInvalidator.apply(invalidation(CacheInvalidation.Type.CATCHMENT, null));
+
+        verify(eventPublisher).publishEvent(new CatchmentChangedEvent());
+    }
+
+    @Test
+    void shouldRejectChangesItDoesNotKnow() {
+        assertThatThrownBy(() -> cacheInvalidator.apply(invalidation(CacheInvalidation.Type.REFERENCE_DATA, "ROOMS")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cacheInvalidator.apply(invalidation(CacheInvalidation.Type.COURT, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cacheInvalidator.apply(invalidation(null, SLUG)))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldDiscardEveryCacheOnResync() {
+        cacheInvalidator.resync();
+
+        verify(courtSnapshotService).evictAll();
+        verify(courtReferenceCache).invalidate();
+        for (final ReferenceData table : ReferenceData.values()) {
+            verify(referenceDataCache).invalidate(table);
+        }
+        verify(courtSpatialIndex).invalidate();
+        verify(courtAutocomplete).invalidate();
+        verify(courtFuzzySearch).invalidate();
+        verify(mapitService).evictAll();
+        verify(secondLevelCache).evictAllRegions();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static CacheInvalidation invalidation(final CacheInvalidation.Type type, final String key) {
+        return new CacheInvalidation(type, key, "another-instance", System.currentTimeMillis());
+    }
+}
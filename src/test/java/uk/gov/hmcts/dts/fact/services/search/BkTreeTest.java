@@ -0,0 +1,46 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BkTreeTest {
+
+    @Test
+    void shouldFindWordsWithinRadius() {
+        final BkTree tree = new BkTree();
+        List.of("manchester", "manchster", "bolton", "salford", "bolton").forEach(tree::add);
+
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.search("manchestr", 1)).containsExactlyInAnyOrder("manchester", "manchster");
+        assertThat(tree.search("boltn", 0)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnSameWordsAsBruteForce() {
+        final Random random = new Random(42);
+        final List<String> words = random.ints(300, 0, 26 * 26 * 26)
+            .mapToObj(BkTreeTest::word)
+            .distinct()
+            .collect(toList());
+        final BkTree tree = new BkTree();
+        words.forEach(tree::add);
+
+        for (int query = 0; query < 50; query++) {
+            final String text = word(random.nextInt(26 * 26 * 26));
+            final List<String> expected = words.stream()
+                .filter(word -> TextSimilarity.levenshtein(text, word) <= 2)
+                .collect(toList());
+
+            assertThat(tree.search(text, 2)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static String word(final int seed) {
+        return new String(new char[]{(char) ('a' + seed % 26), (char) ('a' + seed / 26 % 26), (char) ('a' + seed / 676)});
+    }
+}
@@ -7,21 +7,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -32,15 +31,13 @@ class CivilSearchTest {
     private static final double LON = 0.7;
     private static final String AREA_OF_LAW = "Divorce";
     private static final String JE2_4BA = "JE2 4BA";
-    private static final String JE2_4 = "JE2 4";
-    private static final String JE2 = "JE2";
-    private static final String JE = "JE";
+    private static final List<String> PREFIXES = asList("JE24BA", "JE24", "JE2", "JE");
 
     @Autowired
     private CivilSearch civilSearch;
 
     @MockBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSearchResultRepository courtSearchResultRepository;
 
     @MockBean
     private FallbackProximitySearch fallbackProximitySearch;
@@ -49,163 +46,57 @@ class CivilSearchTest {
     void shouldReturnCivilSearchResults() {
 
         final MapitData mapitData = mock(MapitData.class);
-        final ServiceArea serviceArea = new ServiceArea();
-        final AreaOfLaw aol = new AreaOfLaw();
-        aol.setName(AREA_OF_LAW);
-        serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final ServiceArea serviceArea = serviceArea();
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
+        when(courtSearchResultRepository.findNearestByAreaOfLawAndLongestCourtPostcodePrefix(LAT, LON, AREA_OF_LAW, PREFIXES, true))
             .thenReturn(courts);
         when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtSearchResult> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
+        verify(courtSearchResultRepository).findNearestByAreaOfLawAndLongestCourtPostcodePrefix(LAT, LON, AREA_OF_LAW, PREFIXES, true);
         verify(fallbackProximitySearch).fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData);
-        verify(courtWithDistanceRepository, times(1)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
+        verifyNoMoreInteractions(courtSearchResultRepository);
     }
 
     @Test
-    void shouldReturnCivilSearchResultsWithPartialPostcodeMinusUnitCode() {
+    void shouldReturnCivilSearchResultsFallback() {
 
         final MapitData mapitData = mock(MapitData.class);
-        final ServiceArea serviceArea = new ServiceArea();
-        final AreaOfLaw aol = new AreaOfLaw();
-        aol.setName(AREA_OF_LAW);
-        serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final ServiceArea serviceArea = serviceArea();
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
+        when(courtSearchResultRepository.findNearestByAreaOfLawAndLongestCourtPostcodePrefix(LAT, LON, AREA_OF_LAW, PREFIXES, true))
             .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4, true))
-            .thenReturn(courts);
-        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
+        when(fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtSearchResult> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
-        verify(courtWithDistanceRepository, times(2)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
+        verify(courtSearchResultRepository).findNearestByAreaOfLawAndLongestCourtPostcodePrefix(LAT, LON, AREA_OF_LAW, PREFIXES, true);
+        verifyNoMoreInteractions(courtSearchResultRepository);
     }
 
     @Test
-    void shouldReturnCivilSearchResultsWithPartialPostcodeOutcode() {
-
-        final MapitData mapitData = mock(MapitData.class);
-        final ServiceArea serviceArea = new ServiceArea();
-        final AreaOfLaw aol = new AreaOfLaw();
-        aol.setName(AREA_OF_LAW);
-        serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
-
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2, true))
-            .thenReturn(courts);
-        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
-
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
-
-        assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
-        verify(courtWithDistanceRepository, times(3)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
+    void shouldGetThePostcodePrefixesLongestFirst() {
+        assertThat(CivilSearch.postcodePrefixes(JE2_4BA)).isEqualTo(PREFIXES);
+        assertThat(CivilSearch.postcodePrefixes("je24ba")).isEqualTo(PREFIXES);
+        assertThat(CivilSearch.postcodePrefixes("SW1A 1AA")).containsExactly("SW1A1AA", "SW1A1", "SW1A", "SW");
+        assertThat(CivilSearch.postcodePrefixes("M1 1AA")).containsExactly("M11AA", "M11", "M1", "M");
+        assertThat(CivilSearch.postcodePrefixes("sw1a")).containsExactly("SW1A", "SW");
     }
 
-    @Test
-    void shouldReturnCivilSearchResultsWithPartialPostcodeArea() {
-
-        final MapitData mapitData = mock(MapitData.class);
+    private static ServiceArea serviceArea() {
         final ServiceArea serviceArea = new ServiceArea();
         final AreaOfLaw aol = new AreaOfLaw();
         aol.setName(AREA_OF_LAW);
         serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
-
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE, true))
-            .thenReturn(courts);
-        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
-
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
-
-        assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
-        verify(courtWithDistanceRepository, times(4)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
-    }
-
-    @Test
-    void shouldReturnCivilSearchResultsFallback() {
-
-        final MapitData mapitData = mock(MapitData.class);
-        final ServiceArea serviceArea = new ServiceArea();
-        final AreaOfLaw aol = new AreaOfLaw();
-        aol.setName(AREA_OF_LAW);
-        serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
-
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE, true))
-            .thenReturn(emptyList());
-        when(fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData)).thenReturn(courts);
-
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
-
-        assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
-        verify(courtWithDistanceRepository, times(4)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
+        return serviceArea;
     }
 }
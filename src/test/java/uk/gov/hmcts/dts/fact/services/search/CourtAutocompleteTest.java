@@ -0,0 +1,129 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.i18n.LocaleContextHolder;
+import uk.gov.hmcts.dts.fact.entity.CourtHistory;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.model.CourtSuggestion;
+import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository.CourtName;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CourtAutocompleteTest {
+    private static final String CARDIFF = "cardiff-crown-court";
+    private static final String CAERNARFON = "caernarfon-justice-centre";
+    private static final String CHESTER = "chester-crown-court";
+    private static final String THEATR = "theatr-court";
+
+    @Mock
+    private CourtSearchTextRepository courtSearchTextRepository;
+
+    @Mock
+    private CourtHistoryRepository courtHistoryRepository;
+
+    private CourtAutocomplete courtAutocomplete;
+
+    @BeforeEach
+    void setUp() {
+        courtAutocomplete = new CourtAutocomplete(courtSearchTextRepository, courtHistoryRepository, 5);
+
+        final List<CourtName> courts = List.of(
+            court(1, CARDIFF, "Cardiff Crown Court", "Llys y Goron Caerdydd"),
+            court(2, CAERNARFON, "Caernarfon Justice Centre", "Cyfiawnder Caernarfon"),
+            court(3, CHESTER, "Chester Crown Court", null),
+            court(4, THEATR, "Tŷ Court", "Tŷ Llys")
+        );
+        lenient().when(courtSearchTextRepository.findAllDisplayedCourtNames()).thenReturn(courts);
+        final List<CourtHistory> histories = List.of(
+            new CourtHistory(1, 3, "Chester Castle", null, null, null),
+            new CourtHistory(2, 1, "Cardiff Law Courts", null, null, null)
+        );
+        lenient().when(courtHistoryRepository.findAll()).thenReturn(histories);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void shouldSuggestCourtsByNameInOrder() {
+        assertThat(courtAutocomplete.suggest("C", 10))
+            .extracting(CourtSuggestion::getSlug)
+            .containsExactly(CAERNARFON, CARDIFF, CHESTER);
+    }
+
+    @Test
+    void shouldLimitSuggestions() {
+        assertThat(courtAutocomplete.suggest("c", 2)).hasSize(2);
+    }
+
+    @Test
+    void shouldSuggestCourtByHistoricalName() {
+        assertThat(courtAutocomplete.suggest("chester cas", 10)).containsExactly(
+            new CourtSuggestion("Chester Crown Court", CHESTER, 3, "Chester Castle")
+        );
+    }
+
+    @Test
+    void shouldPreferCurrentNameOverHistoricalName() {
+        assertThat(courtAutocomplete.suggest("cardiff", 10)).containsExactly(
+            new CourtSuggestion("Cardiff Crown Court", CARDIFF, 3, null)
+        );
+    }
+
+    @Test
+    void shouldIgnoreCaseAccentsAndRepeatedSpaces() {
+        assertThat(courtAutocomplete.suggest("ty  ll", 10))
+            .extracting(CourtSuggestion::getSlug)
+            .containsExactly(THEATR);
+    }
+
+    @Test
+    void shouldSuggestWelshNamesInWelshOrder() {
+        LocaleContextHolder.setLocale(new Locale("cy"));
+
+        // Ch is a letter of the Welsh alphabet, after C
+        assertThat(courtAutocomplete.suggest("c", 10))
+            .extracting(CourtSuggestion::getName)
+            .containsExactly("Cyfiawnder Caernarfon", "Chester Crown Court", "Llys y Goron Caerdydd");
+        assertThat(courtAutocomplete.suggest("ll", 10))
+            .extracting(CourtSuggestion::getName)
+            .containsExactly("Llys y Goron Caerdydd");
+    }
+
+    @Test
+    void shouldRebuildAfterCourtChanged() {
+        courtAutocomplete.suggest("c", 10);
+        courtAutocomplete.suggest("ca", 10);
+        courtAutocomplete.onCourtChanged(new CourtChangedEvent(CARDIFF));
+        courtAutocomplete.suggest("c", 10);
+
+        verify(courtSearchTextRepository, times(2)).findAllDisplayedCourtNames();
+    }
+
+    private static CourtName court(final int id, final String slug, final String name, final String nameCy) {
+        final CourtName court = mock(CourtName.class);
+        lenient().when(court.getCourtId()).thenReturn(id);
+        lenient().when(court.getSlug()).thenReturn(slug);
+        lenient().when(court.getName()).thenReturn(name);
+        lenient().when(court.getNameCy()).thenReturn(nameCy);
+        lenient().when(court.getRegionId()).thenReturn(3);
+        return court;
+    }
+}
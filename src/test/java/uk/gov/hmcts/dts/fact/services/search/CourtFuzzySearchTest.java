@@ -0,0 +1,149 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository.CourtHistoricalName;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchTextRepository.CourtSearchText;
+
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourtFuzzySearchTest {
+    private static final int BOLTON = 1;
+    private static final int SALFORD = 2;
+    private static final String BOLTON_SLUG = "bolton-crown-court";
+    private static final String SALFORD_SLUG = "salford-magistrates-court";
+
+    @Mock
+    private CourtRepository courtRepository;
+
+    @Mock
+    private CourtSearchTextRepository courtSearchTextRepository;
+
+    private CourtFuzzySearch courtFuzzySearch;
+
+    @BeforeEach
+    void setUp() {
+        courtFuzzySearch = new CourtFuzzySearch(courtRepository, courtSearchTextRepository, CourtFuzzySearch.IN_MEMORY, 5);
+
+        final List<CourtSearchText> rows = List.of(
+            row(BOLTON, BOLTON_SLUG, "Bolton Crown Court", true, "Bolton"),
+            row(SALFORD, SALFORD_SLUG, "Salford Magistrates Court", true, "Salford")
+        );
+        lenient().when(courtSearchTextRepository.findAllDisplayedSearchText()).thenReturn(rows);
+        final List<CourtHistoricalName> historicalNames = List.of(historicalName(SALFORD, "Greater Northern Court"));
+        lenient().when(courtSearchTextRepository.findAllDisplayedHistoricalNames()).thenReturn(historicalNames);
+        lenient().when(courtSearchTextRepository.findHistoricalNamesBySlug(anyString())).thenReturn(emptyList());
+    }
+
+    @Test
+    void shouldUseThePostgresQueryByDefault() {
+        final CourtFuzzySearch postgres = new CourtFuzzySearch(courtRepository, courtSearchTextRepository, "postgres", 5);
+        final List<Court> courts = List.of(mock(Court.class));
+        when(courtRepository.findCourtByNameAddressOrTownFuzzyMatch("boltn")).thenReturn(courts);
+
+        assertThat(postgres.findCourtByNameAddressOrTownFuzzyMatch("boltn")).isEqualTo(courts);
+        postgres.onCourtChanged(new CourtChangedEvent(BOLTON_SLUG));
+        verifyNoInteractions(courtSearchTextRepository);
+    }
+
+    @Test
+    void shouldReadOnlyTheMatchingCourtsInOrder() {
+        final Court bolton = court(BOLTON);
+        when(courtRepository.findAllForReferenceByIdIn(Set.of(BOLTON))).thenReturn(List.of(bolton));
+
+        assertThat(courtFuzzySearch.findCourtByNameAddressOrTownFuzzyMatch("boltn crown")).containsExactly(bolton);
+        verify(courtRepository, never()).findCourtByNameAddressOrTownFuzzyMatch(anyString());
+    }
+
+    @Test
+    void shouldMatchHistoricalNames() {
+        final Court salford = court(SALFORD);
+        when(courtRepository.findAllForReferenceByIdIn(Set.of(SALFORD))).thenReturn(List.of(salford));
+
+        assertThat(courtFuzzySearch.findCourtByNameAddressOrTownFuzzyMatch("greater northern")).containsExactly(salford);
+    }
+
+    @Test
+    void shouldNotReadCourtsWhenNothingMatches() {
+        assertThat(courtFuzzySearch.findCourtByNameAddressOrTownFuzzyMatch("birmingam magis court")).isEmpty();
+        verify(courtRepository, never()).findAllForReferenceByIdIn(any());
+    }
+
+    @Test
+    void shouldUpdateOnlyTheChangedCourt() {
+        final Court bolton = court(BOLTON);
+        lenient().when(courtRepository.findAllForReferenceByIdIn(Set.of(BOLTON))).thenReturn(List.of(bolton));
+        courtFuzzySearch.findCourtByNameAddressOrTownFuzzyMatch("bolton crown");
+        final List<CourtSearchText> changed = List.of(row(BOLTON, BOLTON_SLUG, "Bolton Combined Court", true, "Bolton"));
+        when(courtSearchTextRepository.findSearchTextBySlug(BOLTON_SLUG)).thenReturn(changed);
+
+        courtFuzzySearch.onCourtChanged(new CourtChangedEvent(BOLTON_SLUG));
+
+        assertThat(courtFuzzySearch.findCourtByNameAddressOrTownFuzzyMatch("bolton combined")).containsExactly(bolton);
+        verify(courtSearchTextRepository, times(1)).findAllDisplayedSearchText();
+    }
+
+    @Test
+    void shouldRemoveCourtWhichIsNoLongerDisplayed() {
+        courtFuzzySearch.findCourtByNameAddressOrTownFuzzyMatch("salford");
+        final List<CourtSearchText> changed = List.of(row(SALFORD, SALFORD_SLUG, "Salford Magistrates Court", false, "Salford"));
+        when(courtSearchTextRepository.findSearchTextBySlug(SALFORD_SLUG)).thenReturn(changed);
+
+        courtFuzzySearch.onCourtChanged(new CourtChangedEvent(SALFORD_SLUG));
+
+        assertThat(courtFuzzySearch.findCourtByNameAddressOrTownFuzzyMatch("salford magistrates")).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreChangesBeforeTheIndexIsBuilt() {
+        courtFuzzySearch.onCourtChanged(new CourtChangedEvent(BOLTON_SLUG));
+        verifyNoInteractions(courtSearchTextRepository);
+    }
+
+    private static Court court(final int id) {
+        final Court court = new Court();
+        court.setId(id);
+        return court;
+    }
+
+    private static CourtSearchText row(final int courtId, final String slug, final String name,
+                                       final boolean displayed, final String town) {
+        final CourtSearchText row = mock(CourtSearchText.class);
+        lenient().when(row.getCourtId()).thenReturn(courtId);
+        lenient().when(row.getSlug()).thenReturn(slug);
+        lenient().when(row.getName()).thenReturn(name);
+        lenient().when(row.getDisplayed()).thenReturn(displayed);
+        lenient().when(row.getAddressId()).thenReturn(courtId * 10);
+        lenient().when(row.getAddress()).thenReturn("1 High Street");
+        lenient().when(row.getTownName()).thenReturn(town);
+        return row;
+    }
+
+    private static CourtHistoricalName historicalName(final int courtId, final String name) {
+        final CourtHistoricalName historicalName = mock(CourtHistoricalName.class);
+        lenient().when(historicalName.getCourtId()).thenReturn(courtId);
+        lenient().when(historicalName.getName()).thenReturn(name);
+        return historicalName;
+    }
+}
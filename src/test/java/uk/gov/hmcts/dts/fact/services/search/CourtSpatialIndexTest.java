@@ -0,0 +1,223 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.dts.fact.event.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.event.ReferenceDataChangedEvent;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository.CourtLocation;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository.CourtSearchLink;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocationRepository.NamedId;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
+import uk.gov.hmcts.dts.fact.services.admin.list.ReferenceData;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("PMD.TooManyMethods")
+class CourtSpatialIndexTest {
+    private static final double LAT = 51.5;
+    private static final double LON = -0.1;
+    private static final String FAMILY = "Children";
+    private static final String CAMDEN = "Camden Council";
+    private static final int NEAR_OPEN = 1;
+    private static final int NEAR_CLOSED = 2;
+    private static final int FAR_OPEN = 3;
+    private static final int CHILDREN_ID = 10;
+    private static final int CAMDEN_ID = 20;
+    private static final int OTHER_CHILDREN_ID = 11;
+    private static final int OTHER_CAMDEN_ID = 21;
+
+    @Mock
+    private CourtSearchResultRepository courtSearchResultRepository;
+
+    @Mock
+    private CourtLocationRepository courtLocationRepository;
+
+    private CourtSpatialIndex courtSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        courtSpatialIndex = new CourtSpatialIndex(courtSearchResultRepository, courtLocationRepository, true, 5);
+
+        final List<CourtLocation> locations = List.of(
+            location(NEAR_OPEN, "A court", 51.51, -0.1, true),
+            location(NEAR_CLOSED, "B court", 51.50, -0.1, false),
+            location(FAR_OPEN, "C court", 53.4, -2.2, true)
+        );
+        lenient().when(courtLocationRepository.findAllCourtLocations()).thenReturn(locations);
+        final List<CourtSearchLink> areasOfLaw = List.of(
+            link(NEAR_OPEN, CHILDREN_ID, null),
+            link(NEAR_CLOSED, CHILDREN_ID, null),
+            link(FAR_OPEN, CHILDREN_ID, null)
+        );
+        lenient().when(courtLocationRepository.findAllCourtAreasOfLaw()).thenReturn(areasOfLaw);
+        final List<CourtSearchLink> localAuthorities = List.of(
+            link(NEAR_CLOSED, CHILDREN_ID, CAMDEN_ID),
+            link(FAR_OPEN, CHILDREN_ID, CAMDEN_ID)
+        );
+        lenient().when(courtLocationRepository.findAllCourtLocalAuthorityAreasOfLaw()).thenReturn(localAuthorities);
+        lenient().when(courtLocationRepository.findAllRegionalCourtIds()).thenReturn(List.of(FAR_OPEN));
+        final List<NamedId> areaOfLawNames = List.of(name(CHILDREN_ID, "CHILDREN"));
+        lenient().when(courtLocationRepository.findAllAreaOfLawNames()).thenReturn(areaOfLawNames);
+        final List<NamedId> localAuthorityNames = List.of(name(CAMDEN_ID, "CAMDEN COUNCIL"));
+        lenient().when(courtLocationRepository.findAllLocalAuthorityNames()).thenReturn(localAuthorityNames);
+    }
+
+    @Test
+    void shouldReadOnlyTheNearestOpenCourtsById() {
+        final List<CourtSearchResult> courts = List.of(mock(CourtSearchResult.class));
+        when(courtSearchResultRepository.findAllByIdWithDistance(LAT, LON, List.of(NEAR_OPEN, FAR_OPEN)))
+            .thenReturn(courts);
+
+        assertThat(courtSpatialIndex.findNearestTen(LAT, LON)).isEqualTo(courts);
+    }
+
+    @Test
+    void shouldIncludeClosedCourtsWhenAsked() {
+        courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, FAMILY, true);
+
+        verify(courtSearchResultRepository).findAllByIdWithDistance(LAT, LON, List.of(NEAR_CLOSED, NEAR_OPEN, FAR_OPEN));
+    }
+
+    @Test
+    void shouldMatchAreaOfLawAndLocalAuthorityIgnoringCase() {
+        courtSpatialIndex.findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, FAMILY, CAMDEN, false);
+
+        verify(courtSearchResultRepository).findAllByIdWithDistance(LAT, LON, List.of(FAR_OPEN));
+    }
+
+    @Test
+    void shouldMatchEveryAreaOfLawAndLocalAuthorityWithTheSameName() {
+        final List<NamedId> areaOfLawNames = List.of(name(CHILDREN_ID, "CHILDREN"), name(OTHER_CHILDREN_ID, "CHILDREN"));
+        when(courtLocationRepository.findAllAreaOfLawNames()).thenReturn(areaOfLawNames);
+        final List<NamedId> localAuthorityNames = List.of(
+            name(CAMDEN_ID, "CAMDEN COUNCIL"),
+            name(OTHER_CAMDEN_ID, "CAMDEN COUNCIL")
+        );
+        when(courtLocationRepository.findAllLocalAuthorityNames()).thenReturn(localAuthorityNames);
+        final List<CourtSearchLink> localAuthorities = List.of(
+            link(NEAR_CLOSED, CHILDREN_ID, CAMDEN_ID),
+            link(NEAR_OPEN, OTHER_CHILDREN_ID, OTHER_CAMDEN_ID),
+            link(FAR_OPEN, CHILDREN_ID, OTHER_CAMDEN_ID)
+        );
+        when(courtLocationRepository.findAllCourtLocalAuthorityAreasOfLaw()).thenReturn(localAuthorities);
+
+        courtSpatialIndex.findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, FAMILY, CAMDEN, true);
+
+        verify(courtSearchResultRepository).findAllByIdWithDistance(LAT, LON, List.of(NEAR_CLOSED, NEAR_OPEN, FAR_OPEN));
+    }
+
+    @Test
+    void shouldFindNearestOpenRegionalCourt() {
+        courtSpatialIndex.findNearestRegionalByAreaOfLaw(LAT, LON, FAMILY);
+        courtSpatialIndex.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, FAMILY, CAMDEN);
+
+        verify(courtSearchResultRepository, times(2)).findAllByIdWithDistance(LAT, LON, List.of(FAR_OPEN));
+    }
+
+    @Test
+    void shouldFindRegionalCourtsByAreaOfLawFromLocalAuthorityLinksOnly() {
+        when(courtLocationRepository.findAllRegionalCourtIds()).thenReturn(List.of(NEAR_OPEN, FAR_OPEN));
+
+        courtSpatialIndex.findNearestRegionalByAreaOfLaw(LAT, LON, FAMILY);
+
+        verify(courtSearchResultRepository).findAllByIdWithDistance(LAT, LON, List.of(FAR_OPEN));
+    }
+
+    @Test
+    void shouldNotQueryCourtsForUnknownAreaOfLaw() {
+        assertThat(courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, "Unknown", false)).isEmpty();
+
+        verify(courtSearchResultRepository, times(0)).findAllByIdWithDistance(anyDouble(), anyDouble(), anyCollection());
+    }
+
+    @Test
+    void shouldBuildIndexOnceUntilCourtChanges() {
+        courtSpatialIndex.findNearestTen(LAT, LON);
+        courtSpatialIndex.findNearestTen(LAT, LON);
+        verify(courtLocationRepository, times(1)).findAllCourtLocations();
+
+        courtSpatialIndex.onCourtChanged(new CourtChangedEvent("a-court"));
+        courtSpatialIndex.findNearestTen(LAT, LON);
+        verify(courtLocationRepository, times(2)).findAllCourtLocations();
+    }
+
+    @Test
+    void shouldNotQueryCourtsForUnknownLocalAuthority() {
+        assertThat(courtSpatialIndex.findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, FAMILY, "Unknown", true))
+            .isEmpty();
+
+        verify(courtSearchResultRepository, times(0)).findAllByIdWithDistance(anyDouble(), anyDouble(), anyCollection());
+    }
+
+    @Test
+    void shouldRebuildIndexOnlyWhenAreasOfLawOrLocalAuthoritiesChange() {
+        courtSpatialIndex.findNearestTen(LAT, LON);
+        courtSpatialIndex.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceData.COUNTIES));
+        courtSpatialIndex.findNearestTen(LAT, LON);
+        verify(courtLocationRepository, times(1)).findAllLocalAuthorityNames();
+
+        courtSpatialIndex.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceData.LOCAL_AUTHORITIES));
+        courtSpatialIndex.findNearestTen(LAT, LON);
+        verify(courtLocationRepository, times(2)).findAllLocalAuthorityNames();
+    }
+
+    @Test
+    void shouldUseRepositoryWhenDisabled() {
+        courtSpatialIndex = new CourtSpatialIndex(courtSearchResultRepository, courtLocationRepository, false, 5);
+
+        courtSpatialIndex.findNearestTen(LAT, LON);
+        courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, FAMILY, true);
+        courtSpatialIndex.findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, FAMILY, CAMDEN, true);
+        courtSpatialIndex.findNearestRegionalByAreaOfLaw(LAT, LON, FAMILY);
+        courtSpatialIndex.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, FAMILY, CAMDEN);
+
+        verify(courtSearchResultRepository).findNearestTen(LAT, LON);
+        verify(courtSearchResultRepository).findNearestTenByAreaOfLaw(LAT, LON, FAMILY, true);
+        verify(courtSearchResultRepository).findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, FAMILY, CAMDEN, true);
+        verify(courtSearchResultRepository).findNearestRegionalByAreaOfLaw(LAT, LON, FAMILY);
+        verify(courtSearchResultRepository).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, FAMILY, CAMDEN);
+        verifyNoInteractions(courtLocationRepository);
+    }
+
+    private static CourtLocation location(final int id, final String name, final Double lat, final Double lon,
+                                          final boolean displayed) {
+        final CourtLocation location = mock(CourtLocation.class);
+        lenient().when(location.getId()).thenReturn(id);
+        lenient().when(location.getName()).thenReturn(name);
+        lenient().when(location.getLat()).thenReturn(lat);
+        lenient().when(location.getLon()).thenReturn(lon);
+        lenient().when(location.getDisplayed()).thenReturn(displayed);
+        return location;
+    }
+
+    private static CourtSearchLink link(final int courtId, final int areaOfLawId, final Integer localAuthorityId) {
+        final CourtSearchLink link = mock(CourtSearchLink.class);
+        lenient().when(link.getCourtId()).thenReturn(courtId);
+        lenient().when(link.getAreaOfLawId()).thenReturn(areaOfLawId);
+        lenient().when(link.getLocalAuthorityId()).thenReturn(localAuthorityId);
+        return link;
+    }
+
+    private static NamedId name(final int id, final String name) {
+        final NamedId namedId = mock(NamedId.class);
+        lenient().when(namedId.getId()).thenReturn(id);
+        lenient().when(namedId.getName()).thenReturn(name);
+        return namedId;
+    }
+}
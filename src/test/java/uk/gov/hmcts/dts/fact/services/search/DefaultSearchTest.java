@@ -7,10 +7,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
@@ -32,7 +31,7 @@ class DefaultSearchTest {
     private DefaultSearch defaultSearch;
 
     @MockBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @Test
     void shouldReturnDefaultSearchResults() {
@@ -42,15 +41,15 @@ class DefaultSearchTest {
         final AreaOfLaw aol = new AreaOfLaw();
         aol.setName(AREA_OF_LAW);
         serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true)).thenReturn(courts);
+        when(courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = defaultSearch.searchWith(serviceArea, mapitData, "JE2 4BA", true);
+        final List<CourtSearchResult> courtWithDistances = defaultSearch.searchWith(serviceArea, mapitData, "JE2 4BA", true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true);
+        verify(courtSpatialIndex).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true);
     }
 }
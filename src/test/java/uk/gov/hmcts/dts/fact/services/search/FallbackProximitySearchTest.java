@@ -1,14 +1,14 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 
@@ -21,7 +21,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = FallbackProximitySearch.class)
+@ContextConfiguration(classes = {FallbackProximitySearch.class, SearchMetrics.class, SimpleMeterRegistry.class})
 class FallbackProximitySearchTest {
 
     private static final double LAT = 52.1;
@@ -31,34 +31,39 @@ class FallbackProximitySearchTest {
     @Autowired
     private FallbackProximitySearch fallbackProximitySearch;
 
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
     @MockBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @Test
     void shouldReturnFallbackSearchResultsIfCourtsEmpty() {
 
         final MapitData mapitData = mock(MapitData.class);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true)).thenReturn(courts);
+        when(courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData);
+        final List<CourtSearchResult> courtWithDistances = fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true);
+        verify(courtSpatialIndex).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true);
+        assertThat(meterRegistry.get(SearchMetrics.FALLBACK_COUNTER).counter().count()).isEqualTo(1.0);
     }
 
     @Test
     void shouldReturnCourtsIfNotEmpty() {
 
         final MapitData mapitData = mock(MapitData.class);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
-        final List<CourtWithDistance> courtWithDistances = fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData);
+        final List<CourtSearchResult> courtWithDistances = fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verifyNoInteractions(courtWithDistanceRepository);
+        verifyNoInteractions(courtSpatialIndex);
+        assertThat(meterRegistry.find(SearchMetrics.FALLBACK_COUNTER).counter()).isNull();
     }
 }
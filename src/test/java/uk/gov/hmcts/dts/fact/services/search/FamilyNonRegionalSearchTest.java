@@ -7,10 +7,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 import java.util.Optional;
@@ -38,7 +37,7 @@ class FamilyNonRegionalSearchTest {
     private FamilyNonRegionalSearch familyNonRegionalSearch;
 
     @MockBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @MockBean
     private FallbackProximitySearch fallbackProximitySearch;
@@ -51,19 +50,19 @@ class FamilyNonRegionalSearchTest {
         final AreaOfLaw aol = new AreaOfLaw();
         aol.setName(AREA_OF_LAW);
         serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(Optional.of(LOCAL_AUTHORITY_NAME));
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME, true))
+        when(courtSpatialIndex.findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME, true))
             .thenReturn(courts);
         when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = familyNonRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtSearchResult> courtWithDistances = familyNonRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME, true);
+        verify(courtSpatialIndex).findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME, true);
         verify(fallbackProximitySearch).fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData);
     }
 
@@ -75,17 +74,17 @@ class FamilyNonRegionalSearchTest {
         final AreaOfLaw aol = new AreaOfLaw();
         aol.setName(AREA_OF_LAW);
         serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(empty());
         when(fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = familyNonRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtSearchResult> courtWithDistances = familyNonRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
         verify(fallbackProximitySearch).fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData);
-        verifyNoMoreInteractions(courtWithDistanceRepository);
+        verifyNoMoreInteractions(courtSpatialIndex);
     }
 }
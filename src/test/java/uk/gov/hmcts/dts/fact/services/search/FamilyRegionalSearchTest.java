@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,10 +8,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
-import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtSearchResultRepository.CourtSearchResult;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,7 +25,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = FamilyRegionalSearch.class)
+@ContextConfiguration(classes = {FamilyRegionalSearch.class, SearchMetrics.class, SimpleMeterRegistry.class})
 class FamilyRegionalSearchTest {
 
     private static final double LAT = 52.1;
@@ -38,7 +38,7 @@ class FamilyRegionalSearchTest {
     private FamilyRegionalSearch familyRegionalSearch;
 
     @MockBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @Test
     void shouldReturnFamilyRegionalSearchResults() {
@@ -48,18 +48,18 @@ class FamilyRegionalSearchTest {
         final AreaOfLaw aol = new AreaOfLaw();
         aol.setName(AREA_OF_LAW);
         serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(Optional.of(LOCAL_AUTHORITY_NAME));
-        when(courtWithDistanceRepository.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME))
+        when(courtSpatialIndex.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME))
             .thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtSearchResult> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
+        verify(courtSpatialIndex).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
     }
 
     @Test
@@ -70,20 +70,20 @@ class FamilyRegionalSearchTest {
         final AreaOfLaw aol = new AreaOfLaw();
         aol.setName(AREA_OF_LAW);
         serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(Optional.of(LOCAL_AUTHORITY_NAME));
-        when(courtWithDistanceRepository.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME))
+        when(courtSpatialIndex.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME))
             .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
+        when(courtSpatialIndex.findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtSearchResult> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
-        verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
+        verify(courtSpatialIndex).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
+        verify(courtSpatialIndex).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
     }
 
     @Test
@@ -94,17 +94,17 @@ class FamilyRegionalSearchTest {
         final AreaOfLaw aol = new AreaOfLaw();
         aol.setName(AREA_OF_LAW);
         serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<CourtSearchResult> courts = singletonList(mock(CourtSearchResult.class));
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(empty());
-        when(courtWithDistanceRepository.findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
+        when(courtSpatialIndex.findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtSearchResult> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
-        verifyNoMoreInteractions(courtWithDistanceRepository);
+        verify(courtSpatialIndex).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
+        verifyNoMoreInteractions(courtSpatialIndex);
     }
 }
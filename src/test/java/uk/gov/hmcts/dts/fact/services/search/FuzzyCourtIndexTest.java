@@ -0,0 +1,84 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.services.search.FuzzyCourtIndex.AddressText;
+import uk.gov.hmcts.dts.fact.services.search.FuzzyCourtIndex.CourtText;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyCourtIndexTest {
+    private static final int MANCHESTER = 1;
+    private static final int BOLTON = 2;
+    private static final int SALFORD = 3;
+    private static final int TRAFFORD = 4;
+
+    private FuzzyCourtIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FuzzyCourtIndex();
+        index.put(new CourtText(MANCHESTER, "manchester-civil-justice-centre", "Manchester Civil Justice Centre", null,
+                                List.of(address("1 Bridge Street West", "Manchester")), emptyList()));
+        index.put(new CourtText(BOLTON, "bolton-crown-court", "Bolton Crown Court", "Llys y Goron Bolton",
+                                List.of(address("Blackhorse Street", "Bolton"), address("PO Box 10", "Bolton")),
+                                List.of("Greater Northern Court")));
+        index.put(new CourtText(SALFORD, "salford-magistrates-court", "Salford Magistrates Court", null,
+                                List.of(address("Manchester Road", "Salford")), emptyList()));
+    }
+
+    @Test
+    void shouldOrderByTownDistanceWhenNoNameIsAGoodMatch() {
+        assertThat(index.search("manchestr")).containsExactly(MANCHESTER, SALFORD);
+    }
+
+    @Test
+    void shouldOrderGoodNameMatchesBeforeTownAndAddressMatches() {
+        index.put(new CourtText(TRAFFORD, "trafford-court", "Trafford Court", null,
+                                List.of(address("Manchester Street", "Manchester")), emptyList()));
+
+        assertThat(index.search("manchester")).containsExactly(MANCHESTER, TRAFFORD, SALFORD);
+    }
+
+    @Test
+    void shouldMatchMisspeltTown() {
+        assertThat(index.search("salfrd")).containsExactly(SALFORD);
+    }
+
+    @Test
+    void shouldReturnCourtForEachMatchingAddress() {
+        assertThat(index.search("bolton crown")).containsExactly(BOLTON, BOLTON);
+    }
+
+    @Test
+    void shouldMatchHistoricalNames() {
+        assertThat(index.search("greater northen court")).containsExactly(BOLTON, BOLTON);
+    }
+
+    @Test
+    void shouldNotMatchUnrelatedQuery() {
+        assertThat(index.search("birmingam magis court")).isEmpty();
+        assertThat(index.search("")).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceAndRemoveCourts() {
+        index.put(new CourtText(BOLTON, "bolton-combined-court", "Bolton Combined Court", null,
+                                List.of(address("Blackhorse Street", "Bolton")), emptyList()));
+
+        assertThat(index.search("bolton combined")).containsExactly(BOLTON);
+        assertThat(index.search("greater northern court")).isEmpty();
+
+        index.remove("bolton-combined-court");
+
+        assertThat(index.search("bolton")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static AddressText address(final String address, final String town) {
+        return new AddressText(address, null, town, null);
+    }
+}
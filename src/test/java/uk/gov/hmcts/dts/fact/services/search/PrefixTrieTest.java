@@ -0,0 +1,75 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+    @Test
+    void shouldFindValuesByPrefix() {
+        final Map<String, List<String>> entries = new LinkedHashMap<>();
+        entries.put("bolton", List.of("Bolton"));
+        entries.put("bolton crown court", List.of("Bolton Crown Court"));
+        entries.put("bournemouth", List.of("Bournemouth"));
+        entries.put("bath", List.of("Bath"));
+        final PrefixTrie<String> trie = PrefixTrie.build(entries, Comparator.naturalOrder(), Function.identity());
+
+        assertThat(trie.find("b", 10)).containsExactly("Bath", "Bolton", "Bolton Crown Court", "Bournemouth");
+        assertThat(trie.find("bo", 10)).containsExactly("Bolton", "Bolton Crown Court", "Bournemouth");
+        assertThat(trie.find("bolt", 10)).containsExactly("Bolton", "Bolton Crown Court");
+        assertThat(trie.find("bolton c", 10)).containsExactly("Bolton Crown Court");
+        assertThat(trie.find("bolton x", 10)).isEmpty();
+        assertThat(trie.find("c", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldLimitValues() {
+        final Map<String, List<String>> entries = Map.of("aa", List.of("A"), "ab", List.of("B"), "ac", List.of("C"));
+        final PrefixTrie<String> trie = PrefixTrie.build(entries, Comparator.naturalOrder(), Function.identity());
+
+        assertThat(trie.find("a", 2)).containsExactly("A", "B");
+    }
+
+    @Test
+    void shouldReturnFirstValueForEachIdentity() {
+        final Map<String, List<String>> entries = Map.of(
+            "llys", List.of("2:Llys"),
+            "law courts", List.of("1:Law Courts"),
+            "leeds", List.of("2:Leeds")
+        );
+        final PrefixTrie<String> trie = PrefixTrie.build(entries, Comparator.naturalOrder(), value -> value.charAt(0));
+
+        assertThat(trie.find("l", 10)).containsExactly("1:Law Courts", "2:Leeds");
+        assertThat(trie.find("ll", 10)).containsExactly("2:Llys");
+    }
+
+    @Test
+    void shouldReturnSameValuesAsScanningKeys() {
+        final Random random = new Random(42);
+        final Map<String, List<String>> entries = new LinkedHashMap<>();
+        for (int index = 0; index < 500; index++) {
+            final String key = random.ints(1 + random.nextInt(8), 'a', 'e')
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+            entries.put(key, List.of(key));
+        }
+        final PrefixTrie<String> trie = PrefixTrie.build(entries, Comparator.naturalOrder(), Function.identity());
+
+        for (final String prefix : List.of("a", "ab", "abc", "dd", "cab", "bbbb", "e")) {
+            final List<String> expected = entries.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .sorted()
+                .collect(toList());
+            assertThat(trie.find(prefix, Integer.MAX_VALUE)).containsExactlyElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshingSnapshotTest {
+    private static final long REFRESH_MINUTES = 5;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    void shouldBuildOnceUntilInvalidated() {
+        final RefreshingSnapshot<Integer> snapshot = new RefreshingSnapshot<>(builds::incrementAndGet, REFRESH_MINUTES);
+
+        assertThat(snapshot.get()).isEqualTo(1);
+        assertThat(snapshot.get()).isEqualTo(1);
+
+        snapshot.invalidate();
+
+        assertThat(snapshot.get()).isEqualTo(2);
+        assertThat(snapshot.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRebuildOnEveryGetWithoutRefreshInterval() {
+        final RefreshingSnapshot<Integer> snapshot = new RefreshingSnapshot<>(builds::incrementAndGet, 0);
+
+        assertThat(snapshot.get()).isEqualTo(1);
+        assertThat(snapshot.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldUpdateOnlyOnceBuilt() {
+        final RefreshingSnapshot<List<String>> snapshot = new RefreshingSnapshot<>(ArrayList::new, REFRESH_MINUTES);
+
+        snapshot.update(list -> list.add("before"));
+        snapshot.get();
+        snapshot.update(list -> list.add("after"));
+
+        assertThat(snapshot.get()).containsExactly("after");
+    }
+
+    @Test
+    void shouldReturnPreviousBuildWhileRebuilding() throws Exception {
+        final CountDownLatch rebuilding = new CountDownLatch(1);
+        final CountDownLatch finishRebuild = new CountDownLatch(1);
+        final RefreshingSnapshot<Integer> snapshot = new RefreshingSnapshot<>(() -> {
+            final int build = builds.incrementAndGet();
+            if (build > 1) {
+                rebuilding.countDown();
+                await(finishRebuild);
+            }
+            return build;
+        }, REFRESH_MINUTES);
+        snapshot.get();
+        snapshot.invalidate();
+
+        final CompletableFuture<Integer> rebuild = CompletableFuture.supplyAsync(snapshot::get);
+        assertThat(rebuilding.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(snapshot.get()).isEqualTo(1);
+
+        finishRebuild.countDown();
+        assertThat(rebuild.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(snapshot.get()).isEqualTo(2);
+        assertThat(builds).hasValue(2);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
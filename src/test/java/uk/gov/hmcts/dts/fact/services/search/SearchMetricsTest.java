@@ -0,0 +1,76 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.util.Action;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.services.search.SearchMetrics.ACTION_TAG;
+import static uk.gov.hmcts.dts.fact.services.search.SearchMetrics.EMPTY_COUNTER;
+import static uk.gov.hmcts.dts.fact.services.search.SearchMetrics.SEARCH_TAG;
+import static uk.gov.hmcts.dts.fact.services.search.SearchMetrics.SEARCH_TIMER;
+import static uk.gov.hmcts.dts.fact.services.search.SearchMetrics.SERVICE_AREA_TYPE_TAG;
+
+class SearchMetricsTest {
+    private static final String SEARCH_NAME = "CivilSearch";
+    private static final Tags SEARCH_TAGS = Tags.of(
+        SEARCH_TAG, SEARCH_NAME,
+        SERVICE_AREA_TYPE_TAG, "civil",
+        ACTION_TAG, Action.NEAREST.getName()
+    );
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchMetrics searchMetrics;
+    private ServiceArea serviceArea;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchMetrics = new SearchMetrics(meterRegistry);
+        serviceArea = mock(ServiceArea.class);
+        when(serviceArea.getType()).thenReturn("Civil");
+    }
+
+    @Test
+    void shouldTimeSearchesByStrategyServiceAreaTypeAndAction() {
+        final List<String> courts = searchMetrics.search(new CivilSearch(null, null), serviceArea, Action.NEAREST,
+                                                         () -> List.of("court"));
+
+        assertThat(courts).containsExactly("court");
+        assertThat(meterRegistry.get(SEARCH_TIMER).tags(SEARCH_TAGS).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(EMPTY_COUNTER).counter()).isNull();
+    }
+
+    @Test
+    void shouldCountSearchesWhichFindNoCourts() {
+        searchMetrics.search(new CivilSearch(null, null), serviceArea, Action.NEAREST, Collections::emptyList);
+
+        assertThat(meterRegistry.get(EMPTY_COUNTER).tags(SEARCH_TAGS).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldTagMetersRecordedDuringASearchWithItsContext() {
+        final AtomicReference<Tags> contextTags = new AtomicReference<>();
+
+        searchMetrics.search(new CivilSearch(null, null), serviceArea, Action.NEAREST, () -> {
+            contextTags.set(searchMetrics.getContextTags());
+            return List.of("court");
+        });
+
+        assertThat(contextTags.get()).containsExactlyInAnyOrderElementsOf(
+            Tags.of(SERVICE_AREA_TYPE_TAG, "civil", ACTION_TAG, Action.NEAREST.getName())
+        );
+        assertThat(searchMetrics.getContextTags()).containsExactlyInAnyOrderElementsOf(
+            Tags.of(SERVICE_AREA_TYPE_TAG, "none", ACTION_TAG, "none")
+        );
+    }
+}
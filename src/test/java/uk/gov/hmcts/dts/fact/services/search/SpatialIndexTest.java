@@ -0,0 +1,146 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpatialIndexTest {
+    private static final double EARTH_RADIUS_MILES = 3958.747716;
+
+    @Test
+    void shouldReturnSameCourtsAsBruteForce() {
+        final Random random = new Random(42);
+        final List<SpatialIndex.Point> points = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            points.add(new SpatialIndex.Point(id, 49.9 + random.nextDouble() * 9, -6.4 + random.nextDouble() * 8.2));
+        }
+        final SpatialIndex index = new SpatialIndex(points);
+
+        for (int query = 0; query < 200; query++) {
+            final double lat = 49.9 + random.nextDouble() * 9;
+            final double lon = -6.4 + random.nextDouble() * 8.2;
+            final int[] expected = points.stream()
+                .sorted(Comparator.comparingDouble(p -> miles(lat, lon, p.getLat(), p.getLon())))
+                .limit(10)
+                .mapToInt(SpatialIndex.Point::getId)
+                .toArray();
+
+            assertThat(index.nearest(lat, lon, 10, id -> true)).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void shouldBreakTiesByOrderGiven() {
+        final Random random = new Random(7);
+        final List<SpatialIndex.Point> points = new ArrayList<>();
+        for (int id = 0; id < 300; id++) {
+            // A coarse grid, so that many courts share a position
+            points.add(new SpatialIndex.Point(id, 50.0 + random.nextInt(4), -3.0 + random.nextInt(4)));
+        }
+        Collections.shuffle(points, random);
+        final SpatialIndex index = new SpatialIndex(points);
+
+        for (int query = 0; query < 50; query++) {
+            final double lat = 50.0 + random.nextInt(4);
+            final double lon = -3.0 + random.nextInt(4);
+            final int[] expected = IntStream.range(0, points.size())
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(rank -> chord(lat, lon, points.get(rank).getLat(),
+                                                                          points.get(rank).getLon()))
+                            .thenComparing(Comparator.naturalOrder()))
+                .limit(10)
+                .mapToInt(rank -> points.get(rank).getId())
+                .toArray();
+
+            assertThat(index.nearest(lat, lon, 10, id -> true)).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void shouldReturnCoLocatedCourtsInOrderGiven() {
+        final SpatialIndex index = new SpatialIndex(List.of(
+            new SpatialIndex.Point(5, 51.5, -0.1),
+            new SpatialIndex.Point(4, 51.5, -0.1),
+            new SpatialIndex.Point(3, 51.5, -0.1),
+            new SpatialIndex.Point(2, 51.5, -0.1),
+            new SpatialIndex.Point(1, 51.5, -0.1)
+        ));
+
+        assertThat(index.nearest(51.6, -0.1, 1, id -> true)).containsExactly(5);
+        assertThat(index.nearest(51.6, -0.1, 3, id -> true)).containsExactly(5, 4, 3);
+        assertThat(index.nearest(51.6, -0.1, 2, id -> id != 5)).containsExactly(4, 3);
+    }
+
+    @Test
+    void shouldOnlyReturnCourtsMatchingFilter() {
+        final SpatialIndex index = new SpatialIndex(List.of(
+            new SpatialIndex.Point(1, 51.5, -0.1),
+            new SpatialIndex.Point(2, 51.6, -0.1),
+            new SpatialIndex.Point(3, 53.4, -2.2)
+        ));
+
+        assertThat(index.nearest(51.5, -0.1, 10, id -> id != 2)).containsExactly(1, 3);
+        assertThat(index.nearest(51.5, -0.1, 1, id -> id != 1)).containsExactly(2);
+    }
+
+    @Test
+    void shouldReturnCourtsWithoutCoordinatesLast() {
+        final SpatialIndex index = new SpatialIndex(List.of(
+            new SpatialIndex.Point(1, null, null),
+            new SpatialIndex.Point(2, 53.4, -2.2),
+            new SpatialIndex.Point(3, 51.5, -0.1)
+        ));
+
+        assertThat(index.nearest(51.5, -0.1, 10, id -> true)).containsExactly(3, 2, 1);
+        assertThat(index.nearest(51.5, -0.1, 2, id -> true)).containsExactly(3, 2);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturnNothingFromEmptyIndex() {
+        assertThat(new SpatialIndex(List.of()).nearest(51.5, -0.1, 10, id -> true)).isEmpty();
+    }
+
+    /**
+     * The squared straight line distance between two points on the unit sphere, calculated as the index does so
+     * that courts at the same great circle distance in different directions also tie here.
+     */
+    private static double chord(final double lat1, final double lon1, final double lat2, final double lon2) {
+        final double[] first = unitVector(lat1, lon1);
+        final double[] second = unitVector(lat2, lon2);
+        double sum = 0;
+        for (int axis = 0; axis < first.length; axis++) {
+            final double delta = first[axis] - second[axis];
+            sum += delta * delta;
+        }
+        return sum;
+    }
+
+    private static double[] unitVector(final double lat, final double lon) {
+        final double phi = Math.toRadians(lat);
+        final double lambda = Math.toRadians(lon);
+        return new double[]{Math.cos(phi) * Math.cos(lambda), Math.cos(phi) * Math.sin(lambda), Math.sin(phi)};
+    }
+
+    /**
+     * The great circle distance as calculated by the postgres earthdistance {@code <@>} operator.
+     */
+    private static double miles(final double lat1, final double lon1, final double lat2, final double lon2) {
+        final double phi1 = Math.toRadians(lat1);
+        final double phi2 = Math.toRadians(lat2);
+        double longitudeDifference = Math.abs(Math.toRadians(lon1) - Math.toRadians(lon2));
+        if (longitudeDifference > Math.PI) {
+            longitudeDifference = 2 * Math.PI - longitudeDifference;
+        }
+        final double sino = Math.sqrt(Math.pow(Math.sin(Math.abs(phi1 - phi2) / 2), 2)
+            + Math.cos(phi1) * Math.cos(phi2) * Math.pow(Math.sin(longitudeDifference / 2), 2));
+        return 2 * EARTH_RADIUS_MILES * Math.asin(Math.min(sino, 1));
+    }
+}
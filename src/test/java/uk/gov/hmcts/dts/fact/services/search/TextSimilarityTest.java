@@ -0,0 +1,48 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TextSimilarityTest {
+
+    @Test
+    void shouldExtractPaddedWordTrigrams() {
+        assertThat(TextSimilarity.trigrams("Cat, dog")).containsExactly(
+            "  c", " ca", "cat", "at ", "  d", " do", "dog", "og "
+        );
+    }
+
+    @Test
+    void shouldHaveNoTrigramsForNullOrPunctuation() {
+        assertThat(TextSimilarity.trigrams(null)).isEmpty();
+        assertThat(TextSimilarity.trigrams(" - ")).isEmpty();
+    }
+
+    @Test
+    void shouldMatchPostgresWordSimilarity() {
+        // The examples given for word_similarity in the pg_trgm documentation
+        assertThat(TextSimilarity.wordSimilarity(TextSimilarity.trigramSet("word"), TextSimilarity.trigrams("two words")))
+            .isCloseTo(0.8, within(0.0001));
+        assertThat(TextSimilarity.wordSimilarity(TextSimilarity.trigramSet("Manchester"),
+                                                 TextSimilarity.trigrams("Manchester Civil Justice Centre")))
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldHaveNoWordSimilarityWithoutSharedTrigrams() {
+        assertThat(TextSimilarity.wordSimilarity(TextSimilarity.trigramSet("leeds"), TextSimilarity.trigrams("Bolton")))
+            .isZero();
+        assertThat(TextSimilarity.wordSimilarity(TextSimilarity.trigramSet(""), List.of("  b"))).isZero();
+    }
+
+    @Test
+    void shouldCountEdits() {
+        assertThat(TextSimilarity.levenshtein("kitten", "sitting")).isEqualTo(3);
+        assertThat(TextSimilarity.levenshtein("", "abc")).isEqualTo(3);
+        assertThat(TextSimilarity.levenshtein("bolton", "bolton")).isZero();
+    }
+}
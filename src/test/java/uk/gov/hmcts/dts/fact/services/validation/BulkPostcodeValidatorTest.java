@@ -0,0 +1,98 @@
+package uk.gov.hmcts.dts.fact.services.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeValidationResult;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeValidationResult.Reason;
+import uk.gov.hmcts.dts.fact.services.MapitService;
+
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {BulkPostcodeValidator.class, PostcodeValidator.class})
+class BulkPostcodeValidatorTest {
+    private static final String FULL_POSTCODE = "M11AA";
+    private static final String OUTCODE = "MO53";
+    private static final String SHORTENED_OUTCODE = "MO5";
+
+    @MockBean
+    private MapitService mapitService;
+
+    @Autowired
+    private BulkPostcodeValidator bulkPostcodeValidator;
+
+    @Test
+    void shouldLookUpEachDistinctFullPostcodeOnce() {
+        when(mapitService.getMapitData(FULL_POSTCODE)).thenReturn(Optional.of(new MapitData()));
+
+        assertThat(bulkPostcodeValidator.validate(asList("M1 1AA", "m11aa", FULL_POSTCODE)))
+            .extracting(PostcodeValidationResult::isValid)
+            .containsExactly(true, true, true);
+        verify(mapitService, times(1)).getMapitData(anyString());
+    }
+
+    @Test
+    void shouldLookUpEachDistinctPartialPostcodeOnce() {
+        when(mapitService.getMapitDataWithPartial(anyString())).thenReturn(Optional.empty());
+        when(mapitService.getMapitDataWithPartial(SHORTENED_OUTCODE)).thenReturn(Optional.of(new MapitData()));
+
+        assertThat(bulkPostcodeValidator.validate(asList(OUTCODE, "mo 53", "MO54")))
+            .extracting(PostcodeValidationResult::isValid)
+            .containsExactly(true, true, true);
+        verify(mapitService, times(1)).getMapitDataWithPartial(OUTCODE);
+        verify(mapitService, times(1)).getMapitDataWithPartial("MO54");
+        verify(mapitService, times(1)).getMapitDataWithPartial(SHORTENED_OUTCODE);
+    }
+
+    @Test
+    void shouldNotLookUpShortenedPartialPostcodesWhenThePartialPostcodeIsFound() {
+        when(mapitService.getMapitDataWithPartial(OUTCODE)).thenReturn(Optional.of(new MapitData()));
+
+        assertThat(bulkPostcodeValidator.validate(asList(OUTCODE)))
+            .extracting(PostcodeValidationResult::isValid)
+            .containsExactly(true);
+        verify(mapitService, never()).getMapitDataWithPartial(SHORTENED_OUTCODE);
+    }
+
+    @Test
+    void shouldNotLookUpPostcodeAreas() {
+        assertThat(bulkPostcodeValidator.validate(asList("M", "ec")))
+            .extracting(PostcodeValidationResult::isValid)
+            .containsExactly(true, true);
+        verify(mapitService, never()).getMapitDataWithPartial(anyString());
+    }
+
+    @Test
+    void shouldGiveTheReasonEachPostcodeIsInvalid() {
+        when(mapitService.getMapitData(anyString())).thenReturn(Optional.empty());
+        when(mapitService.getMapitDataWithPartial(anyString())).thenReturn(Optional.empty());
+
+        assertThat(bulkPostcodeValidator.validate(asList(" ", "P$11&PY", "M1 1AA")))
+            .containsExactly(
+                new PostcodeValidationResult(" ", false, Reason.BLANK),
+                new PostcodeValidationResult("P$11&PY", false, Reason.INVALID_FORMAT),
+                new PostcodeValidationResult("M1 1AA", false, Reason.NOT_FOUND)
+            );
+    }
+
+    @Test
+    void shouldReportFailedLookupsAsUnavailable() {
+        when(mapitService.getMapitData(FULL_POSTCODE)).thenThrow(new IllegalStateException("Connection reset"));
+
+        assertThat(bulkPostcodeValidator.validate(asList(FULL_POSTCODE)))
+            .containsExactly(new PostcodeValidationResult(FULL_POSTCODE, false, Reason.LOOKUP_UNAVAILABLE));
+    }
+}
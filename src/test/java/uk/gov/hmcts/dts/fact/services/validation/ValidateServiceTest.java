@@ -11,6 +11,8 @@ import uk.gov.hmcts.dts.fact.model.admin.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.model.admin.CourtAddress;
 import uk.gov.hmcts.dts.fact.model.admin.CourtSecondaryAddressType;
 import uk.gov.hmcts.dts.fact.model.admin.CourtType;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeValidationResult;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeValidationResult.Reason;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,7 +24,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -35,6 +36,9 @@ class ValidateServiceTest {
     @MockBean
     private LocalAuthorityValidator localAuthorityValidator;
 
+    @MockBean
+    private BulkPostcodeValidator bulkPostcodeValidator;
+
     @Autowired
     private ValidationService validationService;
 
@@ -93,25 +97,27 @@ class ValidateServiceTest {
     void testValidatePostcodesSuccess() {
         // Expect no strings to be returned if all checks have passed
         final List<String> testPostcodes = Arrays.asList("M0", "MO5", "MO53", "MO533");
-        when(postcodeValidator.postcodeDataExists(anyString())).thenReturn(true);
+        when(bulkPostcodeValidator.validate(testPostcodes)).thenReturn(asList(
+            new PostcodeValidationResult("M0", true, null),
+            new PostcodeValidationResult("MO5", true, null),
+            new PostcodeValidationResult("MO53", true, null),
+            new PostcodeValidationResult("MO533", true, null)
+        ));
         assertThat(validationService.validatePostcodes(testPostcodes)).isEmpty();
     }
 
     @Test
     void testValidatePostcodesInvalid() {
         // Expect an array of strings to be returned if one or more checks have failed
-        // Note: this also tests that the stripping/trimming works, as else the mocking will not succeed
-        when(postcodeValidator.postcodeDataExists("avalidpostcode")).thenReturn(true);
-        when(postcodeValidator.postcodeDataExists("aninvalidpostcode")).thenReturn(false);
-        when(postcodeValidator.postcodeDataExists("anotherinvalidpostcode")).thenReturn(false);
-
         final List<String> testPostcodes = Arrays.asList("a valid postcode", "an invalid postcode", "another invalid postcode");
+        when(bulkPostcodeValidator.validate(testPostcodes)).thenReturn(asList(
+            new PostcodeValidationResult("a valid postcode", true, null),
+            new PostcodeValidationResult("an invalid postcode", false, Reason.INVALID_FORMAT),
+            new PostcodeValidationResult("another invalid postcode", false, Reason.NOT_FOUND)
+        ));
+
         assertThat(validationService.validatePostcodes(testPostcodes))
             .containsExactly("an invalid postcode", "another invalid postcode");
-
-        verify(postcodeValidator).postcodeDataExists("avalidpostcode");
-        verify(postcodeValidator).postcodeDataExists("aninvalidpostcode");
-        verify(postcodeValidator).postcodeDataExists("anotherinvalidpostcode");
     }
 
     @Test
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostcodeTest {
+    @Test
+    void shouldBreakAFullPostcodeIntoItsParts() {
+        final Postcode postcode = Postcode.parse(" sw1a  1aa ").orElseThrow();
+
+        assertThat(postcode.isFull()).isTrue();
+        assertThat(postcode.getArea()).isEqualTo("SW");
+        assertThat(postcode.getDistrict()).isEqualTo("SW1A");
+        assertThat(postcode.getSector()).hasValue("SW1A1");
+        assertThat(postcode.getUnit()).hasValue("AA");
+        assertThat(postcode.getNormalised()).isEqualTo("SW1A1AA");
+        assertThat(postcode).hasToString("SW1A 1AA");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "M11AA, M, M1, M11",
+        "W1D 7qb, W, W1D, W1D7",
+        "N17 4JA, N, N17, N174",
+        "GIR 0AA, GIR, GIR, GIR0"
+    })
+    void shouldParseFullPostcodes(final String input, final String area, final String district, final String sector) {
+        final Postcode postcode = Postcode.parse(input).orElseThrow();
+
+        assertThat(postcode.isFull()).isTrue();
+        assertThat(postcode.getArea()).isEqualTo(area);
+        assertThat(postcode.getDistrict()).isEqualTo(district);
+        assertThat(postcode.getSector()).hasValue(sector);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "M, M, M",
+        "sw, SW, SW",
+        "M11, M, M11",
+        "W1D, W, W1D",
+        "SW1A 1, SW, SW1A",
+        "W119, W, W11"
+    })
+    void shouldParsePartialPostcodes(final String input, final String area, final String district) {
+        final Postcode postcode = Postcode.parse(input).orElseThrow();
+
+        assertThat(postcode.isFull()).isFalse();
+        assertThat(postcode.getArea()).isEqualTo(area);
+        assertThat(postcode.getDistrict()).isEqualTo(district);
+        assertThat(postcode.getUnit()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  ", "P$11&PY", "M1111", "M223J", "SW9 2P", "AI1 1AA", "1AA", "SW1A 1AAA"})
+    void shouldNotParseInvalidPostcodes(final String input) {
+        assertThat(Postcode.parse(input)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "EH1 2DH, true, false",
+        "G1 1AA, true, false",
+        "GL1 1AA, false, false",
+        "TD1 3SP, false, false",
+        "BT70 1AH, false, true",
+        "E14 9DT, false, false"
+    })
+    void shouldClassifyScottishAndNorthernIrishPostcodes(final String input, final boolean scottish,
+                                                        final boolean northernIrish) {
+        final Postcode postcode = Postcode.parse(input).orElseThrow();
+
+        assertThat(postcode.isScottish()).isEqualTo(scottish);
+        assertThat(postcode.isNorthernIrish()).isEqualTo(northernIrish);
+    }
+
+    @Test
+    void shouldNormalisePostcodes() {
+        final String normalised = "B17PT";
+
+        assertThat(Postcode.normalise(" b 1\t7Pt ")).isEqualTo(normalised);
+        assertThat(Postcode.normalise(normalised)).isSameAs(normalised);
+    }
+}